@@ -15,6 +15,7 @@ import tools.refinery.generator.cli.utils.CliProblemSerializer;
 import tools.refinery.generator.cli.utils.CliUtils;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,6 +31,7 @@ public class GenerateCommand implements Command {
 	private List<String> overrideScopes = new ArrayList<>();
 	private long randomSeed = 1;
 	private int count = 1;
+	private int portfolioSize = 1;
 
 	@Inject
 	public GenerateCommand(CliProblemLoader loader, ModelGeneratorFactory generatorFactory,
@@ -72,6 +74,14 @@ public class GenerateCommand implements Command {
 		this.count = count;
 	}
 
+	@Parameter(names = {"-portfolio-size", "-p"}, description = "Number of explorations to run in parallel")
+	public void setPortfolioSize(int portfolioSize) {
+		if (portfolioSize <= 0) {
+			throw new IllegalArgumentException("Portfolio size must be positive");
+		}
+		this.portfolioSize = portfolioSize;
+	}
+
 	@Override
 	public int run() throws IOException {
 		if (count > 1 && CliUtils.isStandardStream(outputPath)) {
@@ -82,17 +92,31 @@ public class GenerateCommand implements Command {
 		try (var generator = generatorFactory.createGenerator(problem)) {
 			generator.setRandomSeed(randomSeed);
 			generator.setMaxNumberOfSolutions(count);
-			generator.generate();
+			generator.setPortfolioSize(portfolioSize);
 			if (count == 1) {
+				generator.generate();
 				serializer.saveModel(generator, outputPath);
-			} else {
+			} else if (portfolioSize == 1) {
+				generator.generate();
 				int solutionCount = generator.getSolutionCount();
 				for (int i = 0; i < solutionCount; i++) {
 					generator.loadSolution(i);
 					var pathWithIndex = CliUtils.getFileNameWithIndex(outputPath, i + 1);
 					serializer.saveModel(generator, pathWithIndex, false);
 				}
+			} else {
+				// Write each solution as soon as it is found instead of waiting for the whole portfolio.
+				generator.generate(index -> {
+					var pathWithIndex = CliUtils.getFileNameWithIndex(outputPath, index + 1);
+					try {
+						serializer.saveModel(generator, pathWithIndex, false);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
 			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
 		}
 		return RefineryCli.EXIT_SUCCESS;
 	}
@@ -6,6 +6,7 @@
 package tools.refinery.generator;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 
 public interface ModelGenerator extends ModelFacade {
 	long getRandomSeed();
@@ -16,6 +17,19 @@ public interface ModelGenerator extends ModelFacade {
 
 	void setMaxNumberOfSolutions(int maxNumberOfSolutions);
 
+	int getPortfolioSize();
+
+	/**
+	 * Sets the number of independent explorations to run in parallel during generation.
+	 * <p>
+	 * The exploration with index {@code i} uses the random seed {@code getRandomSeed() + i}, and solutions found by
+	 * more than one exploration are only kept once. Unlike a single exploration, a portfolio keeps solutions in the
+	 * order they were found.
+	 *
+	 * @param portfolioSize The number of explorations.
+	 */
+	void setPortfolioSize(int portfolioSize);
+
 	int getSolutionCount();
 
 	void loadSolution(int index);
@@ -30,6 +44,23 @@ public interface ModelGenerator extends ModelFacade {
 		tryGenerate().orThrow();
 	}
 
+	/**
+	 * Generates models with a portfolio of {@link #getPortfolioSize()} explorations and reports each solution as soon
+	 * as it is found.
+	 * <p>
+	 * If the portfolio size is {@code 1}, this runs the same exploration as {@link #tryGenerate()} on the calling
+	 * thread and reports its solutions after it has finished, in the order of {@link #loadSolution(int)}.
+	 *
+	 * @param solutionConsumer Called on the calling thread with the index of each new solution, after the model of
+	 *                         this generator was restored to that solution.
+	 * @return The result of the generation.
+	 */
+	GeneratorResult tryGenerate(IntConsumer solutionConsumer);
+
+	default void generate(IntConsumer solutionConsumer) {
+		tryGenerate(solutionConsumer).orThrow();
+	}
+
 	GeneratorResult tryGenerateWithTimeout(long l, TimeUnit timeUnit);
 
 	default void generateWithTimeout(long l, TimeUnit timeUnit) {
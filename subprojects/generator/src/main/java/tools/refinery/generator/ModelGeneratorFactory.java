@@ -6,6 +6,7 @@
 package tools.refinery.generator;
 
 import tools.refinery.generator.impl.CancellableCancellationToken;
+import tools.refinery.generator.impl.ConcreteModelFacade;
 import tools.refinery.generator.impl.ModelGeneratorImpl;
 import tools.refinery.language.model.problem.Problem;
 import tools.refinery.language.semantics.TracedException;
@@ -19,7 +20,9 @@ import tools.refinery.store.reasoning.literal.Concreteness;
 import tools.refinery.store.reasoning.translator.TranslationException;
 import tools.refinery.store.statecoding.StateCodeCalculatorFactory;
 import tools.refinery.store.statecoding.StateCoderAdapter;
+import tools.refinery.store.statecoding.neighborhood.IncrementalNeighborhoodCalculator;
 import tools.refinery.store.statecoding.neighborhood.NeighborhoodCalculator;
+import tools.refinery.store.util.CancellationToken;
 
 import java.util.Collection;
 import java.util.Set;
@@ -59,6 +62,33 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 	}
 
 	public ModelGenerator tryCreateGenerator(Problem problem) {
+		var cancellationToken = new CancellableCancellationToken(getCancellationToken());
+		return new ModelGeneratorImpl(createArgs(problem, cancellationToken), cancellationToken);
+	}
+
+	public ModelGenerator createGenerator(Problem problem) {
+		var generator = tryCreateGenerator(problem);
+		generator.throwIfInitializationFailed();
+		return generator;
+	}
+
+	/**
+	 * Translates a problem and builds a model store for it that can be shared by multiple model generators.
+	 * <p>
+	 * Building the store (including the query engine and the propagators) dominates the startup time of model
+	 * generation, so callers that generate models for the same problem repeatedly (e.g., with different random seeds)
+	 * should create generators with {@link ModelGeneratorTemplate#tryCreateGenerator(CancellationToken)} instead of
+	 * {@link #createGenerator(Problem)}.
+	 *
+	 * @param problem The problem to generate models for.
+	 * @return The template for creating model generators.
+	 */
+	public ModelGeneratorTemplate createTemplate(Problem problem) {
+		var cancellationToken = new CancellableCancellationToken(getCancellationToken());
+		return new ModelGeneratorTemplate(createArgs(problem, cancellationToken), cancellationToken);
+	}
+
+	private ConcreteModelFacade.Args createArgs(Problem problem, CancellableCancellationToken cancellationToken) {
 		var initializer = createModelInitializer();
 		try {
 			initializer.readProblem(problem);
@@ -66,7 +96,6 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 			throw getDiagnostics().wrapTracedException(e, problem);
 		}
 		checkCancelled();
-		var cancellationToken = new CancellableCancellationToken(getCancellationToken());
 		var storeBuilder = ModelStore.builder()
 				.cancellationToken(cancellationToken)
 				.with(QueryInterpreterAdapter.builder())
@@ -83,13 +112,7 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 		} catch (TracedException e) {
 			throw getDiagnostics().wrapTracedException(e, problem);
 		}
-		return new ModelGeneratorImpl(createConcreteFacadeArgs(initializer, storeBuilder), cancellationToken);
-	}
-
-	public ModelGenerator createGenerator(Problem problem) {
-		var generator = tryCreateGenerator(problem);
-		generator.throwIfInitializationFailed();
-		return generator;
+		return createConcreteFacadeArgs(initializer, storeBuilder);
 	}
 
 	private Collection<Concreteness> getRequiredInterpretations() {
@@ -101,6 +124,6 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 	private StateCodeCalculatorFactory getStateCodeCalculatorFactory() {
 		return partialInterpretationBasedNeighborhoods ?
 				PartialNeighborhoodCalculator.factory(Concreteness.PARTIAL, stateCoderDepth) :
-				NeighborhoodCalculator.factory(stateCoderDepth);
+				IncrementalNeighborhoodCalculator.factory(stateCoderDepth);
 	}
 }
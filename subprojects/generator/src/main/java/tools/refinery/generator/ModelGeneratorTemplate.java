@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator;
+
+import tools.refinery.generator.impl.CancellableCancellationToken;
+import tools.refinery.generator.impl.ConcreteModelFacade;
+import tools.refinery.generator.impl.ModelGeneratorImpl;
+import tools.refinery.language.semantics.ProblemTrace;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.util.CancellationToken;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A translated problem with a model store that is reused by every model generator created from it.
+ * <p>
+ * Each generator works on a fresh model of the shared store. Since the store checks for cancellation with a single
+ * cancellation token, at most one generator may be open at any time.
+ */
+public final class ModelGeneratorTemplate {
+	private final ConcreteModelFacade.Args args;
+	private final CancellableCancellationToken cancellationToken;
+	private final AtomicBoolean inUse = new AtomicBoolean();
+
+	ModelGeneratorTemplate(ConcreteModelFacade.Args args, CancellableCancellationToken cancellationToken) {
+		this.args = args;
+		this.cancellationToken = cancellationToken;
+	}
+
+	public ProblemTrace getProblemTrace() {
+		return args.facadeArgs().problemTrace();
+	}
+
+	public ModelStore getModelStore() {
+		return args.facadeArgs().store();
+	}
+
+	/**
+	 * Creates a model generator with a fresh model of the shared store.
+	 *
+	 * @param cancellationToken The cancellation token of the new generator.
+	 * @return The new generator, or {@link Optional#empty()} if a generator created by this template is still open.
+	 */
+	public Optional<ModelGenerator> tryCreateGenerator(CancellationToken cancellationToken) {
+		if (!inUse.compareAndSet(false, true)) {
+			return Optional.empty();
+		}
+		var released = new AtomicBoolean();
+		Runnable release = () -> {
+			if (released.compareAndSet(false, true)) {
+				inUse.set(false);
+			}
+		};
+		try {
+			this.cancellationToken.setWrappedToken(cancellationToken);
+			this.cancellationToken.reset();
+			return Optional.of(new ModelGeneratorImpl(args, this.cancellationToken, release));
+		} catch (RuntimeException e) {
+			release.run();
+			throw e;
+		}
+	}
+}
@@ -11,12 +11,16 @@ import tools.refinery.store.util.CancellationToken;
 public class CancellableCancellationToken implements CancellationToken {
 	private volatile boolean cancelled;
 
-	private final CancellationToken wrappedToken;
+	private volatile CancellationToken wrappedToken;
 
 	public CancellableCancellationToken(CancellationToken wrappedToken) {
 		this.wrappedToken = wrappedToken;
 	}
 
+	public void setWrappedToken(CancellationToken wrappedToken) {
+		this.wrappedToken = wrappedToken;
+	}
+
 	public boolean isCancelled() {
 		return cancelled;
 	}
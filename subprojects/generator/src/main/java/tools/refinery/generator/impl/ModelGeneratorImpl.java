@@ -12,24 +12,38 @@ import tools.refinery.language.model.problem.Problem;
 import tools.refinery.logic.AbstractValue;
 import tools.refinery.store.dse.propagation.PropagationRejectedException;
 import tools.refinery.store.dse.strategy.BestFirstStoreManager;
-import tools.refinery.store.dse.transition.statespace.SolutionStore;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.internal.DeduplicatingSolutionStore;
 import tools.refinery.store.map.Version;
 import tools.refinery.store.reasoning.interpretation.PartialInterpretation;
 import tools.refinery.store.reasoning.representation.PartialSymbol;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
 public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGenerator {
+	private static final long SOLUTION_POLL_INTERVAL_MILLIS = 10;
+
 	private final Version initialVersion;
 	private final CancellableCancellationToken cancellationToken;
+	private final Runnable onClose;
 	private long randomSeed = 1;
 	private int maxNumberOfSolutions = 1;
-	private SolutionStore solutionStore;
+	private int portfolioSize = 1;
+	private Supplier<List<VersionWithObjectiveValue>> solutions;
 
 	public ModelGeneratorImpl(Args args, CancellableCancellationToken cancellationToken) {
+		this(args, cancellationToken, () -> {
+		});
+	}
+
+	public ModelGeneratorImpl(Args args, CancellableCancellationToken cancellationToken, Runnable onClose) {
 		super(args);
 		this.cancellationToken = cancellationToken;
+		this.onClose = onClose;
 		initialVersion = getModel().commit();
 	}
 
@@ -41,7 +55,7 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 	@Override
 	public void setRandomSeed(long randomSeed) {
 		this.randomSeed = randomSeed;
-		this.solutionStore = null;
+		this.solutions = null;
 	}
 
 	@Override
@@ -52,7 +66,22 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 	@Override
 	public void setMaxNumberOfSolutions(int maxNumberOfSolutions) {
 		this.maxNumberOfSolutions = maxNumberOfSolutions;
-		this.solutionStore = null;
+		this.solutions = null;
+	}
+
+	@Override
+	public int getPortfolioSize() {
+		return portfolioSize;
+	}
+
+	@Override
+	public void setPortfolioSize(int portfolioSize) {
+		if (portfolioSize < 1) {
+			throw new IllegalArgumentException("Portfolio size must be positive, got %d instead"
+					.formatted(portfolioSize));
+		}
+		this.portfolioSize = portfolioSize;
+		this.solutions = null;
 	}
 
 	@Override
@@ -60,7 +89,7 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 		if (!isLastGenerationSuccessful()) {
 			return 0;
 		}
-		return this.solutionStore.getSolutions().size();
+		return solutions.get().size();
 	}
 
 	@Override
@@ -68,19 +97,21 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 		if (index >= getSolutionCount()) {
 			throw new IndexOutOfBoundsException("No such solution");
 		}
-		getModel().restore(solutionStore.getSolutions().get(index).version());
+		getModel().restore(solutions.get().get(index).version());
 	}
 
 	@Override
 	public boolean isLastGenerationSuccessful() {
-		return solutionStore != null;
+		return solutions != null;
 	}
 
 	public GeneratorResult tryGenerate() {
-		if (cancellationToken.isCancelled()) {
-			throw new IllegalStateException("Model generation was previously cancelled");
+		if (portfolioSize > 1) {
+			return tryGenerate(index -> {
+			});
 		}
-		solutionStore = null;
+		checkNotCancelled();
+		solutions = null;
 		randomSeed++;
 		var bestFirst = new BestFirstStoreManager(getModelStore(), maxNumberOfSolutions);
 		try {
@@ -89,15 +120,130 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 			// Fatal propagation error.
 			throw getDiagnostics().wrapPropagationRejectedException(e, getProblemTrace());
 		}
-		var solutions = bestFirst.getSolutionStore().getSolutions();
-		if (solutions.isEmpty()) {
+		var solutionStore = bestFirst.getSolutionStore();
+		var foundSolutions = solutionStore.getSolutions();
+		if (foundSolutions.isEmpty()) {
 			return GeneratorResult.UNSATISFIABLE;
 		}
-		getModel().restore(solutions.getFirst().version());
-		solutionStore = bestFirst.getSolutionStore();
+		getModel().restore(foundSolutions.getFirst().version());
+		solutions = solutionStore::getSolutions;
 		return GeneratorResult.SUCCESS;
 	}
 
+	@Override
+	public GeneratorResult tryGenerate(IntConsumer solutionConsumer) {
+		if (portfolioSize == 1) {
+			return tryGenerateAndReportSolutions(solutionConsumer);
+		}
+		checkNotCancelled();
+		solutions = null;
+		var solutionQueue = new LinkedBlockingQueue<VersionWithObjectiveValue>();
+		var portfolioSolutionStore = new DeduplicatingSolutionStore(maxNumberOfSolutions, solutionQueue::add);
+		long firstRandomSeed = randomSeed;
+		randomSeed += portfolioSize;
+		// Let the solution consumer load the solutions found so far.
+		solutions = portfolioSolutionStore::getSolutions;
+		try (var executorService = Executors.newFixedThreadPool(portfolioSize)) {
+			var futures = new ArrayList<Future<?>>(portfolioSize);
+			for (int i = 0; i < portfolioSize; i++) {
+				long explorationRandomSeed = firstRandomSeed + i;
+				futures.add(executorService.submit(() -> explore(portfolioSolutionStore, explorationRandomSeed)));
+			}
+			try {
+				streamSolutions(futures, solutionQueue, solutionConsumer);
+			} finally {
+				// Stop the remaining explorations if the solution consumer has failed.
+				portfolioSolutionStore.stop();
+			}
+			waitForExplorations(futures);
+		} catch (RuntimeException e) {
+			solutions = null;
+			throw e;
+		}
+		var portfolioSolutions = portfolioSolutionStore.getSolutions();
+		if (portfolioSolutions.isEmpty()) {
+			solutions = null;
+			return GeneratorResult.UNSATISFIABLE;
+		}
+		getModel().restore(portfolioSolutions.getFirst().version());
+		return GeneratorResult.SUCCESS;
+	}
+
+	private GeneratorResult tryGenerateAndReportSolutions(IntConsumer solutionConsumer) {
+		var result = tryGenerate();
+		if (result != GeneratorResult.SUCCESS) {
+			return result;
+		}
+		// A single exploration runs on the calling thread, so we can only report its solutions once it has finished.
+		int solutionCount = getSolutionCount();
+		for (int i = 0; i < solutionCount; i++) {
+			loadSolution(i);
+			solutionConsumer.accept(i);
+		}
+		loadSolution(0);
+		return result;
+	}
+
+	private void explore(DeduplicatingSolutionStore portfolioSolutionStore, long explorationRandomSeed) {
+		try {
+			new BestFirstStoreManager(getModelStore(), portfolioSolutionStore)
+					.startExploration(initialVersion, explorationRandomSeed);
+		} catch (RuntimeException e) {
+			// Make sure that the other explorations stop if one of them is aborted.
+			portfolioSolutionStore.stop();
+			throw e;
+		}
+	}
+
+	private void streamSolutions(List<Future<?>> futures, BlockingQueue<VersionWithObjectiveValue> solutionQueue,
+								 IntConsumer solutionConsumer) {
+		int index = 0;
+		boolean done;
+		do {
+			// Check whether the explorations are done before draining the queue, so that we can't miss solutions
+			// submitted by the explorations right before they finish.
+			done = futures.stream().allMatch(Future::isDone);
+			var solution = pollSolution(solutionQueue);
+			while (solution != null) {
+				getModel().restore(solution.version());
+				solutionConsumer.accept(index);
+				index++;
+				solution = pollSolution(solutionQueue);
+			}
+		} while (!done);
+	}
+
+	private static VersionWithObjectiveValue pollSolution(BlockingQueue<VersionWithObjectiveValue> solutionQueue) {
+		try {
+			return solutionQueue.poll(SOLUTION_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Model generation interrupted", e);
+		}
+	}
+
+	private void waitForExplorations(List<Future<?>> futures) {
+		for (var future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				var cause = e.getCause();
+				if (cause instanceof PropagationRejectedException propagationRejectedException) {
+					// Fatal propagation error.
+					throw getDiagnostics().wrapPropagationRejectedException(propagationRejectedException,
+							getProblemTrace());
+				}
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new IllegalStateException("Model generation failed", cause);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Model generation interrupted", e);
+			}
+		}
+	}
+
 	@Override
 	public GeneratorResult tryGenerateWithTimeout(long l, TimeUnit timeUnit) {
 		try (var executorService = Executors.newSingleThreadScheduledExecutor()) {
@@ -126,6 +272,21 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 		return super.serialize();
 	}
 
+	@Override
+	public void close() {
+		try {
+			super.close();
+		} finally {
+			onClose.run();
+		}
+	}
+
+	private void checkNotCancelled() {
+		if (cancellationToken.isCancelled()) {
+			throw new IllegalStateException("Model generation was previously cancelled");
+		}
+	}
+
 	private void checkSuccessfulGeneration() {
 		if (!isLastGenerationSuccessful()) {
 			throw new IllegalStateException("No generated model is available");
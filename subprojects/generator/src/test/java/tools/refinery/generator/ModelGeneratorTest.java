@@ -7,21 +7,25 @@ package tools.refinery.generator;
 
 import com.google.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import tools.refinery.language.model.problem.Problem;
 import tools.refinery.language.tests.InjectWithRefinery;
+import tools.refinery.store.util.CancellationToken;
 
 import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 
 @InjectWithRefinery
 class ModelGeneratorTest {
@@ -81,6 +85,68 @@ class ModelGeneratorTest {
 		}
 	}
 
+	@Test
+	void generatePortfolio() {
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setMaxNumberOfSolutions(10);
+			generator.setPortfolioSize(4);
+			var streamedIndices = new ArrayList<Integer>();
+			var result = generator.tryGenerate(index -> {
+				// Solutions must be available for serialization while the generation is still running.
+				assertThat(generator.serialize(), is(notNullValue()));
+				assertThat(generator.getSolutionCount(), is(greaterThan(index)));
+				streamedIndices.add(index);
+			});
+			assertThat(result, is(GeneratorResult.SUCCESS));
+			assertThat(generator.getSolutionCount(), is(10));
+			assertThat(streamedIndices, is(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+		}
+	}
+
+	@Test
+	void generateSingleExplorationWithConsumer() {
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setMaxNumberOfSolutions(10);
+			var callingThread = Thread.currentThread();
+			var streamedIndices = new ArrayList<Integer>();
+			var result = generator.tryGenerate(index -> {
+				// A single exploration reports its solutions on the calling thread once it has finished.
+				assertThat(Thread.currentThread(), is(sameInstance(callingThread)));
+				assertThat(generator.getSolutionCount(), is(10));
+				streamedIndices.add(index);
+			});
+			assertThat(result, is(GeneratorResult.SUCCESS));
+			assertThat(streamedIndices, is(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+			// Same random seed sequence as tryGenerate() without a consumer.
+			assertThat(generator.getRandomSeed(), is(2L));
+		}
+	}
+
+	@Test
+	void generatePortfolioRandomSeeds() {
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setRandomSeed(5);
+			generator.setPortfolioSize(3);
+			generator.generate();
+			// The explorations used the random seeds 5, 6, and 7.
+			assertThat(generator.getRandomSeed(), is(8L));
+		}
+	}
+
+	@Test
+	void generateFromTemplate() {
+		var template = generatorFactory.createTemplate(problem);
+		for (int i = 0; i < 3; i++) {
+			try (var generator = template.tryCreateGenerator(CancellationToken.NONE).orElseThrow()) {
+				assertThat(generator.getModelStore(), is(template.getModelStore()));
+				assertThat(template.tryCreateGenerator(CancellationToken.NONE).isPresent(), is(false));
+				generator.setRandomSeed(i);
+				var result = generator.tryGenerate();
+				assertThat(result, is(GeneratorResult.SUCCESS));
+			}
+		}
+	}
+
 	static Stream<Arguments> parameters() {
 		return Stream.of(
 				Arguments.of(false, false),
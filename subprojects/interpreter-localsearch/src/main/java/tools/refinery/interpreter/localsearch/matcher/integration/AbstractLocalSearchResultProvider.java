@@ -78,7 +78,15 @@ public abstract class AbstractLocalSearchResultProvider implements IQueryResultP
     protected final Map<PQuery, LocalSearchHints> hintCache = new HashMap<>();
     protected final IPlanProvider planProvider;
     private static final String PLAN_CACHE_KEY = AbstractLocalSearchResultProvider.class.getName() + "#planCache";
+    private static final String PLAN_CARDINALITIES_CACHE_KEY =
+            AbstractLocalSearchResultProvider.class.getName() + "#planCardinalities";
+    /**
+     * Cardinalities smaller than this are never considered a drift, so that small models are not re-planned often.
+     */
+    private static final long MINIMUM_CARDINALITY_DRIFT = 16;
     private final Map<MatcherReference, IPlanDescriptor> planCache;
+    private final Map<MatcherReference, Map<IInputKey, Long>> planCardinalities;
+    private Double planCardinalityDriftFactor;
     protected final ISearchContext searchContext;
     /**
      * @since 2.1
@@ -101,6 +109,7 @@ public abstract class AbstractLocalSearchResultProvider implements IQueryResultP
         this.resultProviderRequestor = backend.getResultProviderRequestor(query, userHints);
         this.searchContext = new ISearchContext.SearchContext(backendContext, backend.getCache(), resultProviderRequestor);
         this.planCache = backend.getCache().getValue(PLAN_CACHE_KEY, Map.class, HashMap::new);
+        this.planCardinalities = backend.getCache().getValue(PLAN_CARDINALITIES_CACHE_KEY, Map.class, HashMap::new);
     }
 
     protected abstract IOperationCompiler getOperationCompiler(IQueryBackendContext backendContext, LocalSearchHints configuration);
@@ -118,29 +127,84 @@ public abstract class AbstractLocalSearchResultProvider implements IQueryResultP
     }
 
     private IPlanDescriptor getOrCreatePlan(MatcherReference key, IQueryBackendContext backendContext, IOperationCompiler compiler, LocalSearchHints configuration, IPlanProvider planProvider) {
-        if (planCache.containsKey(key)){
+        if (planCache.containsKey(key) && !isPlanStale(key)){
             return planCache.get(key);
         } else {
             IPlanDescriptor plan = planProvider.getPlan(backendContext, compiler,
                     resultProviderRequestor, configuration, key);
-            planCache.put(key, plan);
+            putPlan(key, plan);
             return plan;
         }
     }
 
     private IPlanDescriptor getOrCreatePlan(MatcherReference key, IPlanProvider planProvider) {
-        if (planCache.containsKey(key)){
+        if (planCache.containsKey(key) && !isPlanStale(key)){
             return planCache.get(key);
         } else {
             LocalSearchHints configuration = overrideDefaultHints(key.getQuery());
             IOperationCompiler compiler = getOperationCompiler(backendContext, configuration);
             IPlanDescriptor plan = planProvider.getPlan(backendContext, compiler,
                     resultProviderRequestor, configuration, key);
-            planCache.put(key, plan);
+            putPlan(key, plan);
             return plan;
         }
     }
 
+    private void putPlan(MatcherReference key, IPlanDescriptor plan) {
+        planCache.put(key, plan);
+        if (getPlanCardinalityDriftFactor() <= 1) {
+            return;
+        }
+        // Remember the cardinalities the plan was made for to detect when it becomes stale.
+        Map<IInputKey, Long> cardinalities = new HashMap<>();
+        for (IInputKey inputKey : plan.getIteratedKeys()) {
+            estimateCardinality(inputKey).ifPresent(cardinality -> cardinalities.put(inputKey, cardinality));
+        }
+        planCardinalities.put(key, cardinalities);
+    }
+
+    /**
+     * Checks whether the cardinality of any input key iterated by the plan drifted too far since the plan was made.
+     *
+     * @see LocalSearchHintOptions#PLAN_CARDINALITY_DRIFT_FACTOR
+     */
+    private boolean isPlanStale(MatcherReference key) {
+        double driftFactor = getPlanCardinalityDriftFactor();
+        if (driftFactor <= 1) {
+            return false;
+        }
+        Map<IInputKey, Long> cardinalities = planCardinalities.get(key);
+        if (cardinalities == null) {
+            return false;
+        }
+        for (Map.Entry<IInputKey, Long> entry : cardinalities.entrySet()) {
+            Optional<Long> currentCardinality = estimateCardinality(entry.getKey());
+            if (currentCardinality.isPresent()) {
+                long planned = entry.getValue();
+                long current = currentCardinality.get();
+                long smaller = Math.min(planned, current);
+                long larger = Math.max(planned, current);
+                if (larger - smaller >= MINIMUM_CARDINALITY_DRIFT && larger > driftFactor * smaller) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Optional<Long> estimateCardinality(IInputKey inputKey) {
+        return runtimeContext.estimateCardinality(inputKey, TupleMask.identity(inputKey.getArity()),
+                Accuracy.APPROXIMATION);
+    }
+
+    private double getPlanCardinalityDriftFactor() {
+        if (planCardinalityDriftFactor == null) {
+            planCardinalityDriftFactor = LocalSearchHintOptions.PLAN_CARDINALITY_DRIFT_FACTOR.getValueOrDefault(
+                    computeOverridingHints(query));
+        }
+        return planCardinalityDriftFactor;
+    }
+
     private LocalSearchHints overrideDefaultHints(PQuery pQuery) {
         if (hintCache.containsKey(pQuery)) {
             return hintCache.get(pQuery);
@@ -524,6 +588,7 @@ public abstract class AbstractLocalSearchResultProvider implements IQueryResultP
      */
     public void forgetAllPlans() {
         planCache.clear();
+        planCardinalities.clear();
     }
 
     /**
@@ -12,7 +12,9 @@ import tools.refinery.interpreter.localsearch.planner.cost.ICostFunction;
 import tools.refinery.interpreter.localsearch.planner.cost.impl.IndexerBasedConstraintCostFunction;
 import tools.refinery.interpreter.matchers.backend.ICallDelegationStrategy;
 import tools.refinery.interpreter.matchers.backend.QueryHintOption;
+import tools.refinery.interpreter.matchers.context.IQueryRuntimeContext;
 import tools.refinery.interpreter.matchers.psystem.rewriters.IFlattenCallPredicate;
+import tools.refinery.interpreter.matchers.util.Accuracy;
 
 /**
  *
@@ -79,6 +81,16 @@ public final class LocalSearchHintOptions {
 	public static final QueryHintOption<Boolean> CONSULT_SURROGATES =
 			hintOption("CONSULT_SURROGATES", false);
 
+    /**
+     * Cached search plans are discarded and re-planned if the cardinality of any input key iterated by the plan
+     * changed by more than this factor since the plan was made. Values not greater than 1 disable re-planning.
+     *
+     * <p> Cardinalities are obtained from {@link IQueryRuntimeContext#estimateCardinality} with
+     * {@link Accuracy#APPROXIMATION}, so the runtime context should provide them in constant time.
+     */
+    public static final QueryHintOption<Double> PLAN_CARDINALITY_DRIFT_FACTOR =
+            hintOption("PLAN_CARDINALITY_DRIFT_FACTOR", 0.0);
+
     // internal helper for conciseness
     private static <T, V extends T> QueryHintOption<T> hintOption(String hintKeyLocalName, V defaultValue) {
         return new QueryHintOption<>(LocalSearchHintOptions.class, hintKeyLocalName, defaultValue);
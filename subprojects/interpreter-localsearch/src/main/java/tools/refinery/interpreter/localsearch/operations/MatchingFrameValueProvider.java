@@ -11,7 +11,8 @@ package tools.refinery.interpreter.localsearch.operations;
 import java.util.Map;
 
 import tools.refinery.interpreter.localsearch.MatchingFrame;
-import tools.refinery.interpreter.matchers.psystem.IValueProvider;
+import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 import tools.refinery.interpreter.matchers.util.Preconditions;
 
 /**
@@ -20,15 +21,23 @@ import tools.refinery.interpreter.matchers.util.Preconditions;
  * @author Zoltan Ujhelyi
  *
  */
-public class MatchingFrameValueProvider implements IValueProvider {
+public class MatchingFrameValueProvider implements IIndexedValueProvider {
 
     final Map<String, Integer> nameMap;
+    final int[] inputParameterIndices;
     final MatchingFrame frame;
 
-    public MatchingFrameValueProvider(MatchingFrame frame, Map<String, Integer> nameMap) {
+    /**
+     * @param inputParameterIndices the result of
+     *        {@link IIndexedValueProvider#getInputParameterIndices(IExpressionEvaluator, Map)} for the evaluator and
+     *        the name map, which should be computed only once per search operation
+     */
+    public MatchingFrameValueProvider(MatchingFrame frame, Map<String, Integer> nameMap,
+            int[] inputParameterIndices) {
         super();
         this.frame = frame;
         this.nameMap = nameMap;
+        this.inputParameterIndices = inputParameterIndices;
     }
 
     @Override
@@ -38,4 +47,11 @@ public class MatchingFrameValueProvider implements IValueProvider {
         return frame.get(index);
     }
 
+    @Override
+    public Object getValue(int inputParameterIndex) {
+        int index = inputParameterIndices[inputParameterIndex];
+        Preconditions.checkArgument(index >= 0, "Unknown parameter variable index");
+        return frame.get(index);
+    }
+
 }
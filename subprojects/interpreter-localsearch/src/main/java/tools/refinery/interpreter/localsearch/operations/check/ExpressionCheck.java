@@ -19,6 +19,7 @@ import tools.refinery.interpreter.localsearch.operations.CheckOperationExecutor;
 import tools.refinery.interpreter.localsearch.operations.ISearchOperation;
 import tools.refinery.interpreter.localsearch.operations.MatchingFrameValueProvider;
 import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 
 /**
  * @author Zoltan Ujhelyi
@@ -31,7 +32,8 @@ public class ExpressionCheck implements ISearchOperation {
         @Override
         protected boolean check(MatchingFrame frame, ISearchContext context) {
             try {
-                boolean result = (Boolean) evaluator.evaluateExpression(new MatchingFrameValueProvider(frame, nameMap));
+                boolean result = (Boolean) evaluator.evaluateExpression(new MatchingFrameValueProvider(frame, nameMap,
+                        inputParameterIndices));
                 return result;
             } catch (Exception e) {
                 context.getLogger().warn("Error while evaluating expression", e);
@@ -47,11 +49,13 @@ public class ExpressionCheck implements ISearchOperation {
 
     IExpressionEvaluator evaluator;
     Map<String, Integer> nameMap;
+    int[] inputParameterIndices;
 
     public ExpressionCheck(IExpressionEvaluator evaluator, Map<String, Integer> nameMap) {
         super();
         this.evaluator = evaluator;
         this.nameMap = nameMap;
+        this.inputParameterIndices = IIndexedValueProvider.getInputParameterIndices(evaluator, nameMap);
     }
 
     @Override
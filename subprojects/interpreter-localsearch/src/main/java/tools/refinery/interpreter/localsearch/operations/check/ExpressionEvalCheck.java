@@ -20,6 +20,7 @@ import tools.refinery.interpreter.localsearch.operations.CheckOperationExecutor;
 import tools.refinery.interpreter.localsearch.operations.ISearchOperation;
 import tools.refinery.interpreter.localsearch.operations.MatchingFrameValueProvider;
 import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 
 /**
  * @author Grill Balázs
@@ -33,7 +34,8 @@ public class ExpressionEvalCheck implements ISearchOperation {
         @Override
         protected boolean check(MatchingFrame frame, ISearchContext context) {
             try {
-                Object result = evaluator.evaluateExpression(new MatchingFrameValueProvider(frame, nameMap));
+                Object result = evaluator.evaluateExpression(new MatchingFrameValueProvider(frame, nameMap,
+                        inputParameterIndices));
                 if (!unwind && result != null) {
                     Object currentValue = frame.get(outputPosition);
                     return result.equals(currentValue);
@@ -56,6 +58,7 @@ public class ExpressionEvalCheck implements ISearchOperation {
     private final int outputPosition;
     private final IExpressionEvaluator evaluator;
     private final Map<String, Integer> nameMap;
+    private final int[] inputParameterIndices;
     private final boolean unwind;
 
     public ExpressionEvalCheck(IExpressionEvaluator evaluator, Map<String, Integer> nameMap, int position) {
@@ -68,6 +71,7 @@ public class ExpressionEvalCheck implements ISearchOperation {
     public ExpressionEvalCheck(IExpressionEvaluator evaluator, Map<String, Integer> nameMap, boolean unwind, int position) {
         this.evaluator = evaluator;
         this.nameMap = nameMap;
+        this.inputParameterIndices = IIndexedValueProvider.getInputParameterIndices(evaluator, nameMap);
         this.unwind = unwind;
         this.outputPosition = position;
     }
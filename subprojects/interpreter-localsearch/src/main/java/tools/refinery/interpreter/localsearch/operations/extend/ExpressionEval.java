@@ -21,6 +21,7 @@ import tools.refinery.interpreter.localsearch.matcher.ISearchContext;
 import tools.refinery.interpreter.localsearch.operations.ISearchOperation;
 import tools.refinery.interpreter.localsearch.operations.MatchingFrameValueProvider;
 import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 
 /**
  * Calculates the result of an expression and stores it inside a variable for future reference.
@@ -39,7 +40,8 @@ public class ExpressionEval implements ISearchOperation {
         @Override
         public Iterator<?> getIterator(MatchingFrame frame, ISearchContext context) {
             try {
-                Object result = evaluator.evaluateExpression(new MatchingFrameValueProvider(frame, nameMap));
+                Object result = evaluator.evaluateExpression(new MatchingFrameValueProvider(frame, nameMap,
+                        inputParameterIndices));
                 if (!unwind && result != null){
                     return Collections.singletonList(result).iterator();
                 } else if (unwind && result instanceof Set<?>) {
@@ -62,6 +64,7 @@ public class ExpressionEval implements ISearchOperation {
     private final IExpressionEvaluator evaluator;
     private final boolean unwind;
     private final Map<String, Integer> nameMap;
+    private final int[] inputParameterIndices;
     private final int position;
 
     public ExpressionEval(IExpressionEvaluator evaluator, Map<String, Integer> nameMap, int position) {
@@ -74,6 +77,7 @@ public class ExpressionEval implements ISearchOperation {
     public ExpressionEval(IExpressionEvaluator evaluator, Map<String, Integer> nameMap, boolean unwind, int position) {
         this.evaluator = evaluator;
         this.nameMap = nameMap;
+        this.inputParameterIndices = IIndexedValueProvider.getInputParameterIndices(evaluator, nameMap);
         this.unwind = unwind;
         this.position = position;
     }
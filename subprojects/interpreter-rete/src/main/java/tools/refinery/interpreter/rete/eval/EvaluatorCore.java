@@ -16,6 +16,7 @@ import java.util.Set;
 import org.apache.log4j.Logger;
 import tools.refinery.interpreter.matchers.context.IQueryRuntimeContext;
 import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 import tools.refinery.interpreter.matchers.tuple.Tuple;
 import tools.refinery.interpreter.matchers.tuple.TupleValueProvider;
 import tools.refinery.interpreter.matchers.tuple.Tuples;
@@ -37,6 +38,7 @@ public abstract class EvaluatorCore {
      */
     protected int sourceTupleWidth;
     private Map<String, Integer> parameterPositions;
+    private int[] inputParameterIndices;
     protected IQueryRuntimeContext runtimeContext;
     protected IEvaluatorNode evaluatorNode;
 
@@ -45,6 +47,7 @@ public abstract class EvaluatorCore {
         this.logger = logger;
         this.evaluator = evaluator;
         this.parameterPositions = parameterPositions;
+        this.inputParameterIndices = IIndexedValueProvider.getInputParameterIndices(evaluator, parameterPositions);
         this.sourceTupleWidth = sourceTupleWidth;
     }
 
@@ -65,7 +68,7 @@ public abstract class EvaluatorCore {
         Object result = null;
         try {
             final TupleValueProvider tupleParameters = new TupleValueProvider(runtimeContext.unwrapTuple(input),
-                    parameterPositions);
+                    parameterPositions, inputParameterIndices);
             result = evaluator.evaluateExpression(tupleParameters);
         } catch (final Exception e) {
             logger.warn(String.format(
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.matchers.psystem;
+
+import java.util.Map;
+
+/**
+ * A value provider that can also look up the input parameters of an {@link IExpressionEvaluator} by their position in
+ * {@link IExpressionEvaluator#getInputParameterNames()}, without resolving their names on every evaluation.
+ */
+public interface IIndexedValueProvider extends IValueProvider {
+	/**
+	 * Returns the value of an input parameter of the evaluator.
+	 *
+	 * @param inputParameterIndex The position of the parameter in
+	 *                            {@link IExpressionEvaluator#getInputParameterNames()}.
+	 * @return the value of the parameter; never null
+	 * @throws IllegalArgumentException if the variable is not defined
+	 */
+	Object getValue(int inputParameterIndex);
+
+	/**
+	 * Resolves the input parameters of an evaluator to the positions used by a pattern matching engine.
+	 *
+	 * @param evaluator    The evaluator to resolve the input parameters of.
+	 * @param indexMapping The positions of the variables in the tuples or frames of the engine.
+	 * @return The position of each input parameter in the order of
+	 * {@link IExpressionEvaluator#getInputParameterNames()}, or {@code -1} for parameters not in the mapping.
+	 */
+	static int[] getInputParameterIndices(IExpressionEvaluator evaluator, Map<String, Integer> indexMapping) {
+		int count = 0;
+		for (var ignored : evaluator.getInputParameterNames()) {
+			count++;
+		}
+		int[] indices = new int[count];
+		int i = 0;
+		for (var name : evaluator.getInputParameterNames()) {
+			var index = indexMapping.get(name);
+			indices[i] = index == null ? -1 : index;
+			i++;
+		}
+		return indices;
+	}
+}
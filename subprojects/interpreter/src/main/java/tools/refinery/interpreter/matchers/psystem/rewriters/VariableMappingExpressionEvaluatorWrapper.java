@@ -9,6 +9,7 @@
 package tools.refinery.interpreter.matchers.psystem.rewriters;
 
 import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 import tools.refinery.interpreter.matchers.psystem.IValueProvider;
 import tools.refinery.interpreter.matchers.psystem.PVariable;
 import tools.refinery.interpreter.matchers.util.Preconditions;
@@ -28,6 +29,11 @@ class VariableMappingExpressionEvaluatorWrapper implements IExpressionEvaluator
 
     private final IExpressionEvaluator wrapped;
     private final Map<String, String> variableMapping;
+    /**
+     * Whether every input parameter of the wrapped evaluator is mapped, in which case the input parameters of the
+     * wrapped evaluator and this wrapper have the same positions.
+     */
+    private final boolean positionsPreserved;
 
     public VariableMappingExpressionEvaluatorWrapper(IExpressionEvaluator wrapped,
             Map<PVariable, PVariable> variableMapping) {
@@ -54,7 +60,9 @@ class VariableMappingExpressionEvaluatorWrapper implements IExpressionEvaluator
         }
 
         // Populate mapping
+        int inputParameterCount = 0;
         for (String inputParameterName : this.wrapped.getInputParameterNames()) {
+            inputParameterCount++;
 			// {@code previousMapping} can't be {@code null} if {@code rewrap} is {@code true}.
 			@SuppressWarnings("squid:S2259")
             String parameterName = rewrap ? previousMapping.get(inputParameterName) : inputParameterName;
@@ -66,6 +74,7 @@ class VariableMappingExpressionEvaluatorWrapper implements IExpressionEvaluator
                 this.variableMapping.put(inputParameterName, mapped.getName());
             }
         }
+        positionsPreserved = this.variableMapping.size() == inputParameterCount;
     }
 
     @Override
@@ -80,11 +89,26 @@ class VariableMappingExpressionEvaluatorWrapper implements IExpressionEvaluator
 
     @Override
     public Object evaluateExpression(final IValueProvider provider) throws Exception {
-        return wrapped.evaluateExpression(variableName -> {
-            String mappedVariableName = variableMapping.get(variableName);
-            Preconditions.checkArgument(mappedVariableName != null, "Could not find variable %s", variableName);
-            return provider.getValue(mappedVariableName);
-        });
+        if (positionsPreserved && provider instanceof IIndexedValueProvider indexedProvider) {
+            return wrapped.evaluateExpression(new IIndexedValueProvider() {
+                @Override
+                public Object getValue(String variableName) {
+                    return getMappedValue(indexedProvider, variableName);
+                }
+
+                @Override
+                public Object getValue(int inputParameterIndex) {
+                    return indexedProvider.getValue(inputParameterIndex);
+                }
+            });
+        }
+        return wrapped.evaluateExpression(variableName -> getMappedValue(provider, variableName));
+    }
+
+    private Object getMappedValue(IValueProvider provider, String variableName) {
+        String mappedVariableName = variableMapping.get(variableName);
+        Preconditions.checkArgument(mappedVariableName != null, "Could not find variable %s", variableName);
+        return provider.getValue(mappedVariableName);
     }
 
 }
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.matchers.tuple;
+
+/**
+ * Base class for flat tuples that store {@code int} values instead of object references.
+ * <p>
+ * The values are converted to objects by an {@link IntTupleElements} only when accessed by {@link #get(int)}.
+ * Hashing, comparison with other {@code int} tuples with the same {@link IntTupleElements}, and projection by a
+ * {@link TupleMask} work on the {@code int} values directly. The hash code and equality of these tuples are
+ * consistent with flat tuples containing the wrapped values.
+ */
+public abstract class BaseIntFlatTuple extends BaseFlatTuple {
+	protected final IntTupleElements tupleElements;
+
+	protected BaseIntFlatTuple(IntTupleElements tupleElements) {
+		this.tupleElements = tupleElements;
+	}
+
+	public IntTupleElements getTupleElements() {
+		return tupleElements;
+	}
+
+	public abstract int getInt(int index);
+
+	@Override
+	public Object get(int index) {
+		return tupleElements.wrap(getInt(index));
+	}
+
+	@Override
+	protected int doCalcHash() {
+		final int PRIME = 31;
+		int hash = 1;
+		int size = getSize();
+		for (int i = 0; i < size; i++) {
+			hash = PRIME * hash + tupleElements.hashCode(getInt(i));
+		}
+		return hash;
+	}
+
+	@Override
+	protected boolean internalEquals(ITuple other) {
+		int size = getSize();
+		if (size != other.getSize()) {
+			return false;
+		}
+		if (other instanceof BaseIntFlatTuple otherIntTuple && tupleElements == otherIntTuple.tupleElements) {
+			for (int i = 0; i < size; i++) {
+				if (getInt(i) != otherIntTuple.getInt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return super.internalEquals(other);
+	}
+
+	/**
+	 * Projects this tuple to the given indices without wrapping any of the values.
+	 *
+	 * @param indices The indices to keep, as in {@link TupleMask#indices}.
+	 * @return The projected tuple.
+	 */
+	Tuple project(int[] indices) {
+		return switch (indices.length) {
+			case 0 -> FlatTuple0.INSTANCE;
+			case 1 -> new IntFlatTuple1(tupleElements, getInt(indices[0]));
+			case 2 -> new IntFlatTuple2(tupleElements, getInt(indices[0]), getInt(indices[1]));
+			case 3 -> new IntFlatTuple3(tupleElements, getInt(indices[0]), getInt(indices[1]), getInt(indices[2]));
+			case 4 -> new IntFlatTuple4(tupleElements, getInt(indices[0]), getInt(indices[1]), getInt(indices[2]),
+					getInt(indices[3]));
+			default -> {
+				var values = new int[indices.length];
+				for (int i = 0; i < indices.length; i++) {
+					values[i] = getInt(indices[i]);
+				}
+				yield new IntFlatTuple(tupleElements, values);
+			}
+		};
+	}
+}
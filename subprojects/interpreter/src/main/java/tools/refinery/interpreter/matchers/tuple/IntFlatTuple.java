@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.matchers.tuple;
+
+import java.util.Arrays;
+
+/**
+ * Flat tuple of {@code int} values with statically unknown arity.
+ */
+public final class IntFlatTuple extends BaseIntFlatTuple {
+	/**
+	 * Array of values. DO NOT MODIFY! Use the constructor to build a new instance instead.
+	 */
+	private final int[] values;
+
+	IntFlatTuple(IntTupleElements tupleElements, int[] values) {
+		super(tupleElements);
+		this.values = values;
+		calcHash();
+	}
+
+	@Override
+	public int getSize() {
+		return values.length;
+	}
+
+	@Override
+	public int getInt(int index) {
+		return values[index];
+	}
+
+	@Override
+	protected boolean internalEquals(ITuple other) {
+		if (other instanceof IntFlatTuple otherIntTuple && tupleElements == otherIntTuple.tupleElements) {
+			return Arrays.equals(values, otherIntTuple.values);
+		}
+		return super.internalEquals(other);
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.matchers.tuple;
+
+/**
+ * Flat tuple of {@code int} values with statically known arity of 1.
+ */
+public final class IntFlatTuple1 extends BaseIntFlatTuple {
+	private final int value0;
+
+	IntFlatTuple1(IntTupleElements tupleElements, int value0) {
+		super(tupleElements);
+		this.value0 = value0;
+		calcHash();
+	}
+
+	@Override
+	public int getSize() {
+		return 1;
+	}
+
+	@Override
+	public int getInt(int index) {
+		return switch (index) {
+			case 0 -> value0;
+			default -> throw raiseIndexingError(index);
+		};
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.matchers.tuple;
+
+/**
+ * Converts the {@code int} values stored in {@link BaseIntFlatTuple} instances to the objects they represent in the
+ * query runtime context.
+ * <p>
+ * Implementations should return the same (or at least equal) objects for equal values, preferably without allocating
+ * new objects. Tuples created with different instances of this interface are never considered to have equal
+ * {@code int} values, so an implementation should be a singleton.
+ */
+public interface IntTupleElements {
+	Object wrap(int value);
+
+	/**
+	 * Computes the hash code of the wrapped value without wrapping it.
+	 *
+	 * @param value The value to hash.
+	 * @return The result of {@code wrap(value).hashCode()}.
+	 */
+	default int hashCode(int value) {
+		return wrap(value).hashCode();
+	}
+}
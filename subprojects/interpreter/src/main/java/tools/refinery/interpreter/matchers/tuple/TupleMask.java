@@ -307,6 +307,9 @@ public class TupleMask {
      * @since 1.7
      */
     public Tuple transform(ITuple original) {
+        if (original instanceof BaseIntFlatTuple intTuple) {
+            return intTuple.project(indices);
+        }
         switch (indices.length) {
         case 0:
             return FlatTuple0.INSTANCE;
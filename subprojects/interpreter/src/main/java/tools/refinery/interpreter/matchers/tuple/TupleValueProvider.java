@@ -10,26 +10,32 @@ package tools.refinery.interpreter.matchers.tuple;
 
 import java.util.Map;
 
-import tools.refinery.interpreter.matchers.psystem.IValueProvider;
+import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 
 /**
  * @author Zoltan Ujhelyi
  * @since 1.7
  */
-public class TupleValueProvider implements IValueProvider {
+public class TupleValueProvider implements IIndexedValueProvider {
 
     final ITuple tuple;
     final Map<String, Integer> indexMapping;
+    final int[] inputParameterIndices;
 
     /**
      * Wraps a tuple with an index mapping
      * @param tuple
      * @param indexMapping
+     * @param inputParameterIndices the result of
+     *        {@link IIndexedValueProvider#getInputParameterIndices(IExpressionEvaluator, Map)} for the evaluator and
+     *        the index mapping, which should be computed only once per evaluator
      */
-    public TupleValueProvider(ITuple tuple, Map<String, Integer> indexMapping) {
+    public TupleValueProvider(ITuple tuple, Map<String, Integer> indexMapping, int[] inputParameterIndices) {
         super();
         this.tuple = tuple;
         this.indexMapping = indexMapping;
+        this.inputParameterIndices = inputParameterIndices;
     }
 
     @Override
@@ -45,4 +51,19 @@ public class TupleValueProvider implements IValueProvider {
         return value;
     }
 
+    @Override
+    public Object getValue(int inputParameterIndex) {
+        int index = inputParameterIndices[inputParameterIndex];
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format("Input parameter %d is not present in mapping.",
+                    inputParameterIndex));
+        }
+        Object value = tuple.get(index);
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Input parameter %d is not found using index %d.",
+                    inputParameterIndex, index));
+        }
+        return value;
+    }
+
 }
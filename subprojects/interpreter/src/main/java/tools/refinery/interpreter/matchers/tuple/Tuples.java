@@ -121,6 +121,39 @@ public class Tuples {
         return new FlatTuple(elements);
     }
 
+    /**
+     * Creates a flat tuple storing the given {@code int} values, which are converted to objects by
+     * {@code tupleElements} only when accessed.
+     */
+    public static Tuple intFlatTupleOf(IntTupleElements tupleElements, int... values) {
+        switch (values.length) {
+        case 0:
+            return FlatTuple0.INSTANCE;
+        case 1:
+            return new IntFlatTuple1(tupleElements, values[0]);
+        case 2:
+            return new IntFlatTuple2(tupleElements, values[0], values[1]);
+        case 3:
+            return new IntFlatTuple3(tupleElements, values[0], values[1], values[2]);
+        case 4:
+            return new IntFlatTuple4(tupleElements, values[0], values[1], values[2], values[3]);
+        default:
+            return new IntFlatTuple(tupleElements, values.clone());
+        }
+    }
+    /**
+     * Creates a flat tuple storing the given single {@code int} value.
+     */
+    public static Tuple staticArityIntFlatTupleOf(IntTupleElements tupleElements, int value) {
+        return new IntFlatTuple1(tupleElements, value);
+    }
+    /**
+     * Creates a flat tuple storing the given {@code int} values.
+     */
+    public static Tuple staticArityIntFlatTupleOf(IntTupleElements tupleElements, int value0, int value1) {
+        return new IntFlatTuple2(tupleElements, value0, value1);
+    }
+
     /**
      * Creates a left inheritance tuple consisting of the given single local element.
      */
@@ -74,6 +74,35 @@ public class TupleTest {
 		assertEquals("hashCode", flatTupleReference.hashCode(), tuple.hashCode());
 	}
 
+	@Test
+	public void testIntFlatTuples() {
+		IntTupleElements tupleElements = Integer::valueOf;
+		int[] intValues = new int[arity];
+		for (int i=0; i<arity; ++i) intValues[i] = (Integer) values[i];
+		Tuple tuple = Tuples.intFlatTupleOf(tupleElements, intValues);
+
+		assertEquals("size", arity, tuple.getSize());
+		assertEquals("baseClass", arity != 0, tuple instanceof BaseIntFlatTuple);
+		for (int i=0; i<arity; ++i) {
+			assertEquals("get" + i, i, tuple.get(i));
+		}
+		assertArrayEquals("elements[]", values, tuple.getElements());
+
+		Tuple flatTupleReference = Tuples.wideFlatTupleOf(values);
+		assertTrue("equality(ft)",  flatTupleReference.equals(tuple));
+		assertTrue("equality(int)", tuple.equals(flatTupleReference));
+		assertTrue("equality(other)", tuple.equals(Tuples.intFlatTupleOf(tupleElements, intValues)));
+		assertEquals("hashCode", flatTupleReference.hashCode(), tuple.hashCode());
+
+		for (int i=0; i<arity; ++i) {
+			TupleMask mask = TupleMask.omit(i, arity);
+			Tuple maskedTuple = mask.transform(tuple);
+			assertEquals("masked baseClass", arity > 1, maskedTuple instanceof BaseIntFlatTuple);
+			assertEquals("masked equality", mask.transform(flatTupleReference), maskedTuple);
+			assertEquals("masked hashCode", mask.transform(flatTupleReference).hashCode(), maskedTuple.hashCode());
+		}
+	}
+
 	@Test
 	public void testLeftInheritanceTuples() {
 		for (int localArity = 0; localArity <= SPECIALIZED_ARITY_LIMIT + 1; ++localArity) {
@@ -16,6 +16,7 @@ import tools.refinery.language.web.api.dto.GenerateStatus;
 import tools.refinery.language.web.api.dto.GenerateSuccessResult;
 import tools.refinery.language.web.api.dto.RefineryResponse;
 import tools.refinery.language.web.api.sink.ResponseSink;
+import tools.refinery.language.web.api.util.ModelGeneratorCache;
 import tools.refinery.language.web.api.util.OutputSerializer;
 import tools.refinery.language.web.api.util.TimeoutManager;
 import tools.refinery.language.web.xtext.server.ThreadPoolExecutorServiceProvider;
@@ -37,6 +38,9 @@ public class GenerateWorker extends ScheduledWorker<GenerateRequest> {
 	@Inject
 	private ModelGeneratorFactory modelGeneratorFactory;
 
+	@Inject
+	private ModelGeneratorCache modelGeneratorCache;
+
 	@Inject
 	private OutputSerializer outputSerializer;
 
@@ -62,11 +66,10 @@ public class GenerateWorker extends ScheduledWorker<GenerateRequest> {
 	@Override
 	protected void run() throws IOException {
 		updateStatusString("Initializing model generator");
-		var problem = loadProblem();
-		if (problem == null) {
-			return;
-		}
-		try (var generator = createModelGenerator(problem)) {
+		try (var generator = createModelGenerator()) {
+			if (generator == null) {
+				return;
+			}
 			updateStatusString("Generating model");
 			generator.generate();
 			updateStatusString("Saving generated model");
@@ -78,9 +81,10 @@ public class GenerateWorker extends ScheduledWorker<GenerateRequest> {
 		updateStatus(new GenerateStatus(status));
 	}
 
-	private @Nullable Problem loadProblem() throws IOException {
+	private @Nullable ModelGenerator createModelGenerator() throws IOException {
+		checkCancelled();
 		var request = getRequest();
-		var originalProblem = problemLoader.loadString(request.getInput().getSource());
+		var source = request.getInput().getSource();
 		var scopeConstraints = new ArrayList<String>();
 		var overrideScopeConstraints = new ArrayList<String>();
 		for (var scope : request.getScopes()) {
@@ -91,6 +95,34 @@ public class GenerateWorker extends ScheduledWorker<GenerateRequest> {
 				scopeConstraints.add(scopeConstraint);
 			}
 		}
+		var jsonFormat = request.getFormat().getJson();
+		boolean keepNonExistingObjects = jsonFormat.getNonExistingObjects().isKeep();
+		boolean keepShadowPredicates = jsonFormat.getShadowPredicates().isKeep();
+		var cacheKey = ModelGeneratorCache.computeKey(source, scopeConstraints, overrideScopeConstraints,
+				keepNonExistingObjects, keepShadowPredicates);
+		var cachedGenerator = modelGeneratorCache.tryCreateGenerator(cacheKey, getCancellationToken());
+		if (cachedGenerator.isPresent()) {
+			LOG.debug("Reusing cached model store for generation request");
+			return configureGenerator(cachedGenerator.get());
+		}
+		var problem = loadProblem(source, scopeConstraints, overrideScopeConstraints);
+		if (problem == null) {
+			return null;
+		}
+		checkCancelled();
+		modelGeneratorFactory.keepNonExistingObjects(keepNonExistingObjects);
+		modelGeneratorFactory.keepShadowPredicates(keepShadowPredicates);
+		var template = modelGeneratorFactory.createTemplate(problem);
+		var generator = template.tryCreateGenerator(getCancellationToken())
+				.orElseThrow(() -> new IllegalStateException("New model generator template is already in use"));
+		generator.throwIfInitializationFailed();
+		modelGeneratorCache.put(cacheKey, template);
+		return configureGenerator(generator);
+	}
+
+	private @Nullable Problem loadProblem(String source, List<String> scopeConstraints,
+										  List<String> overrideScopeConstraints) throws IOException {
+		var originalProblem = problemLoader.loadString(source);
 		try {
 			return problemLoader.loadScopeConstraints(originalProblem, scopeConstraints, overrideScopeConstraints);
 		} catch (InvalidScopeConstraintException | InvalidProblemException e) {
@@ -109,19 +141,12 @@ public class GenerateWorker extends ScheduledWorker<GenerateRequest> {
 		)));
 	}
 
-	private ModelGenerator createModelGenerator(Problem problem) {
-		checkCancelled();
-		var request = getRequest();
-		var jsonFormat = request.getFormat().getJson();
-		modelGeneratorFactory.keepNonExistingObjects(jsonFormat.getNonExistingObjects().isKeep());
-		modelGeneratorFactory.keepShadowPredicates(jsonFormat.getShadowPredicates().isKeep());
-		var generator = modelGeneratorFactory.createGenerator(problem);
-		generator.setRandomSeed(request.getRandomSeed());
+	private ModelGenerator configureGenerator(ModelGenerator generator) {
+		generator.setRandomSeed(getRequest().getRandomSeed());
 		generator.setMaxNumberOfSolutions(1);
 		return generator;
 	}
 
-
 	private void saveModel(ModelGenerator generator) throws IOException {
 		var request = getRequest();
 		boolean jsonEnabled = request.getFormat().getJson().isEnabled();
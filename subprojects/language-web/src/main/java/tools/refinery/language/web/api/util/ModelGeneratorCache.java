@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.api.util;
+
+import com.google.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.refinery.generator.ModelGenerator;
+import tools.refinery.generator.ModelGeneratorTemplate;
+import tools.refinery.store.util.CancellationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the model stores of recently generated problems, so that repeated generation requests (e.g., with a different
+ * random seed) can skip translating the problem and building the store.
+ * <p>
+ * The least recently used entries are evicted once the cache grows larger than the number of entries set by the
+ * {@code REFINERY_MODEL_GENERATOR_CACHE_SIZE} environment variable. Setting it to {@code 0} disables caching. Invalid
+ * values are ignored with a warning.
+ */
+@Singleton
+public class ModelGeneratorCache {
+	private static final Logger LOG = LoggerFactory.getLogger(ModelGeneratorCache.class);
+	private static final String MAX_SIZE_ENVIRONMENT_VARIABLE = "REFINERY_MODEL_GENERATOR_CACHE_SIZE";
+	static final int DEFAULT_MAX_SIZE = 16;
+
+	private final int maxSize;
+
+	private final Map<String, ModelGeneratorTemplate> templates = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ModelGeneratorTemplate> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	public ModelGeneratorCache() {
+		this(parseMaxSize(System.getenv(MAX_SIZE_ENVIRONMENT_VARIABLE)));
+	}
+
+	ModelGeneratorCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	static int parseMaxSize(String value) {
+		if (value == null) {
+			return DEFAULT_MAX_SIZE;
+		}
+		try {
+			int maxSize = Integer.parseInt(value.strip());
+			if (maxSize >= 0) {
+				return maxSize;
+			}
+		} catch (NumberFormatException e) {
+			// Fall through to the warning below.
+		}
+		LOG.warn("Invalid value '{}' for {}, using the default of {} instead", value, MAX_SIZE_ENVIRONMENT_VARIABLE,
+				DEFAULT_MAX_SIZE);
+		return DEFAULT_MAX_SIZE;
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Creates a model generator from a cached model store.
+	 *
+	 * @param key               The key computed by {@link #computeKey(String, List, List, boolean, boolean)}.
+	 * @param cancellationToken The cancellation token of the new generator.
+	 * @return The new generator, or {@link Optional#empty()} if there is no cached store that is not in use.
+	 */
+	public Optional<ModelGenerator> tryCreateGenerator(String key, CancellationToken cancellationToken) {
+		ModelGeneratorTemplate template;
+		synchronized (templates) {
+			template = templates.get(key);
+		}
+		if (template == null) {
+			return Optional.empty();
+		}
+		return template.tryCreateGenerator(cancellationToken);
+	}
+
+	public void put(String key, ModelGeneratorTemplate template) {
+		if (!isEnabled()) {
+			return;
+		}
+		synchronized (templates) {
+			templates.put(key, template);
+		}
+	}
+
+	/**
+	 * Computes the cache key of a generation request.
+	 * <p>
+	 * The key is a hash of every input that affects the translation of the problem. Line endings in the problem
+	 * source are normalized, and the random seed is ignored, because it only affects the generated models.
+	 *
+	 * @param source                   The source of the problem.
+	 * @param scopeConstraints         Additional scope constraints.
+	 * @param overrideScopeConstraints Scope constraints overriding the ones in the problem.
+	 * @param keepNonExistingObjects   Whether non-existing objects are kept in the output.
+	 * @param keepShadowPredicates     Whether shadow predicates are kept in the output.
+	 * @return The cache key.
+	 */
+	public static String computeKey(String source, List<String> scopeConstraints,
+									List<String> overrideScopeConstraints, boolean keepNonExistingObjects,
+									boolean keepShadowPredicates) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+		update(digest, source.replace("\r\n", "\n").strip());
+		for (var scopeConstraint : scopeConstraints) {
+			update(digest, scopeConstraint);
+		}
+		// Separate the two lists of scope constraints with another byte that never occurs in UTF-8.
+		digest.update((byte) 0xfe);
+		for (var scopeConstraint : overrideScopeConstraints) {
+			update(digest, scopeConstraint);
+		}
+		digest.update((byte) (keepNonExistingObjects ? 1 : 0));
+		digest.update((byte) (keepShadowPredicates ? 1 : 0));
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		digest.update(bytes);
+		// Terminate each string with a byte that never occurs in UTF-8 to make the encoding unambiguous.
+		digest.update((byte) 0xff);
+	}
+}
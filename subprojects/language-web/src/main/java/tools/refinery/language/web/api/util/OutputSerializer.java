@@ -60,10 +60,20 @@ public class OutputSerializer {
 			return null;
 		}
 		var serializedSolution = serializedSolutionOption.get();
-		checkCancelled();
-		try (var outputStream = new ByteArrayOutputStream()) {
-			serializedSolution.eResource().save(outputStream, Map.of());
-			return outputStream.toString(StandardCharsets.UTF_8);
+		var resource = serializedSolution.eResource();
+		try {
+			checkCancelled();
+			try (var outputStream = new ByteArrayOutputStream()) {
+				resource.save(outputStream, Map.of());
+				return outputStream.toString(StandardCharsets.UTF_8);
+			}
+		} finally {
+			// The solution is added to the resource set of the original problem, which outlives this request if the
+			// problem is cached by {@link ModelGeneratorCache}.
+			var resourceSet = resource.getResourceSet();
+			if (resourceSet != null) {
+				resourceSet.getResources().remove(resource);
+			}
 		}
 	}
 
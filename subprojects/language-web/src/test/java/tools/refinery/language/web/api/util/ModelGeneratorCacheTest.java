@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.api.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.refinery.generator.ModelGenerator;
+import tools.refinery.generator.ModelGeneratorTemplate;
+import tools.refinery.store.util.CancellationToken;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ModelGeneratorCacheTest {
+	private static final String SOURCE = "class Person.\nscope Person = 10.\n";
+
+	@Test
+	void sameKeyTest() {
+		assertThat(computeKey(SOURCE, List.of("Person = 5"), List.of()),
+				is(computeKey(SOURCE, List.of("Person = 5"), List.of())));
+	}
+
+	@Test
+	void normalizedSourceKeyTest() {
+		var windowsSource = "class Person.\r\nscope Person = 10.\r\n";
+		assertThat(computeKey(windowsSource, List.of(), List.of()), is(computeKey(SOURCE, List.of(), List.of())));
+		assertThat(computeKey("  " + SOURCE + "\n\n", List.of(), List.of()),
+				is(computeKey(SOURCE, List.of(), List.of())));
+	}
+
+	@Test
+	void differentSourceKeyTest() {
+		assertThat(computeKey("class Person.\nscope Person = 11.\n", List.of(), List.of()),
+				not(computeKey(SOURCE, List.of(), List.of())));
+	}
+
+	@Test
+	void scopeConstraintKeyTest() {
+		var key = computeKey(SOURCE, List.of(), List.of());
+		var scopeKey = computeKey(SOURCE, List.of("Person = 5"), List.of());
+		var overrideScopeKey = computeKey(SOURCE, List.of(), List.of("Person = 5"));
+		assertThat(scopeKey, not(key));
+		assertThat(overrideScopeKey, not(key));
+		assertThat(overrideScopeKey, not(scopeKey));
+	}
+
+	@Test
+	void scopeConstraintBoundaryKeyTest() {
+		assertThat(computeKey(SOURCE, List.of("Person = 5", "Person = 6"), List.of()),
+				not(computeKey(SOURCE, List.of("Person = 5Person = 6"), List.of())));
+		assertThat(computeKey(SOURCE, List.of("Person = 5"), List.of("Person = 6")),
+				not(computeKey(SOURCE, List.of("Person = 5", "Person = 6"), List.of())));
+	}
+
+	@Test
+	void flagsKeyTest() {
+		var key = ModelGeneratorCache.computeKey(SOURCE, List.of(), List.of(), false, false);
+		var keepNonExistingKey = ModelGeneratorCache.computeKey(SOURCE, List.of(), List.of(), true, false);
+		var keepShadowKey = ModelGeneratorCache.computeKey(SOURCE, List.of(), List.of(), false, true);
+		assertThat(keepNonExistingKey, not(key));
+		assertThat(keepShadowKey, not(key));
+		assertThat(keepShadowKey, not(keepNonExistingKey));
+	}
+
+	@Test
+	void leastRecentlyUsedEvictionTest() {
+		var cache = new ModelGeneratorCache(2);
+		cache.put("a", createTemplate());
+		cache.put("b", createTemplate());
+		// Using "a" makes "b" the least recently used entry.
+		assertThat(isCached(cache, "a"), is(true));
+		cache.put("c", createTemplate());
+		assertThat(isCached(cache, "a"), is(true));
+		assertThat(isCached(cache, "b"), is(false));
+		assertThat(isCached(cache, "c"), is(true));
+	}
+
+	@Test
+	void disabledTest() {
+		var cache = new ModelGeneratorCache(0);
+		assertThat(cache.isEnabled(), is(false));
+		cache.put("a", createTemplate());
+		assertThat(isCached(cache, "a"), is(false));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"0, 0",
+			"1, 1",
+			"32, 32",
+			"' 8 ', 8"
+	})
+	void parseMaxSizeTest(String value, int expected) {
+		assertThat(ModelGeneratorCache.parseMaxSize(value), is(expected));
+	}
+
+	@ParameterizedTest
+	@NullSource
+	@ValueSource(strings = {"", "sixteen", "-1", "1.5", "4294967295"})
+	void parseDefaultMaxSizeTest(String value) {
+		assertThat(ModelGeneratorCache.parseMaxSize(value), is(ModelGeneratorCache.DEFAULT_MAX_SIZE));
+	}
+
+	private static String computeKey(String source, List<String> scopeConstraints,
+									 List<String> overrideScopeConstraints) {
+		return ModelGeneratorCache.computeKey(source, scopeConstraints, overrideScopeConstraints, false, false);
+	}
+
+	private static ModelGeneratorTemplate createTemplate() {
+		var template = mock(ModelGeneratorTemplate.class);
+		when(template.tryCreateGenerator(any())).thenReturn(Optional.of(mock(ModelGenerator.class)));
+		return template;
+	}
+
+	private static boolean isCached(ModelGeneratorCache cache, String key) {
+		return cache.tryCreateGenerator(key, CancellationToken.NONE).isPresent();
+	}
+}
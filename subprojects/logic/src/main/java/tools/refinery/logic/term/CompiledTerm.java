@@ -0,0 +1,24 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term;
+
+import tools.refinery.logic.valuation.Valuation;
+
+/**
+ * An evaluator for a {@link Term} created by {@link TermCompiler}.
+ *
+ * @param <T> The type of the term.
+ */
+@FunctionalInterface
+public interface CompiledTerm<T> {
+	/**
+	 * Evaluates the term.
+	 *
+	 * @param valuation The values of the variables of the term.
+	 * @return The same value as {@link Term#evaluate(Valuation)}.
+	 */
+	T evaluate(Valuation valuation);
+}
@@ -0,0 +1,292 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term;
+
+import tools.refinery.logic.term.bool.*;
+import tools.refinery.logic.term.comparable.*;
+import tools.refinery.logic.term.int_.*;
+import tools.refinery.logic.valuation.IndexedValuation;
+import tools.refinery.logic.valuation.Valuation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles {@link Term} trees into evaluators that are faster to run repeatedly than {@link Term#evaluate(Valuation)}.
+ * <p>
+ * The term tree is translated into a tree of closures once. Sub-terms built from the integer and Boolean operators
+ * are evaluated into primitive {@code int} and {@code boolean} values, so intermediate results are never boxed. Other
+ * unary and binary terms are evaluated by calling their {@code doEvaluate} methods directly on the results of their
+ * compiled sub-terms, and any remaining term falls back to {@link Term#evaluate(Valuation)}.
+ * <p>
+ * Terms evaluate to {@code null} whenever any of their sub-terms evaluates to {@code null}. Since this can only
+ * happen for some rare inputs, e.g., division by zero, primitive evaluators signal it with a pre-allocated exception
+ * that is caught at the boundary of the primitive sub-tree.
+ */
+public final class TermCompiler {
+	private TermCompiler() {
+		throw new IllegalStateException("This is a static utility class and should not be instantiated directly");
+	}
+
+	public static <T> CompiledTerm<T> compile(Term<T> term) {
+		return compile(term, List.of());
+	}
+
+	/**
+	 * Compiles a term whose data variables in {@code parameters} are read by their index.
+	 * <p>
+	 * The variables are resolved once during compilation, so the returned term must be evaluated with an
+	 * {@link IndexedValuation} that returns the value of {@code parameters.get(i)} from
+	 * {@link IndexedValuation#getValue(int)} when called with {@code i}. Any other data variable is still looked up
+	 * with {@link Valuation#getValue(DataVariable)}.
+	 *
+	 * @param term       The term to compile.
+	 * @param parameters The data variables to read by index.
+	 * @param <T>        The type of the term.
+	 * @return The compiled term.
+	 */
+	public static <T> CompiledTerm<T> compile(Term<T> term, List<? extends AnyDataVariable> parameters) {
+		var parameterIndices = HashMap.<AnyDataVariable, Integer>newHashMap(parameters.size());
+		for (int i = 0; i < parameters.size(); i++) {
+			if (parameterIndices.put(parameters.get(i), i) != null) {
+				throw new IllegalArgumentException("Duplicate parameter: " + parameters.get(i));
+			}
+		}
+		var evaluator = compileObject(term.reduce(), parameterIndices);
+		return valuation -> {
+			@SuppressWarnings("unchecked")
+			var value = (T) evaluator.evaluate(valuation);
+			return value;
+		};
+	}
+
+	private static ObjectEvaluator compileObject(Term<?> term, Map<AnyDataVariable, Integer> parameterIndices) {
+		if (term instanceof ConstantTerm<?> constantTerm) {
+			var value = constantTerm.getValue();
+			return valuation -> value;
+		}
+		if (term instanceof DataVariable<?> dataVariable) {
+			var index = parameterIndices.get(dataVariable);
+			if (index != null) {
+				int parameterIndex = index;
+				return valuation -> ((IndexedValuation) valuation).getValue(parameterIndex);
+			}
+			return valuation -> valuation.getValue(dataVariable);
+		}
+		if (isIntOperator(term)) {
+			@SuppressWarnings("unchecked")
+			var intEvaluator = compileInt((Term<Integer>) term, parameterIndices);
+			return valuation -> {
+				try {
+					return intEvaluator.evaluate(valuation);
+				} catch (NullResultException e) {
+					return null;
+				}
+			};
+		}
+		if (isBoolOperator(term)) {
+			@SuppressWarnings("unchecked")
+			var boolEvaluator = compileBool((Term<Boolean>) term, parameterIndices);
+			return valuation -> {
+				try {
+					return boolEvaluator.evaluate(valuation);
+				} catch (NullResultException e) {
+					return null;
+				}
+			};
+		}
+		if (term instanceof BinaryTerm<?, ?, ?> binaryTerm && !overridesEvaluate(term, BinaryTerm.class)) {
+			return compileBinary(binaryTerm, parameterIndices);
+		}
+		if (term instanceof UnaryTerm<?, ?> unaryTerm && !overridesEvaluate(term, UnaryTerm.class)) {
+			return compileUnary(unaryTerm, parameterIndices);
+		}
+		return term::evaluate;
+	}
+
+	private static <R, T1, T2> ObjectEvaluator compileBinary(BinaryTerm<R, T1, T2> term,
+															 Map<AnyDataVariable, Integer> parameterIndices) {
+		var leftEvaluator = compileObject(term.getLeft(), parameterIndices);
+		var rightEvaluator = compileObject(term.getRight(), parameterIndices);
+		return valuation -> {
+			var leftValue = leftEvaluator.evaluate(valuation);
+			if (leftValue == null) {
+				return null;
+			}
+			var rightValue = rightEvaluator.evaluate(valuation);
+			if (rightValue == null) {
+				return null;
+			}
+			@SuppressWarnings("unchecked")
+			var result = term.doEvaluate((T1) leftValue, (T2) rightValue);
+			return result;
+		};
+	}
+
+	private static <R, T> ObjectEvaluator compileUnary(UnaryTerm<R, T> term,
+													   Map<AnyDataVariable, Integer> parameterIndices) {
+		var bodyEvaluator = compileObject(term.getBody(), parameterIndices);
+		return valuation -> {
+			var bodyValue = bodyEvaluator.evaluate(valuation);
+			if (bodyValue == null) {
+				return null;
+			}
+			@SuppressWarnings("unchecked")
+			var result = term.doEvaluate((T) bodyValue);
+			return result;
+		};
+	}
+
+	private static boolean overridesEvaluate(Term<?> term, Class<?> baseClass) {
+		try {
+			return term.getClass().getMethod("evaluate", Valuation.class).getDeclaringClass() != baseClass;
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Failed to find evaluate method of " + term, e);
+		}
+	}
+
+	private static boolean isIntOperator(Term<?> term) {
+		// Only match the exact classes, since subclasses may override doEvaluate.
+		var termClass = term.getClass();
+		return termClass == IntAddTerm.class || termClass == IntSubTerm.class || termClass == IntMulTerm.class ||
+				termClass == IntDivTerm.class || termClass == IntMinTerm.class || termClass == IntMaxTerm.class ||
+				termClass == IntPlusTerm.class || termClass == IntMinusTerm.class;
+	}
+
+	private static IntEvaluator compileInt(Term<Integer> term, Map<AnyDataVariable, Integer> parameterIndices) {
+		if (term instanceof ConstantTerm<Integer> constantTerm && constantTerm.getValue() != null) {
+			int value = constantTerm.getValue();
+			return valuation -> value;
+		}
+		if (!isIntOperator(term)) {
+			var evaluator = compileObject(term, parameterIndices);
+			return valuation -> {
+				var value = evaluator.evaluate(valuation);
+				if (value == null) {
+					throw NullResultException.INSTANCE;
+				}
+				return (Integer) value;
+			};
+		}
+		if (term instanceof IntPlusTerm plusTerm) {
+			return compileInt(plusTerm.getBody(), parameterIndices);
+		}
+		if (term instanceof IntMinusTerm minusTerm) {
+			var body = compileInt(minusTerm.getBody(), parameterIndices);
+			return valuation -> -body.evaluate(valuation);
+		}
+		var binaryTerm = (IntBinaryTerm) term;
+		var left = compileInt(binaryTerm.getLeft(), parameterIndices);
+		var right = compileInt(binaryTerm.getRight(), parameterIndices);
+		return switch (binaryTerm) {
+			case IntAddTerm ignored -> valuation -> left.evaluate(valuation) + right.evaluate(valuation);
+			case IntSubTerm ignored -> valuation -> left.evaluate(valuation) - right.evaluate(valuation);
+			case IntMulTerm ignored -> valuation -> left.evaluate(valuation) * right.evaluate(valuation);
+			case IntDivTerm ignored -> valuation -> {
+				int leftValue = left.evaluate(valuation);
+				int rightValue = right.evaluate(valuation);
+				if (rightValue == 0) {
+					throw NullResultException.INSTANCE;
+				}
+				return leftValue / rightValue;
+			};
+			case IntMinTerm ignored -> valuation -> Math.min(left.evaluate(valuation), right.evaluate(valuation));
+			case IntMaxTerm ignored -> valuation -> Math.max(left.evaluate(valuation), right.evaluate(valuation));
+			default -> throw new IllegalArgumentException("Unknown integer operator: " + term);
+		};
+	}
+
+	private static boolean isBoolOperator(Term<?> term) {
+		var termClass = term.getClass();
+		if (termClass == BoolAndTerm.class || termClass == BoolOrTerm.class || termClass == BoolXorTerm.class ||
+				termClass == BoolNotTerm.class) {
+			return true;
+		}
+		return term instanceof ComparisonTerm<?> comparisonTerm && isIntComparison(comparisonTerm);
+	}
+
+	private static boolean isIntComparison(ComparisonTerm<?> term) {
+		var termClass = term.getClass();
+		return term.getArgumentType() == Integer.class && (termClass == EqTerm.class ||
+				termClass == NotEqTerm.class || termClass == LessTerm.class || termClass == LessEqTerm.class ||
+				termClass == GreaterTerm.class || termClass == GreaterEqTerm.class);
+	}
+
+	private static BoolEvaluator compileBool(Term<Boolean> term, Map<AnyDataVariable, Integer> parameterIndices) {
+		if (term instanceof ConstantTerm<Boolean> constantTerm && constantTerm.getValue() != null) {
+			boolean value = constantTerm.getValue();
+			return valuation -> value;
+		}
+		if (!isBoolOperator(term)) {
+			var evaluator = compileObject(term, parameterIndices);
+			return valuation -> {
+				var value = evaluator.evaluate(valuation);
+				if (value == null) {
+					throw NullResultException.INSTANCE;
+				}
+				return (Boolean) value;
+			};
+		}
+		if (term instanceof BoolNotTerm notTerm) {
+			var body = compileBool(notTerm.getBody(), parameterIndices);
+			return valuation -> !body.evaluate(valuation);
+		}
+		if (term instanceof ComparisonTerm<?> comparisonTerm) {
+			@SuppressWarnings("unchecked")
+			var intComparisonTerm = (ComparisonTerm<Integer>) comparisonTerm;
+			return compileIntComparison(intComparisonTerm, parameterIndices);
+		}
+		var binaryTerm = (BoolBinaryTerm) term;
+		var left = compileBool(binaryTerm.getLeft(), parameterIndices);
+		var right = compileBool(binaryTerm.getRight(), parameterIndices);
+		// Always evaluate both sides, because the result is {@code null} if either of them is {@code null}.
+		return switch (binaryTerm) {
+			case BoolAndTerm ignored -> valuation -> left.evaluate(valuation) & right.evaluate(valuation);
+			case BoolOrTerm ignored -> valuation -> left.evaluate(valuation) | right.evaluate(valuation);
+			case BoolXorTerm ignored -> valuation -> left.evaluate(valuation) ^ right.evaluate(valuation);
+			default -> throw new IllegalArgumentException("Unknown Boolean operator: " + term);
+		};
+	}
+
+	private static BoolEvaluator compileIntComparison(ComparisonTerm<Integer> term,
+													  Map<AnyDataVariable, Integer> parameterIndices) {
+		var left = compileInt(term.getLeft(), parameterIndices);
+		var right = compileInt(term.getRight(), parameterIndices);
+		return switch (term) {
+			case EqTerm<Integer> ignored -> valuation -> left.evaluate(valuation) == right.evaluate(valuation);
+			case NotEqTerm<Integer> ignored -> valuation -> left.evaluate(valuation) != right.evaluate(valuation);
+			case LessTerm<Integer> ignored -> valuation -> left.evaluate(valuation) < right.evaluate(valuation);
+			case LessEqTerm<Integer> ignored -> valuation -> left.evaluate(valuation) <= right.evaluate(valuation);
+			case GreaterTerm<Integer> ignored -> valuation -> left.evaluate(valuation) > right.evaluate(valuation);
+			case GreaterEqTerm<Integer> ignored -> valuation -> left.evaluate(valuation) >= right.evaluate(valuation);
+			default -> throw new IllegalArgumentException("Unknown comparison operator: " + term);
+		};
+	}
+
+	@FunctionalInterface
+	private interface ObjectEvaluator {
+		Object evaluate(Valuation valuation);
+	}
+
+	@FunctionalInterface
+	private interface IntEvaluator {
+		int evaluate(Valuation valuation);
+	}
+
+	@FunctionalInterface
+	private interface BoolEvaluator {
+		boolean evaluate(Valuation valuation);
+	}
+
+	private static final class NullResultException extends RuntimeException {
+		private static final NullResultException INSTANCE = new NullResultException();
+
+		private NullResultException() {
+			super("Term evaluated to null", null, false, false);
+		}
+	}
+}
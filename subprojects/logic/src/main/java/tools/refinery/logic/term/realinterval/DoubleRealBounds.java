@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term.realinterval;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Computes the transcendental functions of {@link RealBound.Finite} in double precision with outward rounding.
+ * <p>
+ * The argument is first enclosed in the double interval {@code [nextDown(d), nextUp(d)]} around its nearest double
+ * {@code d}. Since {@link Math} guarantees results within 1 ulp of the exact value for these monotone functions,
+ * moving the result of the function applied to the appropriate end of the enclosure by two more ulps in the rounding
+ * direction yields a sound bound. The bound is then rounded to the precision of the {@link RoundingMode} in the same
+ * direction.
+ * <p>
+ * Each method returns {@code null} if it cannot produce a sound or precise enough bound, e.g., because the argument
+ * or the result is outside the normal range of doubles, because the result is so sensitive to the argument that
+ * significant digits would be lost, or because the exact result is representable and would become an interval instead
+ * of a concrete value. The caller must then fall back to {@code BigDecimal} arithmetic.
+ */
+final class DoubleRealBounds {
+	private static final MathContext CANDIDATE_CONTEXT = new MathContext(15, java.math.RoundingMode.HALF_EVEN);
+
+	/**
+	 * The largest magnitude of the exponent of {@code e} for which we use doubles. The relative error of the argument
+	 * is multiplied by the magnitude of the exponent, so larger exponents would lose significant digits.
+	 */
+	private static final double MAX_EXPONENT = 16;
+
+	private static final BigDecimal LOG1P_LOWER = new BigDecimal("0.5");
+	private static final BigDecimal LOG1P_UPPER = BigDecimal.TWO;
+
+	private DoubleRealBounds() {
+		throw new IllegalStateException("This is a static utility class and should not be instantiated directly");
+	}
+
+	@Nullable
+	static BigDecimal exp(BigDecimal value, RoundingMode roundingMode) {
+		if (value.signum() == 0) {
+			return BigDecimal.ONE;
+		}
+		double argument = enclose(value, roundingMode);
+		if (!(Math.abs(argument) < MAX_EXPONENT)) {
+			return null;
+		}
+		return toBound(Math.exp(argument), roundingMode);
+	}
+
+	@Nullable
+	static BigDecimal log(BigDecimal value, RoundingMode roundingMode) {
+		if (value.compareTo(BigDecimal.ONE) == 0) {
+			return BigDecimal.ZERO;
+		}
+		if (value.compareTo(LOG1P_LOWER) > 0 && value.compareTo(LOG1P_UPPER) < 0) {
+			// Close to 1, the result is small and the rounding error of the argument would dominate it. We subtract 1
+			// exactly instead and let log1p preserve the relative precision.
+			double difference = enclose(value.subtract(BigDecimal.ONE), roundingMode);
+			if (Double.isNaN(difference)) {
+				return null;
+			}
+			return toBound(Math.log1p(difference), roundingMode);
+		}
+		double argument = enclose(value, roundingMode);
+		if (!(argument > 0)) {
+			return null;
+		}
+		return toBound(Math.log(argument), roundingMode);
+	}
+
+	@Nullable
+	static BigDecimal sqrt(BigDecimal value, RoundingMode roundingMode) {
+		if (value.signum() == 0) {
+			return BigDecimal.ZERO;
+		}
+		double nearest = value.doubleValue();
+		if (!isNormal(nearest)) {
+			return null;
+		}
+		// Doubles have almost 16 significant decimal digits, so rounding the result to 15 digits recovers short
+		// decimal roots, such as 0.1 for 0.01. Perfect squares keep their exact square root.
+		var candidate = new BigDecimal(Math.sqrt(nearest)).round(CANDIDATE_CONTEXT);
+		if (candidate.multiply(candidate).compareTo(value) == 0) {
+			return candidate.round(roundingMode.context());
+		}
+		double argument = enclose(value, roundingMode);
+		if (!(argument > 0)) {
+			return null;
+		}
+		return toBound(Math.sqrt(argument), roundingMode);
+	}
+
+	@Nullable
+	static BigDecimal pow(BigDecimal base, BigDecimal exponent, RoundingMode roundingMode) {
+		if (exponent.signum() == 0 || exponent.stripTrailingZeros().scale() <= 0) {
+			// Integer powers may have exact results, which we compute with {@code BigDecimal} arithmetic.
+			return null;
+		}
+		double nearestBase = base.doubleValue();
+		double nearestExponent = exponent.doubleValue();
+		if (!isNormal(nearestBase) || !isNormal(nearestExponent) || nearestBase < 0) {
+			return null;
+		}
+		double lowerBase = Math.nextDown(nearestBase);
+		double upperBase = Math.nextUp(nearestBase);
+		double lowerExponent = Math.nextDown(nearestExponent);
+		double upperExponent = Math.nextUp(nearestExponent);
+		if (!(lowerBase > 0)) {
+			return null;
+		}
+		if (!(Math.abs(nearestExponent * Math.log(nearestBase)) < MAX_EXPONENT)) {
+			return null;
+		}
+		// The power is monotone in both arguments for positive bases, so its extrema are at the corners.
+		double a = Math.pow(lowerBase, lowerExponent);
+		double b = Math.pow(lowerBase, upperExponent);
+		double c = Math.pow(upperBase, lowerExponent);
+		double d = Math.pow(upperBase, upperExponent);
+		double result = roundingMode == RoundingMode.FLOOR ? Math.min(Math.min(a, b), Math.min(c, d)) :
+				Math.max(Math.max(a, b), Math.max(c, d));
+		return toBound(result, roundingMode);
+	}
+
+	/**
+	 * Gets the end of a double interval enclosing a value in the rounding direction.
+	 *
+	 * @return The lower end for {@link RoundingMode#FLOOR}, the upper end for {@link RoundingMode#CEIL}, or
+	 * {@link Double#NaN} if the value is outside the normal range of doubles.
+	 */
+	private static double enclose(BigDecimal value, RoundingMode roundingMode) {
+		double nearest = value.doubleValue();
+		if (!isNormal(nearest)) {
+			return Double.NaN;
+		}
+		return roundingMode == RoundingMode.FLOOR ? Math.nextDown(nearest) : Math.nextUp(nearest);
+	}
+
+	@Nullable
+	private static BigDecimal toBound(double result, RoundingMode roundingMode) {
+		if (!isNormal(result)) {
+			return null;
+		}
+		double bound = roundingMode == RoundingMode.FLOOR ? Math.nextDown(Math.nextDown(result)) :
+				Math.nextUp(Math.nextUp(result));
+		if (!isNormal(bound) || Math.signum(bound) != Math.signum(result)) {
+			return null;
+		}
+		return new BigDecimal(bound).round(roundingMode.context());
+	}
+
+	private static boolean isNormal(double value) {
+		double magnitude = Math.abs(value);
+		return magnitude >= Double.MIN_NORMAL && magnitude <= Double.MAX_VALUE;
+	}
+}
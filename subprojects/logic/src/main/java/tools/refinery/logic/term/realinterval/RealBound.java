@@ -302,7 +302,8 @@ public sealed interface RealBound {
 
 		@Override
 		public RealBound exp(RoundingMode roundingMode) {
-			return new Finite(BigDecimalMath.exp(value, roundingMode.context()));
+			var result = DoubleRealBounds.exp(value, roundingMode);
+			return new Finite(result == null ? BigDecimalMath.exp(value, roundingMode.context()) : result);
 		}
 
 		@Override
@@ -314,7 +315,8 @@ public sealed interface RealBound {
 			if (compare == 0) {
 				return Infinite.NEGATIVE_INFINITY;
 			}
-			return new Finite(BigDecimalMath.log(value, roundingMode.context()));
+			var result = DoubleRealBounds.log(value, roundingMode);
+			return new Finite(result == null ? BigDecimalMath.log(value, roundingMode.context()) : result);
 		}
 
 		@Override
@@ -323,7 +325,8 @@ public sealed interface RealBound {
 			if (compare < 0) {
 				throw new ArithmeticException();
 			}
-			return new Finite(BigDecimalMath.sqrt(value, roundingMode.context()));
+			var result = DoubleRealBounds.sqrt(value, roundingMode);
+			return new Finite(result == null ? BigDecimalMath.sqrt(value, roundingMode.context()) : result);
 		}
 
 		@Override
@@ -357,8 +360,11 @@ public sealed interface RealBound {
 					}
 					yield other == Infinite.POSITIVE_INFINITY ? Infinite.POSITIVE_INFINITY : ZERO;
 				}
-				case Finite(var finiteValue) ->
-						new Finite(BigDecimalMath.pow(value, finiteValue, roundingMode.context()));
+				case Finite(var finiteValue) -> {
+					var result = DoubleRealBounds.pow(value, finiteValue, roundingMode);
+					yield new Finite(result == null ? BigDecimalMath.pow(value, finiteValue, roundingMode.context()) :
+							result);
+				}
 			};
 		}
 
@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.valuation;
+
+import tools.refinery.logic.term.TermCompiler;
+
+/**
+ * A valuation that can also look up the values of the parameters of a compiled term by their index.
+ *
+ * @see TermCompiler#compile(tools.refinery.logic.term.Term, java.util.List)
+ */
+public interface IndexedValuation extends Valuation {
+	Object getValue(int parameterIndex);
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.refinery.logic.term.bool.BoolTerms;
+import tools.refinery.logic.term.int_.IntTerms;
+import tools.refinery.logic.term.real.RealTerms;
+import tools.refinery.logic.valuation.IndexedValuation;
+import tools.refinery.logic.valuation.Valuation;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TermCompilerTest {
+	private static final DataVariable<Integer> x = Variable.of("x", Integer.class);
+	private static final DataVariable<Integer> y = Variable.of("y", Integer.class);
+	private static final DataVariable<Boolean> p = Variable.of("p", Boolean.class);
+	private static final DataVariable<Double> r = Variable.of("r", Double.class);
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource
+	void compiledTermTest(Term<?> term) {
+		var compiledTerm = TermCompiler.compile(term);
+		// Only read some of the variables by index to also cover mixing them with lookups by variable.
+		var indexedCompiledTerm = TermCompiler.compile(term, List.of(p, x));
+		Integer[] intValues = {null, -3, 0, 2};
+		Boolean[] boolValues = {null, false, true};
+		Double[] realValues = {null, -1.5, 0.0};
+		for (var xValue : intValues) {
+			for (var yValue : intValues) {
+				for (var pValue : boolValues) {
+					for (var rValue : realValues) {
+						var valuation = Valuation.builder()
+								.put(x, xValue)
+								.put(y, yValue)
+								.put(p, pValue)
+								.put(r, rValue)
+								.build();
+						var message = "%s with x=%s, y=%s, p=%s, r=%s".formatted(term, xValue, yValue, pValue, rValue);
+						var expected = term.evaluate(valuation);
+						assertThat(message, compiledTerm.evaluate(valuation), is(expected));
+						var indexedValuation = new ArrayIndexedValuation(valuation, new Object[]{pValue, xValue});
+						assertThat(message, indexedCompiledTerm.evaluate(indexedValuation), is(expected));
+					}
+				}
+			}
+		}
+	}
+
+	static Stream<Arguments> compiledTermTest() {
+		return Stream.of(
+				IntTerms.add(x, IntTerms.mul(y, IntTerms.constant(3))),
+				IntTerms.sub(IntTerms.minus(x), IntTerms.plus(y)),
+				IntTerms.div(x, y),
+				IntTerms.add(IntTerms.div(x, y), IntTerms.constant(1)),
+				IntTerms.min(x, IntTerms.max(y, IntTerms.constant(0))),
+				IntTerms.pow(IntTerms.add(x, y), IntTerms.constant(2)),
+				IntTerms.add(x, IntTerms.asInt(r)),
+				IntTerms.less(IntTerms.add(x, y), IntTerms.constant(1)),
+				IntTerms.eq(x, y),
+				IntTerms.notEq(IntTerms.div(x, y), IntTerms.constant(0)),
+				BoolTerms.and(IntTerms.lessEq(x, y), IntTerms.greaterEq(x, IntTerms.constant(0))),
+				BoolTerms.or(p, IntTerms.greater(IntTerms.div(y, x), IntTerms.constant(0))),
+				BoolTerms.and(BoolTerms.constant(false), p),
+				BoolTerms.xor(BoolTerms.not(p), IntTerms.eq(x, IntTerms.constant(2))),
+				RealTerms.less(RealTerms.add(r, RealTerms.asReal(x)), RealTerms.constant(0.0)),
+				x
+		).map(Arguments::of);
+	}
+
+	@Test
+	void boxedIntegerEqualityTest() {
+		// Large integers are not cached, so boxed values would have to be compared with equals.
+		var compiledTerm = TermCompiler.compile(IntTerms.eq(IntTerms.add(x, y), IntTerms.constant(2000)));
+		var valuation = Valuation.builder()
+				.put(x, 1000)
+				.put(y, 1000)
+				.build();
+		assertThat(compiledTerm.evaluate(valuation), is(true));
+	}
+
+	@Test
+	void duplicateParameterTest() {
+		var term = IntTerms.add(x, y);
+		var parameters = List.of(x, y, x);
+		assertThrows(IllegalArgumentException.class, () -> TermCompiler.compile(term, parameters));
+	}
+
+	private record ArrayIndexedValuation(Valuation valuation, Object[] values) implements IndexedValuation {
+		@Override
+		public Object getValue(int parameterIndex) {
+			return values[parameterIndex];
+		}
+
+		@Override
+		public <T> T getValue(DataVariable<T> variable) {
+			if (variable.equals(x) || variable.equals(p)) {
+				throw new AssertionError("Variable %s should have been read by index".formatted(variable));
+			}
+			return valuation.getValue(variable);
+		}
+
+		@Override
+		public Integer getNodeId(NodeVariable nodeVariable) {
+			return valuation.getNodeId(nodeVariable);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term.realinterval;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class DoubleRealBoundsTest {
+	private static final MathContext REFERENCE_CONTEXT = new MathContext(40);
+
+	@Test
+	void exactExpTest() {
+		assertThat(DoubleRealBounds.exp(BigDecimal.ZERO, RoundingMode.FLOOR), comparesEqualTo(BigDecimal.ONE));
+		assertThat(DoubleRealBounds.exp(BigDecimal.ZERO, RoundingMode.CEIL), comparesEqualTo(BigDecimal.ONE));
+	}
+
+	@Test
+	void exactLogTest() {
+		assertThat(DoubleRealBounds.log(BigDecimal.ONE, RoundingMode.FLOOR), comparesEqualTo(BigDecimal.ZERO));
+		assertThat(DoubleRealBounds.log(BigDecimal.ONE, RoundingMode.CEIL), comparesEqualTo(BigDecimal.ZERO));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0", "4", "0.25", "0.01", "2.25", "1E+20", "144"})
+	void exactSqrtTest(String value) {
+		var decimal = new BigDecimal(value);
+		var expected = decimal.sqrt(REFERENCE_CONTEXT);
+		assertThat(DoubleRealBounds.sqrt(decimal, RoundingMode.FLOOR), comparesEqualTo(expected));
+		assertThat(DoubleRealBounds.sqrt(decimal, RoundingMode.CEIL), comparesEqualTo(expected));
+	}
+
+	@Test
+	void integerPowFallbackTest() {
+		var base = new BigDecimal("2");
+		var exponent = new BigDecimal("3.0");
+		assertThat(DoubleRealBounds.pow(base, exponent, RoundingMode.FLOOR), nullValue());
+		assertThat(DoubleRealBounds.pow(base, exponent, RoundingMode.CEIL), nullValue());
+	}
+
+	@Test
+	void imprecisePowFallbackTest() {
+		var base = new BigDecimal("10");
+		var exponent = new BigDecimal("20.5");
+		assertThat(DoubleRealBounds.pow(base, exponent, RoundingMode.FLOOR), nullValue());
+		assertThat(DoubleRealBounds.pow(base, exponent, RoundingMode.CEIL), nullValue());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"20", "-123456.789"})
+	void impreciseExpFallbackTest(String value) {
+		var decimal = new BigDecimal(value);
+		assertThat(DoubleRealBounds.exp(decimal, RoundingMode.FLOOR), nullValue());
+		assertThat(DoubleRealBounds.exp(decimal, RoundingMode.CEIL), nullValue());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1E-400", "1E+400"})
+	void outOfRangeFallbackTest(String value) {
+		var decimal = new BigDecimal(value);
+		assertThat(DoubleRealBounds.exp(decimal, RoundingMode.FLOOR), nullValue());
+		assertThat(DoubleRealBounds.log(decimal, RoundingMode.CEIL), nullValue());
+		assertThat(DoubleRealBounds.sqrt(decimal, RoundingMode.FLOOR), nullValue());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0.1", "0.5", "1.0000000000000001", "2", "3.14159", "10", "15.9", "-0.3", "-15.5"})
+	void expSoundnessTest(String value) {
+		var decimal = new BigDecimal(value);
+		assertEncloses(DoubleRealBounds.exp(decimal, RoundingMode.FLOOR),
+				BigDecimalMath.exp(decimal, REFERENCE_CONTEXT), DoubleRealBounds.exp(decimal, RoundingMode.CEIL));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0.1", "0.5", "0.75", "0.9999999999999999", "1.0000000000000001", "1.5", "2", "3.14159",
+			"10", "123456.789", "1E+300"})
+	void logSoundnessTest(String value) {
+		var decimal = new BigDecimal(value);
+		assertEncloses(DoubleRealBounds.log(decimal, RoundingMode.FLOOR),
+				BigDecimalMath.log(decimal, REFERENCE_CONTEXT), DoubleRealBounds.log(decimal, RoundingMode.CEIL));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0.1", "0.5", "1.0000000000000001", "2", "3.14159", "10", "123456.789"})
+	void sqrtSoundnessTest(String value) {
+		var decimal = new BigDecimal(value);
+		assertEncloses(DoubleRealBounds.sqrt(decimal, RoundingMode.FLOOR), decimal.sqrt(REFERENCE_CONTEXT),
+				DoubleRealBounds.sqrt(decimal, RoundingMode.CEIL));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0.1", "0.5", "2", "3.14159", "10", "100"})
+	void powSoundnessTest(String value) {
+		var base = new BigDecimal(value);
+		for (var exponent : new String[]{"0.5", "-0.5", "1.5", "-2.7", "0.3333333333333333"}) {
+			var decimalExponent = new BigDecimal(exponent);
+			assertEncloses(DoubleRealBounds.pow(base, decimalExponent, RoundingMode.FLOOR),
+					BigDecimalMath.pow(base, decimalExponent, REFERENCE_CONTEXT),
+					DoubleRealBounds.pow(base, decimalExponent, RoundingMode.CEIL));
+		}
+	}
+
+	private static void assertEncloses(BigDecimal lower, BigDecimal exact, BigDecimal upper) {
+		assertThat(lower, notNullValue());
+		assertThat(upper, notNullValue());
+		assertThat(lower, lessThanOrEqualTo(exact));
+		assertThat(upper, greaterThanOrEqualTo(exact));
+		// The enclosure should be nearly as tight as directed rounding to the precision of the rounding mode.
+		assertThat(upper.subtract(lower).abs(), lessThanOrEqualTo(exact.abs().movePointLeft(13)));
+	}
+}
@@ -6,6 +6,7 @@
 
 plugins {
 	id("tools.refinery.gradle.java-library")
+	id("tools.refinery.gradle.jmh")
 }
 
 mavenArtifact {
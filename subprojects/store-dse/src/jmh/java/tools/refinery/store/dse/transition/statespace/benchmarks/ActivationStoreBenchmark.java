@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.refinery.store.dse.transition.DecisionRule;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.ActivationStore;
+import tools.refinery.store.dse.transition.statespace.internal.ActivationStoreImpl;
+import tools.refinery.store.dse.transition.statespace.internal.ConcurrentActivationStore;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Simulates workers that keep expanding a small window of the most promising versions, which is where contention
+ * happens in a best-first exploration.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ActivationStoreBenchmark {
+	@Param({"synchronized", "concurrent"})
+	public String implementation;
+
+	@Param({"1", "16"})
+	public int windowSize;
+
+	@Param({"32", "1000"})
+	public int numberOfActivations;
+
+	private int[] emptyEntrySizes;
+
+	private ActivationStore store;
+
+	private AtomicReferenceArray<VersionWithObjectiveValue> window;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		@SuppressWarnings("squid:S2245")
+		final Random random = new Random();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		// The decision rules are only used to calculate weights, so we do not need an actual rule here.
+		var transformations = Collections.nCopies(4, new DecisionRule(null));
+		Consumer<VersionWithObjectiveValue> whenAllActivationsVisited = x -> {
+		};
+		store = switch (implementation) {
+			case "synchronized" -> new ActivationStoreImpl(transformations, whenAllActivationsVisited);
+			case "concurrent" -> new ConcurrentActivationStore(transformations, whenAllActivationsVisited);
+			default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+		};
+		emptyEntrySizes = new int[transformations.size()];
+		Arrays.fill(emptyEntrySizes, numberOfActivations / transformations.size());
+		window = new AtomicReferenceArray<>(windowSize);
+		@SuppressWarnings("squid:S2245")
+		var random = new Random(1);
+		for (int i = 0; i < windowSize; i++) {
+			window.set(i, createVersion(random));
+		}
+	}
+
+	private VersionWithObjectiveValue createVersion(Random random) {
+		var version = BenchmarkVersion.next(random);
+		store.markNewAsVisited(version, emptyEntrySizes);
+		return version;
+	}
+
+	@Benchmark
+	public void getRandomAndMarkAsVisitedBenchmark(ThreadState threadState, Blackhole blackhole) {
+		var random = threadState.random;
+		int slot = random.nextInt(windowSize);
+		var version = window.get(slot);
+		var result = store.getRandomAndMarkAsVisited(version, random);
+		if (!result.mayHaveMore()) {
+			window.compareAndSet(slot, version, createVersion(random));
+		}
+		blackhole.consume(result);
+	}
+
+	@Benchmark
+	public void hasUnmarkedActivationBenchmark(ThreadState threadState, Blackhole blackhole) {
+		var version = window.get(threadState.random.nextInt(windowSize));
+		blackhole.consume(store.hasUnmarkedActivation(version));
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.benchmarks;
+
+import tools.refinery.store.dse.transition.ObjectiveValue;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.map.Version;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+record BenchmarkVersion(int id) implements Version {
+	private static final AtomicInteger nextId = new AtomicInteger();
+
+	static VersionWithObjectiveValue next(Random random) {
+		return new VersionWithObjectiveValue(new BenchmarkVersion(nextId.getAndIncrement()),
+				ObjectiveValue.of(random.nextDouble()));
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.EquivalenceClassStore;
+import tools.refinery.store.dse.transition.statespace.internal.ConcurrentEquivalenceClassStore;
+import tools.refinery.store.dse.transition.statespace.internal.FastEquivalenceClassStore;
+import tools.refinery.store.statecoding.StateCoderResult;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class EquivalenceClassStoreBenchmark {
+	@Param({"synchronized", "concurrent"})
+	public String implementation;
+
+	/**
+	 * The number of distinct model codes. Small values simulate explorations where most submitted states were
+	 * already visited.
+	 */
+	@Param({"1000", "1000000"})
+	public int numberOfCodes;
+
+	private EquivalenceClassStore store;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		@SuppressWarnings("squid:S2245")
+		final Random random = new Random();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		store = switch (implementation) {
+			case "synchronized" -> new FastEquivalenceClassStore(null) {
+				@Override
+				protected void delegate(VersionWithObjectiveValue version, int[] emptyActivations, boolean accept) {
+					// Nothing to delegate in benchmarks.
+				}
+			};
+			case "concurrent" -> new ConcurrentEquivalenceClassStore();
+			default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+		};
+	}
+
+	@Benchmark
+	public boolean submitBenchmark(ThreadState threadState) {
+		return store.submit(new StateCoderResult(threadState.random.nextInt(numberOfCodes), null));
+	}
+}
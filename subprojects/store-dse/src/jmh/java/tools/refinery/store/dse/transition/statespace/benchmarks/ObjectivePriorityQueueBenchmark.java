@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.refinery.store.dse.tests.DummyRandomObjective;
+import tools.refinery.store.dse.transition.objectives.Objective;
+import tools.refinery.store.dse.transition.statespace.ObjectivePriorityQueue;
+import tools.refinery.store.dse.transition.statespace.internal.ConcurrentObjectivePriorityQueue;
+import tools.refinery.store.dse.transition.statespace.internal.ObjectivePriorityQueueImpl;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ObjectivePriorityQueueBenchmark {
+	@Param({"synchronized", "concurrent"})
+	public String implementation;
+
+	@Param({"100", "10000"})
+	public int initialSize;
+
+	private ObjectivePriorityQueue queue;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		@SuppressWarnings("squid:S2245")
+		final Random random = new Random();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		List<Objective> objectives = List.of(new DummyRandomObjective());
+		queue = switch (implementation) {
+			case "synchronized" -> new ObjectivePriorityQueueImpl(objectives);
+			case "concurrent" -> new ConcurrentObjectivePriorityQueue(objectives);
+			default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+		};
+		@SuppressWarnings("squid:S2245")
+		var random = new Random(1);
+		for (int i = 0; i < initialSize; i++) {
+			queue.submit(BenchmarkVersion.next(random));
+		}
+	}
+
+	@Benchmark
+	public void submitAndRemoveBenchmark(ThreadState threadState, Blackhole blackhole) {
+		var version = BenchmarkVersion.next(threadState.random);
+		queue.submit(version);
+		blackhole.consume(queue.getBest());
+		queue.remove(version);
+	}
+
+	@Benchmark
+	public void getBestBenchmark(Blackhole blackhole) {
+		blackhole.consume(queue.getBest());
+	}
+
+	@Benchmark
+	public void getRandomBenchmark(ThreadState threadState, Blackhole blackhole) {
+		blackhole.consume(queue.getRandom(threadState.random));
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tools.refinery.store.dse.transition.statespace.SolutionStore;
+import tools.refinery.store.dse.transition.statespace.internal.ConcurrentSolutionStore;
+import tools.refinery.store.dse.transition.statespace.internal.SolutionStoreImpl;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class SolutionStoreBenchmark {
+	@Param({"synchronized", "concurrent"})
+	public String implementation;
+
+	@Param({"10", "1000"})
+	public int maxNumberOfSolutions;
+
+	private SolutionStore store;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		@SuppressWarnings("squid:S2245")
+		final Random random = new Random();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		store = switch (implementation) {
+			case "synchronized" -> new SolutionStoreImpl(maxNumberOfSolutions);
+			case "concurrent" -> new ConcurrentSolutionStore(maxNumberOfSolutions);
+			default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+		};
+	}
+
+	@Benchmark
+	public boolean submitBenchmark(ThreadState threadState) {
+		return store.submit(BenchmarkVersion.next(threadState.random));
+	}
+
+	@Benchmark
+	public boolean hasEnoughSolutionBenchmark() {
+		return store.hasEnoughSolution();
+	}
+}
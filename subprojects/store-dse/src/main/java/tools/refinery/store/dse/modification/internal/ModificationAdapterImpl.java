@@ -71,7 +71,8 @@ public class ModificationAdapterImpl implements ModificationAdapter {
 	}
 
 	private void deleteDanglingEdges(int objectId) {
-		for (var symbol : model.getStore().getSymbols()) {
+		// The returned set is a snapshot, so we can modify the interpretations while iterating over it.
+		for (var symbol : model.getSymbolsContainingNode(objectId)) {
 			deleteDanglingEdges(objectId, (Symbol<?>) symbol);
 		}
 	}
@@ -93,15 +94,6 @@ public class ModificationAdapterImpl implements ModificationAdapter {
 	}
 
 	private boolean hasDanglingEdges(int objectId) {
-		for (var symbol : model.getStore().getSymbols()) {
-			var interpretation = model.getInterpretation(symbol);
-			int arity = symbol.arity();
-			for (int i = 0; i < arity; i++) {
-				if (interpretation.getAdjacentSize(i, objectId) > 0) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return !model.getSymbolsContainingNode(objectId).isEmpty();
 	}
 }
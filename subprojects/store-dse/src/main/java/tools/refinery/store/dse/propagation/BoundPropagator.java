@@ -27,4 +27,8 @@ public interface BoundPropagator {
 	default PropagationResult checkConcretization() {
 		return PropagationResult.UNCHANGED;
 	}
+
+	default PropagationStatistics getStatistics() {
+		return PropagationStatistics.EMPTY;
+	}
 }
@@ -22,6 +22,8 @@ public interface PropagationAdapter extends ModelAdapter {
 
 	PropagationResult checkConcretization();
 
+	PropagationStatistics getStatistics();
+
 	static PropagationBuilder builder() {
 		return new PropagationBuilderImpl();
 	}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation;
+
+/**
+ * Statistics about the rounds of rule-based propagation performed on a model.
+ * <p>
+ * Rules are only fired if their preconditions received new matches since they were last fired, and they are fired in
+ * the order of their dependencies, so that a rule may see the changes made by other rules in the same round. The
+ * saved rounds and firings are estimated by comparing with a scheduler that fires every rule in each round and only
+ * makes changes visible at the end of the round.
+ *
+ * @param rounds       The number of rounds of propagation.
+ * @param firings      The number of times a rule was fired.
+ * @param savedRounds  The estimated number of rounds saved by making changes visible within the same round.
+ * @param savedFirings The estimated number of times a rule without new matches did not have to be fired.
+ */
+public record PropagationStatistics(long rounds, long firings, long savedRounds, long savedFirings) {
+	public static final PropagationStatistics EMPTY = new PropagationStatistics(0, 0, 0, 0);
+
+	public PropagationStatistics plus(PropagationStatistics other) {
+		return new PropagationStatistics(rounds + other.rounds, firings + other.firings,
+				savedRounds + other.savedRounds, savedFirings + other.savedFirings);
+	}
+}
@@ -110,6 +110,15 @@ class PropagationAdapterImpl implements PropagationAdapter {
 		return result;
 	}
 
+	@Override
+	public PropagationStatistics getStatistics() {
+		var statistics = PropagationStatistics.EMPTY;
+		for (var propagator : boundPropagators) {
+			statistics = statistics.plus(propagator.getStatistics());
+		}
+		return statistics;
+	}
+
 	@Override
 	public Model getModel() {
 		return model;
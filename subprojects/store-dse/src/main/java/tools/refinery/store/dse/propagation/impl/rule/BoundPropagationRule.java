@@ -49,6 +49,14 @@ class BoundPropagationRule {
 		});
 	}
 
+	public void addNewMatchListener(Runnable listener) {
+		resultSet.addListener((key, fromValue, toValue) -> {
+			if (Boolean.TRUE.equals(toValue)) {
+				listener.run();
+			}
+		});
+	}
+
 	public boolean isDynamic() {
 		return firedActivations == null;
 	}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation.impl.rule;
+
+import tools.refinery.logic.Constraint;
+import tools.refinery.logic.dnf.Dnf;
+import tools.refinery.logic.literal.AbstractCallLiteral;
+import tools.refinery.logic.literal.Literal;
+import tools.refinery.logic.literal.TermLiteral;
+import tools.refinery.logic.rewriter.TermRewriter;
+import tools.refinery.logic.term.AbstractCallTerm;
+import tools.refinery.logic.term.Term;
+import tools.refinery.store.dse.transition.Rule;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.representation.AnySymbol;
+
+import java.util.*;
+
+/**
+ * Orders rules according to a static dependency graph, where a rule depends on another if its precondition reads a
+ * symbol modified by the action of the other rule.
+ * <p>
+ * If the dependency graph is acyclic, each rule comes after all of its dependencies. Cycles are broken by taking the
+ * rule that comes first in the original order. Otherwise, the original order of the rules is kept.
+ */
+final class RuleDependencyOrder {
+	private RuleDependencyOrder() {
+		throw new IllegalStateException("This is a static utility class and should not be instantiated directly");
+	}
+
+	public static List<Rule> sort(List<Rule> rules) {
+		int size = rules.size();
+		var readSymbols = new ArrayList<Set<AnySymbol>>(size);
+		for (var rule : rules) {
+			readSymbols.add(getReadSymbols(rule));
+		}
+		var dependents = new ArrayList<List<Integer>>(size);
+		var dependencyCounts = new int[size];
+		for (int i = 0; i < size; i++) {
+			var modifiedSymbols = getModifiedSymbols(rules.get(i));
+			var ruleDependents = new ArrayList<Integer>();
+			for (int j = 0; j < size; j++) {
+				if (i != j && !Collections.disjoint(modifiedSymbols, readSymbols.get(j))) {
+					ruleDependents.add(j);
+					dependencyCounts[j]++;
+				}
+			}
+			dependents.add(ruleDependents);
+		}
+		// Kahn's algorithm, always taking the first available rule to keep the original order where possible.
+		var available = new PriorityQueue<Integer>();
+		for (int i = 0; i < size; i++) {
+			if (dependencyCounts[i] == 0) {
+				available.add(i);
+			}
+		}
+		var done = new boolean[size];
+		var sortedRules = new ArrayList<Rule>(size);
+		int nextCandidate = 0;
+		while (sortedRules.size() < size) {
+			Integer next = available.poll();
+			if (next == null) {
+				// Break a cycle in the dependency graph.
+				while (done[nextCandidate]) {
+					nextCandidate++;
+				}
+				next = nextCandidate;
+			}
+			done[next] = true;
+			sortedRules.add(rules.get(next));
+			for (int dependent : dependents.get(next)) {
+				dependencyCounts[dependent]--;
+				if (dependencyCounts[dependent] == 0 && !done[dependent]) {
+					available.add(dependent);
+				}
+			}
+		}
+		return sortedRules;
+	}
+
+	private static Set<AnySymbol> getModifiedSymbols(Rule rule) {
+		var symbols = new HashSet<AnySymbol>();
+		for (var actionLiteral : rule.getAction().getActionLiterals()) {
+			symbols.addAll(actionLiteral.getModifiedSymbols());
+		}
+		return symbols;
+	}
+
+	private static Set<AnySymbol> getReadSymbols(Rule rule) {
+		var collector = new SymbolCollector();
+		collector.visitDnf(rule.getPrecondition().getDnf());
+		return collector.symbols;
+	}
+
+	private static class SymbolCollector implements TermRewriter {
+		private final Set<AnySymbol> symbols = new HashSet<>();
+		private final Set<Dnf> visitedDnfs = new HashSet<>();
+
+		public void visitDnf(Dnf dnf) {
+			if (!visitedDnfs.add(dnf)) {
+				return;
+			}
+			for (var clause : dnf.getClauses()) {
+				for (var literal : clause.literals()) {
+					visitLiteral(literal);
+				}
+			}
+		}
+
+		private void visitLiteral(Literal literal) {
+			if (literal instanceof AbstractCallLiteral callLiteral) {
+				visitConstraint(callLiteral.getTarget());
+			} else if (literal instanceof TermLiteral<?> termLiteral) {
+				rewriteTerm(termLiteral.getTerm());
+			}
+		}
+
+		private void visitConstraint(Constraint constraint) {
+			if (constraint instanceof AnySymbolView symbolView) {
+				symbols.add(symbolView.getSymbol());
+			} else if (constraint instanceof Dnf dnf) {
+				visitDnf(dnf);
+			}
+		}
+
+		@Override
+		public <T> Term<T> rewriteTerm(Term<T> term) {
+			// We only use the rewriter to traverse the sub-terms, so we always return the original term.
+			if (term instanceof AbstractCallTerm<T> callTerm) {
+				visitConstraint(callTerm.getTarget());
+			}
+			term.rewriteSubTerms(this);
+			return term;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation.impl.rule;
+
+import tools.refinery.store.dse.propagation.PropagationResult;
+import tools.refinery.store.dse.propagation.PropagationStatistics;
+import tools.refinery.store.dse.transition.Rule;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelListener;
+import tools.refinery.store.query.ModelQueryAdapter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Fires a group of rules until none of them can make progress.
+ * <p>
+ * Static rules are only fired if their result sets received new matches since they were last fired, or if they have
+ * to be checked for getting stuck. Each round fires the pending rules in the order given by {@link
+ * RuleDependencyOrder}. Changes are flushed to the query engine before firing the next rule, so a rule may be woken up
+ * and fired in the same round as the rules it depends on.
+ */
+class RuleScheduler {
+	private static final int EXTERNAL_CHANGE = -1;
+
+	private final ModelQueryAdapter queryEngine;
+	private final BoundPropagationRule[] allRules;
+	private final BoundPropagationRule[] dynamicRules;
+	private final BoundPropagationRule[] staticRules;
+	private final BitSet pending;
+	// The round where the round-based scheduler would have fired each pending rule.
+	private final int[] wakeRounds;
+	private int changeRound = EXTERNAL_CHANGE;
+	private long rounds;
+	private long firings;
+	private long savedRounds;
+	private long savedFirings;
+
+	public RuleScheduler(Model model, List<Rule> rules) {
+		queryEngine = model.getAdapter(ModelQueryAdapter.class);
+		var sortedRules = RuleDependencyOrder.sort(rules);
+		int size = sortedRules.size();
+		allRules = new BoundPropagationRule[size];
+		for (int i = 0; i < size; i++) {
+			allRules[i] = new BoundPropagationRule(model, sortedRules.get(i));
+		}
+		dynamicRules = Arrays.stream(allRules).filter(BoundPropagationRule::isDynamic)
+				.toArray(BoundPropagationRule[]::new);
+		staticRules = Arrays.stream(allRules).filter(rule -> !rule.isDynamic())
+				.toArray(BoundPropagationRule[]::new);
+		pending = new BitSet(staticRules.length);
+		wakeRounds = new int[staticRules.length];
+		for (int i = 0; i < staticRules.length; i++) {
+			int index = i;
+			staticRules[i].addNewMatchListener(() -> wake(index));
+		}
+		// Every rule may have matches in the initial model.
+		pending.set(0, staticRules.length);
+		model.addListener(new ModelListener() {
+			@Override
+			public void afterRestore() {
+				// Restoring the model may have replaced result sets without notifying their listeners.
+				pending.set(0, staticRules.length);
+			}
+		});
+	}
+
+	private void wake(int index) {
+		pending.set(index);
+		wakeRounds[index] = Math.max(wakeRounds[index], changeRound + 1);
+	}
+
+	public boolean canFire() {
+		// Use a classic for loop to avoid allocating an iterator.
+		//noinspection ForLoopReplaceableByForEach
+		for (int i = 0; i < allRules.length; i++) {
+			if (allRules[i].canFire()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public PropagationResult fireAll() {
+		queryEngine.flushChanges();
+		changeRound = 0;
+		try {
+			var result = fireDynamicRules();
+			if (result.isRejected()) {
+				return result;
+			}
+			return result.andThen(fireStaticRules(result.isChanged()));
+		} finally {
+			changeRound = EXTERNAL_CHANGE;
+			Arrays.fill(wakeRounds, 0);
+		}
+	}
+
+	private PropagationResult fireDynamicRules() {
+		PropagationResult result = PropagationResult.UNCHANGED;
+		// Dynamic rules may get stuck in a loop, so we only fire them once and then pass the control back to other
+		// propagators to allow them to detect inconsistency and abort the loop.
+		// Use a classic for loop to avoid allocating an iterator.
+		//noinspection ForLoopReplaceableByForEach
+		for (int i = 0; i < dynamicRules.length; i++) {
+			result = result.andThen(dynamicRules[i].fireAll());
+			if (result.isRejected()) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	private PropagationResult fireStaticRules(boolean changed) {
+		PropagationResult result = PropagationResult.UNCHANGED;
+		if (staticRules.length == 0) {
+			return result;
+		}
+		long roundsSoFar = 0;
+		long firingsSoFar = 0;
+		int lastRound = -1;
+		int next = 0;
+		while (true) {
+			if (changed) {
+				// Wakes up the rules affected by the last change.
+				queryEngine.flushChanges();
+				changed = false;
+			}
+			int index = pending.nextSetBit(next);
+			if (index < 0) {
+				if (pending.isEmpty()) {
+					break;
+				}
+				next = 0;
+				continue;
+			}
+			if (next == 0) {
+				roundsSoFar++;
+			}
+			pending.clear(index);
+			next = index + 1;
+			int round = wakeRounds[index];
+			wakeRounds[index] = 0;
+			lastRound = Math.max(lastRound, round);
+			changeRound = round;
+			firingsSoFar++;
+			var lastResult = staticRules[index].fireAll();
+			result = result.andThen(lastResult);
+			if (result.isRejected()) {
+				break;
+			}
+			if (lastResult.isChanged()) {
+				changed = true;
+				// Check in a later round whether the fired activations were removed from the result set.
+				wake(index);
+			}
+		}
+		rounds += roundsSoFar;
+		firings += firingsSoFar;
+		if (!result.isRejected()) {
+			// Compare with a scheduler that fires every static rule in every round, where changes made in a round only
+			// become visible in the next round. Such a scheduler always fires every static rule at least once.
+			long roundBasedRounds = Math.max(lastRound + 1L, 1);
+			savedRounds += Math.max(0, roundBasedRounds - roundsSoFar);
+			savedFirings += Math.max(0, roundBasedRounds * staticRules.length - firingsSoFar);
+		}
+		return result;
+	}
+
+	public PropagationStatistics getStatistics() {
+		return new PropagationStatistics(rounds, firings, savedRounds, savedFirings);
+	}
+}
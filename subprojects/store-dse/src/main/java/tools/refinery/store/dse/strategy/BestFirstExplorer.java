@@ -25,7 +25,7 @@ public class BestFirstExplorer extends BestFirstWorker {
 
 	private boolean shouldRun() {
 		model.checkCancelled();
-		return !hasEnoughSolution();
+		return !hasEnoughSolution() && !storeManager.isStopped();
 	}
 
 	public void explore() {
@@ -38,6 +38,9 @@ public class BestFirstExplorer extends BestFirstWorker {
 					lastBest = restoreToBest();
 				}
 				if (lastBest == null) {
+					if (storeManager.awaitFrontier()) {
+						continue;
+					}
 					return;
 				}
 			}
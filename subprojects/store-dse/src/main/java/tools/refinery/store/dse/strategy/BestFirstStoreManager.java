@@ -10,44 +10,107 @@ import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
 import tools.refinery.store.dse.transition.statespace.ActivationStore;
 import tools.refinery.store.dse.transition.statespace.EquivalenceClassStore;
 import tools.refinery.store.dse.transition.statespace.ObjectivePriorityQueue;
+import tools.refinery.store.dse.transition.statespace.SharedSolutionStore;
 import tools.refinery.store.dse.transition.statespace.SolutionStore;
-import tools.refinery.store.dse.transition.statespace.internal.ActivationStoreImpl;
-import tools.refinery.store.dse.transition.statespace.internal.FastEquivalenceClassStore;
-import tools.refinery.store.dse.transition.statespace.internal.ObjectivePriorityQueueImpl;
-import tools.refinery.store.dse.transition.statespace.internal.SolutionStoreImpl;
+import tools.refinery.store.dse.transition.statespace.internal.*;
 import tools.refinery.store.map.Version;
 import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.statecoding.StateCoderResult;
 import tools.refinery.store.statecoding.StateCoderStoreAdapter;
 import tools.refinery.visualization.statespace.VisualizationStore;
 import tools.refinery.visualization.statespace.internal.VisualizationStoreImpl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 public class BestFirstStoreManager {
+	/**
+	 * Cancellation is only signaled by polling {@link ModelStore#checkCancelled()}, so idle workers wake up this often
+	 * to check it.
+	 */
+	private static final long CANCELLATION_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
 
 	ModelStore modelStore;
 	ObjectivePriorityQueue objectiveStore;
 	ActivationStore activationStore;
 	SolutionStore solutionStore;
+	private final SharedSolutionStore sharedSolutionStore;
 	EquivalenceClassStore equivalenceClassStore;
 	VisualizationStore visualizationStore;
+	private final Lock frontierLock = new ReentrantLock();
+	private final Condition frontierChanged = frontierLock.newCondition();
+	// Guarded by frontierLock.
+	private int activeWorkers;
+	private boolean multipleWorkers;
+	private volatile boolean stopped;
 
 	public BestFirstStoreManager(ModelStore modelStore, int maxNumberOfSolutions) {
+		this(modelStore, maxNumberOfSolutions, false);
+	}
+
+	/**
+	 * Creates a new exploration manager.
+	 *
+	 * @param modelStore           The model store to explore.
+	 * @param maxNumberOfSolutions The number of solutions to find.
+	 * @param concurrentStores     Whether to use lock-free state space stores, which scale better if the exploration
+	 *                             is run with multiple workers.
+	 */
+	public BestFirstStoreManager(ModelStore modelStore, int maxNumberOfSolutions, boolean concurrentStores) {
+		this(modelStore, concurrentStores ? new ConcurrentSolutionStore(maxNumberOfSolutions) :
+				new SolutionStoreImpl(maxNumberOfSolutions), null, concurrentStores);
+	}
+
+	/**
+	 * Creates a new exploration manager that submits its solutions to a shared solution store.
+	 * <p>
+	 * Sharing a {@link DeduplicatingSolutionStore} between multiple exploration managers of the same model store lets
+	 * independent explorations (e.g., with different random seeds) contribute to the same set of solutions. The
+	 * {@link #getSolutionStore()} of this exploration manager only contains the solutions that were kept by the shared
+	 * solution store.
+	 *
+	 * @param modelStore          The model store to explore.
+	 * @param sharedSolutionStore The solution store to submit solutions to.
+	 */
+	public BestFirstStoreManager(ModelStore modelStore, SharedSolutionStore sharedSolutionStore) {
+		this(modelStore, new SolutionStoreImpl(SolutionStoreImpl.UNLIMITED), sharedSolutionStore, false);
+	}
+
+	private BestFirstStoreManager(ModelStore modelStore, SolutionStore solutionStore,
+								  SharedSolutionStore sharedSolutionStore, boolean concurrentStores) {
 		this.modelStore = modelStore;
+		this.solutionStore = solutionStore;
+		this.sharedSolutionStore = sharedSolutionStore;
 		DesignSpaceExplorationStoreAdapter storeAdapter =
 				modelStore.getAdapter(DesignSpaceExplorationStoreAdapter.class);
 
-		objectiveStore = new ObjectivePriorityQueueImpl(storeAdapter.getObjectives());
-		Consumer<VersionWithObjectiveValue> whenAllActivationsVisited = x -> objectiveStore.remove(x);
-		activationStore = new ActivationStoreImpl(storeAdapter.getTransformations(), whenAllActivationsVisited);
-		solutionStore = new SolutionStoreImpl(maxNumberOfSolutions);
-		equivalenceClassStore = new FastEquivalenceClassStore(modelStore.getAdapter(StateCoderStoreAdapter.class)) {
-			@Override
-			protected void delegate(VersionWithObjectiveValue version, int[] emptyActivations, boolean accept) {
-				throw new UnsupportedOperationException("This equivalence storage is not prepared to resolve " +
-						"symmetries!");
-			}
-		};
+		if (concurrentStores) {
+			objectiveStore = new ConcurrentObjectivePriorityQueue(storeAdapter.getObjectives());
+			Consumer<VersionWithObjectiveValue> whenAllActivationsVisited = x -> objectiveStore.remove(x);
+			activationStore = new ConcurrentActivationStore(storeAdapter.getTransformations(),
+					whenAllActivationsVisited);
+			equivalenceClassStore = new ConcurrentEquivalenceClassStore();
+		} else {
+			objectiveStore = new ObjectivePriorityQueueImpl(storeAdapter.getObjectives());
+			Consumer<VersionWithObjectiveValue> whenAllActivationsVisited = x -> objectiveStore.remove(x);
+			activationStore = new ActivationStoreImpl(storeAdapter.getTransformations(), whenAllActivationsVisited);
+			equivalenceClassStore = new FastEquivalenceClassStore(
+					modelStore.getAdapter(StateCoderStoreAdapter.class)) {
+				@Override
+				protected void delegate(VersionWithObjectiveValue version, int[] emptyActivations, boolean accept) {
+					throw new UnsupportedOperationException("This equivalence storage is not prepared to resolve " +
+							"symmetries!");
+				}
+			};
+		}
 		visualizationStore = new VisualizationStoreImpl();
 	}
 
@@ -67,6 +130,31 @@ public class BestFirstStoreManager {
 		return solutionStore;
 	}
 
+	boolean submitSolution(VersionWithObjectiveValue version, StateCoderResult code) {
+		if (sharedSolutionStore != null && !sharedSolutionStore.submit(version, code)) {
+			return false;
+		}
+		return solutionStore.submit(version);
+	}
+
+	void submitToFrontier(VersionWithObjectiveValue version) {
+		objectiveStore.submit(version);
+		if (!multipleWorkers) {
+			return;
+		}
+		frontierLock.lock();
+		try {
+			frontierChanged.signal();
+		} finally {
+			frontierLock.unlock();
+		}
+	}
+
+	boolean hasEnoughSolution() {
+		return solutionStore.hasEnoughSolution() ||
+				(sharedSolutionStore != null && sharedSolutionStore.hasEnoughSolution());
+	}
+
 	EquivalenceClassStore getEquivalenceClassStore() {
 		return equivalenceClassStore;
 	}
@@ -80,9 +168,143 @@ public class BestFirstStoreManager {
 	}
 
 	public void startExploration(Version initial, long randomSeed) {
+		startExploration(initial, randomSeed, 1);
+	}
+
+	/**
+	 * Explores the state space with multiple workers sharing the frontier, the visited states and the solutions.
+	 * <p>
+	 * Each worker has its own {@link tools.refinery.store.model.Model} (and thus its own query engine). The worker
+	 * with index {@code i} is seeded with {@code randomSeed + i}, so the random choices of each worker are
+	 * reproducible, but the interleaving of workers (and therefore the set of solutions found) may vary between
+	 * runs if {@code numberOfWorkers > 1}.
+	 *
+	 * @param initial         The version to start the exploration from.
+	 * @param randomSeed      The random seed of the first worker.
+	 * @param numberOfWorkers The number of worker threads to use.
+	 */
+	public void startExploration(Version initial, long randomSeed, int numberOfWorkers) {
+		if (numberOfWorkers < 1) {
+			throw new IllegalArgumentException("Number of workers must be positive, got %d instead"
+					.formatted(numberOfWorkers));
+		}
+		stopped = false;
+		activeWorkers = numberOfWorkers;
+		multipleWorkers = numberOfWorkers > 1;
+		if (!multipleWorkers) {
+			explore(initial, randomSeed);
+			return;
+		}
+		try (var executorService = Executors.newFixedThreadPool(numberOfWorkers)) {
+			var futures = new ArrayList<Future<?>>(numberOfWorkers);
+			for (int i = 0; i < numberOfWorkers; i++) {
+				long workerSeed = randomSeed + i;
+				futures.add(executorService.submit(() -> explore(initial, workerSeed)));
+			}
+			waitForWorkers(futures);
+		}
+	}
+
+	private void explore(Version initial, long randomSeed) {
 		try (var model = modelStore.createModelForState(initial)) {
 			BestFirstExplorer bestFirstExplorer = new BestFirstExplorer(this, model, randomSeed);
 			bestFirstExplorer.explore();
+		} catch (RuntimeException | Error e) {
+			// Make sure that the other workers stop if the exploration is aborted.
+			stop();
+			throw e;
+		} finally {
+			finishWorker();
+		}
+	}
+
+	private void finishWorker() {
+		frontierLock.lock();
+		try {
+			activeWorkers--;
+			if (activeWorkers == 0) {
+				// Idle workers waiting for the frontier can exit now.
+				frontierChanged.signalAll();
+			}
+		} finally {
+			frontierLock.unlock();
+		}
+	}
+
+	private void stop() {
+		stopped = true;
+		frontierLock.lock();
+		try {
+			frontierChanged.signalAll();
+		} finally {
+			frontierLock.unlock();
+		}
+	}
+
+	private void waitForWorkers(List<Future<?>> futures) {
+		RuntimeException firstException = null;
+		for (var future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				if (firstException == null) {
+					firstException = e.getCause() instanceof RuntimeException runtimeException ?
+							runtimeException : new IllegalStateException("Exploration worker failed", e.getCause());
+				}
+			} catch (InterruptedException e) {
+				stop();
+				Thread.currentThread().interrupt();
+				if (firstException == null) {
+					firstException = new IllegalStateException("Exploration interrupted", e);
+				}
+			}
+		}
+		if (firstException != null) {
+			throw firstException;
+		}
+	}
+
+	boolean isStopped() {
+		return stopped;
+	}
+
+	/**
+	 * Waits until there is a version in the frontier that a worker can restore to.
+	 * <p>
+	 * The frontier may become temporarily empty while other workers are still expanding their states, so an idle
+	 * worker may only exit once every other worker is also idle. Idle workers block until a version is submitted to
+	 * the frontier, the last active worker finishes, or the exploration is stopped.
+	 *
+	 * @return {@code true} if the caller should try to restore to a version from the frontier again, {@code false} if
+	 * the exploration is over.
+	 */
+	boolean awaitFrontier() {
+		frontierLock.lock();
+		try {
+			// Only active workers may add new versions to the frontier.
+			activeWorkers--;
+			try {
+				while (!stopped) {
+					if (objectiveStore.getSize() > 0) {
+						return true;
+					}
+					if (activeWorkers == 0) {
+						return false;
+					}
+					modelStore.checkCancelled();
+					frontierChanged.awaitNanos(CANCELLATION_CHECK_INTERVAL_NANOS);
+				}
+				return false;
+			} finally {
+				activeWorkers++;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			stopped = true;
+			frontierChanged.signalAll();
+			return false;
+		} finally {
+			frontierLock.unlock();
 		}
 	}
 }
@@ -15,6 +15,7 @@ import tools.refinery.store.map.Version;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.store.statecoding.StateCoderAdapter;
+import tools.refinery.store.statecoding.StateCoderResult;
 import tools.refinery.visualization.statespace.VisualizationStore;
 
 import java.util.Random;
@@ -58,28 +59,32 @@ public class BestFirstWorker {
 		var code = stateCoderAdapter.calculateStateCode();
 		boolean isNew = storeManager.getEquivalenceClassStore().submit(code);
 		if (isNew) {
-			return submitNew();
+			return submitNew(code);
 		}
 
 		return new SubmitResult(false, false, null, null);
 	}
 
-	private SubmitResult submitNew() {
+	private SubmitResult submitNew(StateCoderResult code) {
 		Version version = model.commit();
 		ObjectiveValue objectiveValue = explorationAdapter.getObjectiveValue();
 		var versionWithObjectiveValue = new VersionWithObjectiveValue(version, objectiveValue);
 		last = versionWithObjectiveValue;
 		var accepted = explorationAdapter.checkAccept();
 
-		storeManager.getObjectiveStore().submit(last);
-		storeManager.getActivationStore().markNewAsVisited(last, activationStoreWorker.calculateEmptyActivationSize());
-		if (accepted) {
-			versionWithObjectiveValue = concretizeIfNeeded(versionWithObjectiveValue);
-			accepted = versionWithObjectiveValue != null;
+		// Register the activations before adding the version to the shared frontier, so that other workers can
+		// not pick up the version before its activations are known.
+		var markResult = storeManager.getActivationStore().markNewAsVisited(last,
+				activationStoreWorker.calculateEmptyActivationSize());
+		if (markResult.mayHaveMore()) {
+			storeManager.submitToFrontier(last);
 		}
-
 		if (accepted) {
-			storeManager.solutionStore.submit(versionWithObjectiveValue);
+			var solution = concretizeIfNeeded(new Solution(versionWithObjectiveValue, code));
+			accepted = solution != null;
+			if (accepted) {
+				storeManager.submitSolution(solution.version(), solution.code());
+			}
 		}
 
 		if (isVisualizationEnabled) {
@@ -92,11 +97,11 @@ public class BestFirstWorker {
 		return new SubmitResult(true, accepted, objectiveValue, last);
 	}
 
-	private VersionWithObjectiveValue concretizeIfNeeded(VersionWithObjectiveValue originalValue) {
+	private Solution concretizeIfNeeded(Solution originalValue) {
 		if (propagationAdapter == null) {
 			return originalValue;
 		}
-		var version = originalValue.version();
+		var version = originalValue.version().version();
 		if (propagationAdapter.concretizationRequested()) {
 			var concretizationResult = propagationAdapter.concretize();
 			if (concretizationResult.isRejected()) {
@@ -113,7 +118,7 @@ public class BestFirstWorker {
 		return originalValue;
 	}
 
-	private VersionWithObjectiveValue submitConcrete() {
+	private Solution submitConcrete() {
 		if (queryAdapter.hasPendingChanges()) {
 			throw new AssertionError("Pending changes detected before model submission");
 		}
@@ -129,7 +134,10 @@ public class BestFirstWorker {
 		var concreteVersion = model.commit();
 		var concreteObjectiveValue = explorationAdapter.getObjectiveValue();
 		var versionWithObjectiveValue = new VersionWithObjectiveValue(concreteVersion, concreteObjectiveValue);
-		return explorationAdapter.checkAccept() ? versionWithObjectiveValue : null;
+		return explorationAdapter.checkAccept() ? new Solution(versionWithObjectiveValue, code) : null;
+	}
+
+	private record Solution(VersionWithObjectiveValue version, StateCoderResult code) {
 	}
 
 	public void restoreToLast() {
@@ -201,7 +209,7 @@ public class BestFirstWorker {
 	}
 
 	public boolean hasEnoughSolution() {
-		return storeManager.solutionStore.hasEnoughSolution();
+		return storeManager.hasEnoughSolution();
 	}
 
 	private void checkSynchronized() {
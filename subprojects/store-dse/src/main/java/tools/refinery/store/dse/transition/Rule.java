@@ -38,6 +38,10 @@ public class Rule {
 		return precondition;
 	}
 
+	public Action getAction() {
+		return action;
+	}
+
 	public List<AnyQuery> getQueries() {
 		var queries = new ArrayList<AnyQuery>(1);
 		queries.add(precondition);
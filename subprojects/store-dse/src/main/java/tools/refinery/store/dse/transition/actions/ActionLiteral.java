@@ -8,6 +8,7 @@ package tools.refinery.store.dse.transition.actions;
 import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.store.model.Model;
 import tools.refinery.logic.term.NodeVariable;
+import tools.refinery.store.representation.AnySymbol;
 
 import java.util.List;
 
@@ -25,4 +26,17 @@ public interface ActionLiteral {
 	default boolean isDynamic() {
 		return false;
 	}
+
+	/**
+	 * Returns the symbols whose interpretations may be modified by this action literal.
+	 * <p>
+	 * Propagation rules are ordered according to the symbols they modify and read, so that rules can see the
+	 * changes made by other rules in the same round. Since the order only affects performance, action literals that
+	 * modify the model indirectly (e.g., through an adapter) may return an empty list.
+	 *
+	 * @return The modified symbols.
+	 */
+	default List<AnySymbol> getModifiedSymbols() {
+		return List.of();
+	}
 }
@@ -7,6 +7,7 @@ package tools.refinery.store.dse.transition.actions;
 
 import tools.refinery.store.model.Model;
 import tools.refinery.logic.term.NodeVariable;
+import tools.refinery.store.representation.AnySymbol;
 import tools.refinery.store.representation.Symbol;
 import tools.refinery.store.tuple.Tuple;
 
@@ -53,6 +54,11 @@ public class PutActionLiteral<T> extends AbstractActionLiteral {
 		return List.of();
 	}
 
+	@Override
+	public List<AnySymbol> getModifiedSymbols() {
+		return List.of(symbol);
+	}
+
 	@Override
 	public BoundActionLiteral bindToModel(Model model) {
 		var interpretation = model.getInterpretation(symbol);
@@ -15,7 +15,6 @@ public interface ActivationStore {
 
 	// The return value of this method is only useful for exploration strategies that want to synchronise multiple
 	// workers and avoid situtation when another worker has already visited the same version.
-	@SuppressWarnings("UnusedReturnValue")
 	VisitResult markNewAsVisited(VersionWithObjectiveValue to, int[] emptyEntrySizes);
 
 	boolean hasUnmarkedActivation(VersionWithObjectiveValue version);
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace;
+
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.statecoding.StateCoderResult;
+
+import java.util.List;
+
+/**
+ * A solution store shared by multiple independent explorations of the same model store.
+ * <p>
+ * Unlike a {@link SolutionStore}, solutions must be submitted along with the state code of the model they were found
+ * in, so that the store can detect solutions that were found by more than one exploration.
+ */
+public interface SharedSolutionStore {
+	/**
+	 * Submits a solution along with its state code.
+	 *
+	 * @param version The solution.
+	 * @param code    The state code of the solution.
+	 * @return {@code true} if the solution was kept.
+	 */
+	boolean submit(VersionWithObjectiveValue version, StateCoderResult code);
+
+	List<VersionWithObjectiveValue> getSolutions();
+
+	boolean hasEnoughSolution();
+}
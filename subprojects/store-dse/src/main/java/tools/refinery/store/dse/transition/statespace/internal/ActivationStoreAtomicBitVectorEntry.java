@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bit vector activation entry that can be updated by multiple workers without locking.
+ * <p>
+ * Bits are set with compare-and-set on the elements of the {@code selected} array, so each activation is handed out
+ * to exactly one worker.
+ */
+public class ActivationStoreAtomicBitVectorEntry extends ActivationStoreBitVectorEntry {
+	private static final VarHandle SELECTED = MethodHandles.arrayElementVarHandle(int[].class);
+
+	private final AtomicInteger visited = new AtomicInteger();
+
+	ActivationStoreAtomicBitVectorEntry(int numberOfActivations) {
+		super(numberOfActivations);
+	}
+
+	@Override
+	public int getNumberOfVisitedActivations() {
+		return visited.get();
+	}
+
+	@Override
+	public int getAndAddActivationAfter(int index) {
+		int activation = tryGetAndAddActivationAfter(index);
+		if (activation < 0) {
+			throw new IllegalArgumentException("There is are no unvisited activations!");
+		}
+		return activation;
+	}
+
+	@Override
+	public int tryGetAndAddActivationAfter(int index) {
+		int position = index;
+		do {
+			final int selectedElement = position >> ELEMENT_POSITION;
+			final int selectedBit = 1 << (position & ELEMENT_BITMASK);
+
+			int current = (int) SELECTED.getVolatile(selected, selectedElement);
+			while ((current & selectedBit) == 0) {
+				int witness = (int) SELECTED.compareAndExchange(selected, selectedElement, current,
+						current | selectedBit);
+				if (witness == current) {
+					visited.incrementAndGet();
+					return position;
+				}
+				// Another worker has changed a bit in the same element, retry with the new value.
+				current = witness;
+			}
+			if (position < this.numberOfActivations - 1) {
+				position++;
+			} else {
+				position = 0;
+			}
+		} while (position != index);
+		return -1;
+	}
+}
@@ -24,8 +24,8 @@ public class ActivationStoreBitVectorEntry extends ActivationStoreEntry {
 		return visited;
 	}
 
-	private static final int ELEMENT_POSITION = 5; // size of Integer.SIZE
-	private static final int ELEMENT_BITMASK = (1 << ELEMENT_POSITION) - 1;
+	static final int ELEMENT_POSITION = 5; // size of Integer.SIZE
+	static final int ELEMENT_BITMASK = (1 << ELEMENT_POSITION) - 1;
 
 	@Override
 	public int getAndAddActivationAfter(int index) {
@@ -24,6 +24,22 @@ public abstract class ActivationStoreEntry {
 
 	public abstract int getAndAddActivationAfter(int index);
 
+	/**
+	 * Marks the first unvisited activation at or after {@code index} as visited.
+	 * <p>
+	 * Unlike {@link #getAndAddActivationAfter(int)}, this method does not throw if there are no more unvisited
+	 * activations. Concurrent implementations override this method to make the check and the update atomic.
+	 *
+	 * @param index The activation to start the search from.
+	 * @return The newly visited activation, or {@code -1} if all activations were already visited.
+	 */
+	public int tryGetAndAddActivationAfter(int index) {
+		if (getNumberOfUnvisitedActivations() == 0) {
+			return -1;
+		}
+		return getAndAddActivationAfter(index);
+	}
+
 	//	public abstract boolean contains(int activation)
 	//	public abstract boolean add(int activation)
 
@@ -34,4 +50,12 @@ public abstract class ActivationStoreEntry {
 			return new ActivationStoreListEntry(size);
 		}
 	}
+
+	public static ActivationStoreEntry createConcurrent(int size) {
+		if(size <= Integer.SIZE*6) {
+			return new ActivationStoreAtomicBitVectorEntry(size);
+		} else {
+			return new ActivationStoreSynchronizedListEntry(size);
+		}
+	}
 }
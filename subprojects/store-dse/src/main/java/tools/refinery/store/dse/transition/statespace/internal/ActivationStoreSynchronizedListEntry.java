@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+/**
+ * A list activation entry for large numbers of activations that can be shared between workers.
+ * <p>
+ * Locking is done per entry, so workers only contend if they expand the same version with the same transformation.
+ */
+public class ActivationStoreSynchronizedListEntry extends ActivationStoreListEntry {
+	ActivationStoreSynchronizedListEntry(int numberOfActivations) {
+		super(numberOfActivations);
+	}
+
+	@Override
+	public synchronized int getNumberOfVisitedActivations() {
+		return super.getNumberOfVisitedActivations();
+	}
+
+	@Override
+	public synchronized int getAndAddActivationAfter(int index) {
+		return super.getAndAddActivationAfter(index);
+	}
+
+	@Override
+	public synchronized int tryGetAndAddActivationAfter(int index) {
+		return super.tryGetAndAddActivationAfter(index);
+	}
+}
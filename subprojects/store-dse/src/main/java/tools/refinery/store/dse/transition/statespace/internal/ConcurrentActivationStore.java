@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import tools.refinery.store.dse.transition.DecisionRule;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.ActivationStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * An {@link ActivationStore} that can be shared between multiple exploration workers without a global lock.
+ * <p>
+ * Versions are looked up in a {@link ConcurrentHashMap} and activations are marked as visited atomically in
+ * {@link ActivationStoreAtomicBitVectorEntry} or {@link ActivationStoreSynchronizedListEntry} instances.
+ */
+public class ConcurrentActivationStore implements ActivationStore {
+	private final List<DecisionRule> transformations;
+	private final Consumer<VersionWithObjectiveValue> actionWhenAllActivationVisited;
+	private final Map<VersionWithObjectiveValue, List<ActivationStoreEntry>> versionToActivations;
+
+	public ConcurrentActivationStore(List<DecisionRule> transformations,
+									 Consumer<VersionWithObjectiveValue> actionWhenAllActivationVisited) {
+		this.transformations = transformations;
+		this.actionWhenAllActivationVisited = actionWhenAllActivationVisited;
+		versionToActivations = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public VisitResult markNewAsVisited(VersionWithObjectiveValue to, int[] emptyEntrySizes) {
+		List<ActivationStoreEntry> newEntries = new ArrayList<>(emptyEntrySizes.length);
+		for (int emptyEntrySize : emptyEntrySizes) {
+			newEntries.add(ActivationStoreEntry.createConcurrent(emptyEntrySize));
+		}
+		var oldEntries = versionToActivations.putIfAbsent(to, newEntries);
+		boolean successful = oldEntries == null;
+		var entries = successful ? newEntries : oldEntries;
+		boolean hasMore = hasUnvisited(entries);
+		if (!hasMore) {
+			actionWhenAllActivationVisited.accept(to);
+		}
+		return new VisitResult(successful, hasMore, -1, -1);
+	}
+
+	@Override
+	public boolean hasUnmarkedActivation(VersionWithObjectiveValue version) {
+		return hasUnvisited(versionToActivations.get(version));
+	}
+
+	private static boolean hasUnvisited(List<ActivationStoreEntry> entries) {
+		for (var entry : entries) {
+			if (entry.getNumberOfUnvisitedActivations() > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public VisitResult getRandomAndMarkAsVisited(VersionWithObjectiveValue version, Random random) {
+		var entries = versionToActivations.get(version);
+		var weights = new double[entries.size()];
+		while (true) {
+			double totalWeight = 0;
+			int numberOfAllUnvisitedActivations = 0;
+			for (int i = 0; i < weights.length; i++) {
+				var entry = entries.get(i);
+				var decisionRule = transformations.get(i);
+				int unvisited = entry.getNumberOfUnvisitedActivations();
+				double weight = decisionRule.getWeight(unvisited);
+				weights[i] = weight;
+				totalWeight += weight;
+				numberOfAllUnvisitedActivations += unvisited;
+			}
+
+			if (numberOfAllUnvisitedActivations == 0) {
+				this.actionWhenAllActivationVisited.accept(version);
+				return new VisitResult(false, false, -1, -1);
+			}
+
+			int transformation = selectTransformation(weights, totalWeight, random);
+			var entry = entries.get(transformation);
+			int activation = entry.tryGetAndAddActivationAfter(random.nextInt(entry.getNumberOfActivations()));
+			if (activation >= 0) {
+				boolean hasMore = hasUnvisited(entries);
+				if (!hasMore) {
+					actionWhenAllActivationVisited.accept(version);
+				}
+				return new VisitResult(true, hasMore, transformation, activation);
+			}
+			// Another worker has visited the last activation of the selected transformation in the meantime, so we
+			// have to recompute the weights and try again.
+		}
+	}
+
+	private static int selectTransformation(double[] weights, double totalWeight, Random random) {
+		double offset = random.nextDouble(totalWeight);
+		int lastPositive = -1;
+		for (int transformation = 0; transformation < weights.length; transformation++) {
+			double weight = weights[transformation];
+			if (weight > 0) {
+				if (offset < weight) {
+					return transformation;
+				}
+				lastPositive = transformation;
+			}
+			offset -= weight;
+		}
+		if (lastPositive >= 0) {
+			// Guard against rounding errors in the sum of the weights.
+			return lastPositive;
+		}
+		throw new AssertionError("Unvisited activation %f not found".formatted(offset));
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.EquivalenceClassStore;
+import tools.refinery.store.statecoding.StateCoderResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link EquivalenceClassStore} that only compares model codes (like {@link FastEquivalenceClassStore}) and can be
+ * shared between multiple exploration workers.
+ * <p>
+ * Model codes are stored in a set of primitive int sets striped by hash, so that workers only contend if they submit
+ * codes falling into the same stripe.
+ */
+public class ConcurrentEquivalenceClassStore implements EquivalenceClassStore {
+	private static final int NUMBER_OF_STRIPES = 64;
+	private static final int STRIPE_MASK = NUMBER_OF_STRIPES - 1;
+
+	private final MutableIntSet[] stripes = new MutableIntSet[NUMBER_OF_STRIPES];
+	private final AtomicInteger numberOfUnresolvedSymmetries = new AtomicInteger();
+
+	public ConcurrentEquivalenceClassStore() {
+		for (int i = 0; i < NUMBER_OF_STRIPES; i++) {
+			stripes[i] = IntSets.mutable.empty();
+		}
+	}
+
+	private boolean tryToAdd(int modelCode) {
+		// Spread the bits of the hash, because model codes may differ only in their higher bits.
+		var stripe = stripes[(modelCode ^ (modelCode >>> 16)) & STRIPE_MASK];
+		synchronized (stripe) {
+			return stripe.add(modelCode);
+		}
+	}
+
+	@Override
+	public boolean submit(VersionWithObjectiveValue version, StateCoderResult stateCoderResult,
+						  int[] emptyActivations, boolean accept) {
+		if (tryToAdd(stateCoderResult.modelCode())) {
+			return true;
+		}
+		numberOfUnresolvedSymmetries.incrementAndGet();
+		return false;
+	}
+
+	@Override
+	public boolean submit(StateCoderResult stateCoderResult) {
+		return tryToAdd(stateCoderResult.modelCode());
+	}
+
+	@Override
+	public boolean hasUnresolvedSymmetry() {
+		return numberOfUnresolvedSymmetries.get() > 0;
+	}
+
+	@Override
+	public void resolveOneSymmetry() {
+		throw new IllegalArgumentException("This equivalence storage is not prepared to resolve symmetries!");
+	}
+
+	@Override
+	public int getNumberOfUnresolvedSymmetries() {
+		return numberOfUnresolvedSymmetries.get();
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.objectives.Objective;
+import tools.refinery.store.dse.transition.statespace.ObjectivePriorityQueue;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrent {@link ObjectivePriorityQueue} backed by a skip list.
+ * <p>
+ * Submitting and removing the same version is atomic, but the queue as a whole is only weakly consistent. Random
+ * selection is relaxed: if other workers modify the queue concurrently, the returned version is chosen from a
+ * weakly consistent view of the queue.
+ */
+public class ConcurrentObjectivePriorityQueue implements ObjectivePriorityQueue {
+	private final NavigableSet<PrioritizedVersion> priorityQueue;
+	private final Map<VersionWithObjectiveValue, PrioritizedVersion> entries = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+
+	public ConcurrentObjectivePriorityQueue(List<Objective> objectives) {
+		if (objectives.size() == 1) {
+			this.priorityQueue = new ConcurrentSkipListSet<>(
+					PrioritizedVersion.comparator(ObjectivePriorityQueueImpl.c1));
+		} else {
+			throw new UnsupportedOperationException("Only single objective comparator is implemented currently!");
+		}
+	}
+
+	@Override
+	public Comparator<VersionWithObjectiveValue> getComparator() {
+		return ObjectivePriorityQueueImpl.c1;
+	}
+
+	@Override
+	public void submit(VersionWithObjectiveValue versionWithObjectiveValue) {
+		// Update the skip list inside the atomic compute operation of the map, so that a concurrent remove of the same
+		// version can't interleave with adding it and leave a stale entry behind in the skip list.
+		entries.computeIfAbsent(versionWithObjectiveValue, key -> {
+			var entry = new PrioritizedVersion(key, sequence.getAndIncrement());
+			priorityQueue.add(entry);
+			return entry;
+		});
+	}
+
+	@Override
+	public void remove(VersionWithObjectiveValue versionWithObjectiveValue) {
+		entries.computeIfPresent(versionWithObjectiveValue, (key, entry) -> {
+			priorityQueue.remove(entry);
+			return null;
+		});
+	}
+
+	@Override
+	public int getSize() {
+		return entries.size();
+	}
+
+	@Override
+	public VersionWithObjectiveValue getBest() {
+		var iterator = priorityQueue.iterator();
+		return iterator.hasNext() ? iterator.next().version() : null;
+	}
+
+	@Override
+	public VersionWithObjectiveValue getRandom(Random random) {
+		int size = getSize();
+		if (size == 0) {
+			return null;
+		}
+		int randomPosition = random.nextInt(size);
+		VersionWithObjectiveValue lastSeen = null;
+		for (var entry : priorityQueue) {
+			lastSeen = entry.version();
+			if (randomPosition-- == 0) {
+				break;
+			}
+		}
+		// If other workers have removed versions in the meantime, fall back to the last version we have seen.
+		return lastSeen;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.SolutionStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free {@link SolutionStore} that keeps the best {@code maxNumberSolutions} solutions.
+ * <p>
+ * Solutions are returned in the order of their objective values, best solution first.
+ */
+public class ConcurrentSolutionStore implements SolutionStore {
+	private final int maxNumberSolutions;
+	private final NavigableSet<PrioritizedVersion> solutions =
+			new ConcurrentSkipListSet<>(PrioritizedVersion.comparator(ObjectivePriorityQueueImpl.c1));
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicLong sequence = new AtomicLong();
+
+	public ConcurrentSolutionStore(int maxNumberSolutions) {
+		this.maxNumberSolutions = maxNumberSolutions;
+	}
+
+	@Override
+	public boolean submit(VersionWithObjectiveValue version) {
+		var entry = new PrioritizedVersion(version, sequence.getAndIncrement());
+		solutions.add(entry);
+		int newSize = size.incrementAndGet();
+		if (maxNumberSolutions == SolutionStoreImpl.UNLIMITED || newSize <= maxNumberSolutions) {
+			return true;
+		}
+		var last = solutions.pollLast();
+		if (last == null) {
+			// Cannot happen, because we have just added an entry.
+			return true;
+		}
+		size.decrementAndGet();
+		return last != entry;
+	}
+
+	@Override
+	public List<VersionWithObjectiveValue> getSolutions() {
+		var result = new ArrayList<VersionWithObjectiveValue>(size.get());
+		for (var entry : solutions) {
+			result.add(entry.version());
+		}
+		return result;
+	}
+
+	@Override
+	public boolean hasEnoughSolution() {
+		if (maxNumberSolutions == SolutionStoreImpl.UNLIMITED) {
+			return false;
+		} else {
+			return size.get() >= maxNumberSolutions;
+		}
+	}
+}
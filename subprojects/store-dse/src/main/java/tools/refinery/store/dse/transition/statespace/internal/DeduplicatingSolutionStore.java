@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.SharedSolutionStore;
+import tools.refinery.store.statecoding.StateCoderResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A {@link SharedSolutionStore} that keeps solutions found by multiple independent explorations of the same model
+ * store.
+ * <p>
+ * Since the explorations do not share their equivalence class stores, they may find the same solution multiple
+ * times. Like {@link FastEquivalenceClassStore}, this store only keeps the first solution with a given state code.
+ * <p>
+ * Solutions are kept in the order they were found, and each kept solution is immediately passed to the listener, so
+ * that clients may process solutions while the explorations are still running. Once enough solutions were found, every
+ * further solution is rejected.
+ */
+public class DeduplicatingSolutionStore implements SharedSolutionStore {
+	private final int maxNumberSolutions;
+	private final Consumer<VersionWithObjectiveValue> listener;
+	private final MutableIntSet codes = IntSets.mutable.empty();
+	private final List<VersionWithObjectiveValue> solutions = new ArrayList<>();
+	// Explorations check whether they should stop after each step, so we avoid taking the lock there.
+	private volatile int size;
+	private volatile boolean stopped;
+
+	public DeduplicatingSolutionStore(int maxNumberSolutions) {
+		this(maxNumberSolutions, version -> {
+		});
+	}
+
+	/**
+	 * Creates a new solution store.
+	 *
+	 * @param maxNumberSolutions The number of solutions to keep, or {@link SolutionStoreImpl#UNLIMITED}.
+	 * @param listener           Called with each kept solution while holding the lock of this store, so it should
+	 *                           only hand the solution over to another thread.
+	 */
+	public DeduplicatingSolutionStore(int maxNumberSolutions, Consumer<VersionWithObjectiveValue> listener) {
+		this.maxNumberSolutions = maxNumberSolutions;
+		this.listener = listener;
+	}
+
+	@Override
+	public synchronized boolean submit(VersionWithObjectiveValue version, StateCoderResult code) {
+		if (hasEnoughSolution() || !codes.add(code.modelCode())) {
+			return false;
+		}
+		solutions.add(version);
+		size = solutions.size();
+		listener.accept(version);
+		return true;
+	}
+
+	@Override
+	public synchronized List<VersionWithObjectiveValue> getSolutions() {
+		return new ArrayList<>(solutions);
+	}
+
+	@Override
+	public boolean hasEnoughSolution() {
+		if (stopped) {
+			return true;
+		}
+		if (maxNumberSolutions == SolutionStoreImpl.UNLIMITED) {
+			return false;
+		}
+		return size >= maxNumberSolutions;
+	}
+
+	/**
+	 * Stops every exploration sharing this store by reporting that enough solutions were found.
+	 */
+	public void stop() {
+		stopped = true;
+	}
+}
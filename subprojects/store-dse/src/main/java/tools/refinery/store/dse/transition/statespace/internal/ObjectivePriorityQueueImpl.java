@@ -57,7 +57,12 @@ public class ObjectivePriorityQueueImpl implements ObjectivePriorityQueue {
 
 	@Override
 	public synchronized VersionWithObjectiveValue getRandom(Random random) {
-		int randomPosition = random.nextInt(getSize());
+		int size = getSize();
+		if (size == 0) {
+			// Another worker may have emptied the queue since the caller has checked its size.
+			return null;
+		}
+		int randomPosition = random.nextInt(size);
 		for (VersionWithObjectiveValue entry : this.priorityQueue) {
 			if (randomPosition-- == 0) {
 				return entry;
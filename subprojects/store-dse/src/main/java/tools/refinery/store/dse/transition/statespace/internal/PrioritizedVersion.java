@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+
+import java.util.Comparator;
+
+/**
+ * Wraps a {@link VersionWithObjectiveValue} with a unique sequence number, so that versions with equal objective
+ * values can be stored in sorted concurrent collections that do not allow duplicates.
+ *
+ * @param version  The wrapped version.
+ * @param sequence The order of insertion of the version, used for breaking ties.
+ */
+record PrioritizedVersion(VersionWithObjectiveValue version, long sequence) {
+	static Comparator<PrioritizedVersion> comparator(Comparator<VersionWithObjectiveValue> versionComparator) {
+		return (o1, o2) -> {
+			int result = versionComparator.compare(o1.version(), o2.version());
+			if (result != 0) {
+				return result;
+			}
+			return Long.compare(o1.sequence(), o2.sequence());
+		};
+	}
+}
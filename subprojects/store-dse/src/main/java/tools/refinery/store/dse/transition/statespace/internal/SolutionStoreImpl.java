@@ -37,12 +37,12 @@ public class SolutionStoreImpl implements SolutionStore {
 	}
 
 	@Override
-	public List<VersionWithObjectiveValue> getSolutions() {
+	public synchronized List<VersionWithObjectiveValue> getSolutions() {
 		return new ArrayList<>(solutions);
 	}
 
 	@Override
-	public boolean hasEnoughSolution() {
+	public synchronized boolean hasEnoughSolution() {
 		if (maxNumberSolutions == UNLIMITED) {
 			return false;
 		} else {
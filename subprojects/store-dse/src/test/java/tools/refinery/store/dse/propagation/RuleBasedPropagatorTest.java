@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.store.dse.transition.Rule;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.query.view.KeyOnlyView;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tools.refinery.logic.literal.Literals.not;
+import static tools.refinery.store.dse.transition.actions.ActionLiterals.add;
+
+class RuleBasedPropagatorTest {
+	private static final Symbol<Boolean> a = Symbol.of("a", 1);
+	private static final Symbol<Boolean> b = Symbol.of("b", 1);
+	private static final Symbol<Boolean> c = Symbol.of("c", 1);
+	private static final AnySymbolView aView = new KeyOnlyView<>(a);
+	private static final AnySymbolView bView = new KeyOnlyView<>(b);
+	private static final AnySymbolView cView = new KeyOnlyView<>(c);
+
+	// Declared after the rule it depends on to check that rules are ordered by their dependencies.
+	private static final Rule bImpliesC = Rule.of("bImpliesC", (builder, p1) -> builder
+			.clause(
+					bView.call(p1),
+					not(cView.call(p1))
+			)
+			.action(
+					add(c, p1)
+			));
+
+	private static final Rule aImpliesB = Rule.of("aImpliesB", (builder, p1) -> builder
+			.clause(
+					aView.call(p1),
+					not(bView.call(p1))
+			)
+			.action(
+					add(b, p1)
+			));
+
+	@Test
+	void dependentRulesTest() {
+		var model = createModel();
+		model.getInterpretation(a).put(Tuple.of(0), true);
+		var adapter = model.getAdapter(PropagationAdapter.class);
+
+		assertEquals(PropagationResult.PROPAGATED, adapter.propagate());
+		assertTrue(model.getInterpretation(b).get(Tuple.of(0)));
+		assertTrue(model.getInterpretation(c).get(Tuple.of(0)));
+		// The first round fires both rules, and the second one checks that they did not get stuck. The round-based
+		// scheduler would have needed 3 rounds, and one more round to detect that there are no further changes.
+		assertEquals(new PropagationStatistics(2, 4, 2, 4), adapter.getStatistics());
+	}
+
+	@Test
+	void unchangedRulesTest() {
+		var model = createModel();
+		var adapter = model.getAdapter(PropagationAdapter.class);
+
+		assertEquals(PropagationResult.UNCHANGED, adapter.propagate());
+		model.getInterpretation(c).put(Tuple.of(0), true);
+		assertEquals(PropagationResult.UNCHANGED, adapter.propagate());
+		// Adding c(0) does not create any new matches, so no rules have to be fired for the second time.
+		assertEquals(new PropagationStatistics(1, 2, 1, 2), adapter.getStatistics());
+	}
+
+	private static Model createModel() {
+		var store = ModelStore.builder()
+				.symbols(a, b, c)
+				.with(QueryInterpreterAdapter.builder())
+				.with(PropagationAdapter.builder()
+						.rules(bImpliesC, aImpliesB))
+				.build();
+		return store.createEmptyModel();
+	}
+}
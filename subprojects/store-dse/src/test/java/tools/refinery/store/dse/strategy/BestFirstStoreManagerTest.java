@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.strategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.logic.dnf.RelationalQuery;
+import tools.refinery.logic.term.Variable;
+import tools.refinery.logic.term.int_.IntTerms;
+import tools.refinery.store.dse.modification.ModificationAdapter;
+import tools.refinery.store.dse.transition.DesignSpaceExplorationAdapter;
+import tools.refinery.store.dse.transition.Rule;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.objectives.Criteria;
+import tools.refinery.store.dse.transition.objectives.Objectives;
+import tools.refinery.store.dse.transition.statespace.internal.DeduplicatingSolutionStore;
+import tools.refinery.store.dse.transition.statespace.internal.SolutionStoreImpl;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.ModelQueryAdapter;
+import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.query.view.KeyOnlyView;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.statecoding.StateCoderAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tools.refinery.logic.literal.Literals.check;
+import static tools.refinery.store.dse.modification.actions.ModificationActionLiterals.create;
+import static tools.refinery.store.dse.transition.actions.ActionLiterals.add;
+
+class BestFirstStoreManagerTest {
+	private static final Symbol<Boolean> classModel = Symbol.of("ClassModel", 1);
+	private static final Symbol<Boolean> classElement = Symbol.of("ClassElement", 1);
+	private static final Symbol<Boolean> classes = Symbol.of("Classes", 2);
+
+	private static final AnySymbolView classModelView = new KeyOnlyView<>(classModel);
+	private static final AnySymbolView classElementView = new KeyOnlyView<>(classElement);
+	private static final AnySymbolView classesView = new KeyOnlyView<>(classes);
+
+	private static final RelationalQuery classElementQuery = Query.of("ClassElement", (builder, c) -> builder
+			.clause(
+					classElementView.call(c)
+			));
+
+	private static final RelationalQuery tooManyClasses = Query.of("TooManyClasses", (builder, model) -> builder
+			.clause(Integer.class, numberOfClasses -> List.of(
+					classModelView.call(model),
+					numberOfClasses.assign(classesView.count(model, Variable.of())),
+					check(IntTerms.less(IntTerms.constant(3), numberOfClasses))
+			)));
+
+	private static final Rule createClassRule = Rule.of("CreateClass", (builder, model) -> builder
+			.clause(
+					classModelView.call(model)
+			)
+			.action(newClassElement -> List.of(
+					create(newClassElement),
+					add(classElement, newClassElement),
+					add(classes, model, newClassElement)
+			)));
+
+	@ParameterizedTest
+	@CsvSource({
+			"1, false",
+			"2, false",
+			"4, false",
+			"1, true",
+			"4, true",
+			"8, true"
+	})
+	void exploreTest(int numberOfWorkers, boolean concurrentStores) {
+		var store = createStore();
+		try (var model = store.createEmptyModel()) {
+			var initialVersion = createInitialVersion(model);
+			var bestFirst = new BestFirstStoreManager(store, 10, concurrentStores);
+			bestFirst.startExploration(initialVersion, 1, numberOfWorkers);
+			// Models with 1, 2, and 3 classes are the only non-isomorphic solutions.
+			assertEquals(3, bestFirst.getSolutionStore().getSolutions().size());
+		}
+	}
+
+	@Test
+	void sharedSolutionStoreTest() {
+		var store = createStore();
+		try (var model = store.createEmptyModel()) {
+			var initialVersion = createInitialVersion(model);
+			var solutions = new ArrayList<VersionWithObjectiveValue>();
+			var solutionStore = new DeduplicatingSolutionStore(SolutionStoreImpl.UNLIMITED, solutions::add);
+			for (long randomSeed = 1; randomSeed <= 4; randomSeed++) {
+				new BestFirstStoreManager(store, solutionStore).startExploration(initialVersion, randomSeed);
+			}
+			// Every exploration finds the same 3 solutions, but each of them should only be kept once.
+			assertEquals(3, solutions.size());
+			assertEquals(solutions, solutionStore.getSolutions());
+		}
+	}
+
+	private static ModelStore createStore() {
+		return ModelStore.builder()
+				.symbols(classModel, classElement, classes)
+				.with(QueryInterpreterAdapter.builder())
+				.with(StateCoderAdapter.builder())
+				.with(ModificationAdapter.builder())
+				.with(DesignSpaceExplorationAdapter.builder()
+						.transformations(createClassRule)
+						.objectives(Objectives.count(classElementQuery))
+						.accept(Criteria.whenHasMatch(classElementQuery))
+						.exclude(Criteria.whenHasMatch(tooManyClasses)))
+				.build();
+	}
+
+	private static Version createInitialVersion(Model model) {
+		var modificationAdapter = model.getAdapter(ModificationAdapter.class);
+		var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+		var modelElement = modificationAdapter.createObject();
+		model.getInterpretation(classModel).put(modelElement, true);
+		var initialVersion = model.commit();
+		queryEngine.flushChanges();
+		return initialVersion;
+	}
+}
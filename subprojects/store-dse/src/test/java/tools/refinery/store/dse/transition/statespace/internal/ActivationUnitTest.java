@@ -22,7 +22,9 @@ class ActivationUnitTest {
 	private static Stream<ActivationStoreEntry> entries() {
 		return Stream.of(
 				new ActivationStoreBitVectorEntry(SMALL_SIZE),
-				new ActivationStoreListEntry(SMALL_SIZE)
+				new ActivationStoreListEntry(SMALL_SIZE),
+				new ActivationStoreAtomicBitVectorEntry(SMALL_SIZE),
+				new ActivationStoreSynchronizedListEntry(SMALL_SIZE)
 		);
 	}
 
@@ -125,7 +127,9 @@ class ActivationUnitTest {
 	private static Stream<Supplier<ActivationStoreEntry>> entryFactories() {
 		return Stream.of(
 				() -> new ActivationStoreBitVectorEntry(SMALL_SIZE),
-				() -> new ActivationStoreListEntry(SMALL_SIZE)
+				() -> new ActivationStoreListEntry(SMALL_SIZE),
+				() -> new ActivationStoreAtomicBitVectorEntry(SMALL_SIZE),
+				() -> new ActivationStoreSynchronizedListEntry(SMALL_SIZE)
 		);
 	}
 }
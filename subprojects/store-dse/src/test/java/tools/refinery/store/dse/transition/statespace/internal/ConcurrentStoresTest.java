@@ -0,0 +1,193 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import tools.refinery.store.dse.transition.DecisionRule;
+import tools.refinery.store.dse.transition.ObjectiveValue;
+import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.objectives.Objective;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.statecoding.StateCoderResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class ConcurrentStoresTest {
+	private static final int NUMBER_OF_THREADS = 8;
+	private static final List<Objective> OBJECTIVES = List.of(model -> () -> 0);
+
+	@RepeatedTest(5)
+	void priorityQueueSubmitAndRemoveTest() {
+		var queue = new ConcurrentObjectivePriorityQueue(OBJECTIVES);
+		// Use only a few versions so that workers frequently submit and remove the same version at the same time.
+		var versions = createVersions(16);
+		runConcurrently(workerIndex -> {
+			var random = new Random(workerIndex);
+			for (int i = 0; i < 10_000; i++) {
+				var version = versions.get(random.nextInt(versions.size()));
+				if (random.nextBoolean()) {
+					queue.submit(version);
+				} else {
+					queue.remove(version);
+				}
+			}
+		});
+		assertDrainsCompletely(queue);
+	}
+
+	@Test
+	void priorityQueuePollTest() {
+		var queue = new ConcurrentObjectivePriorityQueue(OBJECTIVES);
+		var versions = createVersions(10_000);
+		for (var version : versions) {
+			queue.submit(version);
+		}
+		var polled = ConcurrentHashMap.<VersionWithObjectiveValue>newKeySet();
+		runConcurrently(workerIndex -> {
+			var random = new Random(workerIndex);
+			while (queue.getSize() > 0) {
+				var version = random.nextBoolean() ? queue.getBest() : queue.getRandom(random);
+				if (version != null) {
+					queue.remove(version);
+					polled.add(version);
+				}
+			}
+		});
+		assertThat(polled.size(), is(versions.size()));
+		assertThat(queue.getBest(), is(nullValue()));
+	}
+
+	@Test
+	void activationStoreTest() {
+		var activationCounts = new int[]{3, 100, 1000};
+		var transformations = new ArrayList<DecisionRule>(activationCounts.length);
+		for (int i = 0; i < activationCounts.length; i++) {
+			transformations.add(new DecisionRule(null));
+		}
+		var exhausted = new AtomicInteger();
+		var store = new ConcurrentActivationStore(transformations, version -> exhausted.incrementAndGet());
+		var version = createVersions(1).getFirst();
+		store.markNewAsVisited(version, activationCounts);
+		var visited = ConcurrentHashMap.<List<Integer>>newKeySet();
+		var duplicates = new AtomicInteger();
+		runConcurrently(workerIndex -> {
+			var random = new Random(workerIndex);
+			while (true) {
+				var result = store.getRandomAndMarkAsVisited(version, random);
+				if (!result.successfulVisit()) {
+					break;
+				}
+				if (!visited.add(List.of(result.transformation(), result.activation()))) {
+					duplicates.incrementAndGet();
+				}
+			}
+		});
+		assertThat(duplicates.get(), is(0));
+		assertThat(visited.size(), is(3 + 100 + 1000));
+		assertThat(store.hasUnmarkedActivation(version), is(false));
+		// Every worker notices that there are no more activations at least once.
+		assertThat(exhausted.get() >= NUMBER_OF_THREADS, is(true));
+	}
+
+	@RepeatedTest(5)
+	void solutionStoreTest() {
+		int maxNumberOfSolutions = 10;
+		var store = new ConcurrentSolutionStore(maxNumberOfSolutions);
+		var versions = createVersions(1000);
+		runConcurrently(workerIndex -> {
+			for (int i = workerIndex; i < versions.size(); i += NUMBER_OF_THREADS) {
+				store.submit(versions.get(i));
+			}
+		});
+		assertThat(store.getSolutions(), is(versions.subList(0, maxNumberOfSolutions)));
+		assertThat(store.hasEnoughSolution(), is(true));
+	}
+
+	@Test
+	void equivalenceClassStoreTest() {
+		var store = new ConcurrentEquivalenceClassStore();
+		int numberOfCodes = 1000;
+		var accepted = ConcurrentHashMap.<Integer>newKeySet();
+		var duplicates = new AtomicInteger();
+		runConcurrently(workerIndex -> {
+			// All workers submit the same codes, but in a different order.
+			for (int i = 0; i < numberOfCodes; i++) {
+				int modelCode = ((i + workerIndex * 37) % numberOfCodes) << 16;
+				var result = new StateCoderResult(modelCode, null);
+				if (store.submit(null, result, new int[0], false) && !accepted.add(modelCode)) {
+					duplicates.incrementAndGet();
+				}
+			}
+		});
+		assertThat(duplicates.get(), is(0));
+		assertThat(accepted.size(), is(numberOfCodes));
+		assertThat(store.getNumberOfUnresolvedSymmetries(), is((NUMBER_OF_THREADS - 1) * numberOfCodes));
+	}
+
+	private static List<VersionWithObjectiveValue> createVersions(int count) {
+		var versions = new ArrayList<VersionWithObjectiveValue>(count);
+		for (int i = 0; i < count; i++) {
+			versions.add(new VersionWithObjectiveValue(new TestVersion(i), ObjectiveValue.of(i)));
+		}
+		return versions;
+	}
+
+	private static void assertDrainsCompletely(ConcurrentObjectivePriorityQueue queue) {
+		int size = queue.getSize();
+		var drained = new HashSet<VersionWithObjectiveValue>();
+		for (int i = 0; i < size; i++) {
+			var best = queue.getBest();
+			assertThat(best == null || drained.add(best), is(true));
+			queue.remove(best);
+		}
+		// A stale skip list entry without a corresponding map entry could never be removed.
+		assertThat(queue.getBest(), is(nullValue()));
+		assertThat(queue.getSize(), is(0));
+	}
+
+	private static void runConcurrently(IntConsumer worker) {
+		var startLatch = new CountDownLatch(1);
+		try (var executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS)) {
+			var futures = new ArrayList<Future<?>>(NUMBER_OF_THREADS);
+			for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+				int workerIndex = i;
+				futures.add(executorService.submit(() -> {
+					startLatch.await();
+					worker.accept(workerIndex);
+					return null;
+				}));
+			}
+			startLatch.countDown();
+			for (var future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		} catch (ExecutionException e) {
+			throw new AssertionError("Worker failed", e.getCause());
+		} catch (InterruptedException | TimeoutException e) {
+			throw new AssertionError("Workers did not finish", e);
+		}
+	}
+
+	private record TestVersion(int id) implements Version {
+	}
+}
@@ -12,6 +12,8 @@ public interface QueryInterpreterAdapter extends ModelQueryAdapter {
 	@Override
 	QueryInterpreterStoreAdapter getStoreAdapter();
 
+	RestoreStatistics getRestoreStatistics();
+
 	static QueryInterpreterBuilder builder() {
 		return new QueryInterpreterBuilderImpl();
 	}
@@ -19,6 +19,8 @@ import java.util.function.Function;
 
 @SuppressWarnings("UnusedReturnValue")
 public interface QueryInterpreterBuilder extends ModelQueryBuilder {
+	long DEFAULT_REBUILD_COST_PER_QUERY = 64;
+
 	QueryInterpreterBuilder engineOptions(InterpreterEngineOptions engineOptions);
 
 	QueryInterpreterBuilder defaultHint(QueryEvaluationHint queryEvaluationHint);
@@ -29,6 +31,34 @@ public interface QueryInterpreterBuilder extends ModelQueryBuilder {
 
 	QueryInterpreterBuilder searchBackend(IQueryBackendFactory queryBackendFactory);
 
+	/**
+	 * Sets how the query engine catches up with the model after
+	 * {@link tools.refinery.store.model.Model#restore(tools.refinery.store.map.Version)}.
+	 * <p>
+	 * Replaying the changes incrementally costs roughly the number of changed tuples times the number of views
+	 * that observe them, while rebuilding the RETE network costs roughly the size of the model. Use
+	 * {@link RestorePolicy#ADAPTIVE} if the model is often restored to distant states, e.g., during design space
+	 * exploration. The choices made are reported by {@link QueryInterpreterAdapter#getRestoreStatistics()}.
+	 *
+	 * @param restorePolicy The restore policy, {@link RestorePolicy#INCREMENTAL} by default.
+	 * @return The builder for chaining.
+	 */
+	QueryInterpreterBuilder restorePolicy(RestorePolicy restorePolicy);
+
+	/**
+	 * Sets the estimated cost of rebuilding the RETE network of a single query for {@link RestorePolicy#ADAPTIVE}.
+	 * <p>
+	 * The cost is measured in replayed changes. {@link RestorePolicy#ADAPTIVE} rebuilds the RETE network only if the
+	 * number of changes to replay exceeds the size of the model plus this cost times the number of queries. The
+	 * default of {@value #DEFAULT_REBUILD_COST_PER_QUERY} accounts for compiling the recipes of a query of a few
+	 * clauses, which creates and connects tens of RETE nodes, each costing about as much as propagating a change. Use a
+	 * larger value for complex queries or if restores should rather be replayed.
+	 *
+	 * @param rebuildCostPerQuery The estimated cost of rebuilding the RETE network of a query.
+	 * @return The builder for chaining.
+	 */
+	QueryInterpreterBuilder rebuildCostPerQuery(long rebuildCostPerQuery);
+
 	@Override
 	default QueryInterpreterBuilder queries(AnyQuery... queries) {
 		ModelQueryBuilder.super.queries(queries);
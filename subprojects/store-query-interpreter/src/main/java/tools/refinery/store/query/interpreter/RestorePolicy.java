@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter;
+
+/**
+ * Determines how the query engine catches up with the model after
+ * {@link tools.refinery.store.model.Model#restore(tools.refinery.store.map.Version)}.
+ */
+public enum RestorePolicy {
+	/**
+	 * Always replay the changes between the current and the restored state through the RETE network.
+	 */
+	INCREMENTAL,
+
+	/**
+	 * Always discard the RETE network and evaluate the queries on the restored state from scratch.
+	 */
+	REBUILD,
+
+	/**
+	 * Compare the estimated number of changes to replay with the size of the model, and rebuild the RETE network
+	 * only if replaying the changes is expected to be more expensive.
+	 */
+	ADAPTIVE
+}
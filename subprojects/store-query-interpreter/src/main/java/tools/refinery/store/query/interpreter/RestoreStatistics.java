@@ -0,0 +1,21 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter;
+
+/**
+ * Statistics about the choices made by the {@link RestorePolicy} of a model.
+ * <p>
+ * Changes are only estimated if the policy is {@link RestorePolicy#ADAPTIVE}, other policies report zero for the
+ * change counters.
+ *
+ * @param incrementalRestores The number of restores where the changes were replayed incrementally.
+ * @param rebuilds            The number of restores where the RETE network was rebuilt.
+ * @param replayedChanges     The estimated number of changes replayed by incremental restores.
+ * @param skippedChanges      The estimated number of changes that were not replayed due to rebuilds.
+ */
+public record RestoreStatistics(long incrementalRestores, long rebuilds, long replayedChanges,
+								long skippedChanges) {
+}
@@ -9,9 +9,12 @@ import tools.refinery.interpreter.CancellationToken;
 import tools.refinery.interpreter.api.AdvancedInterpreterEngine;
 import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.logic.dnf.Query;
+import tools.refinery.store.map.Version;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelListener;
 import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
+import tools.refinery.store.query.interpreter.RestoreStatistics;
+import tools.refinery.store.query.interpreter.internal.matcher.AbstractInterpretedMatcher;
 import tools.refinery.store.query.resultset.AnyResultSet;
 import tools.refinery.store.query.resultset.ResultSet;
 
@@ -20,20 +23,28 @@ import java.util.Map;
 public class QueryInterpreterAdapterImpl implements QueryInterpreterAdapter, ModelListener {
 	private final Model model;
 	private final QueryInterpreterStoreAdapterImpl storeAdapter;
-	private final AdvancedInterpreterEngine queryEngine;
+	private AdvancedInterpreterEngine queryEngine;
 	private final Map<AnyQuery, AnyResultSet> resultSets;
 	private boolean pendingChanges;
+	private boolean rebuildOnRestore;
+	private long incrementalRestores;
+	private long rebuilds;
+	private long replayedChanges;
+	private long skippedChanges;
 
 	QueryInterpreterAdapterImpl(Model model, QueryInterpreterStoreAdapterImpl storeAdapter) {
 		this.model = model;
 		this.storeAdapter = storeAdapter;
-		var scope = new RelationalScope(this);
-		queryEngine = AdvancedInterpreterEngine.createUnmanagedEngine(scope,
-				storeAdapter.getEngineOptions());
+		queryEngine = createQueryEngine();
 		resultSets = storeAdapter.getValidatedQueries().instantiate(this, queryEngine);
 		model.addListener(this);
 	}
 
+	private AdvancedInterpreterEngine createQueryEngine() {
+		var scope = new RelationalScope(this);
+		return AdvancedInterpreterEngine.createUnmanagedEngine(scope, storeAdapter.getEngineOptions());
+	}
+
 	@Override
 	public Model getModel() {
 		return model;
@@ -60,6 +71,11 @@ public class QueryInterpreterAdapterImpl implements QueryInterpreterAdapter, Mod
 		return typedResultSet;
 	}
 
+	@Override
+	public RestoreStatistics getRestoreStatistics() {
+		return new RestoreStatistics(incrementalRestores, rebuilds, replayedChanges, skippedChanges);
+	}
+
 	@Override
 	public boolean hasPendingChanges() {
 		return pendingChanges;
@@ -77,9 +93,59 @@ public class QueryInterpreterAdapterImpl implements QueryInterpreterAdapter, Mod
 		pendingChanges = false;
 	}
 
+	@Override
+	public void beforeRestore(Version state) {
+		rebuildOnRestore = switch (storeAdapter.getRestorePolicy()) {
+			case INCREMENTAL -> false;
+			case REBUILD -> true;
+			case ADAPTIVE -> shouldRebuild(state);
+		};
+		if (!rebuildOnRestore) {
+			incrementalRestores++;
+			return;
+		}
+		rebuilds++;
+		for (var query : storeAdapter.getValidatedQueries().getInterpretedQueries()) {
+			((AbstractInterpretedMatcher<?>) resultSets.get(query)).beforeRebind();
+		}
+		// Disposing the query engine also detaches it from the interpretations, so the changes made by the restore
+		// are not propagated to it at all.
+		queryEngine.dispose();
+	}
+
+	private boolean shouldRebuild(Version state) {
+		// Replaying a change costs about as much as enumerating a tuple of the restored model for each view of the
+		// changed symbol, so we sum both costs over the views.
+		long replayCost = 0;
+		long rebuildCost = storeAdapter.getRebuildCostPerQuery() *
+				storeAdapter.getValidatedQueries().getInterpretedQueries().size();
+		for (var symbolView : storeAdapter.getSymbolViews()) {
+			var symbol = symbolView.getSymbol();
+			long restoreCost = model.estimateRestoreCost(symbol, state);
+			if (restoreCost < 0) {
+				return false;
+			}
+			replayCost += restoreCost;
+			rebuildCost += model.getInterpretation(symbol).getSize();
+		}
+		if (replayCost > rebuildCost) {
+			skippedChanges += replayCost;
+			return true;
+		}
+		replayedChanges += replayCost;
+		return false;
+	}
+
 	@Override
 	public void afterRestore() {
-		flushChanges();
+		if (rebuildOnRestore) {
+			rebuildOnRestore = false;
+			queryEngine = createQueryEngine();
+			storeAdapter.getValidatedQueries().rebind(queryEngine, resultSets);
+			pendingChanges = false;
+		} else {
+			flushChanges();
+		}
 	}
 
 	@Override
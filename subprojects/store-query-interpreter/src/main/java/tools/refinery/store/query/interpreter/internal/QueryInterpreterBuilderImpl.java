@@ -22,7 +22,8 @@ import tools.refinery.logic.rewriter.*;
 import tools.refinery.store.adapter.AbstractModelAdapterBuilder;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.query.interpreter.QueryInterpreterBuilder;
-import tools.refinery.store.query.interpreter.internal.localsearch.FlatCostFunction;
+import tools.refinery.store.query.interpreter.RestorePolicy;
+import tools.refinery.store.query.interpreter.internal.localsearch.ModelStatisticsCostFunction;
 import tools.refinery.store.query.interpreter.internal.matcher.RawPatternMatcher;
 import tools.refinery.store.query.interpreter.internal.pquery.Dnf2PQuery;
 
@@ -31,14 +32,20 @@ import java.util.function.Function;
 
 public class QueryInterpreterBuilderImpl extends AbstractModelAdapterBuilder<QueryInterpreterStoreAdapterImpl>
 		implements QueryInterpreterBuilder {
+	private static final double DEFAULT_PLAN_CARDINALITY_DRIFT_FACTOR = 4.0;
+
 	private InterpreterEngineOptions.Builder engineOptionsBuilder;
 	private QueryEvaluationHint defaultHint = new QueryEvaluationHint(Map.of(
-			// Use a cost function that ignores the initial (empty) model but allows higher arity input keys.
-			LocalSearchHintOptions.PLANNER_COST_FUNCTION, new FlatCostFunction()
+			// Use a cost function that relies on the current size of the model and allows higher arity input keys.
+			LocalSearchHintOptions.PLANNER_COST_FUNCTION, new ModelStatisticsCostFunction(),
+			// Plans made for a small (e.g., the initial) model become stale as the model grows.
+			LocalSearchHintOptions.PLAN_CARDINALITY_DRIFT_FACTOR, DEFAULT_PLAN_CARDINALITY_DRIFT_FACTOR
 	), (IQueryBackendFactory) null);
 	private final CompositeRewriter rewriter;
 	private final Dnf2PQuery dnf2PQuery = new Dnf2PQuery();
 	private final Set<AnyQuery> queries = new LinkedHashSet<>();
+	private RestorePolicy restorePolicy = RestorePolicy.INCREMENTAL;
+	private long rebuildCostPerQuery = DEFAULT_REBUILD_COST_PER_QUERY;
 
 	public QueryInterpreterBuilderImpl() {
 		EPackage.Registry.INSTANCE.put(RecipesPackage.eNS_URI, RecipesPackage.eINSTANCE);
@@ -87,6 +94,24 @@ public class QueryInterpreterBuilderImpl extends AbstractModelAdapterBuilder<Que
 		return this;
 	}
 
+	@Override
+	public QueryInterpreterBuilder restorePolicy(RestorePolicy restorePolicy) {
+		checkNotConfigured();
+		this.restorePolicy = restorePolicy;
+		return this;
+	}
+
+	@Override
+	public QueryInterpreterBuilder rebuildCostPerQuery(long rebuildCostPerQuery) {
+		checkNotConfigured();
+		if (rebuildCostPerQuery < 0) {
+			throw new IllegalArgumentException("Rebuild cost per query must be non-negative, got: " +
+					rebuildCostPerQuery);
+		}
+		this.rebuildCostPerQuery = rebuildCostPerQuery;
+		return this;
+	}
+
 	@Override
 	public QueryInterpreterBuilder queries(Collection<? extends AnyQuery> queries) {
 		checkNotConfigured();
@@ -146,7 +171,7 @@ public class QueryInterpreterBuilderImpl extends AbstractModelAdapterBuilder<Que
 		var validatedQueries = new ValidatedQueries(canonicalQueryMap, querySpecifications, vacuousQueries,
 				alwaysTrueQueries);
 		return new QueryInterpreterStoreAdapterImpl(store, buildEngineOptions(), dnf2PQuery.getSymbolViews(),
-				validatedQueries, store::checkCancelled);
+				validatedQueries, restorePolicy, rebuildCostPerQuery, store::checkCancelled);
 	}
 
 	private InterpreterEngineOptions buildEngineOptions() {
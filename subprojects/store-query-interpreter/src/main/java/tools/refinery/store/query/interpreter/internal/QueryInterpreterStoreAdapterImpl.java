@@ -13,6 +13,7 @@ import tools.refinery.logic.dnf.Query;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.query.interpreter.QueryInterpreterStoreAdapter;
+import tools.refinery.store.query.interpreter.RestorePolicy;
 import tools.refinery.store.query.view.AnySymbolView;
 
 import java.util.Collection;
@@ -23,16 +24,21 @@ public class QueryInterpreterStoreAdapterImpl implements QueryInterpreterStoreAd
 	private final InterpreterEngineOptions engineOptions;
 	private final Map<AnySymbolView, IInputKey> inputKeys;
 	private final ValidatedQueries validatedQueries;
+	private final RestorePolicy restorePolicy;
+	private final long rebuildCostPerQuery;
 	private final CancellationToken cancellationToken;
 
 	QueryInterpreterStoreAdapterImpl(ModelStore store, InterpreterEngineOptions engineOptions,
 									 Map<AnySymbolView, IInputKey> inputKeys,
 									 ValidatedQueries validatedQueries,
+									 RestorePolicy restorePolicy, long rebuildCostPerQuery,
 									 CancellationToken cancellationToken) {
 		this.store = store;
 		this.engineOptions = engineOptions;
 		this.inputKeys = inputKeys;
 		this.validatedQueries = validatedQueries;
+		this.restorePolicy = restorePolicy;
+		this.rebuildCostPerQuery = rebuildCostPerQuery;
 		this.cancellationToken = cancellationToken;
 	}
 
@@ -54,6 +60,14 @@ public class QueryInterpreterStoreAdapterImpl implements QueryInterpreterStoreAd
 		return validatedQueries.getAllQueries();
 	}
 
+	public RestorePolicy getRestorePolicy() {
+		return restorePolicy;
+	}
+
+	public long getRebuildCostPerQuery() {
+		return rebuildCostPerQuery;
+	}
+
 	public CancellationToken getCancellationToken() {
 		return cancellationToken;
 	}
@@ -12,6 +12,7 @@ import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.logic.dnf.FunctionalQuery;
 import tools.refinery.logic.dnf.Query;
 import tools.refinery.logic.dnf.RelationalQuery;
+import tools.refinery.store.query.interpreter.internal.matcher.AbstractInterpretedMatcher;
 import tools.refinery.store.query.interpreter.internal.matcher.InterpretedFunctionalMatcher;
 import tools.refinery.store.query.interpreter.internal.matcher.InterpretedRelationalMatcher;
 import tools.refinery.store.query.interpreter.internal.matcher.RawPatternMatcher;
@@ -52,12 +53,13 @@ class ValidatedQueries {
 		return allQueries;
 	}
 
+	public Set<AnyQuery> getInterpretedQueries() {
+		return querySpecifications.keySet();
+	}
+
 	public Map<AnyQuery, AnyResultSet> instantiate(QueryInterpreterAdapterImpl adapter,
 												   AdvancedInterpreterEngine queryEngine) {
-		GenericQueryGroup.of(
-				Collections.<IQuerySpecification<?>>unmodifiableCollection(querySpecifications.values()).stream()
-		).prepare(queryEngine);
-		queryEngine.flushChanges();
+		prepare(queryEngine);
 		var resultSets = LinkedHashMap.<AnyQuery, AnyResultSet>newLinkedHashMap(allQueries.size());
 		for (var entry : querySpecifications.entrySet()) {
 			var rawPatternMatcher = queryEngine.getMatcher(entry.getValue());
@@ -73,6 +75,29 @@ class ValidatedQueries {
 		return resultSets;
 	}
 
+	/**
+	 * Points the result sets created by {@link #instantiate(QueryInterpreterAdapterImpl, AdvancedInterpreterEngine)}
+	 * to the pattern matchers of a new query engine.
+	 *
+	 * @param queryEngine The new query engine.
+	 * @param resultSets  The result sets to update.
+	 */
+	public void rebind(AdvancedInterpreterEngine queryEngine, Map<AnyQuery, AnyResultSet> resultSets) {
+		prepare(queryEngine);
+		for (var entry : querySpecifications.entrySet()) {
+			var rawPatternMatcher = queryEngine.getMatcher(entry.getValue());
+			var resultSet = (AbstractInterpretedMatcher<?>) resultSets.get(entry.getKey());
+			resultSet.rebind(rawPatternMatcher);
+		}
+	}
+
+	private void prepare(AdvancedInterpreterEngine queryEngine) {
+		GenericQueryGroup.of(
+				Collections.<IQuerySpecification<?>>unmodifiableCollection(querySpecifications.values()).stream()
+		).prepare(queryEngine);
+		queryEngine.flushChanges();
+	}
+
 	private <T> ResultSet<T> createResultSet(QueryInterpreterAdapterImpl adapter, Query<T> query,
 											 RawPatternMatcher matcher) {
 		return switch (query) {
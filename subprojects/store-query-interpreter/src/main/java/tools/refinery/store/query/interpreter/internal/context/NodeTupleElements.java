@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal.context;
+
+import tools.refinery.interpreter.matchers.tuple.BaseIntFlatTuple;
+import tools.refinery.interpreter.matchers.tuple.ITuple;
+import tools.refinery.interpreter.matchers.tuple.IntTupleElements;
+import tools.refinery.interpreter.matchers.tuple.Tuples;
+import tools.refinery.store.tuple.*;
+
+/**
+ * Stores node identifiers in interpreter tuples as {@code int} values, and converts them to the {@link Tuple1}
+ * wrappers the query runtime context expects only when they are accessed.
+ */
+public final class NodeTupleElements implements IntTupleElements {
+	public static final NodeTupleElements INSTANCE = new NodeTupleElements();
+
+	private NodeTupleElements() {
+	}
+
+	@Override
+	public Object wrap(int value) {
+		// {@link Tuple1} instances are interned by {@link Tuple1.Cache}, so this does not allocate.
+		return Tuple.of(value);
+	}
+
+	@Override
+	public int hashCode(int value) {
+		// Must be kept in sync with {@link Tuple1#hashCode()}.
+		return 31 + value;
+	}
+
+	public static tools.refinery.interpreter.matchers.tuple.Tuple toInterpreterTuple(Tuple refineryTuple) {
+		return switch (refineryTuple) {
+			case Tuple0 ignored -> Tuples.staticArityFlatTupleOf();
+			case Tuple1 tuple1 -> Tuples.staticArityIntFlatTupleOf(INSTANCE, tuple1.value0());
+			case Tuple2(int value0, int value1) -> Tuples.staticArityIntFlatTupleOf(INSTANCE, value0, value1);
+			default -> {
+				int arity = refineryTuple.getSize();
+				var values = new int[arity];
+				for (int i = 0; i < arity; i++) {
+					values[i] = refineryTuple.get(i);
+				}
+				yield Tuples.intFlatTupleOf(INSTANCE, values);
+			}
+		};
+	}
+
+	public static tools.refinery.interpreter.matchers.tuple.Tuple toInterpreterTuple(Object[] elements) {
+		var values = new int[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			if (!(elements[i] instanceof Tuple1 tuple1)) {
+				// Data values can't be stored as {@code int} values.
+				return Tuples.flatTupleOf(elements);
+			}
+			values[i] = tuple1.value0();
+		}
+		return Tuples.intFlatTupleOf(INSTANCE, values);
+	}
+
+	public static boolean isNodeTuple(ITuple interpreterTuple) {
+		return interpreterTuple instanceof BaseIntFlatTuple intTuple && intTuple.getTupleElements() == INSTANCE;
+	}
+}
@@ -19,6 +19,7 @@ import tools.refinery.store.query.interpreter.internal.update.ModelUpdateListene
 import tools.refinery.store.query.view.AnySymbolView;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -104,13 +105,55 @@ public class RelationalRuntimeContext implements IQueryRuntimeContext {
 
 	@Override
 	public Optional<Long> estimateCardinality(IInputKey key, TupleMask groupMask, Accuracy requiredAccuracy) {
-		return Optional.empty();
+		if (!(key instanceof SymbolViewWrapper wrapper) ||
+				!modelUpdateListener.containsSymbolView(wrapper.getWrappedKey())) {
+			return Optional.empty();
+		}
+		var symbolView = wrapper.getWrappedKey();
+		if (Accuracy.BEST_UPPER_BOUND.atLeastAsPreciseAs(requiredAccuracy)) {
+			return Optional.of(estimateProjectionSize(symbolView, groupMask));
+		}
+		// Exact counts and lower bounds have to enumerate the view.
+		if (groupMask.isIdentity()) {
+			var emptyMask = TupleMask.empty(groupMask.sourceWidth);
+			return Optional.of((long) countTuples(key, emptyMask, Tuples.staticArityFlatTupleOf()));
+		}
+		var projections = new HashSet<Tuple>();
+		for (var tuple : symbolView.getAll(model)) {
+			projections.add(groupMask.transform(Tuples.flatTupleOf(tuple)));
+		}
+		return Optional.of((long) projections.size());
+	}
+
+	/**
+	 * Bounds the number of distinct projections of a view from above without enumerating it.
+	 * <p>
+	 * Each tuple of a view comes from a different entry of the interpretation, so the size of the interpretation is an
+	 * upper bound for the size of any projection, and a good approximation of the size of the view itself. Key slots
+	 * of the view also take their values from the nodes in the corresponding slot of the interpretation, so the
+	 * product of the slot sizes is another upper bound. Both bounds are available in constant time, which lets plans
+	 * check cheaply whether they are stale.
+	 */
+	private long estimateProjectionSize(AnySymbolView symbolView, TupleMask groupMask) {
+		var interpretation = model.getInterpretation(symbolView.getSymbol());
+		long size = interpretation.getSize();
+		long bound = 1;
+		for (int slot : groupMask.indices) {
+			if (!symbolView.canIndexSlot(slot)) {
+				return size;
+			}
+			bound *= interpretation.getSlotSize(slot);
+			if (bound >= size) {
+				return size;
+			}
+		}
+		return Math.min(bound, size);
 	}
 
 	@Override
 	public Iterable<Tuple> enumerateTuples(IInputKey key, TupleMask seedMask, ITuple seed) {
 		var filteredBySeed = enumerate(key, seedMask, seed);
-		return map(filteredBySeed, Tuples::flatTupleOf);
+		return map(filteredBySeed, NodeTupleElements::toInterpreterTuple);
 	}
 
 	@Override
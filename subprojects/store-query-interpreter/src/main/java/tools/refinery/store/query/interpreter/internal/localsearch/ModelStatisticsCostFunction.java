@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal.localsearch;
+
+import tools.refinery.interpreter.localsearch.matcher.integration.LocalSearchHintOptions;
+import tools.refinery.interpreter.localsearch.planner.cost.IConstraintEvaluationContext;
+import tools.refinery.interpreter.localsearch.planner.cost.impl.IndexerBasedConstraintCostFunction;
+import tools.refinery.interpreter.matchers.psystem.PVariable;
+import tools.refinery.interpreter.matchers.psystem.basicenumerables.TypeConstraint;
+import tools.refinery.interpreter.matchers.tuple.TupleMask;
+import tools.refinery.interpreter.matchers.util.Accuracy;
+
+import java.util.ArrayList;
+
+/**
+ * Estimates the cost of search operations from the number of tuples in the model at the time of planning.
+ * <p>
+ * Cardinalities are provided by
+ * {@link tools.refinery.store.query.interpreter.internal.context.RelationalRuntimeContext#estimateCardinality}.
+ * Since plans are made for the model that is current when a query is first evaluated, they may become stale as the
+ * model grows. See {@link LocalSearchHintOptions#PLAN_CARDINALITY_DRIFT_FACTOR} for re-planning in this case.
+ */
+public class ModelStatisticsCostFunction extends IndexerBasedConstraintCostFunction {
+	public ModelStatisticsCostFunction() {
+		// No inverse navigation penalty thanks to relational storage.
+		super(0);
+	}
+
+	@Override
+	protected double _calculateCost(TypeConstraint constraint, IConstraintEvaluationContext input) {
+		if (constraint.getSupplierKey().getArity() <= 2) {
+			return super._calculateCost(constraint, input);
+		}
+		// The superclass only supports unary and binary input keys.
+		return calculateNaryConstraintCost(constraint, input);
+	}
+
+	private double calculateNaryConstraintCost(TypeConstraint constraint, IConstraintEvaluationContext input) {
+		var supplierKey = constraint.getSupplierKey();
+		int arity = supplierKey.getArity();
+		var variables = constraint.getVariablesTuple();
+		var boundVariables = input.getBoundVariables();
+		var boundIndices = new ArrayList<Integer>(arity);
+		for (int i = 0; i < arity; i++) {
+			if (boundVariables.contains((PVariable) variables.get(i))) {
+				boundIndices.add(i);
+			}
+		}
+		if (boundIndices.size() == arity) {
+			// Every variable is bound, so this is a simple check.
+			return 0.9;
+		}
+		var tupleCount = projectionSize(input, supplierKey, TupleMask.identity(arity), Accuracy.APPROXIMATION);
+		if (tupleCount.isEmpty()) {
+			return DEFAULT_COST;
+		}
+		if (boundIndices.isEmpty()) {
+			return 1.0 + tupleCount.get();
+		}
+		var boundMask = TupleMask.fromSelectedIndices(arity, boundIndices);
+		return projectionSize(input, supplierKey, boundMask, Accuracy.APPROXIMATION)
+				// Amortize the tuples over the possible values of the bound variables.
+				.map(groupCount -> groupCount == 0 ? 0.0 : ((double) tupleCount.get()) / groupCount)
+				.orElse(DEFAULT_COST);
+	}
+}
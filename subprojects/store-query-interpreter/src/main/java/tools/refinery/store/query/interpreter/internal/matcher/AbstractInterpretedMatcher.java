@@ -10,9 +10,16 @@ import tools.refinery.interpreter.matchers.backend.IUpdateable;
 import tools.refinery.logic.dnf.Query;
 import tools.refinery.store.query.resultset.AbstractResultSet;
 import tools.refinery.store.query.interpreter.internal.QueryInterpreterAdapterImpl;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 public abstract class AbstractInterpretedMatcher<T> extends AbstractResultSet<T> implements IUpdateable {
-	protected final IQueryResultProvider backend;
+	protected IQueryResultProvider backend;
+	private boolean listening;
+	private Map<Tuple, T> resultsBeforeRebind;
 
 	protected AbstractInterpretedMatcher(QueryInterpreterAdapterImpl adapter, Query<T> query,
 										 RawPatternMatcher rawPatternMatcher) {
@@ -22,11 +29,64 @@ public abstract class AbstractInterpretedMatcher<T> extends AbstractResultSet<T>
 
 	@Override
 	protected void startListeningForChanges() {
+		listening = true;
 		backend.addUpdateListener(this, this, false);
 	}
 
 	@Override
 	protected void stopListeningForChanges() {
+		listening = false;
 		backend.removeUpdateListener(this);
 	}
+
+	/**
+	 * Saves the current results before the query engine is discarded, so that listeners can be notified about the
+	 * differences in {@link #rebind(RawPatternMatcher)}.
+	 */
+	public void beforeRebind() {
+		if (!listening) {
+			return;
+		}
+		resultsBeforeRebind = new HashMap<>();
+		var cursor = getAll();
+		while (cursor.move()) {
+			resultsBeforeRebind.put(cursor.getKey(), cursor.getValue());
+		}
+	}
+
+	/**
+	 * Switches to a pattern matcher of a new query engine.
+	 * <p>
+	 * Listeners are notified about the differences between the results saved by {@link #beforeRebind()} and the
+	 * results of the new pattern matcher.
+	 *
+	 * @param rawPatternMatcher The pattern matcher for the same query in the new query engine.
+	 */
+	public void rebind(RawPatternMatcher rawPatternMatcher) {
+		backend = rawPatternMatcher.getBackend();
+		backendChanged();
+		if (!listening) {
+			return;
+		}
+		backend.addUpdateListener(this, this, false);
+		var defaultValue = getCanonicalQuery().defaultValue();
+		var previousResults = resultsBeforeRebind;
+		resultsBeforeRebind = null;
+		var cursor = getAll();
+		while (cursor.move()) {
+			var key = cursor.getKey();
+			var value = cursor.getValue();
+			var previousValue = previousResults.remove(key);
+			if (previousValue == null) {
+				notifyChange(key, defaultValue, value);
+			} else if (!Objects.equals(previousValue, value)) {
+				notifyChange(key, previousValue, value);
+			}
+		}
+		for (var entry : previousResults.entrySet()) {
+			notifyChange(entry.getKey(), entry.getValue(), defaultValue);
+		}
+	}
+
+	protected abstract void backendChanged();
 }
@@ -28,7 +28,7 @@ import tools.refinery.store.tuple.Tuple;
 public class InterpretedFunctionalMatcher<T> extends AbstractInterpretedMatcher<T> {
 	private final TupleMask emptyMask;
 	private final TupleMask omitOutputMask;
-	private final IterableIndexer omitOutputIndexer;
+	private IterableIndexer omitOutputIndexer;
 
 	public InterpretedFunctionalMatcher(QueryInterpreterAdapterImpl adapter, FunctionalQuery<T> query,
 										RawPatternMatcher rawPatternMatcher) {
@@ -37,6 +37,11 @@ public class InterpretedFunctionalMatcher<T> extends AbstractInterpretedMatcher<
 		int arityWithOutput = arity + 1;
 		emptyMask = TupleMask.empty(arityWithOutput);
 		omitOutputMask = TupleMask.omit(arity, arityWithOutput);
+		backendChanged();
+	}
+
+	@Override
+	protected void backendChanged() {
 		if (backend instanceof RetePatternMatcher reteBackend) {
 			var maybeIterableOmitOutputIndexer = reteBackend.getInternalIndexer(omitOutputMask);
 			if (maybeIterableOmitOutputIndexer instanceof IterableIndexer iterableOmitOutputIndexer) {
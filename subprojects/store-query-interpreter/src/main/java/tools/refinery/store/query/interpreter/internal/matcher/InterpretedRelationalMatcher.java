@@ -29,7 +29,7 @@ import tools.refinery.store.tuple.Tuple;
 public class InterpretedRelationalMatcher extends AbstractInterpretedMatcher<Boolean> {
 	private final TupleMask emptyMask;
 	private final TupleMask identityMask;
-	private final Indexer emptyMaskIndexer;
+	private Indexer emptyMaskIndexer;
 
 	public InterpretedRelationalMatcher(QueryInterpreterAdapterImpl adapter, RelationalQuery query,
 										RawPatternMatcher rawPatternMatcher) {
@@ -37,6 +37,11 @@ public class InterpretedRelationalMatcher extends AbstractInterpretedMatcher<Boo
 		int arity = query.arity();
 		emptyMask = TupleMask.empty(arity);
 		identityMask = TupleMask.identity(arity);
+		backendChanged();
+	}
+
+	@Override
+	protected void backendChanged() {
 		if (backend instanceof RetePatternMatcher reteBackend) {
 			emptyMaskIndexer = reteBackend.getInternalIndexer(emptyMask);
 		} else {
@@ -5,9 +5,10 @@
  */
 package tools.refinery.store.query.interpreter.internal.matcher;
 
+import tools.refinery.interpreter.matchers.tuple.BaseIntFlatTuple;
 import tools.refinery.interpreter.matchers.tuple.ITuple;
-import tools.refinery.interpreter.matchers.tuple.Tuples;
 import org.jetbrains.annotations.Nullable;
+import tools.refinery.store.query.interpreter.internal.context.NodeTupleElements;
 import tools.refinery.store.tuple.*;
 
 import java.util.Iterator;
@@ -18,24 +19,7 @@ final class MatcherUtils {
 	}
 
 	public static tools.refinery.interpreter.matchers.tuple.Tuple toInterpreterTuple(Tuple refineryTuple) {
-		return switch (refineryTuple) {
-			case Tuple0 ignored -> Tuples.staticArityFlatTupleOf();
-			case Tuple1 tuple1 -> Tuples.staticArityFlatTupleOf(tuple1);
-			case Tuple2(int value0, int value1) -> Tuples.staticArityFlatTupleOf(Tuple.of(value0), Tuple.of(value1));
-			case Tuple3(int value0, int value1, int value2) ->
-					Tuples.staticArityFlatTupleOf(Tuple.of(value0), Tuple.of(value1), Tuple.of(value2));
-			case Tuple4(int value0, int value1, int value2, int value3) ->
-					Tuples.staticArityFlatTupleOf(Tuple.of(value0), Tuple.of(value1), Tuple.of(value2),
-							Tuple.of(value3));
-			default -> {
-				int arity = refineryTuple.getSize();
-				var values = new Object[arity];
-				for (int i = 0; i < arity; i++) {
-					values[i] = Tuple.of(refineryTuple.get(i));
-				}
-				yield Tuples.flatTupleOf(values);
-			}
-		};
+		return NodeTupleElements.toInterpreterTuple(refineryTuple);
 	}
 
 	public static Tuple toRefineryTuple(ITuple interpreterTuple) {
@@ -81,6 +65,9 @@ final class MatcherUtils {
 	}
 
 	private static int unwrap(ITuple interpreterTuple, int index) {
+		if (NodeTupleElements.isNodeTuple(interpreterTuple)) {
+			return ((BaseIntFlatTuple) interpreterTuple).getInt(index);
+		}
 		return getWrapper(interpreterTuple, index).value0();
 	}
 
@@ -6,21 +6,47 @@
 package tools.refinery.store.query.interpreter.internal.pquery;
 
 import tools.refinery.logic.dnf.DnfClause;
+import tools.refinery.logic.term.AnyDataVariable;
+import tools.refinery.logic.term.CompiledTerm;
 import tools.refinery.logic.term.Term;
+import tools.refinery.logic.term.TermCompiler;
 import tools.refinery.logic.term.Variable;
 import tools.refinery.interpreter.matchers.psystem.IExpressionEvaluator;
 import tools.refinery.interpreter.matchers.psystem.IValueProvider;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 class TermEvaluator<T> implements IExpressionEvaluator {
 	private final Term<T> term;
 	private final DnfClause clause;
+	private final List<String> inputParameterNames;
+	private final String[] parameterNames;
+	private final CompiledTerm<T> compiledTerm;
 
 	public TermEvaluator(Term<T> term, DnfClause clause) {
 		this.term = term;
 		this.clause = clause;
+		var inputVariables = term.getInputVariables(clause.positiveVariables());
+		// Resolve the data variables to indices once, so that evaluation does not have to go through them.
+		var parameters = inputVariables.stream()
+				.filter(AnyDataVariable.class::isInstance)
+				.map(AnyDataVariable.class::cast)
+				.toList();
+		parameterNames = parameters.stream()
+				.map(Variable::getUniqueName)
+				.toArray(String[]::new);
+		compiledTerm = TermCompiler.compile(term, parameters);
+		// Data variables come first in the same order as in the compiled term, so that engines providing an indexed
+		// value provider can look them up by the same index.
+		var names = new ArrayList<>(List.of(parameterNames));
+		for (var variable : inputVariables) {
+			if (!(variable instanceof AnyDataVariable)) {
+				names.add(variable.getUniqueName());
+			}
+		}
+		inputParameterNames = List.copyOf(names);
 	}
 
 	@Override
@@ -30,15 +56,16 @@ class TermEvaluator<T> implements IExpressionEvaluator {
 
 	@Override
 	public Iterable<String> getInputParameterNames() {
-		return term.getInputVariables(clause.positiveVariables()).stream()
-				.map(Variable::getUniqueName)
-				.collect(Collectors.toUnmodifiableSet());
+		return inputParameterNames;
 	}
 
 	@Override
 	public Object evaluateExpression(IValueProvider provider) {
-		var valuation = new ValueProviderBasedValuation(provider);
-		return term.evaluate(valuation);
+		// Only wraps the provider in a flyweight, which shares the resolved parameter names with other evaluations.
+		// Since the evaluator may be called from multiple threads, the valuation must not be reused.
+		// Data variables are looked up by index if the provider supports it.
+		var valuation = new ValueProviderBasedValuation(provider, parameterNames);
+		return compiledTerm.evaluate(valuation);
 	}
 
 	@Override
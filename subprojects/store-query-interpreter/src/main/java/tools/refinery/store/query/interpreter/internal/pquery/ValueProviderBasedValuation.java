@@ -5,13 +5,40 @@
  */
 package tools.refinery.store.query.interpreter.internal.pquery;
 
+import tools.refinery.interpreter.matchers.psystem.IIndexedValueProvider;
 import tools.refinery.interpreter.matchers.psystem.IValueProvider;
 import tools.refinery.logic.term.DataVariable;
 import tools.refinery.logic.term.NodeVariable;
-import tools.refinery.logic.valuation.Valuation;
+import tools.refinery.logic.valuation.IndexedValuation;
 import tools.refinery.store.tuple.Tuple1;
 
-public record ValueProviderBasedValuation(IValueProvider valueProvider) implements Valuation {
+public final class ValueProviderBasedValuation implements IndexedValuation {
+	private final IValueProvider valueProvider;
+	private final IIndexedValueProvider indexedValueProvider;
+	private final String[] parameterNames;
+
+	/**
+	 * Creates a valuation for the given value provider.
+	 *
+	 * @param valueProvider  The value provider of the pattern matching engine.
+	 * @param parameterNames The names of the parameters of the compiled term. For {@link IIndexedValueProvider}
+	 *                       instances, they must also be the first input parameter names of the evaluator in the same
+	 *                       order.
+	 */
+	ValueProviderBasedValuation(IValueProvider valueProvider, String[] parameterNames) {
+		this.valueProvider = valueProvider;
+		indexedValueProvider = valueProvider instanceof IIndexedValueProvider indexed ? indexed : null;
+		this.parameterNames = parameterNames;
+	}
+
+	@Override
+	public Object getValue(int parameterIndex) {
+		if (indexedValueProvider != null) {
+			return indexedValueProvider.getValue(parameterIndex);
+		}
+		return valueProvider.getValue(parameterNames[parameterIndex]);
+	}
+
 	@Override
 	public <T> T getValue(DataVariable<T> variable) {
 		@SuppressWarnings("unchecked")
@@ -19,6 +46,7 @@ public record ValueProviderBasedValuation(IValueProvider valueProvider) implemen
 		return value;
 	}
 
+	@Override
 	public Integer getNodeId(NodeVariable nodeVariable) {
 		var value = (Tuple1) valueProvider.getValue(nodeVariable.getUniqueName());
 		return value.value0();
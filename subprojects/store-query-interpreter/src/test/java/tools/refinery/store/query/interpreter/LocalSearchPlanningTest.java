@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.interpreter.localsearch.matcher.integration.LocalSearchHintOptions;
+import tools.refinery.interpreter.localsearch.planner.cost.IConstraintEvaluationContext;
+import tools.refinery.interpreter.matchers.backend.QueryEvaluationHint;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.logic.dnf.RelationalQuery;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.ModelQueryAdapter;
+import tools.refinery.store.query.interpreter.internal.localsearch.ModelStatisticsCostFunction;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.query.view.KeyOnlyView;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static tools.refinery.store.query.interpreter.tests.QueryAssertions.assertResults;
+
+class LocalSearchPlanningTest {
+	private static final QueryEvaluationHint LOCAL_SEARCH = new QueryEvaluationHint(null,
+			QueryEvaluationHint.BackendRequirement.DEFAULT_SEARCH);
+	private static final Symbol<Boolean> person = Symbol.of("Person", 1);
+	private static final Symbol<Boolean> friend = Symbol.of("friend", 2);
+	private static final Symbol<Boolean> introduced = Symbol.of("introduced", 3);
+	private static final AnySymbolView personView = new KeyOnlyView<>(person);
+	private static final AnySymbolView friendView = new KeyOnlyView<>(friend);
+	private static final AnySymbolView introducedView = new KeyOnlyView<>(introduced);
+
+	private static final RelationalQuery friendOfFriend = Query.of("friendOfFriend", (builder, p1, p2) -> builder
+			.clause(p3 -> List.of(
+					personView.call(p1),
+					friendView.call(p1, p3),
+					friendView.call(p3, p2)
+			)));
+
+	private static final RelationalQuery introducedFriends = Query.of("introducedFriends", (builder, p1, p2) -> builder
+			.clause(p3 -> List.of(
+					friendView.call(p1, p2),
+					introducedView.call(p1, p2, p3),
+					personView.call(p3)
+			)));
+
+	@Test
+	void growingModelTest() {
+		// Planning is the only time when the cost function is called, so we can use it to detect re-planning.
+		var costFunction = new CountingCostFunction();
+		var store = ModelStore.builder()
+				.symbols(person, friend)
+				.with(QueryInterpreterAdapter.builder()
+						.defaultHint(new QueryEvaluationHint(Map.of(
+								LocalSearchHintOptions.PLANNER_COST_FUNCTION, costFunction
+						), QueryEvaluationHint.BackendRequirement.DEFAULT_SEARCH))
+						.queries(friendOfFriend))
+				.build();
+
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var friendInterpretation = model.getInterpretation(friend);
+			var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+			var resultSet = queryEngine.getResultSet(friendOfFriend);
+
+			// Plan the query for an empty model.
+			assertThat(resultSet.size(), is(0));
+			int emptyModelCalls = costFunction.getCallCount();
+			assertThat(emptyModelCalls, greaterThan(0));
+
+			// The plan is reused as long as the model does not change significantly.
+			friendInterpretation.put(Tuple.of(0, 1), true);
+			queryEngine.flushChanges();
+			assertThat(resultSet.size(), is(0));
+			assertThat(costFunction.getCallCount(), is(emptyModelCalls));
+
+			// Grow the model past the drift threshold to make the query be re-planned.
+			int size = 64;
+			personInterpretation.put(Tuple.of(0), true);
+			for (int i = 0; i < size; i++) {
+				friendInterpretation.put(Tuple.of(i, i + 1), true);
+			}
+			queryEngine.flushChanges();
+			assertThat(resultSet.size(), is(1));
+			int grownModelCalls = costFunction.getCallCount();
+			assertThat(grownModelCalls, greaterThan(emptyModelCalls));
+
+			// The new plan is cached again.
+			assertThat(resultSet.size(), is(1));
+			assertThat(costFunction.getCallCount(), is(grownModelCalls));
+			assertResults(Map.of(
+					Tuple.of(0, 2), true,
+					Tuple.of(1, 3), false,
+					Tuple.of(0, 1), false
+			), resultSet);
+
+			for (int i = 1; i < size; i++) {
+				personInterpretation.put(Tuple.of(i), true);
+			}
+			queryEngine.flushChanges();
+			var expected = new HashMap<Tuple, Boolean>();
+			for (int i = 0; i < size - 1; i++) {
+				expected.put(Tuple.of(i, i + 2), true);
+			}
+			assertResults(expected, resultSet);
+		}
+	}
+
+	@Test
+	void ternaryInputKeyTest() {
+		var store = ModelStore.builder()
+				.symbols(person, friend, introduced)
+				.with(QueryInterpreterAdapter.builder()
+						.defaultHint(LOCAL_SEARCH)
+						.queries(introducedFriends))
+				.build();
+
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var friendInterpretation = model.getInterpretation(friend);
+			var introducedInterpretation = model.getInterpretation(introduced);
+			var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+			var resultSet = queryEngine.getResultSet(introducedFriends);
+
+			personInterpretation.put(Tuple.of(2), true);
+			friendInterpretation.put(Tuple.of(0, 1), true);
+			friendInterpretation.put(Tuple.of(1, 0), true);
+			introducedInterpretation.put(Tuple.of(0, 1, 2), true);
+			introducedInterpretation.put(Tuple.of(1, 0, 3), true);
+			queryEngine.flushChanges();
+
+			assertResults(Map.of(
+					Tuple.of(0, 1), true,
+					Tuple.of(1, 0), false
+			), resultSet);
+		}
+	}
+
+	private static class CountingCostFunction extends ModelStatisticsCostFunction {
+		private int callCount;
+
+		@Override
+		public double apply(IConstraintEvaluationContext input) {
+			callCount++;
+			return super.apply(input);
+		}
+
+		public int getCallCount() {
+			return callCount;
+		}
+	}
+}
@@ -5,17 +5,24 @@
  */
 package tools.refinery.store.query.interpreter;
 
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.logic.dnf.Query;
+import tools.refinery.store.query.OrderedResultSet;
+import tools.refinery.store.query.resultset.ArrayOrderedResultSetImpl;
 import tools.refinery.store.query.resultset.OrderedResultSetImpl;
+import tools.refinery.store.query.resultset.ResultSet;
 import tools.refinery.logic.term.Variable;
 import tools.refinery.store.query.view.AnySymbolView;
 import tools.refinery.store.query.view.KeyOnlyView;
 import tools.refinery.store.representation.Symbol;
 import tools.refinery.store.tuple.Tuple;
 
+import java.util.stream.Stream;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
@@ -23,8 +30,16 @@ class OrderedResultSetImplTest {
 	private static final Symbol<Boolean> friend = Symbol.of("friend", 2);
 	private static final AnySymbolView friendView = new KeyOnlyView<>(friend);
 
-	@Test
-	void relationalFlushTest() {
+	static Stream<Named<OrderedResultSetFactory>> orderedResultSetFactories() {
+		return Stream.of(
+				Named.of("OrderedResultSetImpl", OrderedResultSetImpl::new),
+				Named.of("ArrayOrderedResultSetImpl", ArrayOrderedResultSetImpl::new)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("orderedResultSetFactories")
+	void relationalFlushTest(OrderedResultSetFactory factory) {
 		var query = Query.of("Relation", (builder, p1, p2) -> builder.clause(
 				friendView.call(p1, p2)
 		));
@@ -45,7 +60,7 @@ class OrderedResultSetImplTest {
 			friendInterpretation.put(Tuple.of(1, 1), true);
 			queryEngine.flushChanges();
 
-			try (var orderedResultSet = new OrderedResultSetImpl<>(resultSet)) {
+			try (var orderedResultSet = factory.create(resultSet)) {
 				assertThat(orderedResultSet.size(), is(3));
 				assertThat(orderedResultSet.getKey(0), is(Tuple.of(0, 1)));
 				assertThat(orderedResultSet.getKey(1), is(Tuple.of(1, 1)));
@@ -63,8 +78,9 @@ class OrderedResultSetImplTest {
 		}
 	}
 
-	@Test
-	void functionalFlushTest() {
+	@ParameterizedTest
+	@MethodSource("orderedResultSetFactories")
+	void functionalFlushTest(OrderedResultSetFactory factory) {
 		var query = Query.of("Function", Integer.class, (builder, p1, output) -> builder.clause(
 				friendView.call(p1, Variable.of()),
 				output.assign(friendView.count(p1, Variable.of()))
@@ -86,7 +102,7 @@ class OrderedResultSetImplTest {
 			friendInterpretation.put(Tuple.of(1, 1), true);
 			queryEngine.flushChanges();
 
-			try (var orderedResultSet = new OrderedResultSetImpl<>(resultSet)) {
+			try (var orderedResultSet = factory.create(resultSet)) {
 				assertThat(orderedResultSet.size(), is(2));
 				assertThat(orderedResultSet.getKey(0), is(Tuple.of(0)));
 				assertThat(orderedResultSet.getKey(1), is(Tuple.of(1)));
@@ -116,4 +132,9 @@ class OrderedResultSetImplTest {
 			}
 		}
 	}
+
+	@FunctionalInterface
+	interface OrderedResultSetFactory {
+		<T> OrderedResultSet<T> create(ResultSet<T> resultSet);
+	}
 }
@@ -0,0 +1,201 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import tools.refinery.logic.dnf.FunctionalQuery;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.logic.dnf.RelationalQuery;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.ModelQueryAdapter;
+import tools.refinery.store.query.resultset.ResultSet;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.query.view.FunctionView;
+import tools.refinery.store.query.view.KeyOnlyView;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RestorePolicyTest {
+	private static final int NODE_COUNT = 8;
+
+	private static final Symbol<Boolean> person = Symbol.of("Person", 1);
+	private static final Symbol<Integer> age = Symbol.of("age", 1, Integer.class);
+	private static final Symbol<Boolean> friend = Symbol.of("friend", 2);
+	private static final AnySymbolView personView = new KeyOnlyView<>(person);
+	private static final FunctionView<Integer> ageView = new FunctionView<>(age);
+	private static final AnySymbolView friendView = new KeyOnlyView<>(friend);
+	private static final RelationalQuery friendOfPerson = Query.of("FriendOfPerson", (builder, p1, p2) ->
+			builder.clause(
+					personView.call(p1),
+					personView.call(p2),
+					friendView.call(p1, p2)
+			));
+	private static final FunctionalQuery<Integer> personAge = Query.of("PersonAge", Integer.class,
+			(builder, p1, output) -> builder.clause(
+					personView.call(p1),
+					ageView.call(p1, output)
+			));
+
+	@ParameterizedTest
+	@EnumSource(RestorePolicy.class)
+	void randomRestoreTest(RestorePolicy restorePolicy) {
+		var store = createStore(restorePolicy);
+		var random = new Random(1);
+		var versions = new ArrayList<Version>();
+		try (var model = store.createEmptyModel()) {
+			var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+			var friendResultSet = queryEngine.getResultSet(friendOfPerson);
+			var ageResultSet = queryEngine.getResultSet(personAge);
+			var friendResults = new HashMap<Tuple, Boolean>();
+			friendResultSet.addListener((key, fromValue, toValue) -> putResult(friendResults, key, toValue, false));
+			var ageResults = new HashMap<Tuple, Integer>();
+			ageResultSet.addListener((key, fromValue, toValue) -> putResult(ageResults, key, toValue, null));
+			for (int step = 0; step < 200; step++) {
+				if (!versions.isEmpty() && random.nextInt(3) == 0) {
+					model.restore(versions.get(random.nextInt(versions.size())));
+				}
+				int changes = random.nextInt(10) == 0 ? 50 : random.nextInt(4);
+				for (int i = 0; i < changes; i++) {
+					int node = random.nextInt(NODE_COUNT);
+					switch (random.nextInt(3)) {
+					case 0 -> model.getInterpretation(person).put(Tuple.of(node), random.nextBoolean());
+					case 1 -> model.getInterpretation(age).put(Tuple.of(node),
+							random.nextBoolean() ? null : random.nextInt(3));
+					default -> model.getInterpretation(friend).put(Tuple.of(node, random.nextInt(NODE_COUNT)),
+							random.nextBoolean());
+					}
+				}
+				queryEngine.flushChanges();
+				assertEquals(getResults(friendResultSet), friendResults);
+				assertEquals(getResults(ageResultSet), ageResults);
+				var version = model.commit();
+				versions.add(version);
+				try (var freshModel = store.createModelForState(version)) {
+					var freshQueryEngine = freshModel.getAdapter(ModelQueryAdapter.class);
+					assertEquals(getResults(freshQueryEngine.getResultSet(friendOfPerson)), friendResults);
+					assertEquals(getResults(freshQueryEngine.getResultSet(personAge)), ageResults);
+				}
+			}
+			var statistics = model.getAdapter(QueryInterpreterAdapter.class).getRestoreStatistics();
+			switch (restorePolicy) {
+			case INCREMENTAL -> assertEquals(0, statistics.rebuilds());
+			case REBUILD -> assertEquals(0, statistics.incrementalRestores());
+			case ADAPTIVE -> {
+				assertTrue(statistics.rebuilds() > 0);
+				assertTrue(statistics.incrementalRestores() > 0);
+			}
+			}
+		}
+	}
+
+	@Test
+	void rebuildStatisticsTest() {
+		var store = createStore(RestorePolicy.ADAPTIVE);
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+			var resultSet = queryEngine.getResultSet(friendOfPerson);
+			model.getInterpretation(friend).put(Tuple.of(0, 1), true);
+			var initialState = model.commit();
+			for (int i = 0; i < 1000; i++) {
+				personInterpretation.put(Tuple.of(i % NODE_COUNT), (i / NODE_COUNT) % 2 == 0);
+				model.commit();
+			}
+			personInterpretation.put(Tuple.of(0), true);
+			personInterpretation.put(Tuple.of(1), true);
+			queryEngine.flushChanges();
+			assertEquals(1, resultSet.size());
+			var finalState = model.commit();
+
+			model.restore(initialState);
+			assertEquals(0, resultSet.size());
+			model.restore(finalState);
+			assertEquals(1, resultSet.size());
+
+			var statistics = model.getAdapter(QueryInterpreterAdapter.class).getRestoreStatistics();
+			assertEquals(0, statistics.incrementalRestores());
+			assertEquals(2, statistics.rebuilds());
+			assertEquals(0, statistics.replayedChanges());
+			assertTrue(statistics.skippedChanges() > 1000);
+		}
+	}
+
+	@Test
+	void rebuildCostPerQueryTest() {
+		var store = ModelStore.builder()
+				.symbols(person, age, friend)
+				.with(QueryInterpreterAdapter.builder()
+						.restorePolicy(RestorePolicy.ADAPTIVE)
+						.rebuildCostPerQuery(100_000)
+						.queries(friendOfPerson, personAge))
+				.build();
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+			var resultSet = queryEngine.getResultSet(friendOfPerson);
+			model.getInterpretation(friend).put(Tuple.of(0, 1), true);
+			var initialState = model.commit();
+			for (int i = 0; i < 1000; i++) {
+				personInterpretation.put(Tuple.of(i % NODE_COUNT), (i / NODE_COUNT) % 2 == 0);
+				model.commit();
+			}
+			personInterpretation.put(Tuple.of(0), true);
+			personInterpretation.put(Tuple.of(1), true);
+			queryEngine.flushChanges();
+			model.commit();
+
+			model.restore(initialState);
+			assertEquals(0, resultSet.size());
+
+			// The same restore as in {@link #rebuildStatisticsTest()} is replayed if rebuilding is expensive enough.
+			var statistics = model.getAdapter(QueryInterpreterAdapter.class).getRestoreStatistics();
+			assertEquals(1, statistics.incrementalRestores());
+			assertEquals(0, statistics.rebuilds());
+			assertEquals(0, statistics.skippedChanges());
+		}
+	}
+
+	@Test
+	void negativeRebuildCostPerQueryTest() {
+		var builder = QueryInterpreterAdapter.builder();
+		assertThrows(IllegalArgumentException.class, () -> builder.rebuildCostPerQuery(-1));
+	}
+
+	private static ModelStore createStore(RestorePolicy restorePolicy) {
+		return ModelStore.builder()
+				.symbols(person, age, friend)
+				.with(QueryInterpreterAdapter.builder()
+						.restorePolicy(restorePolicy)
+						.queries(friendOfPerson, personAge))
+				.build();
+	}
+
+	private static <T> void putResult(Map<Tuple, T> results, Tuple key, T value, T defaultValue) {
+		if (Objects.equals(value, defaultValue)) {
+			results.remove(key);
+		} else {
+			results.put(key, value);
+		}
+	}
+
+	private static <T> Map<Tuple, T> getResults(ResultSet<T> resultSet) {
+		var results = new HashMap<Tuple, T>();
+		var cursor = resultSet.getAll();
+		while (cursor.move()) {
+			results.put(cursor.getKey(), cursor.getValue());
+		}
+		return results;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal.context;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.refinery.interpreter.matchers.tuple.Tuples;
+import tools.refinery.store.tuple.Tuple;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class NodeTupleElementsTest {
+	@ParameterizedTest
+	@ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 1, 1023, 1024, 100000, Integer.MAX_VALUE})
+	void hashCodeTest(int value) {
+		assertThat(NodeTupleElements.INSTANCE.hashCode(value), is(Tuple.of(value).hashCode()));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {-1, 0, 1, 1024, 100000})
+	void tupleHashCodeTest(int value) {
+		var intTuple = NodeTupleElements.toInterpreterTuple(Tuple.of(value, value + 1));
+		var flatTuple = Tuples.flatTupleOf(Tuple.of(value), Tuple.of(value + 1));
+		assertThat(intTuple.hashCode(), is(flatTuple.hashCode()));
+		assertThat(intTuple, is(flatTuple));
+	}
+}
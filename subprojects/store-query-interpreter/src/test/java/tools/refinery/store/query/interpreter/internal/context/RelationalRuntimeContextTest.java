@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.refinery.interpreter.matchers.tuple.TupleMask;
+import tools.refinery.interpreter.matchers.util.Accuracy;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.logic.dnf.RelationalQuery;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
+import tools.refinery.store.query.interpreter.internal.QueryInterpreterAdapterImpl;
+import tools.refinery.store.query.interpreter.internal.pquery.SymbolViewWrapper;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.query.view.KeyOnlyView;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class RelationalRuntimeContextTest {
+	private static final Symbol<Boolean> friend = Symbol.of("friend", 2);
+	private static final Symbol<Boolean> introduced = Symbol.of("introduced", 3);
+	private static final AnySymbolView friendView = new KeyOnlyView<>(friend);
+	private static final AnySymbolView introducedView = new KeyOnlyView<>(introduced);
+
+	private static final RelationalQuery introducedFriends = Query.of("introducedFriends", (builder, p1, p2) -> builder
+			.clause(p3 -> List.of(
+					friendView.call(p1, p2),
+					introducedView.call(p1, p2, p3)
+			)));
+
+	private Model model;
+	private RelationalRuntimeContext runtimeContext;
+
+	@BeforeEach
+	void beforeEach() {
+		var store = ModelStore.builder()
+				.symbols(friend, introduced)
+				.with(QueryInterpreterAdapter.builder()
+						.queries(introducedFriends))
+				.build();
+		model = store.createEmptyModel();
+		var friendInterpretation = model.getInterpretation(friend);
+		friendInterpretation.put(Tuple.of(0, 1), true);
+		friendInterpretation.put(Tuple.of(0, 2), true);
+		friendInterpretation.put(Tuple.of(0, 3), true);
+		friendInterpretation.put(Tuple.of(1, 2), true);
+		var introducedInterpretation = model.getInterpretation(introduced);
+		introducedInterpretation.put(Tuple.of(0, 1, 2), true);
+		introducedInterpretation.put(Tuple.of(1, 0, 3), true);
+		var adapter = (QueryInterpreterAdapterImpl) model.getAdapter(QueryInterpreterAdapter.class);
+		runtimeContext = new RelationalRuntimeContext(adapter);
+	}
+
+	@AfterEach
+	void afterEach() {
+		model.close();
+	}
+
+	@ParameterizedTest(name = "{0} {1} {2}")
+	@MethodSource
+	void estimateCardinalityTest(String name, TupleMask groupMask, Accuracy accuracy, long expected) {
+		var symbolView = name.equals("friend") ? friendView : introducedView;
+		var result = runtimeContext.estimateCardinality(new SymbolViewWrapper(symbolView), groupMask, accuracy);
+		assertThat(result, is(Optional.of(expected)));
+	}
+
+	static Stream<Arguments> estimateCardinalityTest() {
+		return Stream.of(
+				Arguments.of("friend", TupleMask.identity(2), Accuracy.APPROXIMATION, 4L),
+				Arguments.of("friend", TupleMask.identity(2), Accuracy.EXACT_COUNT, 4L),
+				// Single slots are bounded by the number of distinct nodes in the adjacency index.
+				Arguments.of("friend", TupleMask.selectSingle(0, 2), Accuracy.APPROXIMATION, 2L),
+				Arguments.of("friend", TupleMask.selectSingle(1, 2), Accuracy.APPROXIMATION, 3L),
+				Arguments.of("friend", TupleMask.selectSingle(1, 2), Accuracy.BEST_UPPER_BOUND, 3L),
+				Arguments.of("friend", TupleMask.selectSingle(0, 2), Accuracy.EXACT_COUNT, 2L),
+				Arguments.of("friend", TupleMask.selectSingle(1, 2), Accuracy.EXACT_COUNT, 3L),
+				Arguments.of("friend", TupleMask.empty(2), Accuracy.APPROXIMATION, 1L),
+				// The product of the slot sizes is larger than the number of tuples.
+				Arguments.of("introduced", TupleMask.fromSelectedIndices(3, new int[]{0, 1}),
+						Accuracy.APPROXIMATION, 2L),
+				Arguments.of("introduced", TupleMask.fromSelectedIndices(3, new int[]{0, 1}),
+						Accuracy.EXACT_COUNT, 2L),
+				Arguments.of("introduced", TupleMask.selectSingle(2, 3), Accuracy.BEST_UPPER_BOUND, 2L)
+		);
+	}
+}
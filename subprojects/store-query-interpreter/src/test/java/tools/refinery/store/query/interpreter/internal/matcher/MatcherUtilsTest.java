@@ -29,7 +29,7 @@ class MatcherUtilsTest {
 		var interpreterTuple = MatcherUtils.toInterpreterTuple(Tuple.of(2));
 		assertThat(interpreterTuple.getSize(), is(1));
 		assertThat(interpreterTuple.get(0), is(Tuple.of(2)));
-		assertThat(interpreterTuple, instanceOf(FlatTuple1.class));
+		assertThat(interpreterTuple, instanceOf(IntFlatTuple1.class));
 	}
 
 	@Test
@@ -38,7 +38,7 @@ class MatcherUtilsTest {
 		assertThat(interpreterTuple.getSize(), is(2));
 		assertThat(interpreterTuple.get(0), is(Tuple.of(2)));
 		assertThat(interpreterTuple.get(1), is(Tuple.of(3)));
-		assertThat(interpreterTuple, instanceOf(FlatTuple2.class));
+		assertThat(interpreterTuple, instanceOf(IntFlatTuple2.class));
 	}
 
 	@Test
@@ -48,7 +48,7 @@ class MatcherUtilsTest {
 		assertThat(interpreterTuple.get(0), is(Tuple.of(2)));
 		assertThat(interpreterTuple.get(1), is(Tuple.of(3)));
 		assertThat(interpreterTuple.get(2), is(Tuple.of(5)));
-		assertThat(interpreterTuple, instanceOf(FlatTuple3.class));
+		assertThat(interpreterTuple, instanceOf(IntFlatTuple3.class));
 	}
 
 	@Test
@@ -59,7 +59,7 @@ class MatcherUtilsTest {
 		assertThat(interpreterTuple.get(1), is(Tuple.of(3)));
 		assertThat(interpreterTuple.get(2), is(Tuple.of(5)));
 		assertThat(interpreterTuple.get(3), is(Tuple.of(8)));
-		assertThat(interpreterTuple, instanceOf(FlatTuple4.class));
+		assertThat(interpreterTuple, instanceOf(IntFlatTuple4.class));
 	}
 
 	@Test
@@ -71,7 +71,7 @@ class MatcherUtilsTest {
 		assertThat(interpreterTuple.get(2), is(Tuple.of(5)));
 		assertThat(interpreterTuple.get(3), is(Tuple.of(8)));
 		assertThat(interpreterTuple.get(4), is(Tuple.of(13)));
-		assertThat(interpreterTuple, instanceOf(FlatTuple.class));
+		assertThat(interpreterTuple, instanceOf(IntFlatTuple.class));
 	}
 
 	@Test
@@ -0,0 +1,127 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.utils.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.refinery.store.query.utils.OrderStatisticTree;
+import tools.refinery.store.query.utils.SortedTupleArray;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates the activations of a rule during a design-space exploration, where each step changes a few matches of
+ * the rule and then fires a random activation by its index.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderedTupleSetBenchmark {
+	@Param({"tree", "array"})
+	public String implementation;
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	@Param({"1", "16"})
+	public int changesPerStep;
+
+	private TupleSet tupleSet;
+
+	private Tuple[] tuples;
+
+	@SuppressWarnings("squid:S2245")
+	private final Random random = new Random(1);
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		tupleSet = switch (implementation) {
+			case "tree" -> new TreeTupleSet();
+			case "array" -> new ArrayTupleSet();
+			default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+		};
+		// Keep twice as many candidate tuples as members, so that we can always swap a member for a non-member.
+		tuples = new Tuple[2 * size];
+		for (int i = 0; i < tuples.length; i++) {
+			tuples[i] = Tuple.of(random.nextInt(), random.nextInt());
+		}
+		for (int i = 0; i < size; i++) {
+			tupleSet.add(tuples[i]);
+		}
+	}
+
+	@Benchmark
+	public void changeAndGetRandomBenchmark(Blackhole blackhole) {
+		for (int i = 0; i < changesPerStep; i++) {
+			// Swap a random member with a random non-member to keep the size of the set fixed.
+			int memberIndex = random.nextInt(size);
+			int nonMemberIndex = size + random.nextInt(size);
+			var member = tuples[memberIndex];
+			var nonMember = tuples[nonMemberIndex];
+			tupleSet.remove(member);
+			tupleSet.add(nonMember);
+			tuples[memberIndex] = nonMember;
+			tuples[nonMemberIndex] = member;
+		}
+		blackhole.consume(tupleSet.get(random.nextInt(size)));
+	}
+
+	@Benchmark
+	public void getRandomBenchmark(Blackhole blackhole) {
+		blackhole.consume(tupleSet.get(random.nextInt(size)));
+	}
+
+	private interface TupleSet {
+		void add(Tuple tuple);
+
+		void remove(Tuple tuple);
+
+		Tuple get(int index);
+	}
+
+	private static class TreeTupleSet implements TupleSet {
+		private final OrderStatisticTree<Tuple> tree = new OrderStatisticTree<>();
+
+		@Override
+		public void add(Tuple tuple) {
+			tree.add(tuple);
+		}
+
+		@Override
+		public void remove(Tuple tuple) {
+			tree.remove(tuple);
+		}
+
+		@Override
+		public Tuple get(int index) {
+			return tree.get(index);
+		}
+	}
+
+	private static class ArrayTupleSet implements TupleSet {
+		private final SortedTupleArray array = new SortedTupleArray(2);
+
+		@Override
+		public void add(Tuple tuple) {
+			array.add(tuple);
+		}
+
+		@Override
+		public void remove(Tuple tuple) {
+			array.remove(tuple);
+		}
+
+		@Override
+		public Tuple get(int index) {
+			return array.get(index);
+		}
+	}
+}
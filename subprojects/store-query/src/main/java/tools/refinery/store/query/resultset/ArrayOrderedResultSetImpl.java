@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.resultset;
+
+import tools.refinery.store.map.Cursor;
+import tools.refinery.store.query.ModelQueryAdapter;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.store.query.OrderedResultSet;
+import tools.refinery.store.query.utils.SortedTupleArray;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.Objects;
+
+/**
+ * An {@link OrderedResultSet} for queries with at most two parameters backed by a {@link SortedTupleArray}.
+ * <p>
+ * Keys are indexed in the same order as in {@link OrderedResultSetImpl}, but looking up a key by its index takes
+ * constant time.
+ */
+public class ArrayOrderedResultSetImpl<T> implements OrderedResultSet<T> {
+	private final ResultSet<T> resultSet;
+	private final SortedTupleArray tuples;
+	private final ResultSetListener<T> listener;
+
+	public ArrayOrderedResultSetImpl(ResultSet<T> resultSet) {
+		this.resultSet = resultSet;
+		tuples = new SortedTupleArray(resultSet.getCanonicalQuery().arity());
+		listener = (key, fromValue, toValue) -> {
+			var defaultValue = getCanonicalQuery().defaultValue();
+			if (Objects.equals(defaultValue, toValue)) {
+				tuples.remove(key);
+			} else {
+				tuples.add(key);
+			}
+		};
+		resultSet.addListener(listener);
+		var cursor = resultSet.getAll();
+		while (cursor.move()) {
+			tuples.add(cursor.getKey());
+		}
+	}
+
+	@Override
+	public ModelQueryAdapter getAdapter() {
+		return resultSet.getAdapter();
+	}
+
+	@Override
+	public int size() {
+		return resultSet.size();
+	}
+
+	@Override
+	public Query<T> getCanonicalQuery() {
+		return resultSet.getCanonicalQuery();
+	}
+
+	@Override
+	public T get(Tuple parameters) {
+		return resultSet.get(parameters);
+	}
+
+	@Override
+	public Tuple getKey(int index) {
+		return tuples.get(index);
+	}
+
+	@Override
+	public Cursor<Tuple, T> getAll() {
+		return resultSet.getAll();
+	}
+
+	@Override
+	public void addListener(ResultSetListener<T> listener) {
+		resultSet.addListener(listener);
+	}
+
+	@Override
+	public void removeListener(ResultSetListener<T> listener) {
+		resultSet.removeListener(listener);
+	}
+
+	@Override
+	public void close() {
+		resultSet.removeListener(listener);
+	}
+}
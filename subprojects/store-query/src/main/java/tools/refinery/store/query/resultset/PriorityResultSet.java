@@ -10,6 +10,7 @@ import tools.refinery.store.map.Cursor;
 import tools.refinery.store.map.Cursors;
 import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.store.query.OrderedResultSet;
+import tools.refinery.store.query.utils.SortedTupleArray;
 import tools.refinery.store.tuple.Tuple;
 
 import java.util.Objects;
@@ -102,7 +103,12 @@ public class PriorityResultSet<T> implements OrderedResultSet<T> {
 		if (resultSet instanceof OrderedResultSet<T> orderedResultSet) {
 			return new PriorityResultSet<>(orderedResultSet, priority, agenda);
 		}
-		var orderedResultSet = new OrderedResultSetImpl<>(resultSet);
+		OrderedResultSet<T> orderedResultSet;
+		if (SortedTupleArray.isSupportedArity(resultSet.getCanonicalQuery().arity())) {
+			orderedResultSet = new ArrayOrderedResultSetImpl<>(resultSet);
+		} else {
+			orderedResultSet = new OrderedResultSetImpl<>(resultSet);
+		}
 		try {
 			return new PriorityResultSet<>(orderedResultSet, priority, agenda);
 		} catch (RuntimeException e) {
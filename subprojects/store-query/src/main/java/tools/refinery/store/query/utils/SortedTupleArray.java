@@ -0,0 +1,221 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.utils;
+
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A sorted set of tuples with at most two elements that can be indexed according to the natural order of tuples in
+ * constant time.
+ * <p>
+ * Tuples are packed into {@code long} values and stored in a tiered vector, i.e., in circular blocks of {@code B}
+ * elements each. Looking up a tuple by its index reads a single array element, while adding or removing a tuple shifts
+ * the elements of a single block and rotates the following blocks by one position, which takes {@code O(B + n / B)}
+ * time. The block size is kept around {@code sqrt(n)}.
+ * <p>
+ * Compared to an {@link OrderStatisticTree}, this avoids allocating a node for each tuple, and the index of a tuple
+ * still only depends on the contents of the set, not on the order of the modifications.
+ */
+public class SortedTupleArray {
+	private static final int MIN_BLOCK_SHIFT = 5;
+	private static final long[][] EMPTY_BLOCKS = new long[0][];
+
+	private final int arity;
+	private int blockShift = MIN_BLOCK_SHIFT;
+	private long[][] blocks = EMPTY_BLOCKS;
+	private int[] offsets = new int[0];
+	private int size;
+
+	public SortedTupleArray(int arity) {
+		if (!isSupportedArity(arity)) {
+			throw new IllegalArgumentException("Cannot store tuples of arity %d, at most 2 is supported"
+					.formatted(arity));
+		}
+		this.arity = arity;
+	}
+
+	/**
+	 * Adds a tuple to the set.
+	 *
+	 * @param tuple The tuple to add. Must have the arity of this set.
+	 * @return {@code true} if the tuple was not already in the set.
+	 */
+	public boolean add(Tuple tuple) {
+		long key = pack(tuple);
+		int index = lowerBound(key);
+		if (index < size && getPacked(index) == key) {
+			return false;
+		}
+		if (size >= 4L << (2 * blockShift)) {
+			resize(blockShift + 1);
+		}
+		insertAt(index, key);
+		return true;
+	}
+
+	/**
+	 * Removes a tuple from the set.
+	 *
+	 * @param tuple The tuple to remove. Must have the arity of this set.
+	 * @return {@code true} if the tuple was in the set.
+	 */
+	public boolean remove(Tuple tuple) {
+		long key = pack(tuple);
+		int index = lowerBound(key);
+		if (index >= size || getPacked(index) != key) {
+			return false;
+		}
+		removeAt(index);
+		if (blockShift > MIN_BLOCK_SHIFT && size < 1 << (2 * blockShift - 2)) {
+			resize(blockShift - 1);
+		}
+		return true;
+	}
+
+	public boolean contains(Tuple tuple) {
+		long key = pack(tuple);
+		int index = lowerBound(key);
+		return index < size && getPacked(index) == key;
+	}
+
+	/**
+	 * Gets the tuple with the given index in the natural order of tuples.
+	 *
+	 * @param index The index of the tuple, between 0 (inclusive) and {@link #size()} (exclusive).
+	 * @return The tuple with the given index.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public Tuple get(int index) {
+		Objects.checkIndex(index, size);
+		return unpack(getPacked(index));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public static boolean isSupportedArity(int arity) {
+		return arity >= 0 && arity <= 2;
+	}
+
+	private int getBlockSize() {
+		return 1 << blockShift;
+	}
+
+	private long getPacked(int index) {
+		int mask = getBlockSize() - 1;
+		int blockIndex = index >>> blockShift;
+		return blocks[blockIndex][(offsets[blockIndex] + index) & mask];
+	}
+
+	private int lowerBound(long key) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (getPacked(middle) < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private void insertAt(int index, long key) {
+		int blockSize = getBlockSize();
+		int mask = blockSize - 1;
+		if (size == blocks.length << blockShift) {
+			int blockCount = blocks.length;
+			blocks = Arrays.copyOf(blocks, blockCount + 1);
+			blocks[blockCount] = new long[blockSize];
+			offsets = Arrays.copyOf(offsets, blockCount + 1);
+		}
+		int targetBlock = index >>> blockShift;
+		int lastBlock = size >>> blockShift;
+		// Move the last element of each full block to the front of the next one, starting from the end.
+		for (int i = lastBlock; i > targetBlock; i--) {
+			var previousBlock = blocks[i - 1];
+			long moved = previousBlock[(offsets[i - 1] + mask) & mask];
+			offsets[i] = (offsets[i] - 1) & mask;
+			blocks[i][offsets[i]] = moved;
+		}
+		// The last element of the target block was already moved out, unless it is the last block with free space.
+		int targetEnd = targetBlock == lastBlock ? size & mask : mask;
+		var block = blocks[targetBlock];
+		int offset = offsets[targetBlock];
+		for (int i = targetEnd; i > (index & mask); i--) {
+			block[(offset + i) & mask] = block[(offset + i - 1) & mask];
+		}
+		block[(offset + index) & mask] = key;
+		size++;
+	}
+
+	private void removeAt(int index) {
+		int mask = getBlockSize() - 1;
+		int targetBlock = index >>> blockShift;
+		int lastBlock = (size - 1) >>> blockShift;
+		int targetEnd = targetBlock == lastBlock ? (size - 1) & mask : mask;
+		var block = blocks[targetBlock];
+		int offset = offsets[targetBlock];
+		for (int i = index & mask; i < targetEnd; i++) {
+			block[(offset + i) & mask] = block[(offset + i + 1) & mask];
+		}
+		// Move the first element of each following block to the end of the previous one.
+		for (int i = targetBlock + 1; i <= lastBlock; i++) {
+			var nextBlock = blocks[i];
+			long moved = nextBlock[offsets[i]];
+			offsets[i] = (offsets[i] + 1) & mask;
+			blocks[i - 1][(offsets[i - 1] + mask) & mask] = moved;
+		}
+		size--;
+		if ((size & mask) == 0 && blocks.length > (size >>> blockShift)) {
+			int blockCount = size >>> blockShift;
+			blocks = Arrays.copyOf(blocks, blockCount);
+			offsets = Arrays.copyOf(offsets, blockCount);
+		}
+	}
+
+	private void resize(int newBlockShift) {
+		var elements = new long[size];
+		for (int i = 0; i < size; i++) {
+			elements[i] = getPacked(i);
+		}
+		blockShift = newBlockShift;
+		int blockSize = getBlockSize();
+		int blockCount = (size + blockSize - 1) >>> blockShift;
+		blocks = new long[blockCount][];
+		offsets = new int[blockCount];
+		for (int i = 0; i < blockCount; i++) {
+			var block = new long[blockSize];
+			int start = i << blockShift;
+			System.arraycopy(elements, start, block, 0, Math.min(blockSize, size - start));
+			blocks[i] = block;
+		}
+	}
+
+	private long pack(Tuple tuple) {
+		return switch (arity) {
+			case 0 -> 0;
+			case 1 -> tuple.get(0);
+			// Flip the sign bit of the second element so that the order of the packed values matches Tuple#compareTo.
+			case 2 -> ((long) tuple.get(0) << 32) | ((tuple.get(1) ^ Integer.MIN_VALUE) & 0xffffffffL);
+			default -> throw new IllegalStateException("Cannot pack tuples of arity " + arity);
+		};
+	}
+
+	private Tuple unpack(long key) {
+		return switch (arity) {
+			case 0 -> Tuple.of();
+			case 1 -> Tuple.of((int) key);
+			case 2 -> Tuple.of((int) (key >> 32), ((int) key) ^ Integer.MIN_VALUE);
+			default -> throw new IllegalStateException("Cannot unpack tuples of arity " + arity);
+		};
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedTupleArrayTest {
+	@Test
+	void packedOrderTest() {
+		var array = new SortedTupleArray(2);
+		array.add(Tuple.of(1, -1));
+		array.add(Tuple.of(-1, 1));
+		array.add(Tuple.of(1, Integer.MAX_VALUE));
+		array.add(Tuple.of(1, Integer.MIN_VALUE));
+		array.add(Tuple.of(-1, -1));
+		assertEquals(5, array.size());
+		assertEquals(Tuple.of(-1, -1), array.get(0));
+		assertEquals(Tuple.of(-1, 1), array.get(1));
+		assertEquals(Tuple.of(1, Integer.MIN_VALUE), array.get(2));
+		assertEquals(Tuple.of(1, -1), array.get(3));
+		assertEquals(Tuple.of(1, Integer.MAX_VALUE), array.get(4));
+	}
+
+	@Test
+	void nullaryTest() {
+		var array = new SortedTupleArray(0);
+		assertTrue(array.add(Tuple.of()));
+		assertFalse(array.add(Tuple.of()));
+		assertEquals(Tuple.of(), array.get(0));
+		assertTrue(array.remove(Tuple.of()));
+		assertEquals(0, array.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> array.get(0));
+	}
+
+	@Test
+	void readdRemovedTest() {
+		var array = new SortedTupleArray(1);
+		array.add(Tuple.of(1));
+		array.add(Tuple.of(2));
+		assertEquals(Tuple.of(2), array.get(1));
+		assertTrue(array.remove(Tuple.of(1)));
+		assertTrue(array.add(Tuple.of(1)));
+		assertFalse(array.remove(Tuple.of(3)));
+		assertEquals(2, array.size());
+		assertEquals(Tuple.of(1), array.get(0));
+		assertEquals(Tuple.of(2), array.get(1));
+	}
+
+	@Test
+	void unsupportedArityTest() {
+		assertThrows(IllegalArgumentException.class, () -> new SortedTupleArray(3));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"1, 16",
+			"2, 16",
+			"2, 128"
+	})
+	void randomOperationsTest(int arity, int range) {
+		var array = new SortedTupleArray(arity);
+		var set = new TreeSet<Tuple>();
+		var random = new Random(1);
+		for (int step = 0; step < 300; step++) {
+			// Grow the set first, then shrink it to also test resizing the blocks in both directions.
+			boolean growing = step < 100;
+			int batchSize = random.nextInt(400);
+			for (int i = 0; i < batchSize; i++) {
+				var tuple = randomTuple(random, arity, range);
+				if (growing && random.nextInt(4) < 3) {
+					assertEquals(set.add(tuple), array.add(tuple));
+				} else {
+					assertEquals(set.remove(tuple), array.remove(tuple));
+				}
+			}
+			assertEquals(set.size(), array.size());
+			int index = 0;
+			for (var tuple : set) {
+				assertEquals(tuple, array.get(index));
+				assertTrue(array.contains(tuple));
+				index++;
+			}
+		}
+	}
+
+	private static Tuple randomTuple(Random random, int arity, int range) {
+		var values = new int[arity];
+		for (int i = 0; i < arity; i++) {
+			values[i] = random.nextInt(range) - range / 2;
+		}
+		return Tuple.of(values);
+	}
+}
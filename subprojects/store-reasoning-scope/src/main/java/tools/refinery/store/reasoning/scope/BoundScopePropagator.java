@@ -9,8 +9,10 @@ import com.google.ortools.linearsolver.MPConstraint;
 import com.google.ortools.linearsolver.MPObjective;
 import com.google.ortools.linearsolver.MPSolver;
 import com.google.ortools.linearsolver.MPVariable;
+import org.eclipse.collections.api.factory.primitive.IntDoubleMaps;
 import org.eclipse.collections.api.factory.primitive.IntObjectMaps;
 import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.map.primitive.MutableIntDoubleMap;
 import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
 import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import tools.refinery.logic.term.cardinalityinterval.CardinalityInterval;
@@ -28,6 +30,9 @@ import tools.refinery.store.model.ModelListener;
 import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.store.tuple.Tuple;
 
+import java.util.ArrayList;
+import java.util.List;
+
 class BoundScopePropagator implements BoundPropagator, ModelListener {
 	private final Model model;
 	private final ModelQueryAdapter queryEngine;
@@ -36,7 +41,11 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 	private final MPSolver solver;
 	private final MPObjective objective;
 	private final MutableIntObjectMap<MPVariable> variables = IntObjectMaps.mutable.empty();
+	// Keep a copy of the variable bounds to avoid native calls when reading them.
+	private final MutableIntDoubleMap lowerBounds = IntDoubleMaps.mutable.empty();
+	private final MutableIntDoubleMap upperBounds = IntDoubleMaps.mutable.empty();
 	private final MutableIntSet activeVariables = IntSets.mutable.empty();
+	private final MutableIntSet changedVariables = IntSets.mutable.empty();
 	private final TypeScopePropagator[] propagators;
 	private boolean changed = true;
 	private boolean disposed;
@@ -86,6 +95,9 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 		double upperBound = getUpperBound(interval);
 		var variable = solver.makeNumVar(lowerBound, upperBound, "x" + nodeId);
 		variables.put(nodeId, variable);
+		lowerBounds.put(nodeId, lowerBound);
+		upperBounds.put(nodeId, upperBound);
+		changedVariables.add(nodeId);
 		return variable;
 	}
 
@@ -112,13 +124,15 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 		}
 		double lowerBound = toValue.lowerBound();
 		double upperBound = getUpperBound(toValue);
-		if (variable.lb() != lowerBound) {
+		if (lowerBounds.get(nodeId) != lowerBound) {
 			variable.setLb(lowerBound);
-			markAsChanged();
+			lowerBounds.put(nodeId, lowerBound);
+			markAsChanged(nodeId);
 		}
-		if (variable.ub() != upperBound) {
+		if (upperBounds.get(nodeId) != upperBound) {
 			variable.setUb(upperBound);
-			markAsChanged();
+			upperBounds.put(nodeId, upperBound);
+			markAsChanged(nodeId);
 		}
 	}
 
@@ -127,14 +141,13 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 		if (variable == null || !activeVariables.remove(nodeId)) {
 			throw new AssertionError("Variable not active: " + nodeId);
 		}
-		if (toValue == null) {
-			variable.setBounds(0, 0);
-		} else {
-			// Until queries are flushed and the constraints can be properly updated,
-			// the variable corresponding to the (previous) multi-object has to stand in for a single object.
-			variable.setBounds(1, 1);
-		}
-		markAsChanged();
+		// Until queries are flushed and the constraints can be properly updated,
+		// the variable corresponding to the (previous) multi-object has to stand in for a single object.
+		double bound = toValue == null ? 0 : 1;
+		variable.setBounds(bound, bound);
+		lowerBounds.put(nodeId, bound);
+		upperBounds.put(nodeId, bound);
+		markAsChanged(nodeId);
 	}
 
 	MPConstraint makeConstraint() {
@@ -160,6 +173,11 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 		changed = true;
 	}
 
+	private void markAsChanged(int nodeId) {
+		changedVariables.add(nodeId);
+		markAsChanged();
+	}
+
 	@Override
 	public PropagationResult propagateOne() {
 		PropagationResult result = PropagationResult.UNCHANGED;
@@ -187,27 +205,131 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 				return createRejectedResult(propagator.getUnsatisfiableMessage());
 			}
 		}
-		for (var variable : variables) {
-			if (variable.lb() > variable.ub()) {
+		// Only variables with changed bounds may have become inconsistent.
+		var changedIterator = changedVariables.intIterator();
+		while (changedIterator.hasNext()) {
+			int nodeId = changedIterator.next();
+			if (lowerBounds.get(nodeId) > upperBounds.get(nodeId)) {
 				return createRejectedResult("Object with inconsistent existence detected.");
 			}
 		}
 		var result = PropagationResult.UNCHANGED;
-		if (activeVariables.isEmpty()) {
-			return checkEmptiness();
+		for (var component : collectChangedComponents()) {
+			model.checkCancelled();
+			result = result.andThen(propagateComponent(component));
+			if (result.isRejected()) {
+				return result;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Collects the nodes whose bounds may have changed since the last propagation.
+	 * <p>
+	 * Since variables only interact through the constraints of the type scopes that count them, the LP decomposes
+	 * into components of constraints sharing variables. The bounds of a node only depend on the constraints and
+	 * variable bounds in its own component, so we only have to solve LPs for the nodes in components where a
+	 * constraint or a variable bound has changed. The bounds of every other node are already stored in the count
+	 * interpretation (even after restoring the model to a different version), so they can be reused as is.
+	 *
+	 * @return The changed components.
+	 */
+	private List<Component> collectChangedComponents() {
+		int propagatorCount = propagators.length;
+		var changedPropagators = new boolean[propagatorCount];
+		for (int i = 0; i < propagatorCount; i++) {
+			var propagator = propagators[i];
+			// Always clear the flag of the propagator, even if it contains a changed variable.
+			boolean constraintChanged = propagator.clearDirty();
+			changedPropagators[i] = constraintChanged || propagator.getNodeIds().containsAny(changedVariables);
+		}
+		changedVariables.clear();
+		var visited = new boolean[propagatorCount];
+		var components = new ArrayList<Component>();
+		for (int i = 0; i < propagatorCount; i++) {
+			if (!changedPropagators[i] || visited[i]) {
+				continue;
+			}
+			visited[i] = true;
+			var nodeIds = IntSets.mutable.withAll(propagators[i].getNodeIds());
+			var componentPropagators = new ArrayList<TypeScopePropagator>();
+			componentPropagators.add(propagators[i]);
+			// There are only a few type scopes, so we can afford to find the connected propagators by iteration.
+			boolean grown;
+			do {
+				grown = false;
+				for (int j = 0; j < propagatorCount; j++) {
+					if (!visited[j] && propagators[j].getNodeIds().containsAny(nodeIds)) {
+						visited[j] = true;
+						nodeIds.addAll(propagators[j].getNodeIds());
+						componentPropagators.add(propagators[j]);
+						grown = true;
+					}
+				}
+			} while (grown);
+			components.add(new Component(nodeIds, componentPropagators));
+		}
+		return components;
+	}
+
+	private PropagationResult propagateComponent(Component component) {
+		var laminarScopeSolver = new LaminarScopeSolver();
+		for (var propagator : component.propagators()) {
+			laminarScopeSolver.addConstraint(propagator.getNodeIds(), propagator.getLowerBound(),
+					propagator.getUpperBound());
 		}
-		var iterator = activeVariables.intIterator();
+		return switch (laminarScopeSolver.solve(lowerBounds, upperBounds)) {
+			case SOLVED -> refineComponent(component, laminarScopeSolver);
+			case INFEASIBLE -> createRejectedResult();
+			case NOT_LAMINAR -> propagateComponentWithSolver(component);
+		};
+	}
+
+	private PropagationResult propagateComponentWithSolver(Component component) {
+		var result = PropagationResult.UNCHANGED;
+		boolean solved = false;
+		var iterator = component.nodeIds().intIterator();
 		while (iterator.hasNext()) {
 			int nodeId = iterator.next();
+			if (!activeVariables.contains(nodeId)) {
+				continue;
+			}
 			var variable = variables.get(nodeId);
 			if (variable == null) {
 				throw new AssertionError("Missing active variable: " + nodeId);
 			}
+			if (lowerBounds.get(nodeId) == upperBounds.get(nodeId)) {
+				// The bounds of the variable can't be refined any further.
+				continue;
+			}
+			solved = true;
 			result = result.andThen(propagateNode(nodeId, variable));
 			if (result.isRejected()) {
 				return result;
 			}
 		}
+		if (!solved) {
+			// Without solving any LP in the component, we wouldn't notice if its constraints became infeasible.
+			return checkEmptiness();
+		}
+		return result;
+	}
+
+	private PropagationResult refineComponent(Component component, LaminarScopeSolver laminarScopeSolver) {
+		var result = PropagationResult.UNCHANGED;
+		var iterator = component.nodeIds().intIterator();
+		while (iterator.hasNext()) {
+			int nodeId = iterator.next();
+			if (!activeVariables.contains(nodeId)) {
+				continue;
+			}
+			int lowerBound = RoundingUtil.roundUp(laminarScopeSolver.getLowerBound(nodeId));
+			double upperBound = laminarScopeSolver.getUpperBound(nodeId);
+			var upperCardinality = upperBound == Double.POSITIVE_INFINITY ? UpperCardinalities.UNBOUNDED :
+					UpperCardinalities.atMost(RoundingUtil.roundDown(upperBound));
+			result = result.andThen(refineNode(nodeId, lowerBound, upperCardinality));
+		}
 		return result;
 	}
 
@@ -251,19 +373,23 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 					.formatted(variable, minimizationResult));
 			}
 
-			var newInterval = CardinalityIntervals.between(lowerBound, upperBound);
-			var oldInterval = countInterpretation.put(Tuple.of(nodeId), newInterval);
-			if (newInterval.lowerBound() < oldInterval.lowerBound() ||
-					newInterval.upperBound().compareTo(oldInterval.upperBound()) > 0) {
-				throw new IllegalArgumentException("Failed to refine multiplicity %s of node %d to %s"
-						.formatted(oldInterval, nodeId, newInterval));
-			}
-			return newInterval.equals(oldInterval) ? PropagationResult.UNCHANGED : PropagationResult.PROPAGATED;
+			return refineNode(nodeId, lowerBound, upperBound);
 		} finally {
 			objective.setCoefficient(variable, 0);
 		}
 	}
 
+	private PropagationResult refineNode(int nodeId, int lowerBound, UpperCardinality upperBound) {
+		var newInterval = CardinalityIntervals.between(lowerBound, upperBound);
+		var oldInterval = countInterpretation.put(Tuple.of(nodeId), newInterval);
+		if (newInterval.lowerBound() < oldInterval.lowerBound() ||
+				newInterval.upperBound().compareTo(oldInterval.upperBound()) > 0) {
+			throw new IllegalArgumentException("Failed to refine multiplicity %s of node %d to %s"
+					.formatted(oldInterval, nodeId, newInterval));
+		}
+		return newInterval.equals(oldInterval) ? PropagationResult.UNCHANGED : PropagationResult.PROPAGATED;
+	}
+
 	@Override
 	public PropagationResult checkConcretization() {
 		for (var propagator : propagators) {
@@ -294,6 +420,9 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 		}
 	}
 
+	private record Component(MutableIntSet nodeIds, List<TypeScopePropagator> propagators) {
+	}
+
 	@Override
 	public void beforeClose() {
 		if (solver == null || disposed) {
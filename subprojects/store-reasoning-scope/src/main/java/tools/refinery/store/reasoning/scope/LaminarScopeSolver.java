@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.scope;
+
+import org.eclipse.collections.api.factory.primitive.IntDoubleMaps;
+import org.eclipse.collections.api.factory.primitive.IntIntMaps;
+import org.eclipse.collections.api.map.primitive.IntDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableIntDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.api.set.primitive.IntSet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes the bounds implied by type scope constraints on the variables of multi-objects without an LP solver.
+ * <p>
+ * Each constraint bounds the sum of the variables in a set of nodes. If these sets form a laminar family, i.e., any
+ * two of them are either disjoint or one of them contains the other, they can be arranged into a forest where the
+ * parent of each set is the smallest set containing it. This is the case whenever the scoped types form a tree. The
+ * sum of the variables in a set can take any value in an interval determined by its children and its direct
+ * variables, so the bounds of the LP relaxation can be computed exactly by a bottom-up and a top-down pass over the
+ * forest.
+ */
+final class LaminarScopeSolver {
+	enum Status {
+		SOLVED,
+		INFEASIBLE,
+		NOT_LAMINAR
+	}
+
+	private final Map<IntSet, double[]> constraints = new LinkedHashMap<>();
+	private final MutableIntDoubleMap lowerBounds = IntDoubleMaps.mutable.empty();
+	private final MutableIntDoubleMap upperBounds = IntDoubleMaps.mutable.empty();
+	private IntSet[] sets;
+	private int[] parents;
+	private double[] contentLower;
+	private double[] contentUpperFinite;
+	private int[] contentUpperInfinite;
+
+	/**
+	 * Adds the constraint {@code lowerBound <= sum(x_i for i in nodeIds) <= upperBound}.
+	 * <p>
+	 * Constraints with the same set of nodes (e.g., the lower and upper bounds of the same type) are merged.
+	 *
+	 * @param nodeIds    The nodes whose variables are summed. Must not be modified until the solver is done.
+	 * @param lowerBound The lower bound of the sum.
+	 * @param upperBound The upper bound of the sum, which may be {@link Double#POSITIVE_INFINITY}.
+	 */
+	void addConstraint(IntSet nodeIds, double lowerBound, double upperBound) {
+		var bounds = constraints.computeIfAbsent(nodeIds,
+				ignored -> new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY});
+		bounds[0] = Math.max(bounds[0], lowerBound);
+		bounds[1] = Math.min(bounds[1], upperBound);
+	}
+
+	/**
+	 * Computes the tightest bounds of each variable appearing in the constraints.
+	 *
+	 * @param variableLowerBounds The lower bounds of the variables.
+	 * @param variableUpperBounds The upper bounds of the variables, which may be {@link Double#POSITIVE_INFINITY}.
+	 * @return {@link Status#SOLVED} if the bounds were computed, {@link Status#INFEASIBLE} if the constraints can't be
+	 * satisfied, or {@link Status#NOT_LAMINAR} if the constraints have to be solved as an LP instead.
+	 */
+	Status solve(IntDoubleMap variableLowerBounds, IntDoubleMap variableUpperBounds) {
+		int setCount = constraints.size();
+		sets = new IntSet[setCount];
+		var constraintLower = new double[setCount];
+		var constraintUpper = new double[setCount];
+		int index = 0;
+		for (var entry : constraints.entrySet()) {
+			sets[index] = entry.getKey();
+			constraintLower[index] = entry.getValue()[0];
+			constraintUpper[index] = entry.getValue()[1];
+			index++;
+		}
+		var order = getOrderBySizeDescending();
+		var owners = IntIntMaps.mutable.empty();
+		if (!buildForest(order, owners)) {
+			return Status.NOT_LAMINAR;
+		}
+		contentLower = new double[setCount];
+		contentUpperFinite = new double[setCount];
+		contentUpperInfinite = new int[setCount];
+		owners.forEachKeyValue((nodeId, owner) -> {
+			contentLower[owner] += variableLowerBounds.getOrThrow(nodeId);
+			addContentUpper(owner, variableUpperBounds.getOrThrow(nodeId));
+		});
+
+		// Bottom-up pass: the range of each sum given only the constraints in its subtree.
+		var sumLower = new double[setCount];
+		var sumUpper = new double[setCount];
+		for (int i = setCount - 1; i >= 0; i--) {
+			int set = order[i];
+			sumLower[set] = Math.max(contentLower[set], constraintLower[set]);
+			sumUpper[set] = Math.min(getContentUpperWithout(set, 0), constraintUpper[set]);
+			if (sumLower[set] > sumUpper[set]) {
+				return Status.INFEASIBLE;
+			}
+			int parent = parents[set];
+			if (parent >= 0) {
+				contentLower[parent] += sumLower[set];
+				addContentUpper(parent, sumUpper[set]);
+			}
+		}
+
+		// Top-down pass: restrict the range of each sum by the range of its parent and the ranges of its siblings.
+		for (int set : order) {
+			int parent = parents[set];
+			if (parent < 0) {
+				continue;
+			}
+			double othersLower = contentLower[parent] - sumLower[set];
+			double othersUpper = getContentUpperWithout(parent, sumUpper[set]);
+			sumLower[set] = Math.max(sumLower[set], sumLower[parent] - othersUpper);
+			sumUpper[set] = Math.min(sumUpper[set], sumUpper[parent] - othersLower);
+			if (sumLower[set] > sumUpper[set]) {
+				return Status.INFEASIBLE;
+			}
+		}
+
+		owners.forEachKeyValue((nodeId, owner) -> {
+			double lowerBound = variableLowerBounds.getOrThrow(nodeId);
+			double upperBound = variableUpperBounds.getOrThrow(nodeId);
+			double othersLower = contentLower[owner] - lowerBound;
+			double othersUpper = getContentUpperWithout(owner, upperBound);
+			lowerBounds.put(nodeId, Math.max(lowerBound, sumLower[owner] - othersUpper));
+			upperBounds.put(nodeId, Math.min(upperBound, sumUpper[owner] - othersLower));
+		});
+		return Status.SOLVED;
+	}
+
+	double getLowerBound(int nodeId) {
+		return lowerBounds.getOrThrow(nodeId);
+	}
+
+	double getUpperBound(int nodeId) {
+		return upperBounds.getOrThrow(nodeId);
+	}
+
+	private int[] getOrderBySizeDescending() {
+		var order = new ArrayList<Integer>(sets.length);
+		for (int i = 0; i < sets.length; i++) {
+			order.add(i);
+		}
+		order.sort(Comparator.comparingInt((Integer set) -> sets[set].size()).reversed());
+		var result = new int[order.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = order.get(i);
+		}
+		return result;
+	}
+
+	private boolean buildForest(int[] order, MutableIntIntMap owners) {
+		parents = new int[sets.length];
+		// Larger sets are processed first, so the owner of each node is always the smallest set containing it
+		// processed so far. In a laminar family, every node of a set must have the same owner, which is the parent
+		// of the set.
+		for (int set : order) {
+			var nodeIds = sets[set];
+			if (nodeIds.isEmpty()) {
+				parents[set] = -1;
+				continue;
+			}
+			var iterator = nodeIds.intIterator();
+			int parent = owners.getIfAbsent(iterator.next(), -1);
+			while (iterator.hasNext()) {
+				if (owners.getIfAbsent(iterator.next(), -1) != parent) {
+					return false;
+				}
+			}
+			parents[set] = parent;
+			iterator = nodeIds.intIterator();
+			while (iterator.hasNext()) {
+				owners.put(iterator.next(), set);
+			}
+		}
+		return true;
+	}
+
+	private void addContentUpper(int set, double value) {
+		if (value == Double.POSITIVE_INFINITY) {
+			contentUpperInfinite[set]++;
+		} else {
+			contentUpperFinite[set] += value;
+		}
+	}
+
+	private double getContentUpperWithout(int set, double value) {
+		// Avoid subtracting infinity from infinity by counting unbounded terms separately.
+		int infiniteCount = contentUpperInfinite[set];
+		if (value == Double.POSITIVE_INFINITY) {
+			infiniteCount--;
+			value = 0;
+		}
+		return infiniteCount > 0 ? Double.POSITIVE_INFINITY : contentUpperFinite[set] - value;
+	}
+}
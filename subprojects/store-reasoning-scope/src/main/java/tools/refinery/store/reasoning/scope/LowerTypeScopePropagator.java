@@ -41,7 +41,7 @@ class LowerTypeScopePropagator extends TypeScopePropagator {
 
 	@Override
 	protected void doUpdateBounds() {
-		constraint.setLb((lowerBound - getSingleCount()));
+		setLowerBound(lowerBound - getSingleCount());
 	}
 
 	@Override
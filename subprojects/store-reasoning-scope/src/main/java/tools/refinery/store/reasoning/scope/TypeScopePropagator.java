@@ -6,6 +6,9 @@
 package tools.refinery.store.reasoning.scope;
 
 import com.google.ortools.linearsolver.MPConstraint;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.logic.dnf.RelationalQuery;
 import tools.refinery.store.dse.transition.objectives.Criterion;
@@ -24,7 +27,11 @@ abstract class TypeScopePropagator {
 	private final ResultSet<Boolean> multiNodes;
 	private final CriterionCalculator acceptCalculator;
 	private final PartialRelation type;
-	protected final MPConstraint constraint;
+	private final MPConstraint constraint;
+	private final MutableIntSet nodeIds = IntSets.mutable.empty();
+	private double lowerBound;
+	private double upperBound = Double.POSITIVE_INFINITY;
+	private boolean dirty = true;
 	private String unsatisfiableMessage;
 	private String notSatisfiedMessage;
 
@@ -37,11 +44,13 @@ abstract class TypeScopePropagator {
 		allNodes = queryEngine.getResultSet(allQuery);
 		multiNodes = queryEngine.getResultSet(multiQuery);
 		constraint = adapter.makeConstraint();
-		constraint.setBounds(0, Double.POSITIVE_INFINITY);
+		constraint.setBounds(lowerBound, upperBound);
 		var cursor = multiNodes.getAll();
 		while (cursor.move()) {
-			var variable = adapter.getVariable(cursor.getKey().get(0));
+			int nodeId = cursor.getKey().get(0);
+			var variable = adapter.getVariable(nodeId);
 			constraint.setCoefficient(variable, 1);
+			nodeIds.add(nodeId);
 		}
 		allNodes.addListener(this::allChanged);
 		multiNodes.addListener(this::multiChanged);
@@ -51,7 +60,51 @@ abstract class TypeScopePropagator {
 
 	public boolean updateBounds() {
 		doUpdateBounds();
-		return constraint.lb() <= constraint.ub();
+		return lowerBound <= upperBound;
+	}
+
+	protected void setLowerBound(double lowerBound) {
+		if (this.lowerBound != lowerBound) {
+			this.lowerBound = lowerBound;
+			constraint.setLb(lowerBound);
+			dirty = true;
+		}
+	}
+
+	protected void setUpperBound(double upperBound) {
+		if (this.upperBound != upperBound) {
+			this.upperBound = upperBound;
+			constraint.setUb(upperBound);
+			dirty = true;
+		}
+	}
+
+	double getLowerBound() {
+		return lowerBound;
+	}
+
+	double getUpperBound() {
+		return upperBound;
+	}
+
+	/**
+	 * Gets the nodes whose variables appear in the constraint of this propagator.
+	 *
+	 * @return The node ids of the multi-objects counted by the constraint.
+	 */
+	IntSet getNodeIds() {
+		return nodeIds;
+	}
+
+	/**
+	 * Checks whether the constraint has changed since the last call to this method.
+	 *
+	 * @return {@code true} if the coefficients or the bounds of the constraint have changed.
+	 */
+	boolean clearDirty() {
+		boolean wasDirty = dirty;
+		dirty = false;
+		return wasDirty;
 	}
 
 	public abstract String getName();
@@ -87,8 +140,16 @@ abstract class TypeScopePropagator {
 	}
 
 	private void multiChanged(Tuple key, Boolean ignoredOldValue, Boolean newValue) {
-		var variable = adapter.getVariable(key.get(0));
-		constraint.setCoefficient(variable, Boolean.TRUE.equals(newValue) ? 1 : 0);
+		int nodeId = key.get(0);
+		var variable = adapter.getVariable(nodeId);
+		if (Boolean.TRUE.equals(newValue)) {
+			constraint.setCoefficient(variable, 1);
+			nodeIds.add(nodeId);
+		} else {
+			constraint.setCoefficient(variable, 0);
+			nodeIds.remove(nodeId);
+		}
+		dirty = true;
 		adapter.markAsChanged();
 	}
 
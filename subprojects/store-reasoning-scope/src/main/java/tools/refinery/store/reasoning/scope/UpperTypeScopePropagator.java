@@ -39,7 +39,7 @@ class UpperTypeScopePropagator extends TypeScopePropagator {
 
 	@Override
 	protected void doUpdateBounds() {
-		constraint.setUb((upperBound - getSingleCount()));
+		setUpperBound(upperBound - getSingleCount());
 	}
 
 	@Override
@@ -0,0 +1,127 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.scope;
+
+import org.eclipse.collections.api.factory.primitive.IntDoubleMaps;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.map.primitive.MutableIntDoubleMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class LaminarScopeSolverTest {
+	private static final double INF = Double.POSITIVE_INFINITY;
+
+	private LaminarScopeSolver solver;
+	private MutableIntDoubleMap lowerBounds;
+	private MutableIntDoubleMap upperBounds;
+
+	@BeforeEach
+	void beforeEach() {
+		solver = new LaminarScopeSolver();
+		lowerBounds = IntDoubleMaps.mutable.empty();
+		upperBounds = IntDoubleMaps.mutable.empty();
+	}
+
+	@Test
+	void singleConstraintTest() {
+		addVariable(0, 0, INF);
+		addVariable(1, 0, 2);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 5, 15);
+		assertThat(solve(), is(LaminarScopeSolver.Status.SOLVED));
+		assertBounds(0, 3, 15);
+		assertBounds(1, 0, 2);
+	}
+
+	@Test
+	void mergedConstraintsTest() {
+		addVariable(0, 0, INF);
+		addVariable(1, 0, 2);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 5, INF);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 0, 8);
+		assertThat(solve(), is(LaminarScopeSolver.Status.SOLVED));
+		assertBounds(0, 3, 8);
+		assertBounds(1, 0, 2);
+	}
+
+	@Test
+	void nestedConstraintsTest() {
+		addVariable(0, 0, INF);
+		addVariable(1, 0, INF);
+		addVariable(2, 3, INF);
+		solver.addConstraint(IntSets.mutable.of(0, 1, 2), 0, 10);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 6, INF);
+		assertThat(solve(), is(LaminarScopeSolver.Status.SOLVED));
+		assertBounds(0, 0, 7);
+		assertBounds(1, 0, 7);
+		assertBounds(2, 3, 4);
+	}
+
+	@Test
+	void siblingConstraintsTest() {
+		addVariable(0, 1, INF);
+		addVariable(1, 0, INF);
+		addVariable(2, 0, INF);
+		addVariable(3, 0, INF);
+		solver.addConstraint(IntSets.mutable.of(0, 1, 2, 3), 6, 10);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 0, 2);
+		solver.addConstraint(IntSets.mutable.of(2), 0, 3);
+		assertThat(solve(), is(LaminarScopeSolver.Status.SOLVED));
+		assertBounds(0, 1, 2);
+		assertBounds(1, 0, 1);
+		assertBounds(2, 0, 3);
+		assertBounds(3, 1, 9);
+	}
+
+	@Test
+	void notLaminarTest() {
+		addVariable(0, 0, INF);
+		addVariable(1, 0, INF);
+		addVariable(2, 0, INF);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 0, 5);
+		solver.addConstraint(IntSets.mutable.of(1, 2), 0, 5);
+		assertThat(solve(), is(LaminarScopeSolver.Status.NOT_LAMINAR));
+	}
+
+	@Test
+	void infeasibleTest() {
+		addVariable(0, 2, INF);
+		addVariable(1, 2, INF);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 0, 3);
+		assertThat(solve(), is(LaminarScopeSolver.Status.INFEASIBLE));
+	}
+
+	@Test
+	void infeasibleNestedTest() {
+		addVariable(0, 0, 2);
+		addVariable(1, 0, INF);
+		solver.addConstraint(IntSets.mutable.of(0, 1), 0, 3);
+		solver.addConstraint(IntSets.mutable.of(0), 4, INF);
+		assertThat(solve(), is(LaminarScopeSolver.Status.INFEASIBLE));
+	}
+
+	@Test
+	void emptyInfeasibleTest() {
+		solver.addConstraint(IntSets.mutable.empty(), 1, INF);
+		assertThat(solve(), is(LaminarScopeSolver.Status.INFEASIBLE));
+	}
+
+	private void addVariable(int nodeId, double lowerBound, double upperBound) {
+		lowerBounds.put(nodeId, lowerBound);
+		upperBounds.put(nodeId, upperBound);
+	}
+
+	private LaminarScopeSolver.Status solve() {
+		return solver.solve(lowerBounds, upperBounds);
+	}
+
+	private void assertBounds(int nodeId, double lowerBound, double upperBound) {
+		assertThat(solver.getLowerBound(nodeId), is(lowerBound));
+		assertThat(solver.getUpperBound(nodeId), is(upperBound));
+	}
+}
@@ -219,6 +219,29 @@ class MultiObjectTest {
 		assertThat(propagate(), is(PropagationResult.UNCHANGED));
 	}
 
+	@Test
+	void restoreTest() {
+		createModel(ModelSeed.builder(5)
+				.seed(MultiObjectTranslator.COUNT_SYMBOL, builder -> builder
+						.reducedValue(CardinalityIntervals.ONE)
+						.put(Tuple.of(0), CardinalityIntervals.LONE)
+						.put(Tuple.of(1), CardinalityIntervals.SET))
+				.seed(person, builder -> builder.reducedValue(TruthValue.TRUE))
+				.build());
+		var initialVersion = model.commit();
+		countStorage.put(Tuple.of(0), CardinalityIntervals.ONE);
+		assertThat(propagate(), is(PropagationResult.PROPAGATED));
+		assertThat(countStorage.get(Tuple.of(1)), is(CardinalityIntervals.between(1, 11)));
+		model.restore(initialVersion);
+		assertThat(propagate(), is(PropagationResult.UNCHANGED));
+		assertThat(countStorage.get(Tuple.of(0)), is(CardinalityIntervals.LONE));
+		assertThat(countStorage.get(Tuple.of(1)), is(CardinalityIntervals.between(1, 12)));
+		countStorage.put(Tuple.of(1), CardinalityIntervals.atLeast(11));
+		assertThat(propagate(), is(PropagationResult.PROPAGATED));
+		assertThat(countStorage.get(Tuple.of(0)), is(CardinalityIntervals.LONE));
+		assertThat(countStorage.get(Tuple.of(1)), is(CardinalityIntervals.between(11, 12)));
+	}
+
 	private void createModel(ModelSeed modelSeed) {
 		model = store.getAdapter(ReasoningStoreAdapter.class).createInitialModel(modelSeed);
 		countStorage = model.getInterpretation(MultiObjectTranslator.COUNT_STORAGE);
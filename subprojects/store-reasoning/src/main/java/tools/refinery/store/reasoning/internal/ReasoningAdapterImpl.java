@@ -22,12 +22,14 @@ import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
 import tools.refinery.store.reasoning.representation.PartialSymbol;
 import tools.refinery.store.reasoning.seed.ModelSeed;
 import tools.refinery.store.reasoning.translator.multiobject.MultiObjectTranslator;
+import tools.refinery.store.representation.AnySymbol;
 import tools.refinery.store.representation.Symbol;
 import tools.refinery.store.tuple.Tuple;
 import tools.refinery.store.tuple.Tuple1;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 class ReasoningAdapterImpl implements ReasoningAdapter {
 	static final Symbol<Integer> NODE_COUNT_SYMBOL = Symbol.of("MODEL_SIZE", 0, Integer.class, 0);
@@ -36,6 +38,7 @@ class ReasoningAdapterImpl implements ReasoningAdapter {
 	private final Map<AnyPartialSymbol, AnyPartialInterpretation>[] partialInterpretations;
 	private final Map<AnyPartialSymbol, AnyPartialInterpretationRefiner> refiners;
 	private final StorageRefiner[] storageRefiners;
+	private final AnySymbol[] storageRefinerSymbols;
 	private final Interpretation<Integer> nodeCountInterpretation;
 	private final Interpretation<CardinalityInterval> countInterpretation;
 
@@ -55,6 +58,7 @@ class ReasoningAdapterImpl implements ReasoningAdapter {
 		createRefiners();
 
 		storageRefiners = storeAdapter.createStorageRefiner(model);
+		storageRefinerSymbols = storeAdapter.getStorageRefinerSymbols();
 
 		nodeCountInterpretation = model.getInterpretation(NODE_COUNT_SYMBOL);
 		if (model.getStore().getSymbols().contains(MultiObjectTranslator.COUNT_STORAGE)) {
@@ -165,9 +169,11 @@ class ReasoningAdapterImpl implements ReasoningAdapter {
 	public Tuple1 split(int parentNode) {
 		int newNodeId = nodeCountInterpretation.get(Tuple.of());
 		nodeCountInterpretation.put(Tuple.of(), newNodeId + 1);
-		// Avoid creating an iterator object.
-		//noinspection ForLoopReplaceableByForEach
+		var symbolsContainingNode = model.getSymbolsContainingNode(parentNode);
 		for (int i = 0; i < storageRefiners.length; i++) {
+			if (canSkipStorageRefiner(i, symbolsContainingNode)) {
+				continue;
+			}
 			if (!storageRefiners[i].split(parentNode, newNodeId)) {
 				return null;
 			}
@@ -197,9 +203,11 @@ class ReasoningAdapterImpl implements ReasoningAdapter {
 
 	@Override
 	public boolean cleanup(int nodeToDelete) {
-		// Avoid creating an iterator object.
-		//noinspection ForLoopReplaceableByForEach
+		var symbolsContainingNode = model.getSymbolsContainingNode(nodeToDelete);
 		for (int i = 0; i < storageRefiners.length; i++) {
+			if (canSkipStorageRefiner(i, symbolsContainingNode)) {
+				continue;
+			}
 			if (!storageRefiners[i].cleanup(nodeToDelete)) {
 				return false;
 			}
@@ -213,6 +221,10 @@ class ReasoningAdapterImpl implements ReasoningAdapter {
 		return true;
 	}
 
+	private boolean canSkipStorageRefiner(int index, Set<AnySymbol> symbolsContainingNode) {
+		return storageRefiners[index].isNodeLocal() && !symbolsContainingNode.contains(storageRefinerSymbols[index]);
+	}
+
 	@Override
 	public int getNodeCount() {
 		Integer nodeCount = nodeCountInterpretation.get(Tuple.of());
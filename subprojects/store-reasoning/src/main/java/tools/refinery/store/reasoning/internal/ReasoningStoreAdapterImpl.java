@@ -82,6 +82,11 @@ class ReasoningStoreAdapterImpl implements ReasoningStoreAdapter {
 		return symbolRefiners;
 	}
 
+	AnySymbol[] getStorageRefinerSymbols() {
+		// Same order as the refiners returned by {@link #createStorageRefiner(Model)}.
+		return storageRefiners.keySet().toArray(new AnySymbol[0]);
+	}
+
 	StorageRefiner[] createStorageRefiner(Model model) {
 		var refiners = new StorageRefiner[storageRefiners.size()];
 		int i = 0;
@@ -70,6 +70,11 @@ public class DefaultStorageRefiner<T> implements StorageRefiner {
 		return true;
 	}
 
+	@Override
+	public boolean isNodeLocal() {
+		return true;
+	}
+
 	public static <T> StorageRefiner.Factory<T> factory() {
 		// This is safe, because {@code FACTORY} doesn't depend on {@code T} at all.
 		@SuppressWarnings("unchecked")
@@ -13,6 +13,18 @@ public interface StorageRefiner {
 
 	boolean cleanup(int nodeToDelete);
 
+	/**
+	 * Determines whether this refiner only modifies tuples containing the split or deleted node.
+	 * <p>
+	 * Such refiners are skipped for nodes that don't occur in the interpretation of their symbol according to
+	 * {@link Model#getSymbolsContainingNode(int)}.
+	 *
+	 * @return {@code true} if the refiner has nothing to do for nodes that don't occur in its symbol.
+	 */
+	default boolean isNodeLocal() {
+		return false;
+	}
+
 	@FunctionalInterface
 	interface Factory<T> {
 		StorageRefiner create(Symbol<T> symbol, Model model);
@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.map.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMap;
+import tools.refinery.store.map.VersionedMapStore;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of jumping between the two ends of a long linear history of a delta-based map, with and without
+ * checkpoints.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class DeltaRestoreBenchmark {
+	@Param({"10", "100", "1000", "10000"})
+	public int historyDepth;
+
+	@Param({"0", "16", "128"})
+	public int checkpointInterval;
+
+	@Param({"1000"})
+	public int nKeys;
+
+	@Param({"10"})
+	public int changesPerCommit;
+
+	private Version[] versions;
+
+	private VersionedMap<Integer, Boolean> map;
+
+	private Random random;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		random = new Random(1);
+		VersionedMapStore<Integer, Boolean> store = VersionedMapStore.<Integer, Boolean>builder()
+				.defaultValue(false)
+				.deltaTransactionStrategy(VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy.SET)
+				.deltaCheckpointInterval(checkpointInterval)
+				.build()
+				.createOne();
+		map = store.createMap();
+		versions = new Version[historyDepth];
+		for (int i = 0; i < historyDepth; i++) {
+			for (int j = 0; j < changesPerCommit; j++) {
+				map.put(random.nextInt(nKeys), random.nextBoolean());
+			}
+			versions[i] = map.commit();
+		}
+	}
+
+	@Benchmark
+	public void restoreFirstAndLastBenchmark(Blackhole blackhole) {
+		map.restore(versions[0]);
+		blackhole.consume(map.getSize());
+		map.restore(versions[historyDepth - 1]);
+		blackhole.consume(map.getSize());
+	}
+
+	@Benchmark
+	public void restoreRandomBenchmark(Blackhole blackhole) {
+		map.restore(versions[random.nextInt(historyDepth)]);
+		blackhole.consume(map.getSize());
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.map.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.refinery.store.map.ContentHashCode;
+import tools.refinery.store.map.Version;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the operations of the state-based and delta-based versioned map implementations.
+ * <p>
+ * {@link #putAndCommitBenchmark} keeps working on the same map across invocations, so the measured latency includes
+ * the effect of the growing history for each {@link VersionedMapExecutionPlan#strategy}. {@link #putBenchmark} discards
+ * its uncommitted changes before each invocation instead, because they would otherwise pile up without bound.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+public class VersionedMapBenchmark {
+	@Benchmark
+	public void putBenchmark(VersionedMapExecutionPlan executionPlan, UncommittedState uncommittedState,
+							 Blackhole blackhole) {
+		var map = executionPlan.getMap();
+		for (int i = 0; i < executionPlan.changesPerCommit; i++) {
+			blackhole.consume(map.put(executionPlan.nextKey(), executionPlan.nextValue()));
+		}
+	}
+
+	@Benchmark
+	public void putAndCommitBenchmark(VersionedMapExecutionPlan executionPlan, Blackhole blackhole) {
+		var map = executionPlan.getMap();
+		for (int i = 0; i < executionPlan.changesPerCommit; i++) {
+			map.put(executionPlan.nextKey(), executionPlan.nextValue());
+		}
+		blackhole.consume(map.commit());
+	}
+
+	@Benchmark
+	public void getBenchmark(VersionedMapExecutionPlan executionPlan, Blackhole blackhole) {
+		var map = executionPlan.getMap();
+		for (int i = 0; i < executionPlan.changesPerCommit; i++) {
+			blackhole.consume(map.get(executionPlan.nextKey()));
+		}
+	}
+
+	@Benchmark
+	public void restoreBenchmark(VersionedMapExecutionPlan executionPlan, Blackhole blackhole) {
+		var map = executionPlan.getMap();
+		map.restore(executionPlan.nextVersion());
+		blackhole.consume(map.getSize());
+	}
+
+	@Benchmark
+	public void diffCursorBenchmark(VersionedMapExecutionPlan executionPlan, Blackhole blackhole) {
+		var cursor = executionPlan.getMap().getDiffCursor(executionPlan.nextVersion());
+		while (cursor.move()) {
+			blackhole.consume(cursor.getKey());
+			blackhole.consume(cursor.getToValue());
+		}
+	}
+
+	@Benchmark
+	public void preciseContentHashCodeBenchmark(VersionedMapExecutionPlan executionPlan, Blackhole blackhole) {
+		blackhole.consume(executionPlan.getMap().contentHashCode(ContentHashCode.PRECISE_SLOW));
+	}
+
+	@Benchmark
+	public void approximateContentHashCodeBenchmark(VersionedMapExecutionPlan executionPlan, Blackhole blackhole) {
+		blackhole.consume(executionPlan.getMap().contentHashCode(ContentHashCode.APPROXIMATE_FAST));
+	}
+
+	@Benchmark
+	public void iterationBenchmark(VersionedMapExecutionPlan executionPlan, Blackhole blackhole) {
+		var cursor = executionPlan.getMap().getAll();
+		while (cursor.move()) {
+			blackhole.consume(cursor.getKey());
+			blackhole.consume(cursor.getValue());
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class UncommittedState {
+		private Version version;
+
+		@Setup(Level.Trial)
+		public void setUpTrial(VersionedMapExecutionPlan executionPlan) {
+			version = executionPlan.getMap().commit();
+		}
+
+		@Setup(Level.Invocation)
+		public void setUpInvocation(VersionedMapExecutionPlan executionPlan) {
+			// Restoring the map also discards the uncommitted changes of the previous invocation.
+			executionPlan.getMap().restore(version);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.map.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tools.refinery.store.map.ContinuousHashProvider;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMap;
+import tools.refinery.store.map.VersionedMapStore;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder;
+import tools.refinery.store.map.tests.utils.MapTestEnvironment;
+
+import java.util.Random;
+
+/**
+ * A versioned map with a linear history of commits, shared by the benchmarks in {@link VersionedMapBenchmark}.
+ */
+@State(Scope.Thread)
+public class VersionedMapExecutionPlan {
+	public enum KeyDistribution {
+		/**
+		 * Every key is equally likely to be modified.
+		 */
+		UNIFORM,
+
+		/**
+		 * Keys with low indices are modified much more frequently, like the objects of a model under construction.
+		 */
+		SKEWED
+	}
+
+	@Param({"STATE", "DELTA"})
+	public VersionedMapStoreFactoryBuilder.StoreStrategy strategy;
+
+	@Param({"100", "10000"})
+	public int nKeys;
+
+	@Param({"UNIFORM", "SKEWED"})
+	public KeyDistribution keyDistribution;
+
+	@Param({"10", "1000"})
+	public int historyDepth;
+
+	@Param({"10"})
+	public int changesPerCommit;
+
+	@Param({"3"})
+	public int nValues;
+
+	private final ContinuousHashProvider<Integer> hashProvider = MapTestEnvironment.prepareHashProvider(false);
+
+	private Random random;
+
+	private String[] values;
+
+	private VersionedMap<Integer, String> map;
+
+	private Version[] versions;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		random = new Random(1);
+		values = MapTestEnvironment.prepareValues(nValues, true);
+		var builder = VersionedMapStore.<Integer, String>builder()
+				.strategy(strategy)
+				.defaultValue(values[0]);
+		if (strategy == VersionedMapStoreFactoryBuilder.StoreStrategy.STATE) {
+			// The delta-based strategy rejects any state-based configuration, including hash providers.
+			builder.stateBasedHashProvider(hashProvider);
+		}
+		VersionedMapStore<Integer, String> store = builder.build().createOne();
+		map = store.createMap();
+		// Start from a half-filled map so that lookups and iteration have something to find.
+		for (int i = 0; i < nKeys / 2; i++) {
+			map.put(random.nextInt(nKeys), nextNonDefaultValue());
+		}
+		versions = new Version[historyDepth];
+		for (int i = 0; i < historyDepth; i++) {
+			for (int j = 0; j < changesPerCommit; j++) {
+				map.put(nextKey(), nextValue());
+			}
+			versions[i] = map.commit();
+		}
+	}
+
+	public VersionedMap<Integer, String> getMap() {
+		return map;
+	}
+
+	public Version nextVersion() {
+		return versions[random.nextInt(historyDepth)];
+	}
+
+	public Integer nextKey() {
+		return switch (keyDistribution) {
+			case UNIFORM -> random.nextInt(nKeys);
+			case SKEWED -> {
+				double sample = random.nextDouble();
+				yield (int) (sample * sample * sample * nKeys);
+			}
+		};
+	}
+
+	public String nextValue() {
+		return values[random.nextInt(nValues)];
+	}
+
+	private String nextNonDefaultValue() {
+		return values[1 + random.nextInt(nValues - 1)];
+	}
+}
@@ -17,4 +17,17 @@ public non-sealed interface VersionedMap<K, V> extends AnyVersionedMap {
 	void putAll(Cursor<K, V> cursor);
 
 	DiffCursor<K, V> getDiffCursor(Version state);
+
+	/**
+	 * Estimates the number of changes a {@link #restore(Version)} to {@code state} would replay.
+	 * <p>
+	 * The estimate counts uncommitted changes and the deltas on the path between the current and the target
+	 * version. Maps that can't compute the estimate cheaply return {@code -1}.
+	 *
+	 * @param state The version to restore.
+	 * @return The estimated number of changes, or {@code -1} if unknown.
+	 */
+	default long estimateRestoreCost(Version state) {
+		return -1;
+	}
 }
@@ -26,5 +26,15 @@ public interface VersionedMapStoreFactoryBuilder<K,V> {
 	VersionedMapStoreFactoryBuilder<K,V> stateBasedHashProvider(ContinuousHashProvider<K> hashProvider);
 	VersionedMapStoreFactoryBuilder<K,V> deltaTransactionStrategy(DeltaTransactionStrategy deltaStrategy);
 
+	/**
+	 * Makes delta-based maps save a full snapshot of their contents after every {@code checkpointInterval}
+	 * transactions. Restoring a distant version will then start from the closest snapshot instead of replaying the
+	 * whole history between the two versions.
+	 *
+	 * @param checkpointInterval The number of transactions between snapshots, or {@code 0} to disable snapshots.
+	 * @return This builder.
+	 */
+	VersionedMapStoreFactoryBuilder<K,V> deltaCheckpointInterval(int checkpointInterval);
+
 	VersionedMapStoreFactory<K,V> build();
 }
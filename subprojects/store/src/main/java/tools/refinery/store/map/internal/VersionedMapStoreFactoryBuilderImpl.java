@@ -21,6 +21,7 @@ public class VersionedMapStoreFactoryBuilderImpl<K, V> implements VersionedMapSt
 	private Boolean enableVersionFreeing = null;
 	private ContinuousHashProvider<K> continuousHashProvider = null;
 	private DeltaTransactionStrategy deltaTransactionStrategy = null;
+	private Integer deltaCheckpointInterval = null;
 
 	private StoreStrategy checkStrategy() {
 		StoreStrategy currentStrategy = strategy;
@@ -28,6 +29,7 @@ public class VersionedMapStoreFactoryBuilderImpl<K, V> implements VersionedMapSt
 		currentStrategy = mergeStrategies(currentStrategy, sharingStrategy, StoreStrategy.STATE);
 		currentStrategy = mergeStrategies(currentStrategy, continuousHashProvider, StoreStrategy.STATE);
 		currentStrategy = mergeStrategies(currentStrategy, deltaTransactionStrategy, StoreStrategy.DELTA);
+		currentStrategy = mergeStrategies(currentStrategy, deltaCheckpointInterval, StoreStrategy.DELTA);
 		return currentStrategy;
 	}
 
@@ -100,6 +102,16 @@ public class VersionedMapStoreFactoryBuilderImpl<K, V> implements VersionedMapSt
 		return this;
 	}
 
+	@Override
+	public VersionedMapStoreFactoryBuilder<K, V> deltaCheckpointInterval(int checkpointInterval) {
+		if (checkpointInterval < 0) {
+			throw new IllegalArgumentException("Checkpoint interval must not be negative");
+		}
+		this.deltaCheckpointInterval = checkpointInterval;
+		checkStrategy();
+		return this;
+	}
+
 	private <T> T getOrDefault(T value, T defaultValue) {
 		if(value != null) {
 			return value;
@@ -116,7 +128,8 @@ public class VersionedMapStoreFactoryBuilderImpl<K, V> implements VersionedMapSt
 		var strategyToUse = checkStrategy();
 		if (strategyToUse == null) {
 			return new DeltaBasedVersionedMapStoreFactory<>(defaultValue,
-					getOrDefault(deltaTransactionStrategy, DeltaTransactionStrategy.LIST));
+					getOrDefault(deltaTransactionStrategy, DeltaTransactionStrategy.LIST),
+					getOrDefault(deltaCheckpointInterval, 0));
 		}
 		return switch (strategyToUse) {
 			case STATE -> {
@@ -130,7 +143,8 @@ public class VersionedMapStoreFactoryBuilderImpl<K, V> implements VersionedMapSt
 						continuousHashProvider);
 			}
 			case DELTA -> new DeltaBasedVersionedMapStoreFactory<>(defaultValue,
-					getOrDefault(deltaTransactionStrategy, DeltaTransactionStrategy.LIST));
+					getOrDefault(deltaTransactionStrategy, DeltaTransactionStrategy.LIST),
+					getOrDefault(deltaCheckpointInterval, 0));
 		};
 	}
 
@@ -145,6 +159,7 @@ public class VersionedMapStoreFactoryBuilderImpl<K, V> implements VersionedMapSt
 				", enableVersionFreeing=" + enableVersionFreeing +
 				", continuousHashProvider=" + continuousHashProvider +
 				", deltaTransactionStrategy=" + deltaTransactionStrategy +
+				", deltaCheckpointInterval=" + deltaCheckpointInterval +
 				'}';
 	}
 }
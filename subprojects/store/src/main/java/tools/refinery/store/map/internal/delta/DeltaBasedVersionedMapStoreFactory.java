@@ -15,23 +15,31 @@ import java.util.List;
 public class DeltaBasedVersionedMapStoreFactory<K, V> implements VersionedMapStoreFactory<K, V> {
 	private final V defaultValue;
 	private final boolean summarizeChanges;
+	private final int checkpointInterval;
 
 	public DeltaBasedVersionedMapStoreFactory(V defaultValue,
 											  VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy deltaTransactionStrategy) {
+		this(defaultValue, deltaTransactionStrategy, 0);
+	}
+
+	public DeltaBasedVersionedMapStoreFactory(V defaultValue,
+											  VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy deltaTransactionStrategy,
+											  int checkpointInterval) {
 		this.defaultValue = defaultValue;
 		this.summarizeChanges = deltaTransactionStrategy == VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy.SET;
+		this.checkpointInterval = checkpointInterval;
 	}
 
 	@Override
 	public VersionedMapStore<K, V> createOne() {
-		return new VersionedMapStoreDeltaImpl<>(summarizeChanges, defaultValue);
+		return new VersionedMapStoreDeltaImpl<>(summarizeChanges, defaultValue, checkpointInterval);
 	}
 
 	@Override
 	public List<VersionedMapStore<K, V>> createGroup(int amount) {
 		List<VersionedMapStore<K, V>> result = new ArrayList<>(amount);
 		for(int i=0; i<amount; i++) {
-			result.add(new VersionedMapStoreDeltaImpl<>(summarizeChanges,defaultValue));
+			result.add(new VersionedMapStoreDeltaImpl<>(summarizeChanges, defaultValue, checkpointInterval));
 		}
 		return result;
 	}
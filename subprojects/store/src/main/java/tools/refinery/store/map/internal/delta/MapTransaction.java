@@ -8,9 +8,92 @@ package tools.refinery.store.map.internal.delta;
 import tools.refinery.store.map.Version;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
-public record MapTransaction<K, V>(MapDelta<K, V>[] deltas, MapTransaction<K, V> parent, int depth) implements Version {
+/**
+ * A committed transaction of a delta-based map.
+ *
+ * @param deltas              The changes made in this transaction.
+ * @param parent              The previous transaction, or {@code null} if this is the first one.
+ * @param depth               The number of ancestors of this transaction.
+ * @param jump                A skip pointer to an ancestor (or {@code null}, which stands for the empty map before the
+ *                            first transaction) arranged as a skew-binary jump list, so that ancestors and common
+ *                            ancestors can be found in {@code O(log depth)} steps.
+ * @param numberOfDeltasFromRoot The total number of deltas in this transaction and all of its ancestors.
+ * @param snapshot            The full contents of the map after this transaction if it is a checkpoint, {@code null}
+ *                            otherwise.
+ */
+public record MapTransaction<K, V>(MapDelta<K, V>[] deltas, MapTransaction<K, V> parent, int depth,
+								   MapTransaction<K, V> jump, long numberOfDeltasFromRoot, Map<K, V> snapshot)
+		implements Version {
+
+	public static <K, V> MapTransaction<K, V> of(MapDelta<K, V>[] deltas, MapTransaction<K, V> parent,
+												 Map<K, V> snapshot) {
+		if (parent == null) {
+			return new MapTransaction<>(deltas, null, 0, null, deltas.length, snapshot);
+		}
+		// Skew-binary jump pointers (Myers, 1983): jump over two equally long jumps if possible.
+		var parentJump = parent.jump();
+		MapTransaction<K, V> jump;
+		if (parentJump != null && parent.depth() - parentJump.depth() == parentJump.depth() - depthOf(parentJump.jump())) {
+			jump = parentJump.jump();
+		} else {
+			jump = parent;
+		}
+		return new MapTransaction<>(deltas, parent, parent.depth() + 1, jump,
+				parent.numberOfDeltasFromRoot() + deltas.length, snapshot);
+	}
+
+	static int depthOf(MapTransaction<?, ?> transaction) {
+		return transaction == null ? -1 : transaction.depth();
+	}
+
+	static long numberOfDeltasFromRootOf(MapTransaction<?, ?> transaction) {
+		return transaction == null ? 0 : transaction.numberOfDeltasFromRoot();
+	}
+
+	/**
+	 * Finds the ancestor of a transaction at a given depth.
+	 *
+	 * @param transaction The transaction to start from.
+	 * @param depth       The depth of the ancestor, {@code -1} for the empty map.
+	 * @return The ancestor of {@code transaction} at {@code depth}.
+	 */
+	static <K, V> MapTransaction<K, V> ancestorAtDepth(MapTransaction<K, V> transaction, int depth) {
+		var current = transaction;
+		while (depthOf(current) > depth) {
+			var jump = current.jump();
+			if (depthOf(jump) >= depth) {
+				current = jump;
+			} else {
+				current = current.parent();
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Finds the latest common ancestor of two transactions.
+	 *
+	 * @return The common ancestor, or {@code null} if the transactions only share the empty map.
+	 */
+	static <K, V> MapTransaction<K, V> commonAncestor(MapTransaction<K, V> first, MapTransaction<K, V> second) {
+		int depth = Math.min(depthOf(first), depthOf(second));
+		var firstAncestor = ancestorAtDepth(first, depth);
+		var secondAncestor = ancestorAtDepth(second, depth);
+		while (firstAncestor != secondAncestor) {
+			// Jump pointers only depend on the depth, so they point to the same depth in both branches.
+			if (firstAncestor.jump() != secondAncestor.jump()) {
+				firstAncestor = firstAncestor.jump();
+				secondAncestor = secondAncestor.jump();
+			} else {
+				firstAncestor = firstAncestor.parent();
+				secondAncestor = secondAncestor.parent();
+			}
+		}
+		return firstAncestor;
+	}
 
 	@Override
 	public int hashCode() {
@@ -33,4 +33,9 @@ public class UncommittedDeltaArrayStore<K, V> implements UncommittedDeltaStore<K
 		this.uncommittedOldValues.clear();
 		return res;
 	}
+
+	@Override
+	public int getDeltaCount() {
+		return uncommittedOldValues.size();
+	}
 }
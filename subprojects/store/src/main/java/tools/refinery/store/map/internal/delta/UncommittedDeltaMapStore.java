@@ -50,4 +50,9 @@ public class UncommittedDeltaMapStore<K, V> implements UncommittedDeltaStore<K,
 		this.uncommittedOldValues.clear();
 		return res;
 	}
+
+	@Override
+	public int getDeltaCount() {
+		return uncommittedOldValues.size();
+	}
 }
@@ -12,6 +12,8 @@ public interface UncommittedDeltaStore<K, V> {
 
 	MapDelta<K, V>[] extractAndDeleteDeltas();
 
+	int getDeltaCount();
+
 	default void checkIntegrity() {
 		MapDelta<K, V>[] extractedDeltas = extractDeltas();
 		if(extractedDeltas != null) {
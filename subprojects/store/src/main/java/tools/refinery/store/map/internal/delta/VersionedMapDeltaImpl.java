@@ -39,7 +39,7 @@ public class VersionedMapDeltaImpl<K, V> implements VersionedMap<K, V> {
 	@Override
 	public Version commit() {
 		MapDelta<K, V>[] deltas = uncommittedStore.extractAndDeleteDeltas();
-		final MapTransaction<K,V> committedTransaction = this.store.appendTransaction(deltas, previous);
+		final MapTransaction<K,V> committedTransaction = this.store.appendTransaction(deltas, previous, current);
 		this.previous = committedTransaction;
 		return committedTransaction;
 	}
@@ -55,7 +55,14 @@ public class VersionedMapDeltaImpl<K, V> implements VersionedMap<K, V> {
 		// 2. get common ancestor
 		final MapTransaction<K,V> parent;
 		List<MapDelta<K, V>[]> forward = new ArrayList<>();
-		if (this.previous == null) {
+		MapTransaction<K, V> checkpoint = this.store.getCheckpoint(state);
+		if (checkpoint != null && isCheaperToRestoreFrom(checkpoint, state)) {
+			// 2.a jump to the snapshot and replay the changes since the checkpoint
+			this.current.clear();
+			this.current.putAll(checkpoint.snapshot());
+			parent = this.store.getPath(checkpoint, state, new ArrayList<>(), forward);
+			this.forward(forward);
+		} else if (this.previous == null) {
 			parent = this.store.getPath(state, forward);
 			this.forward(forward);
 		} else {
@@ -67,6 +74,18 @@ public class VersionedMapDeltaImpl<K, V> implements VersionedMap<K, V> {
 		this.previous = parent;
 	}
 
+	@Override
+	public long estimateRestoreCost(Version state) {
+		return this.uncommittedStore.getDeltaCount() + this.store.getPathLength(this.previous, state);
+	}
+
+	private boolean isCheaperToRestoreFrom(MapTransaction<K, V> checkpoint, Version state) {
+		long replayCost = this.store.getPathLength(this.previous, state);
+		long checkpointCost = this.current.size() + checkpoint.snapshot().size() +
+				this.store.getPathLength(checkpoint, state);
+		return checkpointCost < replayCost;
+	}
+
 	protected void forward(List<MapDelta<K, V>[]> changes) {
 		for (int i = changes.size() - 1; i >= 0; i--) {
 			forward(changes.get(i));
@@ -15,13 +15,31 @@ import java.util.*;
 public class VersionedMapStoreDeltaImpl<K, V> implements VersionedMapStore<K, V> {
 	// Configuration
 	protected final boolean summarizeChanges;
+	protected final int checkpointInterval;
 
 	// Static data
 	protected final V defaultValue;
 
 	public VersionedMapStoreDeltaImpl(boolean summarizeChanges, V defaultValue) {
+		this(summarizeChanges, defaultValue, 0);
+	}
+
+	/**
+	 * Creates a new delta-based store.
+	 *
+	 * @param summarizeChanges   Whether to store only the last change of each key in a transaction.
+	 * @param defaultValue       The default value of the maps.
+	 * @param checkpointInterval Save a full snapshot of the map contents after every {@code checkpointInterval}
+	 *                           transactions, so that distant versions can be restored without replaying the whole
+	 *                           history. Use {@code 0} to disable checkpoints.
+	 */
+	public VersionedMapStoreDeltaImpl(boolean summarizeChanges, V defaultValue, int checkpointInterval) {
+		if (checkpointInterval < 0) {
+			throw new IllegalArgumentException("Checkpoint interval must not be negative");
+		}
 		this.summarizeChanges = summarizeChanges;
 		this.defaultValue = defaultValue;
+		this.checkpointInterval = checkpointInterval;
 	}
 
 	@Override
@@ -36,18 +54,52 @@ public class VersionedMapStoreDeltaImpl<K, V> implements VersionedMapStore<K, V>
 		return result;
 	}
 
-	public MapTransaction<K, V> appendTransaction(MapDelta<K, V>[] deltas, MapTransaction<K, V> previous) {
+	public MapTransaction<K, V> appendTransaction(MapDelta<K, V>[] deltas, MapTransaction<K, V> previous,
+												  Map<K, V> contents) {
 		if (deltas == null) {
 			return previous;
 		} else {
-			final int depth;
-			if(previous != null) {
-				depth = previous.depth()+1;
-			} else {
-				depth = 0;
+			Map<K, V> snapshot = null;
+			if (checkpointInterval > 0 && (MapTransaction.depthOf(previous) + 1) % checkpointInterval == 0) {
+				snapshot = new HashMap<>(contents);
 			}
-			return new MapTransaction<>(deltas, previous, depth);
+			return MapTransaction.of(deltas, previous, snapshot);
+		}
+	}
+
+	/**
+	 * Finds the latest checkpoint among the ancestors of a version (including the version itself).
+	 *
+	 * @param to The version to find the checkpoint for.
+	 * @return The transaction with a snapshot, or {@code null} if there is none.
+	 */
+	public MapTransaction<K, V> getCheckpoint(Version to) {
+		if (checkpointInterval <= 0) {
+			return null;
+		}
+		var target = getState(to);
+		int depth = MapTransaction.depthOf(target);
+		if (depth < 0) {
+			return null;
 		}
+		var checkpoint = MapTransaction.ancestorAtDepth(target, depth - depth % checkpointInterval);
+		return checkpoint.snapshot() == null ? null : checkpoint;
+	}
+
+	/**
+	 * Estimates the number of deltas to replay when restoring a map from one version to another.
+	 *
+	 * @param from The current version of the map.
+	 * @param to   The version to restore.
+	 * @return The number of deltas on the path between {@code from} and {@code to}.
+	 */
+	public long getPathLength(Version from, Version to) {
+		var fromTransaction = getState(from);
+		var toTransaction = getState(to);
+		var ancestor = MapTransaction.commonAncestor(fromTransaction, toTransaction);
+		long ancestorDeltas = MapTransaction.numberOfDeltasFromRootOf(ancestor);
+		return MapTransaction.numberOfDeltasFromRootOf(fromTransaction) - ancestorDeltas +
+				MapTransaction.numberOfDeltasFromRootOf(toTransaction) - ancestorDeltas;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -8,7 +8,6 @@ package tools.refinery.store.map.internal.state;
 import tools.refinery.store.map.ContinuousHashProvider;
 
 import java.util.Arrays;
-import java.util.Map;
 
 public class MutableNode<K, V> extends Node<K, V> {
 	int cachedHash;
@@ -287,7 +286,7 @@ public class MutableNode<K, V> extends Node<K, V> {
 	}
 
 	@Override
-	public ImmutableNode<K, V> toImmutable(Map<Node<K, V>, ImmutableNode<K, V>> cache) {
+	public ImmutableNode<K, V> toImmutable(NodeCache<K, V> cache) {
 		return ImmutableNode.constructImmutable(this, cache);
 	}
 
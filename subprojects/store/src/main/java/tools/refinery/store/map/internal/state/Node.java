@@ -5,8 +5,6 @@
  */
 package tools.refinery.store.map.internal.state;
 
-import java.util.Map;
-
 import tools.refinery.store.map.ContinuousHashProvider;
 
 public abstract class Node<K, V> {
@@ -102,7 +100,7 @@ public abstract class Node<K, V> {
 
 	abstract MutableNode<K, V> toMutable();
 
-	public abstract ImmutableNode<K, V> toImmutable(Map<Node<K, V>, ImmutableNode<K, V>> cache);
+	public abstract ImmutableNode<K, V> toImmutable(NodeCache<K, V> cache);
 
 	protected abstract MutableNode<K, V> isMutable();
 
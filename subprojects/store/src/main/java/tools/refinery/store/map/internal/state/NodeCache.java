@@ -0,0 +1,198 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.map.internal.state;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * A thread-safe, hash-consing cache of {@link ImmutableNode} instances.
+ * <p>
+ * The cache is split into independently locked stripes selected by the precalculated hash of the nodes, so that maps
+ * committed from different threads (possibly of different stores sharing the same cache) only contend if they happen to
+ * intern nodes in the same stripe. If version freeing is enabled, the cache only holds weak references to the nodes,
+ * so nodes that are no longer reachable from any version can be garbage collected.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ */
+public class NodeCache<K, V> {
+	private static final int NUMBER_OF_STRIPES = 64;
+	private static final int STRIPE_MASK = NUMBER_OF_STRIPES - 1;
+	private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+	private final Stripe<K, V>[] stripes;
+
+	public NodeCache(boolean weak) {
+		@SuppressWarnings("unchecked")
+		Stripe<K, V>[] newStripes = new Stripe[NUMBER_OF_STRIPES];
+		for (int i = 0; i < NUMBER_OF_STRIPES; i++) {
+			newStripes[i] = new Stripe<>(weak);
+		}
+		stripes = newStripes;
+	}
+
+	private Stripe<K, V> getStripe(int hash) {
+		// Use the upper bits of the hash to select the stripe, because the lower bits select the bucket.
+		return stripes[(hash ^ (hash >>> 16) ^ (hash >>> 26)) & STRIPE_MASK];
+	}
+
+	/**
+	 * Looks up an immutable node equal to the given (mutable or immutable) node.
+	 *
+	 * @param node The node to look up.
+	 * @return The cached immutable node, or {@code null} if there is none.
+	 */
+	public ImmutableNode<K, V> get(Node<K, V> node) {
+		int hash = node.hashCode();
+		return getStripe(hash).get(node, hash);
+	}
+
+	/**
+	 * Adds an immutable node to the cache unless an equal node is already present.
+	 *
+	 * @param node The newly created immutable node.
+	 * @return The canonical instance of the node, which may be different from {@code node} if another thread has
+	 * interned an equal node concurrently.
+	 */
+	public ImmutableNode<K, V> intern(ImmutableNode<K, V> node) {
+		return getStripe(node.precalculatedHash).intern(node);
+	}
+
+	/**
+	 * Counts the nodes in the cache. Only intended for testing and diagnostics.
+	 *
+	 * @return The number of cached nodes (including nodes that were garbage collected but not yet removed).
+	 */
+	public int size() {
+		int size = 0;
+		for (var stripe : stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	private static final class Entry<K, V> extends WeakReference<ImmutableNode<K, V>> {
+		final int hash;
+
+		/**
+		 * Keeps the node reachable if version freeing is disabled.
+		 */
+		final ImmutableNode<K, V> strongReferent;
+
+		Entry<K, V> next;
+
+		Entry(ImmutableNode<K, V> node, ReferenceQueue<ImmutableNode<K, V>> queue, boolean weak, Entry<K, V> next) {
+			super(node, queue);
+			hash = node.precalculatedHash;
+			strongReferent = weak ? null : node;
+			this.next = next;
+		}
+	}
+
+	private static final class Stripe<K, V> {
+		private final boolean weak;
+		private final ReferenceQueue<ImmutableNode<K, V>> queue;
+		private Entry<K, V>[] table;
+		private int size;
+
+		Stripe(boolean weak) {
+			this.weak = weak;
+			queue = weak ? new ReferenceQueue<>() : null;
+			table = newTable(INITIAL_STRIPE_CAPACITY);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <K, V> Entry<K, V>[] newTable(int capacity) {
+			return new Entry[capacity];
+		}
+
+		private static int indexFor(int hash, int length) {
+			return hash & (length - 1);
+		}
+
+		synchronized ImmutableNode<K, V> get(Node<K, V> node, int hash) {
+			expungeStaleEntries();
+			return find(node, hash);
+		}
+
+		synchronized ImmutableNode<K, V> intern(ImmutableNode<K, V> node) {
+			expungeStaleEntries();
+			int hash = node.precalculatedHash;
+			var existing = find(node, hash);
+			if (existing != null) {
+				return existing;
+			}
+			if (size >= table.length - (table.length >> 2)) {
+				resize();
+			}
+			int index = indexFor(hash, table.length);
+			table[index] = new Entry<>(node, queue, weak, table[index]);
+			size++;
+			return node;
+		}
+
+		synchronized int size() {
+			return size;
+		}
+
+		private ImmutableNode<K, V> find(Node<K, V> node, int hash) {
+			for (var entry = table[indexFor(hash, table.length)]; entry != null; entry = entry.next) {
+				if (entry.hash == hash) {
+					var candidate = entry.get();
+					if (candidate != null && candidate.equals(node)) {
+						return candidate;
+					}
+				}
+			}
+			return null;
+		}
+
+		private void resize() {
+			var oldTable = table;
+			var newTable = Stripe.<K, V>newTable(oldTable.length * 2);
+			for (var head : oldTable) {
+				var entry = head;
+				while (entry != null) {
+					var next = entry.next;
+					int index = indexFor(entry.hash, newTable.length);
+					entry.next = newTable[index];
+					newTable[index] = entry;
+					entry = next;
+				}
+			}
+			table = newTable;
+		}
+
+		private void expungeStaleEntries() {
+			if (queue == null) {
+				return;
+			}
+			Reference<? extends ImmutableNode<K, V>> reference;
+			while ((reference = queue.poll()) != null) {
+				@SuppressWarnings("unchecked")
+				var stale = (Entry<K, V>) reference;
+				int index = indexFor(stale.hash, table.length);
+				Entry<K, V> previous = null;
+				var entry = table[index];
+				while (entry != null) {
+					if (entry == stale) {
+						if (previous == null) {
+							table[index] = entry.next;
+						} else {
+							previous.next = entry.next;
+						}
+						size--;
+						break;
+					}
+					previous = entry;
+					entry = entry.next;
+				}
+			}
+		}
+	}
+}
@@ -55,6 +55,10 @@ public class VersionedMapStoreStateConfiguration {
 		return sharedNodeCacheInStoreGroups;
 	}
 
+	/**
+	 * If true, the node cache only holds weak references to the nodes, so nodes no longer reachable from any
+	 * version may be garbage collected.
+	 */
 	private boolean versionFreeingEnabled = true;
 	public boolean isVersionFreeingEnabled() {
 		return versionFreeingEnabled;
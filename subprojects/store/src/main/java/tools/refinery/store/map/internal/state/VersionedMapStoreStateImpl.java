@@ -17,7 +17,7 @@ public class VersionedMapStoreStateImpl<K, V> implements VersionedMapStore<K, V>
 	protected final ContinuousHashProvider<K> hashProvider;
 	protected final V defaultValue;
 
-	protected final Map<Node<K, V>, ImmutableNode<K, V>> nodeCache;
+	protected final NodeCache<K, V> nodeCache;
 
 	public VersionedMapStoreStateImpl(ContinuousHashProvider<K> hashProvider, V defaultValue,
 									  VersionedMapStoreStateConfiguration config) {
@@ -32,7 +32,7 @@ public class VersionedMapStoreStateImpl<K, V> implements VersionedMapStore<K, V>
 	}
 
 	private VersionedMapStoreStateImpl(ContinuousHashProvider<K> hashProvider, V defaultValue,
-									   Map<Node<K, V>, ImmutableNode<K, V>> nodeCache, VersionedMapStoreStateConfiguration config) {
+									   NodeCache<K, V> nodeCache, VersionedMapStoreStateConfiguration config) {
 		this.immutableWhenCommitting = config.isImmutableWhenCommitting();
 		this.hashProvider = hashProvider;
 		this.defaultValue = defaultValue;
@@ -48,7 +48,7 @@ public class VersionedMapStoreStateImpl<K, V> implements VersionedMapStore<K, V>
 																					  VersionedMapStoreStateConfiguration config) {
 		List<VersionedMapStore<K, V>> result = new ArrayList<>(amount);
 		if (config.isSharedNodeCacheInStoreGroups()) {
-			Map<Node<K, V>, ImmutableNode<K, V>> nodeCache;
+			NodeCache<K, V> nodeCache;
 			if (config.isSharedNodeCacheInStore()) {
 				nodeCache = createNoteCache(config);
 			} else {
@@ -65,12 +65,8 @@ public class VersionedMapStoreStateImpl<K, V> implements VersionedMapStore<K, V>
 		return result;
 	}
 
-	private static <K,V> Map<K,V> createNoteCache(VersionedMapStoreStateConfiguration config) {
-		if(config.isVersionFreeingEnabled()) {
-			return new WeakHashMap<>();
-		} else {
-			return new HashMap<>();
-		}
+	private static <K, V> NodeCache<K, V> createNoteCache(VersionedMapStoreStateConfiguration config) {
+		return new NodeCache<>(config.isVersionFreeingEnabled());
 	}
 
 	public static <K, V> List<VersionedMapStore<K, V>> createSharedVersionedMapStores(int amount,
@@ -90,11 +86,19 @@ public class VersionedMapStoreStateImpl<K, V> implements VersionedMapStore<K, V>
 	}
 
 	@SuppressWarnings("unchecked")
-	public synchronized ImmutableNode<K, V> revert(Version state) {
+	public ImmutableNode<K, V> revert(Version state) {
 		return (ImmutableNode<K, V>) state;
 	}
 
-	public synchronized Version commit(Node<K, V> data, VersionedMapStateImpl<K, V> mapToUpdateRoot) {
+	/**
+	 * Commits the contents of a map. The node cache is thread-safe, so maps of the same store (or of stores sharing
+	 * the node cache in a group) may be committed concurrently from different threads.
+	 *
+	 * @param data            The root node of the map.
+	 * @param mapToUpdateRoot The map to update if the root has to be replaced with its immutable version.
+	 * @return The version of the committed map.
+	 */
+	public Version commit(Node<K, V> data, VersionedMapStateImpl<K, V> mapToUpdateRoot) {
 		ImmutableNode<K, V> immutable;
 		if (data != null) {
 			immutable = data.toImmutable(this.nodeCache);
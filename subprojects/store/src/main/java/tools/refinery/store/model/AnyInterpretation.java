@@ -15,4 +15,6 @@ public sealed interface AnyInterpretation permits Interpretation {
 	long getSize();
 
 	int getAdjacentSize(int slot, int node);
+
+	long getSlotSize(int slot);
 }
@@ -0,0 +1,24 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model;
+
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder;
+
+/**
+ * Statistics about the versioned map backend of a symbol.
+ * <p>
+ * Only symbols stored with {@link BackendStrategy#ADAPTIVE} collect measurements, other symbols report zero for every
+ * counter.
+ *
+ * @param backend  The backend currently used for new commits.
+ * @param commits  The number of commits.
+ * @param changes  The number of changed values committed.
+ * @param restores The number of restores.
+ * @param switches The number of times the backend was switched.
+ */
+public record BackendStatistics(VersionedMapStoreFactoryBuilder.StoreStrategy backend, long commits, long changes,
+								long restores, long switches) {
+}
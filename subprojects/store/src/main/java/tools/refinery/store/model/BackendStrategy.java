@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model;
+
+/**
+ * Selects the {@link tools.refinery.store.map.VersionedMapStore} implementation used to store the interpretations of
+ * the symbols in a {@link ModelStore}.
+ */
+public enum BackendStrategy {
+	/**
+	 * Store every symbol in delta-based maps, which have cheap commits but replay changes when restoring.
+	 */
+	DELTA,
+
+	/**
+	 * Store every symbol in state-based maps, which share structure between snapshots and restore in constant time.
+	 */
+	STATE,
+
+	/**
+	 * Start with delta-based maps, and switch between delta-based and state-based maps for each symbol according to
+	 * its observed change rate and restore pattern.
+	 */
+	ADAPTIVE
+}
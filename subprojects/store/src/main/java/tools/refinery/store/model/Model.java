@@ -12,6 +12,7 @@ import tools.refinery.store.representation.AnySymbol;
 import tools.refinery.store.representation.Symbol;
 
 import java.util.Optional;
+import java.util.Set;
 
 public interface Model extends Versioned, AutoCloseable {
 	Version NO_STATE_ID = null;
@@ -30,6 +31,28 @@ public interface Model extends Versioned, AutoCloseable {
 
 	ModelDiffCursor getDiffCursor(Version to);
 
+	/**
+	 * Gets the symbols whose interpretations map some tuple containing a node to a non-default value.
+	 * <p>
+	 * The symbols are looked up in an index that is maintained along with the interpretations, so this method doesn't
+	 * have to scan the interpretation of every symbol. The returned set is a snapshot that doesn't reflect later
+	 * changes to the model.
+	 *
+	 * @param node The node to look up.
+	 * @return The symbols in which {@code node} occurs.
+	 */
+	Set<AnySymbol> getSymbolsContainingNode(int node);
+
+	/**
+	 * Estimates the number of changes to the interpretation of a symbol that a {@link #restore(Version)} to
+	 * {@code state} would replay.
+	 *
+	 * @param symbol The symbol whose interpretation is restored.
+	 * @param state  The version to restore.
+	 * @return The estimated number of changes, or {@code -1} if the underlying map can't provide an estimate.
+	 */
+	long estimateRestoreCost(AnySymbol symbol, Version state);
+
 	<T extends ModelAdapter> Optional<T> tryGetAdapter(Class<? extends T> adapterType);
 
 	<T extends ModelAdapter> T getAdapter(Class<T> adapterType);
@@ -11,6 +11,7 @@ import tools.refinery.store.model.internal.ModelStoreBuilderImpl;
 import tools.refinery.store.representation.AnySymbol;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ModelStore {
@@ -22,6 +23,8 @@ public interface ModelStore {
 
 	ModelDiffCursor getDiffCursor(Version from, Version to);
 
+	Map<AnySymbol, BackendStatistics> getBackendStatistics();
+
 	<T extends ModelStoreAdapter> Optional<T> tryGetAdapter(Class<? extends T> adapterType);
 
 	<T extends ModelStoreAdapter> T getAdapter(Class<T> adapterType);
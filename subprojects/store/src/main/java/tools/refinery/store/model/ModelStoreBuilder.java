@@ -17,6 +17,8 @@ import java.util.Optional;
 public interface ModelStoreBuilder {
 	ModelStoreBuilder cancellationToken(CancellationToken cancellationToken);
 
+	ModelStoreBuilder backendStrategy(BackendStrategy backendStrategy);
+
 	default ModelStoreBuilder symbols(AnySymbol... symbols) {
 		return symbols(List.of(symbols));
 	}
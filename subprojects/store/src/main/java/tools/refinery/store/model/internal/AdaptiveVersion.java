@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder.StoreStrategy;
+
+import java.util.Objects;
+
+/**
+ * Version of an {@link AdaptiveVersionedMap} that remembers which backend it was committed to.
+ */
+final class AdaptiveVersion implements Version {
+	private final StoreStrategy backend;
+	private final Version version;
+	private final int depth;
+
+	AdaptiveVersion(StoreStrategy backend, Version version, int depth) {
+		this.backend = backend;
+		this.version = version;
+		this.depth = depth;
+	}
+
+	public StoreStrategy getBackend() {
+		return backend;
+	}
+
+	public Version getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the number of commits between the empty map and this version.
+	 *
+	 * @return The depth of this version in the version tree.
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		AdaptiveVersion that = (AdaptiveVersion) o;
+		// The depth is omitted, because equal versions of a state-based map may be reached at different depths.
+		return backend == that.backend && Objects.equals(version, that.version);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(backend, version);
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveVersion{" +
+				"backend=" + backend +
+				", version=" + version +
+				", depth=" + depth +
+				'}';
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.*;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder.StoreStrategy;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Versioned map that delegates to a map in the backend currently selected by its {@link AdaptiveVersionedMapStore}.
+ * <p>
+ * Versions are always restored in the backend they were committed to (or in the selected backend, if the store
+ * remembers a copy of them there), so restoring is never more expensive than in a single backend. The map only moves
+ * its contents to the selected backend when it is committed, so uncommitted changes are always stored in a single
+ * backend.
+ *
+ * @param <V> The type of the values.
+ */
+class AdaptiveVersionedMap<V> implements VersionedMap<Tuple, V> {
+	private final AdaptiveVersionedMapStore<V> store;
+	private final Set<AnyVersionedMap> dependingMaps = Set.of(this);
+	private StoreStrategy backend;
+	private VersionedMap<Tuple, V> current;
+	private VersionedMap<Tuple, V> deltaMap;
+	private VersionedMap<Tuple, V> stateMap;
+	private AdaptiveVersion version;
+	private long uncommittedChanges;
+
+	AdaptiveVersionedMap(AdaptiveVersionedMapStore<V> store) {
+		this.store = store;
+		backend = store.getBackend();
+		setCurrent(backend, store.getStore(backend).createMap());
+	}
+
+	private void setCurrent(StoreStrategy newBackend, VersionedMap<Tuple, V> map) {
+		backend = newBackend;
+		current = map;
+		switch (newBackend) {
+		case DELTA -> deltaMap = map;
+		case STATE -> stateMap = map;
+		}
+	}
+
+	private VersionedMap<Tuple, V> getMap(StoreStrategy mapBackend) {
+		return switch (mapBackend) {
+			case DELTA -> deltaMap;
+			case STATE -> stateMap;
+		};
+	}
+
+	@Override
+	public V getDefaultValue() {
+		return current.getDefaultValue();
+	}
+
+	@Override
+	public V get(Tuple key) {
+		return current.get(key);
+	}
+
+	@Override
+	public Cursor<Tuple, V> getAll() {
+		return new DelegatingCursor<>(current.getAll(), dependingMaps);
+	}
+
+	@Override
+	public V put(Tuple key, V value) {
+		var oldValue = current.put(key, value);
+		if (!Objects.equals(oldValue, value)) {
+			uncommittedChanges++;
+		}
+		return oldValue;
+	}
+
+	@Override
+	public void putAll(Cursor<Tuple, V> cursor) {
+		if (cursor.getDependingMaps().contains(this)) {
+			List<Tuple> keys = new ArrayList<>();
+			List<V> values = new ArrayList<>();
+			while (cursor.move()) {
+				keys.add(cursor.getKey());
+				values.add(cursor.getValue());
+			}
+			for (int i = 0; i < keys.size(); i++) {
+				put(keys.get(i), values.get(i));
+			}
+		} else {
+			while (cursor.move()) {
+				put(cursor.getKey(), cursor.getValue());
+			}
+		}
+	}
+
+	@Override
+	public DiffCursor<Tuple, V> getDiffCursor(Version state) {
+		var adaptiveVersion = (AdaptiveVersion) state;
+		if (adaptiveVersion.getBackend() == backend) {
+			return current.getDiffCursor(adaptiveVersion.getVersion());
+		}
+		var translatedVersion = store.getTranslation(adaptiveVersion);
+		if (translatedVersion != null && translatedVersion.getBackend() == backend) {
+			return current.getDiffCursor(translatedVersion.getVersion());
+		}
+		var otherMap = store.getStore(adaptiveVersion.getBackend()).createMap(adaptiveVersion.getVersion());
+		return ContentDiffCursor.of(current, otherMap);
+	}
+
+	@Override
+	public long estimateRestoreCost(Version state) {
+		var adaptiveVersion = (AdaptiveVersion) state;
+		if (adaptiveVersion.getBackend() == backend) {
+			return current.estimateRestoreCost(adaptiveVersion.getVersion());
+		}
+		var translatedVersion = store.getTranslation(adaptiveVersion);
+		if (translatedVersion != null && translatedVersion.getBackend() == backend) {
+			return current.estimateRestoreCost(translatedVersion.getVersion());
+		}
+		var otherMap = getMap(adaptiveVersion.getBackend());
+		if (otherMap != null) {
+			return otherMap.estimateRestoreCost(adaptiveVersion.getVersion());
+		}
+		return -1;
+	}
+
+	@Override
+	public long getSize() {
+		return current.getSize();
+	}
+
+	@Override
+	public int contentHashCode(ContentHashCode mode) {
+		return current.contentHashCode(mode);
+	}
+
+	@Override
+	public boolean contentEquals(AnyVersionedMap other) {
+		if (other instanceof AdaptiveVersionedMap<?> otherMap && otherMap.backend == backend) {
+			return current.contentEquals(otherMap.current);
+		}
+		throw new UnsupportedOperationException("Comparing maps in different backends is ineffective.");
+	}
+
+	@Override
+	public void checkIntegrity() {
+		current.checkIntegrity();
+	}
+
+	@Override
+	public Version commit() {
+		int depth = version == null ? 1 : version.getDepth() + 1;
+		var committedVersion = new AdaptiveVersion(backend, current.commit(), depth);
+		var selectedBackend = store.getBackend();
+		if (selectedBackend != backend) {
+			// Only move to the selected backend when there is a new version to store anyway. The copy of the
+			// committed version is remembered, so that restoring it later stays in the selected backend.
+			switchBackend(selectedBackend);
+			store.putTranslation(committedVersion, new AdaptiveVersion(backend, current.commit(), depth));
+		}
+		version = committedVersion;
+		store.recordCommit(uncommittedChanges);
+		uncommittedChanges = 0;
+		return version;
+	}
+
+	@Override
+	public void restore(Version state) {
+		var adaptiveVersion = (AdaptiveVersion) state;
+		store.recordRestore(estimateDistance(adaptiveVersion));
+		load(adaptiveVersion);
+	}
+
+	void load(AdaptiveVersion state) {
+		var target = state;
+		if (state.getBackend() != store.getBackend()) {
+			var translatedVersion = store.getTranslation(state);
+			if (translatedVersion != null) {
+				target = translatedVersion;
+			}
+		}
+		// Restore versions without a copy in the selected backend in their original backend instead of copying
+		// them, since the next commit will move the map to the selected backend anyway.
+		restoreBackend(target.getBackend(), target.getVersion());
+		version = state;
+		uncommittedChanges = 0;
+	}
+
+	private void restoreBackend(StoreStrategy mapBackend, Version state) {
+		var map = getMap(mapBackend);
+		if (map == null) {
+			map = store.getStore(mapBackend).createMap(state);
+		} else {
+			map.restore(state);
+		}
+		setCurrent(mapBackend, map);
+	}
+
+	private void switchBackend(StoreStrategy newBackend) {
+		var newMap = getMap(newBackend);
+		if (newMap == null) {
+			newMap = store.getStore(newBackend).createMap();
+		}
+		// Only apply the differences to the map we already have in the other backend, which keeps its history. This
+		// way, restoring earlier delta-based versions doesn't have to replay every change starting from an empty map.
+		var cursor = ContentDiffCursor.of(newMap, current);
+		while (cursor.move()) {
+			newMap.put(cursor.getKey(), cursor.getToValue());
+		}
+		setCurrent(newBackend, newMap);
+	}
+
+	private long estimateDistance(AdaptiveVersion state) {
+		if (version == null) {
+			return state.getDepth();
+		}
+		if (version.equals(state)) {
+			return 0;
+		}
+		// We only know the depths of the versions, so we assume that they are on the same branch. Sibling versions
+		// are at least two commits away from each other.
+		return Math.max(Math.abs(version.getDepth() - state.getDepth()), 2);
+	}
+
+	private record DelegatingCursor<V>(Cursor<Tuple, V> cursor, Set<AnyVersionedMap> dependingMaps)
+			implements Cursor<Tuple, V> {
+		@Override
+		public Tuple getKey() {
+			return cursor.getKey();
+		}
+
+		@Override
+		public V getValue() {
+			return cursor.getValue();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return cursor.isTerminated();
+		}
+
+		@Override
+		public boolean move() {
+			return cursor.move();
+		}
+
+		@Override
+		public boolean isDirty() {
+			return cursor.isDirty();
+		}
+
+		@Override
+		public Set<AnyVersionedMap> getDependingMaps() {
+			return dependingMaps;
+		}
+	}
+}
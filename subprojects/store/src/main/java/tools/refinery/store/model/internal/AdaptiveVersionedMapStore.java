@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.DiffCursor;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMap;
+import tools.refinery.store.map.VersionedMapStore;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder.StoreStrategy;
+import tools.refinery.store.model.BackendStatistics;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Stores the interpretation of a symbol either in a delta-based or in a state-based map, and chooses between them
+ * according to the observed workload.
+ * <p>
+ * The choice is re-evaluated every {@link #EVALUATION_INTERVAL} commits by comparing the estimated cost of the recent
+ * commits and restores in both backends. Delta-based maps replay every change between the current and the restored
+ * version, while state-based maps restore in constant time but copy a path of the trie for every change. To avoid
+ * oscillation, the backend is only switched if the other one is estimated to be at least twice as fast.
+ * <p>
+ * Versions committed before a switch stay in their original backend, and are also restored there. A map only moves its
+ * contents to the selected backend when it is committed next. The version committed in the previous backend is then
+ * translated to a version of the selected backend, which is remembered for as long as the original version is
+ * reachable.
+ *
+ * @param <V> The type of the values.
+ */
+class AdaptiveVersionedMapStore<V> implements VersionedMapStore<Tuple, V> {
+	static final int EVALUATION_INTERVAL = 64;
+	private static final double STATE_CHANGE_COST = 4;
+	private static final double STATE_RESTORE_COST = 1;
+	private static final double SWITCH_THRESHOLD = 0.5;
+
+	private final VersionedMapStore<Tuple, V> deltaStore;
+	private final VersionedMapStore<Tuple, V> stateStore;
+	// Weak keys, because translations are only needed while the translated version can still be restored.
+	private final Map<AdaptiveVersion, AdaptiveVersion> translations = Collections.synchronizedMap(new WeakHashMap<>());
+	private final Object lock = new Object();
+	private volatile StoreStrategy backend = StoreStrategy.DELTA;
+
+	// Counters for the current evaluation window, guarded by {@link #lock}.
+	private long windowCommits;
+	private long windowChanges;
+	private long windowRestores;
+	private long windowRestoreDistance;
+
+	// Counters for the whole lifetime of the store, guarded by {@link #lock}.
+	private long commits;
+	private long changes;
+	private long restores;
+	private long switches;
+
+	AdaptiveVersionedMapStore(VersionedMapStore<Tuple, V> deltaStore, VersionedMapStore<Tuple, V> stateStore) {
+		this.deltaStore = deltaStore;
+		this.stateStore = stateStore;
+	}
+
+	StoreStrategy getBackend() {
+		return backend;
+	}
+
+	VersionedMapStore<Tuple, V> getStore(StoreStrategy strategy) {
+		return switch (strategy) {
+			case DELTA -> deltaStore;
+			case STATE -> stateStore;
+		};
+	}
+
+	AdaptiveVersion getTranslation(AdaptiveVersion version) {
+		return translations.get(version);
+	}
+
+	void putTranslation(AdaptiveVersion version, AdaptiveVersion translatedVersion) {
+		translations.put(version, translatedVersion);
+	}
+
+	@Override
+	public VersionedMap<Tuple, V> createMap() {
+		return new AdaptiveVersionedMap<>(this);
+	}
+
+	@Override
+	public VersionedMap<Tuple, V> createMap(Version state) {
+		var map = new AdaptiveVersionedMap<>(this);
+		map.load((AdaptiveVersion) state);
+		return map;
+	}
+
+	@Override
+	public DiffCursor<Tuple, V> getDiffCursor(Version fromState, Version toState) {
+		var from = (AdaptiveVersion) fromState;
+		var to = (AdaptiveVersion) toState;
+		var toBackend = to.getBackend();
+		if (from.getBackend() == toBackend) {
+			return getStore(toBackend).getDiffCursor(from.getVersion(), to.getVersion());
+		}
+		var translatedFrom = getTranslation(from);
+		if (translatedFrom != null && translatedFrom.getBackend() == toBackend) {
+			return getStore(toBackend).getDiffCursor(translatedFrom.getVersion(), to.getVersion());
+		}
+		var fromMap = getStore(from.getBackend()).createMap(from.getVersion());
+		var toMap = getStore(toBackend).createMap(to.getVersion());
+		return ContentDiffCursor.of(fromMap, toMap);
+	}
+
+	void recordCommit(long changesInCommit) {
+		synchronized (lock) {
+			commits++;
+			changes += changesInCommit;
+			windowCommits++;
+			windowChanges += changesInCommit;
+			if (windowCommits >= EVALUATION_INTERVAL) {
+				evaluate();
+			}
+		}
+	}
+
+	void recordRestore(long distance) {
+		synchronized (lock) {
+			restores++;
+			windowRestores++;
+			windowRestoreDistance += distance;
+		}
+	}
+
+	private void evaluate() {
+		double changesPerCommit = (double) windowChanges / windowCommits;
+		double deltaCost = windowChanges + windowRestoreDistance * changesPerCommit;
+		double stateCost = STATE_CHANGE_COST * windowChanges + STATE_RESTORE_COST * windowRestores;
+		var currentBackend = backend;
+		if (currentBackend == StoreStrategy.DELTA && stateCost < SWITCH_THRESHOLD * deltaCost) {
+			backend = StoreStrategy.STATE;
+			switches++;
+		} else if (currentBackend == StoreStrategy.STATE && deltaCost < SWITCH_THRESHOLD * stateCost) {
+			backend = StoreStrategy.DELTA;
+			switches++;
+		}
+		windowCommits = 0;
+		windowChanges = 0;
+		windowRestores = 0;
+		windowRestoreDistance = 0;
+	}
+
+	BackendStatistics getStatistics() {
+		synchronized (lock) {
+			return new BackendStatistics(backend, commits, changes, restores, switches);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.*;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Versioned index of the tuples adjacent to each node in each argument position of a {@link VersionedMap}.
+ * <p>
+ * Each argument position has its own state-based {@link VersionedMap} from nodes to {@link AdjacencyList} instances.
+ * The index is committed and restored along with the indexed map, so restoring a model or creating a model for a
+ * state does not have to rebuild the index.
+ */
+class AdjacencyIndex {
+	private final List<VersionedMap<Tuple, AdjacencyList>> maps;
+	private final Set<AnyVersionedMap> dependingMaps;
+
+	AdjacencyIndex(List<VersionedMap<Tuple, AdjacencyList>> maps, VersionedMap<Tuple, ?> indexedMap) {
+		this.maps = maps;
+		dependingMaps = Set.of(indexedMap);
+	}
+
+	public void put(Tuple key, Object value) {
+		int arity = maps.size();
+		for (int i = 0; i < arity; i++) {
+			var map = maps.get(i);
+			var nodeKey = Tuple.of(key.get(i));
+			var adjacencyList = map.get(nodeKey);
+			var newAdjacencyList = adjacencyList.put(key, value);
+			if (newAdjacencyList != adjacencyList) {
+				map.put(nodeKey, newAdjacencyList);
+			}
+		}
+	}
+
+	public void remove(Tuple key) {
+		int arity = maps.size();
+		for (int i = 0; i < arity; i++) {
+			var map = maps.get(i);
+			var nodeKey = Tuple.of(key.get(i));
+			var adjacencyList = map.get(nodeKey);
+			var newAdjacencyList = adjacencyList.remove(key);
+			if (newAdjacencyList != adjacencyList) {
+				map.put(nodeKey, newAdjacencyList);
+			}
+		}
+	}
+
+	private VersionedMap<Tuple, AdjacencyList> getMap(int slot) {
+		if (slot < 0 || slot >= maps.size()) {
+			throw new IllegalArgumentException("Invalid index: " + slot);
+		}
+		return maps.get(slot);
+	}
+
+	private AdjacencyList getAdjacencyList(int slot, int node) {
+		return getMap(slot).get(Tuple.of(node));
+	}
+
+	public int getAdjacentSize(int slot, int node) {
+		return getAdjacencyList(slot, node).size();
+	}
+
+	/**
+	 * Gets the number of distinct nodes appearing in an argument position. Nodes without adjacent tuples are mapped to
+	 * the default {@link AdjacencyList#EMPTY} value, so they are not counted by the size of the map.
+	 */
+	public long getSlotSize(int slot) {
+		return getMap(slot).getSize();
+	}
+
+	public <T> Cursor<Tuple, T> getAdjacent(int slot, int node) {
+		var adjacencyList = getAdjacencyList(slot, node);
+		if (adjacencyList.size() == 0) {
+			return Cursors.empty();
+		}
+		return adjacencyList.getCursor(dependingMaps);
+	}
+
+	public AdjacencyIndexVersion commit() {
+		int arity = maps.size();
+		var versions = new Version[arity];
+		for (int i = 0; i < arity; i++) {
+			versions[i] = maps.get(i).commit();
+		}
+		return new AdjacencyIndexVersion(versions);
+	}
+
+	public void restore(Version state) {
+		var versions = ((AdjacencyIndexVersion) state).mapVersions;
+		int arity = maps.size();
+		for (int i = 0; i < arity; i++) {
+			maps.get(i).restore(versions[i]);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMap;
+import tools.refinery.store.map.VersionedMapStore;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder;
+import tools.refinery.store.model.TupleHashProvider;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class AdjacencyIndexStore {
+	private final List<VersionedMapStore<Tuple, AdjacencyList>> stores;
+
+	AdjacencyIndexStore(int arity) {
+		if (arity < 2) {
+			throw new IllegalArgumentException("Only arity >= 2 symbols need to be indexed");
+		}
+		stores = VersionedMapStore.<Tuple, AdjacencyList>builder()
+				.strategy(VersionedMapStoreFactoryBuilder.StoreStrategy.STATE)
+				.stateBasedHashProvider(TupleHashProvider.INSTANCE)
+				.defaultValue(AdjacencyList.EMPTY)
+				.build()
+				.createGroup(arity);
+	}
+
+	public AdjacencyIndex createIndex(VersionedMap<Tuple, ?> indexedMap) {
+		var maps = new ArrayList<VersionedMap<Tuple, AdjacencyList>>(stores.size());
+		for (var store : stores) {
+			maps.add(store.createMap());
+		}
+		return new AdjacencyIndex(maps, indexedMap);
+	}
+
+	public AdjacencyIndex createIndex(VersionedMap<Tuple, ?> indexedMap, Version state) {
+		var versions = ((AdjacencyIndexVersion) state).mapVersions;
+		int arity = stores.size();
+		var maps = new ArrayList<VersionedMap<Tuple, AdjacencyList>>(arity);
+		for (int i = 0; i < arity; i++) {
+			maps.add(stores.get(i).createMap(versions[i]));
+		}
+		return new AdjacencyIndex(maps, indexedMap);
+	}
+}
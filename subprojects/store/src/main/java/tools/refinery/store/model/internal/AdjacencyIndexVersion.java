@@ -0,0 +1,25 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.Version;
+
+import java.util.Arrays;
+
+class AdjacencyIndexVersion implements Version {
+	final Version[] mapVersions;
+
+	AdjacencyIndexVersion(Version[] mapVersions) {
+		this.mapVersions = mapVersions;
+	}
+
+	@Override
+	public String toString() {
+		return "AdjacencyIndexVersion{" +
+				"mapVersions=" + Arrays.toString(mapVersions) +
+				'}';
+	}
+}
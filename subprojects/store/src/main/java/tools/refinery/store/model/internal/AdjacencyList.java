@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.AnyVersionedMap;
+import tools.refinery.store.map.Cursor;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable list of the tuples adjacent to a node, along with their values.
+ * <p>
+ * Entries are sorted by tuple and stored in chunks of at most {@link #MAX_CHUNK_SIZE} entries, so that an update
+ * only copies a single chunk and the array of chunk references. Chunks store tuples and values interleaved, and the
+ * tuples are the same instances as the keys of the indexed map. Instances are compared by identity, because they
+ * are only ever stored as values of an {@link AdjacencyIndex}.
+ */
+final class AdjacencyList {
+	static final AdjacencyList EMPTY = new AdjacencyList(new Object[0][], 0);
+
+	private static final int MAX_CHUNK_SIZE = 64;
+
+	private final Object[][] chunks;
+	private final int size;
+
+	private AdjacencyList(Object[][] chunks, int size) {
+		this.chunks = chunks;
+		this.size = size;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public AdjacencyList put(Tuple key, Object value) {
+		if (size == 0) {
+			return new AdjacencyList(new Object[][]{{key, value}}, 1);
+		}
+		int chunkIndex = findChunk(key);
+		var chunk = chunks[chunkIndex];
+		int entryIndex = findEntry(chunk, key);
+		if (entryIndex >= 0) {
+			int valueIndex = 2 * entryIndex + 1;
+			if (Objects.equals(chunk[valueIndex], value)) {
+				return this;
+			}
+			var newChunk = chunk.clone();
+			newChunk[valueIndex] = value;
+			return new AdjacencyList(replaceChunk(chunkIndex, newChunk), size);
+		}
+		int insertionIndex = 2 * (-entryIndex - 1);
+		var newChunk = new Object[chunk.length + 2];
+		System.arraycopy(chunk, 0, newChunk, 0, insertionIndex);
+		newChunk[insertionIndex] = key;
+		newChunk[insertionIndex + 1] = value;
+		System.arraycopy(chunk, insertionIndex, newChunk, insertionIndex + 2, chunk.length - insertionIndex);
+		Object[][] newChunks;
+		if (newChunk.length > 2 * MAX_CHUNK_SIZE) {
+			newChunks = splitChunk(chunkIndex, newChunk);
+		} else {
+			newChunks = replaceChunk(chunkIndex, newChunk);
+		}
+		return new AdjacencyList(newChunks, size + 1);
+	}
+
+	public AdjacencyList remove(Tuple key) {
+		if (size == 0) {
+			return this;
+		}
+		int chunkIndex = findChunk(key);
+		var chunk = chunks[chunkIndex];
+		int entryIndex = findEntry(chunk, key);
+		if (entryIndex < 0) {
+			return this;
+		}
+		if (size == 1) {
+			return EMPTY;
+		}
+		if (chunk.length == 2) {
+			var newChunks = new Object[chunks.length - 1][];
+			System.arraycopy(chunks, 0, newChunks, 0, chunkIndex);
+			System.arraycopy(chunks, chunkIndex + 1, newChunks, chunkIndex, chunks.length - chunkIndex - 1);
+			return new AdjacencyList(newChunks, size - 1);
+		}
+		int removalIndex = 2 * entryIndex;
+		var newChunk = new Object[chunk.length - 2];
+		System.arraycopy(chunk, 0, newChunk, 0, removalIndex);
+		System.arraycopy(chunk, removalIndex + 2, newChunk, removalIndex, newChunk.length - removalIndex);
+		return new AdjacencyList(replaceChunk(chunkIndex, newChunk), size - 1);
+	}
+
+	public <T> Cursor<Tuple, T> getCursor(Set<AnyVersionedMap> dependingMaps) {
+		return new AdjacencyCursor<>(chunks, dependingMaps);
+	}
+
+	private int findChunk(Tuple key) {
+		// Find the last chunk with a first key not greater than {@code key}.
+		int low = 1;
+		int high = chunks.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (((Tuple) chunks[middle][0]).compareTo(key) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low - 1;
+	}
+
+	private static int findEntry(Object[] chunk, Tuple key) {
+		int low = 0;
+		int high = chunk.length / 2 - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = ((Tuple) chunk[2 * middle]).compareTo(key);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	private Object[][] replaceChunk(int chunkIndex, Object[] newChunk) {
+		var newChunks = chunks.clone();
+		newChunks[chunkIndex] = newChunk;
+		return newChunks;
+	}
+
+	private Object[][] splitChunk(int chunkIndex, Object[] newChunk) {
+		int splitIndex = 2 * (newChunk.length / 4);
+		var newChunks = new Object[chunks.length + 1][];
+		System.arraycopy(chunks, 0, newChunks, 0, chunkIndex);
+		newChunks[chunkIndex] = Arrays.copyOfRange(newChunk, 0, splitIndex);
+		newChunks[chunkIndex + 1] = Arrays.copyOfRange(newChunk, splitIndex, newChunk.length);
+		System.arraycopy(chunks, chunkIndex + 1, newChunks, chunkIndex + 2, chunks.length - chunkIndex - 1);
+		return newChunks;
+	}
+
+	private static class AdjacencyCursor<T> implements Cursor<Tuple, T> {
+		private final Object[][] chunks;
+		private final Set<AnyVersionedMap> dependingMaps;
+		private int chunkIndex;
+		private int position = -2;
+		private Tuple key;
+		private T value;
+		private boolean terminated;
+
+		public AdjacencyCursor(Object[][] chunks, Set<AnyVersionedMap> dependingMaps) {
+			this.chunks = chunks;
+			this.dependingMaps = dependingMaps;
+		}
+
+		@Override
+		public Tuple getKey() {
+			return key;
+		}
+
+		@Override
+		public T getValue() {
+			return value;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return terminated;
+		}
+
+		@Override
+		public boolean move() {
+			if (terminated) {
+				return false;
+			}
+			position += 2;
+			if (chunkIndex < chunks.length && position >= chunks[chunkIndex].length) {
+				chunkIndex++;
+				position = 0;
+			}
+			if (chunkIndex >= chunks.length) {
+				terminated = true;
+				key = null;
+				value = null;
+				return false;
+			}
+			var chunk = chunks[chunkIndex];
+			key = (Tuple) chunk[position];
+			@SuppressWarnings("unchecked")
+			var typedValue = (T) chunk[position + 1];
+			value = typedValue;
+			return true;
+		}
+
+		@Override
+		public Set<AnyVersionedMap> getDependingMaps() {
+			return dependingMaps;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.DiffCursor;
+import tools.refinery.store.map.VersionedMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Difference of two maps computed by comparing their contents.
+ * <p>
+ * This is only used to compare maps stored in different backends, where the backends can't compute the difference
+ * from their history.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+class ContentDiffCursor<K, V> implements DiffCursor<K, V> {
+	private final List<K> keys;
+	private final List<V> fromValues;
+	private final List<V> toValues;
+	private int position = -1;
+
+	private ContentDiffCursor(List<K> keys, List<V> fromValues, List<V> toValues) {
+		this.keys = keys;
+		this.fromValues = fromValues;
+		this.toValues = toValues;
+	}
+
+	@Override
+	public K getKey() {
+		return isInRange() ? keys.get(position) : null;
+	}
+
+	@Override
+	public V getValue() {
+		return getToValue();
+	}
+
+	@Override
+	public V getFromValue() {
+		return isInRange() ? fromValues.get(position) : null;
+	}
+
+	@Override
+	public V getToValue() {
+		return isInRange() ? toValues.get(position) : null;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return position >= keys.size();
+	}
+
+	@Override
+	public boolean move() {
+		if (isTerminated()) {
+			return false;
+		}
+		position++;
+		return !isTerminated();
+	}
+
+	private boolean isInRange() {
+		return position >= 0 && position < keys.size();
+	}
+
+	static <K, V> DiffCursor<K, V> of(VersionedMap<K, V> from, VersionedMap<K, V> to) {
+		var defaultValue = from.getDefaultValue();
+		var keys = new ArrayList<K>();
+		var fromValues = new ArrayList<V>();
+		var toValues = new ArrayList<V>();
+		var fromCursor = from.getAll();
+		while (fromCursor.move()) {
+			var key = fromCursor.getKey();
+			var fromValue = fromCursor.getValue();
+			var toValue = to.get(key);
+			// Entries with the default value are handled along with the missing keys below.
+			if (!Objects.equals(fromValue, defaultValue) && !Objects.equals(fromValue, toValue)) {
+				keys.add(key);
+				fromValues.add(fromValue);
+				toValues.add(toValue);
+			}
+		}
+		var toCursor = to.getAll();
+		while (toCursor.move()) {
+			var key = toCursor.getKey();
+			var toValue = toCursor.getValue();
+			if (Objects.equals(from.get(key), defaultValue) && !Objects.equals(toValue, defaultValue)) {
+				keys.add(key);
+				fromValues.add(defaultValue);
+				toValues.add(toValue);
+			}
+		}
+		return new ContentDiffCursor<>(keys, fromValues, toValues);
+	}
+}
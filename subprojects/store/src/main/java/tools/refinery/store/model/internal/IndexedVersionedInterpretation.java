@@ -1,11 +1,12 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.store.model.internal;
 
 import tools.refinery.store.map.Cursor;
+import tools.refinery.store.map.Version;
 import tools.refinery.store.map.VersionedMap;
 import tools.refinery.store.representation.Symbol;
 import tools.refinery.store.tuple.Tuple;
@@ -13,36 +14,49 @@ import tools.refinery.store.tuple.Tuple;
 import java.util.Objects;
 
 class IndexedVersionedInterpretation<T> extends VersionedInterpretation<T> {
-	private final BaseIndexer<T> indexer;
+	private final AdjacencyIndex index;
 
-	public IndexedVersionedInterpretation(ModelImpl model, Symbol<T> symbol, VersionedMap<Tuple, T> map) {
-		super(model, symbol, map);
-		indexer = new BaseIndexer<>(symbol.arity(), map);
+	public IndexedVersionedInterpretation(ModelImpl model, Symbol<T> symbol, int symbolIndex,
+										  VersionedMap<Tuple, T> map, AdjacencyIndex index) {
+		super(model, symbol, symbolIndex, map);
+		this.index = index;
 	}
 
 	@Override
 	public Cursor<Tuple, T> getAdjacent(int slot, int node) {
-		return indexer.getAdjacent(slot, node);
+		return index.getAdjacent(slot, node);
 	}
 
 	@Override
 	public int getAdjacentSize(int slot, int node) {
-		return indexer.getAdjacentSize(slot, node);
+		return index.getAdjacentSize(slot, node);
 	}
 
 	@Override
-	protected boolean shouldNotifyRestoreListeners() {
-		// Always call the {@code valueChanged} method to update the index.
-		return true;
+	public long getSlotSize(int slot) {
+		return index.getSlotSize(slot);
 	}
 
 	@Override
 	protected void valueChanged(Tuple key, T fromValue, T toValue, boolean restoring) {
-		if (Objects.equals(toValue, getSymbol().defaultValue())) {
-			indexer.remove(key);
-		} else {
-			indexer.put(key, toValue);
+		// The index is restored along with the map in {@link #restoreIndex(Version)}.
+		if (!restoring) {
+			if (Objects.equals(toValue, getSymbol().defaultValue())) {
+				index.remove(key);
+			} else {
+				index.put(key, toValue);
+			}
 		}
 		super.valueChanged(key, fromValue, toValue, restoring);
 	}
+
+	@Override
+	Version commitIndex() {
+		return index.commit();
+	}
+
+	@Override
+	void restoreIndex(Version indexState) {
+		index.restore(indexState);
+	}
 }
@@ -19,6 +19,7 @@ import java.util.*;
 public class ModelImpl implements Model {
 	private final ModelStoreImpl store;
 	private Version state;
+	private final NodeOccurrenceIndex occurrenceIndex;
 	private LinkedHashMap<? extends AnySymbol, ? extends VersionedInterpretation<?>> interpretations;
 	private final List<ModelAdapter> adapters;
 	private final List<ModelListener> listeners = new ArrayList<>();
@@ -27,9 +28,10 @@ public class ModelImpl implements Model {
 	private ModelAction pendingAction = ModelAction.NONE;
 	private Version restoringToState = null;
 
-	ModelImpl(ModelStoreImpl store, Version state, int adapterCount) {
+	ModelImpl(ModelStoreImpl store, Version state, NodeOccurrenceIndex occurrenceIndex, int adapterCount) {
 		this.store = store;
 		this.state = state;
+		this.occurrenceIndex = occurrenceIndex;
 		adapters = new ArrayList<>(adapterCount);
 		cancellationToken = store.getCancellationToken();
 	}
@@ -59,6 +61,15 @@ public class ModelImpl implements Model {
 		return typedInterpretation;
 	}
 
+	NodeOccurrenceIndex getOccurrenceIndex() {
+		return occurrenceIndex;
+	}
+
+	@Override
+	public Set<AnySymbol> getSymbolsContainingNode(int node) {
+		return new NodeOccurrenceSet(store.getSymbolArray(), store.getSymbolIndices(), occurrenceIndex.get(node));
+	}
+
 	@Override
 	public ModelDiffCursor getDiffCursor(Version to) {
 		var diffCursors = HashMap.<AnySymbol, DiffCursor<?, ?>>newHashMap(interpretations.size());
@@ -69,6 +80,21 @@ public class ModelImpl implements Model {
 		return new ModelDiffCursor(diffCursors);
 	}
 
+	@Override
+	public long estimateRestoreCost(AnySymbol symbol, Version state) {
+		if (state == null) {
+			return -1;
+		}
+		int i = 0;
+		for (var entry : interpretations.entrySet()) {
+			if (entry.getKey().equals(symbol)) {
+				return entry.getValue().estimateRestoreCost(ModelVersion.getInternalVersion(state, i));
+			}
+			i++;
+		}
+		throw new IllegalArgumentException("No interpretation for symbol %s in model".formatted(symbol));
+	}
+
 	private void setState(Version state) {
 		this.state = state;
 		uncommittedChanges = false;
@@ -108,12 +134,17 @@ public class ModelImpl implements Model {
 
 			// Doing the commit on the interpretations
 			Version[] interpretationVersions = new Version[interpretations.size()];
+			Version[] indexVersions = new Version[interpretations.size()];
 			int j = 0;
 			for (var interpretationEntry : interpretations.entrySet()) {
 				checkCancelled();
-				interpretationVersions[j++] = interpretationEntry.getValue().commit();
+				var interpretation = interpretationEntry.getValue();
+				interpretationVersions[j] = interpretation.commit();
+				indexVersions[j] = interpretation.commitIndex();
+				j++;
 			}
-			ModelVersion modelVersion = new ModelVersion(interpretationVersions);
+			var occurrenceVersion = occurrenceIndex.commit();
+			ModelVersion modelVersion = new ModelVersion(interpretationVersions, indexVersions, occurrenceVersion);
 			setState(modelVersion);
 
 			// After commit message to listeners
@@ -147,8 +178,11 @@ public class ModelImpl implements Model {
 			int j = 0;
 			for (var interpretation : interpretations.values()) {
 				checkCancelled();
-				interpretation.restore(ModelVersion.getInternalVersion(version, j++));
+				interpretation.restore(ModelVersion.getInternalVersion(version, j));
+				interpretation.restoreIndex(ModelVersion.getIndexVersion(version, j));
+				j++;
 			}
+			occurrenceIndex.restore(ModelVersion.getOccurrenceVersion(version));
 
 			setState(version);
 			while (i < listenerCount) {
@@ -10,9 +10,11 @@ import tools.refinery.store.adapter.ModelAdapterBuilder;
 import tools.refinery.store.map.VersionedMapStore;
 import tools.refinery.store.map.VersionedMapStoreFactory;
 import tools.refinery.store.map.VersionedMapStoreFactoryBuilder;
+import tools.refinery.store.model.BackendStrategy;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.model.ModelStoreBuilder;
 import tools.refinery.store.model.ModelStoreConfiguration;
+import tools.refinery.store.model.TupleHashProvider;
 import tools.refinery.store.representation.AnySymbol;
 import tools.refinery.store.representation.Symbol;
 import tools.refinery.store.tuple.Tuple;
@@ -22,6 +24,7 @@ import java.util.*;
 
 public class ModelStoreBuilderImpl implements ModelStoreBuilder {
 	private CancellationToken cancellationToken;
+	private BackendStrategy backendStrategy = BackendStrategy.DELTA;
 	private final LinkedHashSet<AnySymbol> allSymbols = new LinkedHashSet<>();
 	private final LinkedHashMap<SymbolEquivalenceClass<?>, List<AnySymbol>> equivalenceClasses = new LinkedHashMap<>();
 	private final List<ModelAdapterBuilder> adapters = new ArrayList<>();
@@ -38,6 +41,15 @@ public class ModelStoreBuilderImpl implements ModelStoreBuilder {
 		return this;
 	}
 
+	@Override
+	public ModelStoreBuilder backendStrategy(BackendStrategy backendStrategy) {
+		if (backendStrategy == null) {
+			throw new IllegalArgumentException("Backend strategy must not be null");
+		}
+		this.backendStrategy = backendStrategy;
+		return this;
+	}
+
 	@Override
 	public <T> ModelStoreBuilder symbol(Symbol<T> symbol) {
 		if (!allSymbols.add(symbol)) {
@@ -89,7 +101,15 @@ public class ModelStoreBuilderImpl implements ModelStoreBuilder {
 		for (var entry : equivalenceClasses.entrySet()) {
 			createStores(stores, entry.getKey(), entry.getValue());
 		}
-		var modelStore = new ModelStoreImpl(stores, adapters.size(), cancellationToken == null ?
+		var indexStores = new HashMap<AnySymbol, AdjacencyIndexStore>();
+		for (var symbol : stores.keySet()) {
+			int arity = symbol.arity();
+			if (arity >= 2) {
+				indexStores.put(symbol, new AdjacencyIndexStore(arity));
+			}
+		}
+		var modelStore = new ModelStoreImpl(stores, indexStores, backendStrategy, adapters.size(),
+				cancellationToken == null ?
 				CancellationToken.NONE : cancellationToken);
 		for (var adapterBuilder : adapters) {
 			var storeAdapter = adapterBuilder.build(modelStore);
@@ -101,14 +121,36 @@ public class ModelStoreBuilderImpl implements ModelStoreBuilder {
 	private <T> void createStores(Map<AnySymbol, VersionedMapStore<Tuple, ?>> stores,
 								  SymbolEquivalenceClass<T> equivalenceClass, List<AnySymbol> symbols) {
 		int size = symbols.size();
-		VersionedMapStoreFactory<Tuple, T> mapFactory = VersionedMapStore
-				.<Tuple, T>builder()
-				.strategy(VersionedMapStoreFactoryBuilder.StoreStrategy.DELTA)
-				.defaultValue(equivalenceClass.defaultValue())
-				.build();
-		var storeGroup = mapFactory.createGroup(size);
+		var defaultValue = equivalenceClass.defaultValue();
+		List<? extends VersionedMapStore<Tuple, T>> storeGroup = switch (backendStrategy) {
+			case DELTA -> createStoreGroup(VersionedMapStoreFactoryBuilder.StoreStrategy.DELTA, defaultValue, size);
+			case STATE -> createStoreGroup(VersionedMapStoreFactoryBuilder.StoreStrategy.STATE, defaultValue, size);
+			case ADAPTIVE -> {
+				var deltaGroup = createStoreGroup(VersionedMapStoreFactoryBuilder.StoreStrategy.DELTA, defaultValue,
+						size);
+				var stateGroup = createStoreGroup(VersionedMapStoreFactoryBuilder.StoreStrategy.STATE, defaultValue,
+						size);
+				var adaptiveGroup = new ArrayList<AdaptiveVersionedMapStore<T>>(size);
+				for (int i = 0; i < size; i++) {
+					adaptiveGroup.add(new AdaptiveVersionedMapStore<>(deltaGroup.get(i), stateGroup.get(i)));
+				}
+				yield adaptiveGroup;
+			}
+		};
 		for (int i = 0; i < size; i++) {
 			stores.put(symbols.get(i), storeGroup.get(i));
 		}
 	}
+
+	private static <T> List<VersionedMapStore<Tuple, T>> createStoreGroup(
+			VersionedMapStoreFactoryBuilder.StoreStrategy strategy, T defaultValue, int size) {
+		var builder = VersionedMapStore.<Tuple, T>builder()
+				.strategy(strategy)
+				.defaultValue(defaultValue);
+		if (strategy == VersionedMapStoreFactoryBuilder.StoreStrategy.STATE) {
+			builder.stateBasedHashProvider(TupleHashProvider.INSTANCE);
+		}
+		VersionedMapStoreFactory<Tuple, T> mapFactory = builder.build();
+		return mapFactory.createGroup(size);
+	}
 }
@@ -10,6 +10,9 @@ import tools.refinery.store.adapter.ModelStoreAdapter;
 import tools.refinery.store.map.DiffCursor;
 import tools.refinery.store.map.Version;
 import tools.refinery.store.map.VersionedMapStore;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder.StoreStrategy;
+import tools.refinery.store.model.BackendStatistics;
+import tools.refinery.store.model.BackendStrategy;
 import tools.refinery.store.model.ModelDiffCursor;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.representation.AnySymbol;
@@ -20,12 +23,25 @@ import java.util.*;
 
 public class ModelStoreImpl implements ModelStore {
 	private final LinkedHashMap<? extends AnySymbol, ? extends VersionedMapStore<Tuple, ?>> stores;
+	private final Map<AnySymbol, AdjacencyIndexStore> indexStores;
+	private final NodeOccurrenceIndexStore occurrenceIndexStore = new NodeOccurrenceIndexStore();
+	private final AnySymbol[] symbolArray;
+	private final Map<AnySymbol, Integer> symbolIndices;
+	private final BackendStrategy backendStrategy;
 	private final List<ModelStoreAdapter> adapters;
 	private final CancellationToken cancellationToken;
 
-	ModelStoreImpl(LinkedHashMap<? extends AnySymbol, ? extends VersionedMapStore<Tuple, ?>> stores, int adapterCount,
+	ModelStoreImpl(LinkedHashMap<? extends AnySymbol, ? extends VersionedMapStore<Tuple, ?>> stores,
+				   Map<AnySymbol, AdjacencyIndexStore> indexStores, BackendStrategy backendStrategy, int adapterCount,
 				   CancellationToken cancellationToken) {
 		this.stores = stores;
+		this.indexStores = indexStores;
+		symbolArray = stores.keySet().toArray(new AnySymbol[0]);
+		symbolIndices = HashMap.newHashMap(symbolArray.length);
+		for (int i = 0; i < symbolArray.length; i++) {
+			symbolIndices.put(symbolArray[i], i);
+		}
+		this.backendStrategy = backendStrategy;
 		adapters = new ArrayList<>(adapterCount);
 		this.cancellationToken = cancellationToken;
 	}
@@ -35,8 +51,18 @@ public class ModelStoreImpl implements ModelStore {
 		return Collections.unmodifiableCollection(stores.keySet());
 	}
 
+	AnySymbol[] getSymbolArray() {
+		return symbolArray;
+	}
+
+	Map<AnySymbol, Integer> getSymbolIndices() {
+		return symbolIndices;
+	}
+
 	private ModelImpl createModelWithoutInterpretations(Version state) {
-		return new ModelImpl(this, state, adapters.size());
+		var occurrenceIndex = state == null ? occurrenceIndexStore.createIndex() :
+				occurrenceIndexStore.createIndex(ModelVersion.getOccurrenceVersion(state));
+		return new ModelImpl(this, state, occurrenceIndex, adapters.size());
 	}
 
 	@Override
@@ -44,9 +70,12 @@ public class ModelStoreImpl implements ModelStore {
 		var model = createModelWithoutInterpretations(null);
 		try {
 			var interpretations = LinkedHashMap.<AnySymbol, VersionedInterpretation<?>>newLinkedHashMap(stores.size());
+			int i = 0;
 			for (var entry : this.stores.entrySet()) {
 				var symbol = entry.getKey();
-				interpretations.put(symbol, VersionedInterpretation.of(model, symbol, entry.getValue()));
+				interpretations.put(symbol, VersionedInterpretation.of(model, symbol, i, entry.getValue(),
+						indexStores.get(symbol)));
+				i++;
 			}
 			model.setInterpretations(interpretations);
 			adaptModel(model);
@@ -69,8 +98,12 @@ public class ModelStoreImpl implements ModelStore {
 						VersionedInterpretation.of(
 								model,
 								symbol,
+								i,
 								entry.getValue(),
-								ModelVersion.getInternalVersion(state, i++)));
+								indexStores.get(symbol),
+								ModelVersion.getInternalVersion(state, i),
+								ModelVersion.getIndexVersion(state, i)));
+				i++;
 			}
 
 			model.setInterpretations(interpretations);
@@ -102,6 +135,22 @@ public class ModelStoreImpl implements ModelStore {
 		return new ModelDiffCursor(diffCursors);
 	}
 
+	@Override
+	public Map<AnySymbol, BackendStatistics> getBackendStatistics() {
+		var statistics = LinkedHashMap.<AnySymbol, BackendStatistics>newLinkedHashMap(stores.size());
+		for (var entry : stores.entrySet()) {
+			BackendStatistics symbolStatistics;
+			if (entry.getValue() instanceof AdaptiveVersionedMapStore<?> adaptiveStore) {
+				symbolStatistics = adaptiveStore.getStatistics();
+			} else {
+				var backend = backendStrategy == BackendStrategy.STATE ? StoreStrategy.STATE : StoreStrategy.DELTA;
+				symbolStatistics = new BackendStatistics(backend, 0, 0, 0, 0);
+			}
+			statistics.put(entry.getKey(), symbolStatistics);
+		}
+		return Collections.unmodifiableMap(statistics);
+	}
+
 	@Override
 	public <T extends ModelStoreAdapter> Optional<T> tryGetAdapter(Class<? extends T> adapterType) {
 		return AdapterUtils.tryGetAdapter(adapters, adapterType);
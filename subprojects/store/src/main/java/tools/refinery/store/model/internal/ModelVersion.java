@@ -11,19 +11,33 @@ import java.util.Arrays;
 
 public class ModelVersion implements Version {
 	final Version[] mapVersions;
+	final Version[] indexVersions;
+	final Version occurrenceVersion;
 
-	public ModelVersion(Version[] mapVersions) {
+	public ModelVersion(Version[] mapVersions, Version[] indexVersions, Version occurrenceVersion) {
 		this.mapVersions = mapVersions;
+		this.indexVersions = indexVersions;
+		this.occurrenceVersion = occurrenceVersion;
 	}
 
 	public static Version getInternalVersion(Version modelVersion, int interpretationIndex) {
 		return ((ModelVersion) modelVersion).mapVersions[interpretationIndex];
 	}
 
+	public static Version getIndexVersion(Version modelVersion, int interpretationIndex) {
+		return ((ModelVersion) modelVersion).indexVersions[interpretationIndex];
+	}
+
+	public static Version getOccurrenceVersion(Version modelVersion) {
+		return ((ModelVersion) modelVersion).occurrenceVersion;
+	}
+
 	@Override
 	public String toString() {
 		return "ModelVersion{" +
 				"mapVersions=" + Arrays.toString(mapVersions) +
+				", indexVersions=" + Arrays.toString(indexVersions) +
+				", occurrenceVersion=" + occurrenceVersion +
 				'}';
 	}
 }
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMap;
+import tools.refinery.store.tuple.Tuple;
+
+/**
+ * Versioned reverse index from nodes to the symbols in which they occur.
+ * <p>
+ * A node occurs in a symbol if the interpretation of the symbol maps some tuple containing the node to a non-default
+ * value. The index is kept up to date by {@link VersionedInterpretation} and is committed and restored along with the
+ * model, so deleting or splitting a node only has to visit the interpretations in which it occurs.
+ */
+class NodeOccurrenceIndex {
+	private final VersionedMap<Tuple, NodeOccurrences> map;
+
+	NodeOccurrenceIndex(VersionedMap<Tuple, NodeOccurrences> map) {
+		this.map = map;
+	}
+
+	public NodeOccurrences get(int node) {
+		return map.get(Tuple.of(node));
+	}
+
+	public void add(int node, int symbolIndex) {
+		var nodeKey = Tuple.of(node);
+		var occurrences = map.get(nodeKey);
+		var newOccurrences = occurrences.add(symbolIndex);
+		if (newOccurrences != occurrences) {
+			map.put(nodeKey, newOccurrences);
+		}
+	}
+
+	public void remove(int node, int symbolIndex) {
+		var nodeKey = Tuple.of(node);
+		var occurrences = map.get(nodeKey);
+		var newOccurrences = occurrences.remove(symbolIndex);
+		if (newOccurrences != occurrences) {
+			map.put(nodeKey, newOccurrences);
+		}
+	}
+
+	public Version commit() {
+		return map.commit();
+	}
+
+	public void restore(Version state) {
+		map.restore(state);
+	}
+}
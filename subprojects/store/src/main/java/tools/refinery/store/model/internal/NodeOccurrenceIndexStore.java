@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMapStore;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder;
+import tools.refinery.store.model.TupleHashProvider;
+import tools.refinery.store.tuple.Tuple;
+
+class NodeOccurrenceIndexStore {
+	private final VersionedMapStore<Tuple, NodeOccurrences> store;
+
+	NodeOccurrenceIndexStore() {
+		store = VersionedMapStore.<Tuple, NodeOccurrences>builder()
+				.strategy(VersionedMapStoreFactoryBuilder.StoreStrategy.STATE)
+				.stateBasedHashProvider(TupleHashProvider.INSTANCE)
+				.defaultValue(NodeOccurrences.EMPTY)
+				.build()
+				.createOne();
+	}
+
+	public NodeOccurrenceIndex createIndex() {
+		return new NodeOccurrenceIndex(store.createMap());
+	}
+
+	public NodeOccurrenceIndex createIndex(Version state) {
+		return new NodeOccurrenceIndex(store.createMap(state));
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import tools.refinery.store.representation.AnySymbol;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Unmodifiable view of {@link NodeOccurrences} as a set of symbols, ordered in the same way as the symbols of the
+ * {@link ModelStoreImpl}.
+ */
+class NodeOccurrenceSet extends AbstractSet<AnySymbol> {
+	private final AnySymbol[] symbols;
+	private final Map<AnySymbol, Integer> symbolIndices;
+	private final NodeOccurrences occurrences;
+
+	NodeOccurrenceSet(AnySymbol[] symbols, Map<AnySymbol, Integer> symbolIndices, NodeOccurrences occurrences) {
+		this.symbols = symbols;
+		this.symbolIndices = symbolIndices;
+		this.occurrences = occurrences;
+	}
+
+	@Override
+	public int size() {
+		return occurrences.size();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		var symbolIndex = symbolIndices.get(o);
+		return symbolIndex != null && occurrences.contains(symbolIndex);
+	}
+
+	@Override
+	public Iterator<AnySymbol> iterator() {
+		return new Iterator<>() {
+			private int position;
+
+			@Override
+			public boolean hasNext() {
+				return position < occurrences.size();
+			}
+
+			@Override
+			public AnySymbol next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				var symbol = symbols[occurrences.get(position)];
+				position++;
+				return symbol;
+			}
+		};
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.internal;
+
+import java.util.Arrays;
+
+/**
+ * Immutable sorted set of the indices of the symbols in which a node occurs.
+ * <p>
+ * Instances are compared by identity, because they are only ever stored as values of a {@link NodeOccurrenceIndex}.
+ */
+final class NodeOccurrences {
+	static final NodeOccurrences EMPTY = new NodeOccurrences(new int[0]);
+
+	private final int[] symbolIndices;
+
+	private NodeOccurrences(int[] symbolIndices) {
+		this.symbolIndices = symbolIndices;
+	}
+
+	public int size() {
+		return symbolIndices.length;
+	}
+
+	public int get(int position) {
+		return symbolIndices[position];
+	}
+
+	public boolean contains(int symbolIndex) {
+		return Arrays.binarySearch(symbolIndices, symbolIndex) >= 0;
+	}
+
+	public NodeOccurrences add(int symbolIndex) {
+		int position = Arrays.binarySearch(symbolIndices, symbolIndex);
+		if (position >= 0) {
+			return this;
+		}
+		int insertionIndex = -position - 1;
+		var newSymbolIndices = new int[symbolIndices.length + 1];
+		System.arraycopy(symbolIndices, 0, newSymbolIndices, 0, insertionIndex);
+		newSymbolIndices[insertionIndex] = symbolIndex;
+		System.arraycopy(symbolIndices, insertionIndex, newSymbolIndices, insertionIndex + 1,
+				symbolIndices.length - insertionIndex);
+		return new NodeOccurrences(newSymbolIndices);
+	}
+
+	public NodeOccurrences remove(int symbolIndex) {
+		int position = Arrays.binarySearch(symbolIndices, symbolIndex);
+		if (position < 0) {
+			return this;
+		}
+		if (symbolIndices.length == 1) {
+			return EMPTY;
+		}
+		var newSymbolIndices = new int[symbolIndices.length - 1];
+		System.arraycopy(symbolIndices, 0, newSymbolIndices, 0, position);
+		System.arraycopy(symbolIndices, position + 1, newSymbolIndices, position,
+				newSymbolIndices.length - position);
+		return new NodeOccurrences(newSymbolIndices);
+	}
+}
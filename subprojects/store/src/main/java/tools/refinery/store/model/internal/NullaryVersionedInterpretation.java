@@ -11,8 +11,9 @@ import tools.refinery.store.representation.Symbol;
 import tools.refinery.store.tuple.Tuple;
 
 class NullaryVersionedInterpretation<T> extends VersionedInterpretation<T> {
-	public NullaryVersionedInterpretation(ModelImpl model, Symbol<T> symbol, VersionedMap<Tuple, T> map) {
-		super(model, symbol, map);
+	public NullaryVersionedInterpretation(ModelImpl model, Symbol<T> symbol, int symbolIndex,
+										  VersionedMap<Tuple, T> map) {
+		super(model, symbol, symbolIndex, map);
 	}
 
 	@Override
@@ -24,4 +25,9 @@ class NullaryVersionedInterpretation<T> extends VersionedInterpretation<T> {
 	public int getAdjacentSize(int slot, int node) {
 		throw new IllegalArgumentException("Invalid index: " + slot);
 	}
+
+	@Override
+	public long getSlotSize(int slot) {
+		throw new IllegalArgumentException("Invalid index: " + slot);
+	}
 }
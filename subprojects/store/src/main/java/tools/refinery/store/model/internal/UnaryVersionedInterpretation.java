@@ -14,8 +14,9 @@ import tools.refinery.store.tuple.Tuple;
 import java.util.Objects;
 
 class UnaryVersionedInterpretation<T> extends VersionedInterpretation<T> {
-	public UnaryVersionedInterpretation(ModelImpl model, Symbol<T> symbol, VersionedMap<Tuple, T> map) {
-		super(model, symbol, map);
+	public UnaryVersionedInterpretation(ModelImpl model, Symbol<T> symbol, int symbolIndex,
+										VersionedMap<Tuple, T> map) {
+		super(model, symbol, symbolIndex, map);
 	}
 
 	private void validateSlot(int slot) {
@@ -45,4 +46,10 @@ class UnaryVersionedInterpretation<T> extends VersionedInterpretation<T> {
 		}
 		return 1;
 	}
+
+	@Override
+	public long getSlotSize(int slot) {
+		validateSlot(slot);
+		return getSize();
+	}
 }
@@ -15,17 +15,21 @@ import tools.refinery.store.tuple.Tuple;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public abstract class VersionedInterpretation<T> implements Interpretation<T> {
 	private final ModelImpl model;
 	private final Symbol<T> symbol;
+	private final int symbolIndex;
 	private final VersionedMap<Tuple, T> map;
 	private final List<InterpretationListener<T>> listeners = new ArrayList<>();
 	private final List<InterpretationListener<T>> restoreListeners = new ArrayList<>();
 
-	protected VersionedInterpretation(ModelImpl model, Symbol<T> symbol, VersionedMap<Tuple, T> map) {
+	protected VersionedInterpretation(ModelImpl model, Symbol<T> symbol, int symbolIndex,
+									  VersionedMap<Tuple, T> map) {
 		this.model = model;
 		this.symbol = symbol;
+		this.symbolIndex = symbolIndex;
 		this.map = map;
 	}
 
@@ -63,6 +67,10 @@ public abstract class VersionedInterpretation<T> implements Interpretation<T> {
 	}
 
 	protected void valueChanged(Tuple key, T fromValue, T toValue, boolean restoring) {
+		// The occurrence index is restored along with the model in {@link ModelImpl#restore(Version)}.
+		if (!restoring) {
+			updateOccurrences(key, fromValue, toValue);
+		}
 		var listenerList = restoring ? restoreListeners : listeners;
 		int listenerCount = listenerList.size();
 		// Use a for loop instead of a for-each loop to avoid <code>Iterator</code> allocation overhead.
@@ -72,6 +80,36 @@ public abstract class VersionedInterpretation<T> implements Interpretation<T> {
 		}
 	}
 
+	private void updateOccurrences(Tuple key, T fromValue, T toValue) {
+		var defaultValue = symbol.defaultValue();
+		boolean wasPresent = !Objects.equals(fromValue, defaultValue);
+		boolean isPresent = !Objects.equals(toValue, defaultValue);
+		if (wasPresent == isPresent) {
+			return;
+		}
+		var occurrenceIndex = model.getOccurrenceIndex();
+		int arity = key.getSize();
+		for (int i = 0; i < arity; i++) {
+			int node = key.get(i);
+			if (isPresent) {
+				occurrenceIndex.add(node, symbolIndex);
+			} else if (!containsNode(node)) {
+				// Other tuples may still refer to the node, so we only remove it if it has no adjacent tuples left.
+				occurrenceIndex.remove(node, symbolIndex);
+			}
+		}
+	}
+
+	private boolean containsNode(int node) {
+		int arity = symbol.arity();
+		for (int i = 0; i < arity; i++) {
+			if (getAdjacentSize(i, node) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public T put(Tuple key, T value) {
 		checkKey(key);
@@ -114,6 +152,11 @@ public abstract class VersionedInterpretation<T> implements Interpretation<T> {
 		return map.commit();
 	}
 
+	Version commitIndex() {
+		// Only interpretations with an {@link AdjacencyIndex} have to commit anything else than their map.
+		return null;
+	}
+
 	protected boolean shouldNotifyRestoreListeners() {
 		return !restoreListeners.isEmpty();
 	}
@@ -128,6 +171,14 @@ public abstract class VersionedInterpretation<T> implements Interpretation<T> {
 		map.restore(state);
 	}
 
+	public long estimateRestoreCost(Version state) {
+		return map.estimateRestoreCost(state);
+	}
+
+	void restoreIndex(Version indexState) {
+		// Nothing to restore if there is no {@link AdjacencyIndex}.
+	}
+
 	@Override
 	public void addListener(InterpretationListener<T> listener, boolean alsoWhenRestoring) {
 		listeners.add(listener);
@@ -142,27 +193,31 @@ public abstract class VersionedInterpretation<T> implements Interpretation<T> {
 		restoreListeners.remove(listener);
 	}
 
-	static <T> VersionedInterpretation<T> of(ModelImpl model, AnySymbol symbol, VersionedMapStore<Tuple, T> store) {
+	static <T> VersionedInterpretation<T> of(ModelImpl model, AnySymbol symbol, int symbolIndex,
+											 VersionedMapStore<Tuple, T> store, AdjacencyIndexStore indexStore) {
 		@SuppressWarnings("unchecked")
 		var typedSymbol = (Symbol<T>) symbol;
 		var map = store.createMap();
-		return of(model, typedSymbol, map);
+		var index = indexStore == null ? null : indexStore.createIndex(map);
+		return of(model, typedSymbol, symbolIndex, map, index);
 	}
 
-	static <T> VersionedInterpretation<T> of(ModelImpl model, AnySymbol symbol, VersionedMapStore<Tuple, T> store,
-											 Version state) {
+	static <T> VersionedInterpretation<T> of(ModelImpl model, AnySymbol symbol, int symbolIndex,
+											 VersionedMapStore<Tuple, T> store, AdjacencyIndexStore indexStore,
+											 Version state, Version indexState) {
 		@SuppressWarnings("unchecked")
 		var typedSymbol = (Symbol<T>) symbol;
 		var map = store.createMap(state);
-		return of(model, typedSymbol, map);
+		var index = indexStore == null ? null : indexStore.createIndex(map, indexState);
+		return of(model, typedSymbol, symbolIndex, map, index);
 	}
 
-	private static <T> VersionedInterpretation<T> of(ModelImpl model, Symbol<T> typedSymbol,
-													 VersionedMap<Tuple, T> map) {
+	private static <T> VersionedInterpretation<T> of(ModelImpl model, Symbol<T> typedSymbol, int symbolIndex,
+													 VersionedMap<Tuple, T> map, AdjacencyIndex index) {
 		return switch (typedSymbol.arity()) {
-			case 0 -> new NullaryVersionedInterpretation<>(model, typedSymbol, map);
-			case 1 -> new UnaryVersionedInterpretation<>(model, typedSymbol, map);
-			default -> new IndexedVersionedInterpretation<>(model, typedSymbol, map);
+			case 0 -> new NullaryVersionedInterpretation<>(model, typedSymbol, symbolIndex, map);
+			case 1 -> new UnaryVersionedInterpretation<>(model, typedSymbol, symbolIndex, map);
+			default -> new IndexedVersionedInterpretation<>(model, typedSymbol, symbolIndex, map, index);
 		};
 	}
 }
@@ -44,6 +44,18 @@ public interface StateCoderBuilder extends ModelAdapterBuilder {
 
 	StateCoderBuilder stateEquivalenceChecker(StateEquivalenceChecker stateEquivalenceChecker);
 
+	/**
+	 * Sets the maximal number of candidate morphisms tested by the default {@link StateEquivalenceChecker} before it
+	 * gives up and reports {@link StateEquivalenceChecker.EquivalenceResult#UNKNOWN}.
+	 * <p>
+	 * This setting has no effect if a custom checker was set with
+	 * {@link #stateEquivalenceChecker(StateEquivalenceChecker)}.
+	 *
+	 * @param limit The maximal number of tries, must be positive.
+	 * @return This builder.
+	 */
+	StateCoderBuilder stateEquivalenceCheckLimit(int limit);
+
 	@Override
 	StateCoderStoreAdapter build(ModelStore store);
 }
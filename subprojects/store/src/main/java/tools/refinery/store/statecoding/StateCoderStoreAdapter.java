@@ -12,6 +12,8 @@ import tools.refinery.store.model.Model;
 public interface StateCoderStoreAdapter extends ModelStoreAdapter {
 	StateEquivalenceChecker.EquivalenceResult checkEquivalence(Version v1, Version v2);
 
+	StateEquivalenceStatistics getEquivalenceStatistics();
+
 	@Override
 	StateCoderAdapter createModelAdapter(Model model);
 }
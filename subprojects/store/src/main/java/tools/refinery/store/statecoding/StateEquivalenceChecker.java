@@ -18,4 +18,8 @@ public interface StateEquivalenceChecker {
 	EquivalenceResult constructMorphism(
 			IndividualsSet individuals, List<? extends AnyInterpretation> interpretations1, ObjectCode code1,
 			List<? extends AnyInterpretation> interpretations2, ObjectCode code2);
+
+	default StateEquivalenceStatistics getStatistics() {
+		return StateEquivalenceStatistics.EMPTY;
+	}
 }
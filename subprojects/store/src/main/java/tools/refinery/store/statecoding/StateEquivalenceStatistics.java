@@ -0,0 +1,18 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.statecoding;
+
+/**
+ * Statistics about the morphism searches performed by a {@link StateEquivalenceChecker}.
+ *
+ * @param searches The number of morphism searches started.
+ * @param tries    The number of candidate morphisms tested.
+ * @param timeouts The number of searches that gave up after reaching the limit of tries.
+ * @param hits     The number of searches that found a morphism.
+ */
+public record StateEquivalenceStatistics(long searches, long tries, long timeouts, long hits) {
+	public static final StateEquivalenceStatistics EMPTY = new StateEquivalenceStatistics(0, 0, 0, 0);
+}
@@ -15,7 +15,7 @@ import tools.refinery.store.statecoding.StateCodeCalculatorFactory;
 import tools.refinery.store.statecoding.StateCoderBuilder;
 import tools.refinery.store.statecoding.StateCoderStoreAdapter;
 import tools.refinery.store.statecoding.StateEquivalenceChecker;
-import tools.refinery.store.statecoding.neighborhood.NeighborhoodCalculator;
+import tools.refinery.store.statecoding.neighborhood.IncrementalNeighborhoodCalculator;
 import tools.refinery.store.statecoding.stateequivalence.StateEquivalenceCheckerImpl;
 import tools.refinery.store.tuple.Tuple1;
 
@@ -27,8 +27,9 @@ public class StateCoderBuilderImpl extends AbstractModelAdapterBuilder<StateCode
 		implements StateCoderBuilder {
 	private final Set<AnySymbol> excluded = new HashSet<>();
 	private final MutableIntSet individuals = IntSets.mutable.empty();
-	private StateCodeCalculatorFactory calculator = NeighborhoodCalculator.factory();
-	private StateEquivalenceChecker checker = new StateEquivalenceCheckerImpl();
+	private StateCodeCalculatorFactory calculator = IncrementalNeighborhoodCalculator.factory();
+	private StateEquivalenceChecker checker;
+	private int equivalenceCheckLimit = StateEquivalenceCheckerImpl.LIMIT;
 
 	@Override
 	public StateCoderBuilder exclude(AnySymbol symbol) {
@@ -51,6 +52,17 @@ public class StateCoderBuilderImpl extends AbstractModelAdapterBuilder<StateCode
 		return this;
 	}
 
+	@Override
+	public StateCoderBuilder stateEquivalenceCheckLimit(int limit) {
+		checkNotConfigured();
+		if (limit <= 0) {
+			throw new IllegalArgumentException("State equivalence check limit must be positive, got %d"
+					.formatted(limit));
+		}
+		this.equivalenceCheckLimit = limit;
+		return this;
+	}
+
 	@Override
 	public StateCoderBuilder stateCodeCalculatorFactory(StateCodeCalculatorFactory codeCalculatorFactory) {
 		checkNotConfigured();
@@ -66,6 +78,7 @@ public class StateCoderBuilderImpl extends AbstractModelAdapterBuilder<StateCode
 				symbols.add(typed);
 			}
 		}
-		return new StateCoderStoreAdapterImpl(store, calculator, checker, symbols, individuals);
+		var equivalenceChecker = checker == null ? new StateEquivalenceCheckerImpl(equivalenceCheckLimit) : checker;
+		return new StateCoderStoreAdapterImpl(store, calculator, equivalenceChecker, symbols, individuals);
 	}
 }
@@ -14,6 +14,7 @@ import tools.refinery.store.statecoding.StateCodeCalculatorFactory;
 import tools.refinery.store.statecoding.StateCoderAdapter;
 import tools.refinery.store.statecoding.StateCoderStoreAdapter;
 import tools.refinery.store.statecoding.StateEquivalenceChecker;
+import tools.refinery.store.statecoding.StateEquivalenceStatistics;
 import tools.refinery.store.statecoding.neighborhood.IndividualsSet;
 import tools.refinery.store.statecoding.neighborhood.IndividualsArray;
 
@@ -67,6 +68,11 @@ public class StateCoderStoreAdapterImpl implements StateCoderStoreAdapter {
 		return equivalenceChecker.constructMorphism(individuals, i1, s1.objectCode(), i2, s2.objectCode());
 	}
 
+	@Override
+	public StateEquivalenceStatistics getEquivalenceStatistics() {
+		return equivalenceChecker.getStatistics();
+	}
+
 	@Override
 	public StateCoderAdapter createModelAdapter(Model model) {
 		var interpretations = symbols.stream().map(model::getInterpretation).toList();
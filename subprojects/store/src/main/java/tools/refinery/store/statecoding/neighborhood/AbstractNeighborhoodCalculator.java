@@ -39,6 +39,10 @@ public abstract class AbstractNeighborhoodCalculator<T> implements StateCodeCalc
 		return model;
 	}
 
+	protected int getDepth() {
+		return depth;
+	}
+
 	protected abstract List<T> getInterpretations();
 
 	protected abstract int getArity(T interpretation);
@@ -72,7 +76,7 @@ public abstract class AbstractNeighborhoodCalculator<T> implements StateCodeCalc
 		return new StateCoderResult((int) result, previousObjectCode);
 	}
 
-	private void ensureInitialized() {
+	protected void ensureInitialized() {
 		if (impactValues != null) {
 			return;
 		}
@@ -101,19 +105,25 @@ public abstract class AbstractNeighborhoodCalculator<T> implements StateCodeCalc
 		}
 	}
 
-	private long calculateLastSum(ObjectCode codes) {
-		long result = 0;
-		for (var nullImpactValue : nullImpactValues) {
-			result = murmur64Scramble(Objects.hashCode(getNullValue(nullImpactValue)), result);
-		}
+	protected long[] getImpactValue(T interpretation) {
+		return impactValues.get(interpretation);
+	}
 
+	private long calculateLastSum(ObjectCode codes) {
 		long accum = 0;
 		for (int i = 0; i < codes.getSize(); i++) {
 			final long hash = codes.get(i);
 			accum += hash;
 		}
-		result = murmur64Scramble(accum, result);
+		return calculateModelCode(accum);
+	}
 
+	protected long calculateModelCode(long objectCodeSum) {
+		long result = 0;
+		for (var nullImpactValue : nullImpactValues) {
+			result = murmur64Scramble(Objects.hashCode(getNullValue(nullImpactValue)), result);
+		}
+		result = murmur64Scramble(objectCodeSum, result);
 		return murmur64Finish(result);
 	}
 
@@ -193,7 +203,7 @@ public abstract class AbstractNeighborhoodCalculator<T> implements StateCodeCalc
 	protected long getTupleHash1(Tuple tuple, Object value, ObjectCode objectCodeImpl) {
 		long result = murmur64Scramble(Objects.hashCode(value), 0);
 		result = murmur64Scramble(objectCodeImpl.get(tuple.get(0)), result);
-		return murmur64Finish(result);
+		return finishTupleHash(result);
 	}
 
 	protected long getTupleHash2(Tuple tuple, Object value, ObjectCode objectCodeImpl) {
@@ -203,7 +213,7 @@ public abstract class AbstractNeighborhoodCalculator<T> implements StateCodeCalc
 		if (tuple.get(0) == tuple.get(1)) {
 			result = murmur64Scramble(result, 1);
 		}
-		return murmur64Finish(result);
+		return finishTupleHash(result);
 	}
 
 	protected long getTupleHashN(Tuple tuple, Object value, ObjectCode objectCodeImpl) {
@@ -211,7 +221,14 @@ public abstract class AbstractNeighborhoodCalculator<T> implements StateCodeCalc
 		for (int i = 0; i < tuple.getSize(); i++) {
 			result = murmur64Scramble(objectCodeImpl.get(tuple.get(i)), result);
 		}
-		return murmur64Finish(result);
+		return finishTupleHash(result);
+	}
+
+	private static long finishTupleHash(long h) {
+		long result = murmur64Finish(h);
+		// A value with a zero hash code on objects with zero codes would hash to zero. {@link ObjectCodeImpl} replaces
+		// zero partial sums with 1, so such tuples would make the object codes depend on the order of the tuples.
+		return result == 0 ? 1 : result;
 	}
 
 	protected void addHash(ObjectCodeImpl objectCodeImpl, int o, long impact, long tupleHash) {
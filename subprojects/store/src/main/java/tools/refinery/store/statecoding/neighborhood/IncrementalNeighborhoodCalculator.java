@@ -0,0 +1,411 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.statecoding.neighborhood;
+
+import org.eclipse.collections.api.factory.primitive.IntIntMaps;
+import org.eclipse.collections.api.factory.primitive.IntLongMaps;
+import org.eclipse.collections.api.map.primitive.IntLongMap;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.api.map.primitive.MutableIntLongMap;
+import tools.refinery.store.model.Interpretation;
+import tools.refinery.store.model.InterpretationListener;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.statecoding.ObjectCode;
+import tools.refinery.store.statecoding.StateCodeCalculatorFactory;
+import tools.refinery.store.statecoding.StateCoderResult;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.*;
+
+/**
+ * A {@link NeighborhoodCalculator} that keeps the object codes of every round of the last calculation and, on the
+ * next calculation, only recomputes the codes of objects within the radius affected by the changed tuples.
+ * <p>
+ * Changed tuples are collected by interpretation listeners that are also notified when the model is restored, so
+ * both rule applications and jumps between states are handled incrementally. In round {@code r}, only the changed
+ * tuples and the tuples adjacent to objects whose code changed in round {@code r - 1} are rehashed. If too many
+ * tuples change, or the changes spread to most of the model, the remaining rounds are recomputed from scratch.
+ */
+public class IncrementalNeighborhoodCalculator extends NeighborhoodCalculator {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int maxRounds;
+	private final List<TrackedInterpretation<?>> trackedInterpretations = new ArrayList<>();
+	private final ObjectCodeImpl individualCodes = new ObjectCodeImpl();
+	private final MutableIntIntMap oldDegrees = IntIntMaps.mutable.empty();
+	private final long[][] sums;
+	private final long[] codeSums;
+	private int[] degrees = new int[INITIAL_CAPACITY];
+	private int size;
+	private int activeNodeCount;
+	private long tupleCount;
+	private int changedTupleCount;
+	private boolean tracking;
+	private boolean recalculationRequired;
+
+	protected IncrementalNeighborhoodCalculator(Model model, List<? extends Interpretation<?>> interpretations,
+												IndividualsSet individuals, int depth) {
+		super(model, interpretations, individuals, depth);
+		maxRounds = Math.max(depth, 0) + 1;
+		sums = new long[maxRounds][INITIAL_CAPACITY];
+		codeSums = new long[maxRounds];
+	}
+
+	@Override
+	public StateCoderResult calculateCodes() {
+		getModel().checkCancelled();
+		if (!tracking) {
+			startTracking();
+		}
+		if (recalculationRequired) {
+			recalculate();
+		} else if (changedTupleCount > 0) {
+			update();
+		}
+		// Same number of rounds as in {@link AbstractNeighborhoodCalculator#calculateCodes()}.
+		int rounds = Math.max(Math.min(getDepth(), activeNodeCount), 0) + 1;
+		long modelCode = calculateModelCode(codeSums[rounds - 1]);
+		return new StateCoderResult((int) modelCode, getObjectCode(rounds));
+	}
+
+	private void startTracking() {
+		ensureInitialized();
+		initializeWithIndividuals(individualCodes);
+		for (var interpretation : getInterpretations()) {
+			int arity = getArity(interpretation);
+			if (arity > 0) {
+				trackedInterpretations.add(track(interpretation, arity));
+			}
+		}
+		tracking = true;
+		recalculationRequired = true;
+	}
+
+	private <T> TrackedInterpretation<T> track(Interpretation<T> interpretation, int arity) {
+		var trackedInterpretation = new TrackedInterpretation<>(interpretation, arity,
+				getImpactValue(interpretation));
+		interpretation.addListener(trackedInterpretation, true);
+		return trackedInterpretation;
+	}
+
+	private void requireRecalculation() {
+		recalculationRequired = true;
+		clearChangedTuples();
+	}
+
+	private void clearChangedTuples() {
+		for (var trackedInterpretation : trackedInterpretations) {
+			trackedInterpretation.oldValues.clear();
+		}
+		changedTupleCount = 0;
+	}
+
+	private void recalculate() {
+		// Stays set if the calculation is cancelled, so that we start over next time.
+		recalculationRequired = true;
+		clearChangedTuples();
+		oldDegrees.clear();
+		Arrays.fill(degrees, 0);
+		activeNodeCount = 0;
+		tupleCount = 0;
+		for (var trackedInterpretation : trackedInterpretations) {
+			var cursor = trackedInterpretation.interpretation.getAll();
+			while (cursor.move()) {
+				if (trackedInterpretation.isPresent(cursor.getValue())) {
+					adjustDegrees(cursor.getKey(), 1, false);
+				}
+			}
+		}
+		for (int round = 1; round <= maxRounds; round++) {
+			getModel().checkCancelled();
+			recalculateRound(round);
+		}
+		recalculationRequired = false;
+	}
+
+	private void recalculateRound(int round) {
+		long[] roundSums = sums[round - 1];
+		Arrays.fill(roundSums, 0, size, 0);
+		var previous = getObjectCode(round - 1);
+		for (var trackedInterpretation : trackedInterpretations) {
+			var cursor = trackedInterpretation.interpretation.getAll();
+			while (cursor.move()) {
+				var value = cursor.getValue();
+				if (trackedInterpretation.isPresent(value)) {
+					addContribution(trackedInterpretation, cursor.getKey(), value, previous, roundSums, null, false);
+				}
+			}
+		}
+		long codeSum = 0;
+		for (int node = 0; node < size; node++) {
+			codeSum += getCode(round, node);
+		}
+		codeSums[round - 1] = codeSum;
+	}
+
+	private void update() {
+		// Stays set if the calculation is cancelled, so that we start over next time.
+		recalculationRequired = true;
+		var changes = collectChanges();
+		IntLongMap previousOldCodes = IntLongMaps.mutable.empty();
+		for (int round = 1; round <= maxRounds; round++) {
+			getModel().checkCancelled();
+			if (previousOldCodes.size() > activeNodeCount / 2) {
+				// Rehashing the neighborhood of most nodes is more expensive than a full round.
+				for (int remainingRound = round; remainingRound <= maxRounds; remainingRound++) {
+					getModel().checkCancelled();
+					recalculateRound(remainingRound);
+				}
+				break;
+			}
+			previousOldCodes = updateRound(round, changes, previousOldCodes);
+		}
+		oldDegrees.clear();
+		clearChangedTuples();
+		recalculationRequired = false;
+	}
+
+	private List<TupleChange> collectChanges() {
+		var changes = new ArrayList<TupleChange>(changedTupleCount);
+		for (var trackedInterpretation : trackedInterpretations) {
+			var iterator = trackedInterpretation.oldValues.entrySet().iterator();
+			while (iterator.hasNext()) {
+				var entry = iterator.next();
+				var tuple = entry.getKey();
+				var oldValue = entry.getValue();
+				var newValue = trackedInterpretation.interpretation.get(tuple);
+				if (Objects.equals(oldValue, newValue)) {
+					// Tuples not in {@code oldValues} will be rehashed along with their changed neighbors.
+					iterator.remove();
+					continue;
+				}
+				boolean wasPresent = trackedInterpretation.isPresent(oldValue);
+				boolean isPresent = trackedInterpretation.isPresent(newValue);
+				if (wasPresent != isPresent) {
+					adjustDegrees(tuple, isPresent ? 1 : -1, true);
+				}
+				changes.add(new TupleChange(trackedInterpretation, tuple, oldValue, newValue));
+			}
+		}
+		return changes;
+	}
+
+	private void adjustDegrees(Tuple tuple, int delta, boolean recordOldDegrees) {
+		int arity = tuple.getSize();
+		for (int i = 0; i < arity; i++) {
+			int node = tuple.get(i);
+			ensureCapacity(node + 1);
+			int degree = degrees[node];
+			if (recordOldDegrees) {
+				oldDegrees.getIfAbsentPut(node, degree);
+			}
+			int newDegree = degree + delta;
+			degrees[node] = newDegree;
+			if (degree == 0) {
+				activeNodeCount++;
+			} else if (newDegree == 0) {
+				activeNodeCount--;
+			}
+		}
+		tupleCount += delta;
+	}
+
+	private MutableIntLongMap updateRound(int round, List<TupleChange> changes, IntLongMap previousOldCodes) {
+		long[] roundSums = sums[round - 1];
+		var newPrevious = getObjectCode(round - 1);
+		var oldPrevious = new OverriddenObjectCode(newPrevious, previousOldCodes);
+		MutableIntLongMap oldSums = IntLongMaps.mutable.empty();
+		for (var change : changes) {
+			var trackedInterpretation = change.trackedInterpretation();
+			var tuple = change.tuple();
+			if (trackedInterpretation.isPresent(change.oldValue())) {
+				addContribution(trackedInterpretation, tuple, change.oldValue(), oldPrevious, roundSums, oldSums,
+						true);
+			}
+			if (trackedInterpretation.isPresent(change.newValue())) {
+				addContribution(trackedInterpretation, tuple, change.newValue(), newPrevious, roundSums, oldSums,
+						false);
+			}
+		}
+		previousOldCodes.forEachKey(node -> {
+			for (var trackedInterpretation : trackedInterpretations) {
+				for (int slot = 0; slot < trackedInterpretation.arity; slot++) {
+					var cursor = trackedInterpretation.interpretation.getAdjacent(slot, node);
+					while (cursor.move()) {
+						var tuple = cursor.getKey();
+						if (!trackedInterpretation.oldValues.containsKey(tuple) &&
+								isFirstChangedSlot(tuple, slot, previousOldCodes)) {
+							var value = cursor.getValue();
+							addContribution(trackedInterpretation, tuple, value, oldPrevious, roundSums, oldSums,
+									true);
+							addContribution(trackedInterpretation, tuple, value, newPrevious, roundSums, oldSums,
+									false);
+						}
+					}
+				}
+			}
+		});
+		MutableIntLongMap oldCodes = IntLongMaps.mutable.empty();
+		long codeSumDelta = 0;
+		for (var entry : oldSums.keyValuesView()) {
+			int node = entry.getOne();
+			long oldCode = wasActive(node) ? toCode(entry.getTwo()) : 0;
+			long newCode = getCode(round, node);
+			if (oldCode != newCode) {
+				oldCodes.put(node, oldCode);
+				codeSumDelta += newCode - oldCode;
+			}
+		}
+		codeSums[round - 1] += codeSumDelta;
+		return oldCodes;
+	}
+
+	private static boolean isFirstChangedSlot(Tuple tuple, int slot, IntLongMap changedNodes) {
+		// Make sure that tuples adjacent to multiple changed nodes are only rehashed once.
+		for (int i = 0; i < slot; i++) {
+			if (changedNodes.containsKey(tuple.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void addContribution(TrackedInterpretation<?> trackedInterpretation, Tuple tuple, Object value,
+								 ObjectCode previous, long[] roundSums, MutableIntLongMap oldSums,
+								 boolean subtract) {
+		int arity = trackedInterpretation.arity;
+		long tupleHash = switch (arity) {
+			case 1 -> getTupleHash1(tuple, value, previous);
+			case 2 -> getTupleHash2(tuple, value, previous);
+			default -> getTupleHashN(tuple, value, previous);
+		};
+		if (subtract) {
+			tupleHash = -tupleHash;
+		}
+		long[] impactValue = trackedInterpretation.impactValue;
+		for (int i = 0; i < arity; i++) {
+			int node = tuple.get(i);
+			if (oldSums != null) {
+				oldSums.getIfAbsentPut(node, roundSums[node]);
+			}
+			roundSums[node] += tupleHash * impactValue[i];
+		}
+	}
+
+	private boolean wasActive(int node) {
+		int degree = oldDegrees.containsKey(node) ? oldDegrees.get(node) : degrees[node];
+		return degree > 0;
+	}
+
+	private long getCode(int round, int node) {
+		if (round == 0) {
+			return individualCodes.get(node);
+		}
+		if (node >= size || degrees[node] == 0) {
+			return 0;
+		}
+		return toCode(sums[round - 1][node]);
+	}
+
+	private static long toCode(long sum) {
+		// {@link ObjectCodeImpl} reserves 0 for objects without any tuples.
+		return sum == 0 ? 1 : sum;
+	}
+
+	private ObjectCode getObjectCode(int round) {
+		return round == 0 ? individualCodes : new RoundObjectCode(round);
+	}
+
+	private void ensureCapacity(int requiredSize) {
+		if (requiredSize <= size) {
+			return;
+		}
+		size = requiredSize;
+		if (requiredSize <= degrees.length) {
+			return;
+		}
+		int newLength = Math.max(requiredSize, degrees.length * 2);
+		degrees = Arrays.copyOf(degrees, newLength);
+		for (int i = 0; i < maxRounds; i++) {
+			sums[i] = Arrays.copyOf(sums[i], newLength);
+		}
+	}
+
+	public static StateCodeCalculatorFactory factory(int depth) {
+		return (model, interpretations, individuals) -> new IncrementalNeighborhoodCalculator(model,
+				interpretations, individuals, depth);
+	}
+
+	public static StateCodeCalculatorFactory factory() {
+		return factory(DEFAULT_DEPTH);
+	}
+
+	private final class TrackedInterpretation<T> implements InterpretationListener<T> {
+		private final Interpretation<T> interpretation;
+		private final int arity;
+		private final long[] impactValue;
+		private final T defaultValue;
+		private final Map<Tuple, Object> oldValues = new HashMap<>();
+
+		private TrackedInterpretation(Interpretation<T> interpretation, int arity, long[] impactValue) {
+			this.interpretation = interpretation;
+			this.arity = arity;
+			this.impactValue = impactValue;
+			defaultValue = interpretation.getSymbol().defaultValue();
+		}
+
+		public boolean isPresent(Object value) {
+			return !Objects.equals(value, defaultValue);
+		}
+
+		@Override
+		public void put(Tuple key, T fromValue, T toValue, boolean restoring) {
+			if (recalculationRequired || oldValues.containsKey(key)) {
+				return;
+			}
+			oldValues.put(key, fromValue);
+			changedTupleCount++;
+			if (changedTupleCount > tupleCount / 2) {
+				// Rehashing the neighborhood of most tuples is more expensive than starting over.
+				requireRecalculation();
+			}
+		}
+	}
+
+	private record TupleChange(TrackedInterpretation<?> trackedInterpretation, Tuple tuple, Object oldValue,
+							   Object newValue) {
+	}
+
+	private final class RoundObjectCode implements ObjectCode {
+		private final int round;
+
+		private RoundObjectCode(int round) {
+			this.round = round;
+		}
+
+		@Override
+		public long get(int object) {
+			return getCode(round, object);
+		}
+
+		@Override
+		public int getSize() {
+			return size;
+		}
+	}
+
+	private record OverriddenObjectCode(ObjectCode objectCode, IntLongMap overrides) implements ObjectCode {
+		@Override
+		public long get(int object) {
+			return overrides.containsKey(object) ? overrides.get(object) : objectCode.get(object);
+		}
+
+		@Override
+		public int getSize() {
+			return objectCode.getSize();
+		}
+	}
+}
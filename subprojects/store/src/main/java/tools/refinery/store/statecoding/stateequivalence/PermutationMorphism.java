@@ -29,6 +29,40 @@ public class PermutationMorphism implements Morphism {
 		return next(0);
 	}
 
+	/**
+	 * Counts the number of permutations this morphism can iterate over.
+	 *
+	 * @param limit The value to return if there are more than {@code limit} permutations.
+	 * @return The number of permutations, or {@code limit} if it would be larger.
+	 */
+	long countPermutations(long limit) {
+		long count = 1;
+		for (var group : permutationsGroups) {
+			int groupSize = group.size();
+			if (count > limit / groupSize) {
+				return limit;
+			}
+			count *= groupSize;
+		}
+		return Math.min(count, limit);
+	}
+
+	/**
+	 * Jumps to the permutation that would be reached by calling {@link #next()} {@code index} times on a fresh
+	 * morphism.
+	 *
+	 * @param index The index of the permutation.
+	 */
+	void seek(long index) {
+		long remaining = index;
+		for (int position = 0; position < selection.length; position++) {
+			int groupSize = permutationsGroups.get(position).size();
+			selection[position] = (int) (remaining % groupSize);
+			remaining /= groupSize;
+		}
+		hasNext = remaining == 0;
+	}
+
 	private boolean next(int position) {
 		if (position >= permutationsGroups.size()) {
 			this.hasNext = false;
@@ -17,16 +17,51 @@ import tools.refinery.store.model.Interpretation;
 import tools.refinery.store.statecoding.Morphism;
 import tools.refinery.store.statecoding.ObjectCode;
 import tools.refinery.store.statecoding.StateEquivalenceChecker;
+import tools.refinery.store.statecoding.StateEquivalenceStatistics;
 import tools.refinery.store.statecoding.neighborhood.IndividualsSet;
 import tools.refinery.store.tuple.Tuple;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
 
 public class StateEquivalenceCheckerImpl implements StateEquivalenceChecker {
 	public static final int LIMIT = 1000;
 
+	/**
+	 * Number of candidate morphisms tested by a single task before splitting the search.
+	 */
+	private static final long SEQUENTIAL_THRESHOLD = 64;
+
+	private final int limit;
+	private final LongAdder searches = new LongAdder();
+	private final LongAdder tries = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+
+	public StateEquivalenceCheckerImpl() {
+		this(LIMIT);
+	}
+
+	public StateEquivalenceCheckerImpl(int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("Limit must be positive, got %d".formatted(limit));
+		}
+		this.limit = limit;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public StateEquivalenceStatistics getStatistics() {
+		return new StateEquivalenceStatistics(searches.sum(), tries.sum(), timeouts.sum(), hits.sum());
+	}
+
 	@Override
 	public EquivalenceResult constructMorphism(IndividualsSet individuals,
 											   List<? extends AnyInterpretation> interpretations1,
@@ -44,22 +79,29 @@ public class StateEquivalenceCheckerImpl implements StateEquivalenceChecker {
 			return EquivalenceResult.DIFFERENT;
 		}
 
-		boolean hasNext;
-		PermutationMorphism morphism = new PermutationMorphism(object2PermutationGroup, permutationsGroups);
-		int tried = 0;
-		do {
-			if (testMorphism(interpretations1, interpretations2, morphism)) {
-				return permutations;
-			}
-
-			if (tried >= LIMIT) {
-				return EquivalenceResult.UNKNOWN;
-			}
-
-			hasNext = morphism.next();
-			tried++;
-		} while (hasNext);
+		searches.increment();
+		var search = new MorphismSearch(interpretations1, interpretations2, object2PermutationGroup,
+				permutationsGroups);
+		// Count one more permutation than the limit to detect whether we have to give up.
+		long count = new PermutationMorphism(object2PermutationGroup, permutationsGroups)
+				.countPermutations(limit + 1L);
+		boolean truncated = count > limit;
+		long end = truncated ? limit : count;
+		boolean found;
+		if (end <= SEQUENTIAL_THRESHOLD) {
+			found = search.search(0, end);
+		} else {
+			found = ForkJoinPool.commonPool().invoke(new MorphismSearchTask(search, 0, end));
+		}
 
+		if (found) {
+			hits.increment();
+			return permutations;
+		}
+		if (truncated) {
+			timeouts.increment();
+			return EquivalenceResult.UNKNOWN;
+		}
 		if (permutations == EquivalenceResult.UNKNOWN) {
 			return EquivalenceResult.UNKNOWN;
 		} else {
@@ -126,8 +168,8 @@ public class StateEquivalenceCheckerImpl implements StateEquivalenceChecker {
 		}
 	}
 
-	private boolean testMorphism(List<? extends AnyInterpretation> s, List<? extends AnyInterpretation> t,
-								 Morphism m) {
+	private static boolean testMorphism(List<? extends AnyInterpretation> s, List<? extends AnyInterpretation> t,
+										Morphism m) {
 		for (int interpretationIndex = 0; interpretationIndex < s.size(); interpretationIndex++) {
 			var sI = s.get(interpretationIndex);
 			var tI = t.get(interpretationIndex);
@@ -148,7 +190,7 @@ public class StateEquivalenceCheckerImpl implements StateEquivalenceChecker {
 		return true;
 	}
 
-	private Tuple apply(Tuple t, Morphism m) {
+	private static Tuple apply(Tuple t, Morphism m) {
 		final int arity = t.getSize();
 		if (arity == 0) {
 			return Tuple.of();
@@ -164,4 +206,68 @@ public class StateEquivalenceCheckerImpl implements StateEquivalenceChecker {
 			return Tuple.of(newTupleIndices);
 		}
 	}
+
+	/**
+	 * Tests ranges of candidate morphisms. Ranges may be tested concurrently, because the compared models are only
+	 * read during the search.
+	 */
+	private class MorphismSearch {
+		private final List<? extends AnyInterpretation> interpretations1;
+		private final List<? extends AnyInterpretation> interpretations2;
+		private final IntIntMap object2PermutationGroup;
+		private final List<List<IntIntMap>> permutationsGroups;
+		private volatile boolean found;
+
+		MorphismSearch(List<? extends AnyInterpretation> interpretations1,
+					   List<? extends AnyInterpretation> interpretations2, IntIntMap object2PermutationGroup,
+					   List<List<IntIntMap>> permutationsGroups) {
+			this.interpretations1 = interpretations1;
+			this.interpretations2 = interpretations2;
+			this.object2PermutationGroup = object2PermutationGroup;
+			this.permutationsGroups = permutationsGroups;
+		}
+
+		boolean search(long start, long end) {
+			var morphism = new PermutationMorphism(object2PermutationGroup, permutationsGroups);
+			morphism.seek(start);
+			long tried = 0;
+			try {
+				for (long i = start; i < end && !found; i++) {
+					tried++;
+					if (testMorphism(interpretations1, interpretations2, morphism)) {
+						found = true;
+						return true;
+					}
+					morphism.next();
+				}
+				return found;
+			} finally {
+				tries.add(tried);
+			}
+		}
+	}
+
+	private static class MorphismSearchTask extends RecursiveTask<Boolean> {
+		private final transient MorphismSearch search;
+		private final long start;
+		private final long end;
+
+		MorphismSearchTask(MorphismSearch search, long start, long end) {
+			this.search = search;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected Boolean compute() {
+			if (end - start <= SEQUENTIAL_THRESHOLD) {
+				return search.search(start, end);
+			}
+			long middle = start + (end - start) / 2;
+			var left = new MorphismSearchTask(search, start, middle);
+			var right = new MorphismSearchTask(search, middle, end);
+			invokeAll(left, right);
+			return left.join() || right.join();
+		}
+	}
 }
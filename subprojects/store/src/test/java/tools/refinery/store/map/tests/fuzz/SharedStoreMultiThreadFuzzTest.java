@@ -0,0 +1,146 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.map.tests.fuzz;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.refinery.store.map.ContinuousHashProvider;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMap;
+import tools.refinery.store.map.VersionedMapStore;
+import tools.refinery.store.map.internal.state.VersionedMapStoreStateConfiguration;
+import tools.refinery.store.map.internal.state.VersionedMapStoreStateImpl;
+import tools.refinery.store.map.tests.fuzz.utils.FuzzTestUtils;
+import tools.refinery.store.map.tests.utils.MapTestEnvironment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+import static tools.refinery.store.map.tests.fuzz.utils.FuzzTestCollections.*;
+
+/**
+ * Commits maps of a store group sharing a node cache concurrently.
+ * <p>
+ * Pairs of threads perform the same modifications on maps of different stores, so they intern equal nodes into the
+ * shared cache at the same time.
+ */
+class SharedStoreMultiThreadFuzzTest {
+	private static final int NUMBER_OF_THREADS = 6;
+
+	private void runFuzzTest(String scenario, int seed, int steps, int maxKey, int maxValue, boolean nullDefault,
+							 int commitFrequency, boolean evilHash, boolean versionFreeing) {
+		String[] values = MapTestEnvironment.prepareValues(maxValue, nullDefault);
+		ContinuousHashProvider<Integer> chp = MapTestEnvironment.prepareHashProvider(evilHash);
+		var config = new VersionedMapStoreStateConfiguration(true, true, true, versionFreeing);
+		List<VersionedMapStore<Integer, String>> stores =
+				VersionedMapStoreStateImpl.createSharedVersionedMapStores(NUMBER_OF_THREADS, chp, values[0], config);
+
+		var startLatch = new CountDownLatch(1);
+		List<Map<Integer, Version>> index2Versions = new ArrayList<>(NUMBER_OF_THREADS);
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		try (var executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS)) {
+			var futures = new ArrayList<Future<Map<Integer, Version>>>(NUMBER_OF_THREADS);
+			for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+				var store = stores.get(i);
+				var threadScenario = scenario + "-T" + (i + 1);
+				int threadSeed = seed + i / 2;
+				futures.add(executorService.submit(() -> {
+					startLatch.await();
+					return putsAndCommitsThenRestore(threadScenario, store, steps, maxKey, values, threadSeed,
+							commitFrequency, errors);
+				}));
+			}
+			startLatch.countDown();
+			for (var future : futures) {
+				index2Versions.add(future.get());
+			}
+		} catch (ExecutionException e) {
+			fail(scenario + ": thread failed", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail(scenario + ": interrupted", e);
+		}
+
+		assertEquals(Collections.emptyList(), errors);
+		for (int i = 0; i + 1 < NUMBER_OF_THREADS; i += 2) {
+			var versions = index2Versions.get(i);
+			var otherVersions = index2Versions.get(i + 1);
+			assertEquals(versions.keySet(), otherVersions.keySet());
+			for (var entry : versions.entrySet()) {
+				// Equal maps committed concurrently to stores sharing a node cache must share their root node.
+				assertSame(entry.getValue(), otherVersions.get(entry.getKey()),
+						scenario + ": versions of T" + (i + 1) + " and T" + (i + 2) + " at step " + entry.getKey());
+			}
+		}
+	}
+
+	private static Map<Integer, Version> putsAndCommitsThenRestore(
+			String scenario, VersionedMapStore<Integer, String> store, int steps, int maxKey, String[] values,
+			int seed, int commitFrequency, List<Throwable> errors) {
+		// 1. build a map with versions
+		Random r = new Random(seed);
+		VersionedMap<Integer, String> versioned = store.createMap();
+		Map<Integer, Version> index2Version = new HashMap<>();
+		for (int i = 0; i < steps; i++) {
+			int index = i + 1;
+			versioned.put(r.nextInt(maxKey), values[r.nextInt(values.length)]);
+			if (index % commitFrequency == 0) {
+				index2Version.put(i, versioned.commit());
+			}
+			MapTestEnvironment.printStatus(scenario, index, steps, "building");
+		}
+
+		// 2. compare the versions to a non-versioned reference while the other threads may still be committing
+		VersionedMap<Integer, String> reference = store.createMap();
+		r = new Random(seed);
+		for (int i = 0; i < steps; i++) {
+			int index = i + 1;
+			reference.put(r.nextInt(maxKey), values[r.nextInt(values.length)]);
+			if (index % commitFrequency == 0) {
+				var version = index2Version.get(i);
+				versioned.restore(version);
+				MapTestEnvironment.compareTwoMaps(scenario + ":" + index, reference, versioned, errors);
+				MapTestEnvironment.compareTwoMaps(scenario + ":" + index, reference, store.createMap(version),
+						errors);
+			}
+			MapTestEnvironment.printStatus(scenario, index, steps, "comparison");
+		}
+		return index2Version;
+	}
+
+	static final String title = "Shared Store MultiThread {index}/{0} Steps={1} Keys={2} Values={3} " +
+			"nullDefault={4} commit frequency={5} seed={6} evil-hash={7} version freeing={8}";
+
+	@ParameterizedTest(name = title)
+	@MethodSource
+	@Timeout(value = 10)
+	@Tag("smoke")
+	void parametrizedFastFuzz(int ignoredTests, int steps, int noKeys, int noValues, boolean nullDefault,
+							  int commitFrequency, int seed, boolean evilHash, boolean versionFreeing) {
+		runFuzzTest("SharedMultiThreadS" + steps + "K" + noKeys + "V" + noValues + "s" + seed, seed, steps, noKeys,
+				noValues, nullDefault, commitFrequency, evilHash, versionFreeing);
+	}
+
+	static Stream<Arguments> parametrizedFastFuzz() {
+		return FuzzTestUtils.permutationWithSize(stepCounts, keyCounts, valueCounts, nullDefaultOptions,
+				commitFrequencyOptions, randomSeedOptions, new Object[]{false, true}, new Object[]{false, true});
+	}
+}
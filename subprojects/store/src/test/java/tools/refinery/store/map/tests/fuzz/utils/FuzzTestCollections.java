@@ -47,7 +47,15 @@ public final class FuzzTestCollections {
 			VersionedMapStore.<Integer,String>builder()
 					.deltaTransactionStrategy(VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy.SET),
 			// List based transactions
+			VersionedMapStore.<Integer,String>builder()
+					.deltaTransactionStrategy(VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy.LIST),
+			// Set based transactions with frequent checkpoints
+			VersionedMapStore.<Integer,String>builder()
+					.deltaTransactionStrategy(VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy.SET)
+					.deltaCheckpointInterval(4),
+			// List based transactions with checkpoints after every transaction
 			VersionedMapStore.<Integer,String>builder()
 					.deltaTransactionStrategy(VersionedMapStoreFactoryBuilder.DeltaTransactionStrategy.LIST)
+					.deltaCheckpointInterval(1)
 	};
 }
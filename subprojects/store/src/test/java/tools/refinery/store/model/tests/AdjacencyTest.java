@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.tests;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.model.Interpretation;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdjacencyTest {
+	private static final int NODE_COUNT = 20;
+
+	private static final Symbol<Integer> parents = new Symbol<>("parents", 3, Integer.class, 0);
+
+	@Test
+	void adjacencyTest() {
+		var store = ModelStore.builder().symbols(parents).build();
+		try (var model = store.createEmptyModel()) {
+			var interpretation = model.getInterpretation(parents);
+			interpretation.put(Tuple.of(0, 1, 2), 1);
+			interpretation.put(Tuple.of(0, 2, 1), 2);
+			interpretation.put(Tuple.of(3, 1, 1), 3);
+			interpretation.put(Tuple.of(0, 2, 1), 0);
+
+			assertAdjacent(Map.of(Tuple.of(0, 1, 2), 1), interpretation, 0, 0);
+			assertAdjacent(Map.of(Tuple.of(0, 1, 2), 1, Tuple.of(3, 1, 1), 3), interpretation, 1, 1);
+			assertAdjacent(Map.of(Tuple.of(3, 1, 1), 3), interpretation, 2, 1);
+			assertAdjacent(Map.of(), interpretation, 0, 2);
+			assertEquals(2, interpretation.getSlotSize(0));
+			assertEquals(1, interpretation.getSlotSize(1));
+			assertEquals(2, interpretation.getSlotSize(2));
+		}
+	}
+
+	@Test
+	void randomAdjacencyTest() {
+		var store = ModelStore.builder().symbols(parents).build();
+		var random = new Random(1);
+		var versions = new ArrayList<Version>();
+		var contents = new HashMap<Version, Map<Tuple, Integer>>();
+		try (var model = store.createEmptyModel()) {
+			var interpretation = model.getInterpretation(parents);
+			var expected = new HashMap<Tuple, Integer>();
+			for (int step = 0; step < 100; step++) {
+				if (!versions.isEmpty() && random.nextInt(4) == 0) {
+					var version = versions.get(random.nextInt(versions.size()));
+					model.restore(version);
+					expected = new HashMap<>(contents.get(version));
+				}
+				// Use enough changes to grow adjacency lists beyond a single chunk.
+				int changes = random.nextInt(10) == 0 ? 300 : random.nextInt(10);
+				for (int i = 0; i < changes; i++) {
+					var key = Tuple.of(random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT),
+							random.nextInt(NODE_COUNT));
+					int value = random.nextInt(3);
+					interpretation.put(key, value);
+					if (value == 0) {
+						expected.remove(key);
+					} else {
+						expected.put(key, value);
+					}
+				}
+				assertAllAdjacent(expected, interpretation);
+				var version = model.commit();
+				versions.add(version);
+				contents.put(version, new HashMap<>(expected));
+				try (var freshModel = store.createModelForState(version)) {
+					assertAllAdjacent(expected, freshModel.getInterpretation(parents));
+				}
+			}
+		}
+	}
+
+	private static void assertAllAdjacent(Map<Tuple, Integer> expected, Interpretation<Integer> interpretation) {
+		for (int slot = 0; slot < 3; slot++) {
+			var expectedNodes = new HashSet<Integer>();
+			for (int node = 0; node < NODE_COUNT; node++) {
+				var expectedAdjacent = new HashMap<Tuple, Integer>();
+				for (var entry : expected.entrySet()) {
+					if (entry.getKey().get(slot) == node) {
+						expectedAdjacent.put(entry.getKey(), entry.getValue());
+						expectedNodes.add(node);
+					}
+				}
+				assertAdjacent(expectedAdjacent, interpretation, slot, node);
+			}
+			assertEquals(expectedNodes.size(), interpretation.getSlotSize(slot));
+		}
+	}
+
+	private static void assertAdjacent(Map<Tuple, Integer> expected, Interpretation<Integer> interpretation,
+									   int slot, int node) {
+		assertEquals(expected.size(), interpretation.getAdjacentSize(slot, node));
+		var actual = new HashMap<Tuple, Integer>();
+		var cursor = interpretation.getAdjacent(slot, node);
+		while (cursor.move()) {
+			actual.put(cursor.getKey(), cursor.getValue());
+		}
+		assertEquals(expected, actual);
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.tests;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.map.VersionedMapStoreFactoryBuilder;
+import tools.refinery.store.model.BackendStrategy;
+import tools.refinery.store.model.Interpretation;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackendStrategyTest {
+	private static final int NODE_COUNT = 10;
+
+	private static final Symbol<Integer> age = new Symbol<>("age", 1, Integer.class, 0);
+	private static final Symbol<Boolean> friend = Symbol.of("friend", 2);
+
+	@ParameterizedTest
+	@EnumSource(BackendStrategy.class)
+	void randomRestoreTest(BackendStrategy backendStrategy) {
+		var store = ModelStore.builder()
+				.symbols(age, friend)
+				.backendStrategy(backendStrategy)
+				.build();
+		var random = new Random(1);
+		var versions = new ArrayList<Version>();
+		var contents = new HashMap<Version, Map<Tuple, Boolean>>();
+		try (var model = store.createEmptyModel()) {
+			var friendInterpretation = model.getInterpretation(friend);
+			var expected = new HashMap<Tuple, Boolean>();
+			for (int step = 0; step < 500; step++) {
+				// Alternate between extending a long branch and jumping back to its beginning, so that the adaptive
+				// backend sees both cheap and expensive restores.
+				if (!versions.isEmpty() && step > 200 && random.nextBoolean()) {
+					var version = random.nextBoolean() ? versions.get(random.nextInt(10)) :
+							versions.get(random.nextInt(versions.size()));
+					assertDiff(store, model, version, expected, contents.get(version));
+					model.restore(version);
+					expected = new HashMap<>(contents.get(version));
+				}
+				for (int i = 0; i < 3; i++) {
+					var key = Tuple.of(random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT));
+					boolean value = random.nextBoolean();
+					friendInterpretation.put(key, value);
+					if (value) {
+						expected.put(key, true);
+					} else {
+						expected.remove(key);
+					}
+				}
+				model.getInterpretation(age).put(Tuple.of(0), step);
+				assertContents(expected, friendInterpretation);
+				var version = model.commit();
+				versions.add(version);
+				contents.put(version, new HashMap<>(expected));
+			}
+		}
+		for (int i = 0; i < 20; i++) {
+			var version = versions.get(random.nextInt(versions.size()));
+			try (var model = store.createModelForState(version)) {
+				assertContents(contents.get(version), model.getInterpretation(friend));
+			}
+		}
+		var statistics = store.getBackendStatistics().get(friend);
+		if (backendStrategy == BackendStrategy.ADAPTIVE) {
+			assertEquals(500, statistics.commits());
+			assertTrue(statistics.switches() > 0);
+			assertEquals(VersionedMapStoreFactoryBuilder.StoreStrategy.STATE, statistics.backend());
+		} else {
+			assertEquals(0, statistics.commits());
+		}
+	}
+
+	@Test
+	void forwardOnlyStaysDeltaTest() {
+		var store = ModelStore.builder()
+				.symbols(friend)
+				.backendStrategy(BackendStrategy.ADAPTIVE)
+				.build();
+		try (var model = store.createEmptyModel()) {
+			var friendInterpretation = model.getInterpretation(friend);
+			for (int i = 0; i < 200; i++) {
+				friendInterpretation.put(Tuple.of(i, i + 1), true);
+				model.commit();
+			}
+		}
+		var statistics = store.getBackendStatistics().get(friend);
+		assertEquals(200, statistics.commits());
+		assertEquals(200, statistics.changes());
+		assertEquals(0, statistics.switches());
+		assertEquals(VersionedMapStoreFactoryBuilder.StoreStrategy.DELTA, statistics.backend());
+	}
+
+	private static void assertContents(Map<Tuple, Boolean> expected, Interpretation<Boolean> interpretation) {
+		var actual = new HashMap<Tuple, Boolean>();
+		var cursor = interpretation.getAll();
+		while (cursor.move()) {
+			if (Boolean.TRUE.equals(cursor.getValue())) {
+				actual.put(cursor.getKey(), true);
+			}
+		}
+		assertEquals(expected, actual);
+	}
+
+	private static void assertDiff(ModelStore store, Model model, Version version, Map<Tuple, Boolean> from,
+								   Map<Tuple, Boolean> to) {
+		var expected = new HashMap<Tuple, Boolean>();
+		var keys = new HashSet<>(from.keySet());
+		keys.addAll(to.keySet());
+		for (var key : keys) {
+			boolean toValue = to.getOrDefault(key, false);
+			if (from.getOrDefault(key, false) != toValue) {
+				expected.put(key, toValue);
+			}
+		}
+		// Delta-based diff cursors may report the same key multiple times, once for each replayed transaction.
+		var fromValues = new HashMap<Tuple, Boolean>();
+		var toValues = new HashMap<Tuple, Boolean>();
+		var cursor = model.getDiffCursor(version).getCursor(friend);
+		while (cursor.move()) {
+			fromValues.putIfAbsent(cursor.getKey(), cursor.getFromValue());
+			toValues.put(cursor.getKey(), cursor.getToValue());
+		}
+		var actual = new HashMap<Tuple, Boolean>();
+		for (var entry : toValues.entrySet()) {
+			if (!Objects.equals(fromValues.get(entry.getKey()), entry.getValue())) {
+				actual.put(entry.getKey(), entry.getValue());
+			}
+		}
+		assertEquals(expected, actual);
+		var storeCursor = store.getDiffCursor(version, version).getCursor(friend);
+		while (storeCursor.move()) {
+			assertEquals(storeCursor.getFromValue(), storeCursor.getToValue());
+		}
+	}
+}
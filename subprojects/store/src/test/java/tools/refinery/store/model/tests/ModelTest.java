@@ -164,4 +164,33 @@ class ModelTest {
 			assertTrue(friendInterpretation.get(Tuple.of(0, 2)));
 		}
 	}
+
+	@Test
+	void estimateRestoreCostTest() {
+		var store = ModelStore.builder().symbols(person, friend).build();
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var friendInterpretation = model.getInterpretation(friend);
+
+			personInterpretation.put(Tuple.of(0), true);
+			personInterpretation.put(Tuple.of(1), true);
+			friendInterpretation.put(Tuple.of(0, 1), true);
+			Version state1 = model.commit();
+
+			personInterpretation.put(Tuple.of(2), true);
+			assertEquals(1, model.estimateRestoreCost(person, state1));
+			assertEquals(0, model.estimateRestoreCost(friend, state1));
+
+			Version state2 = model.commit();
+			assertEquals(1, model.estimateRestoreCost(person, state1));
+			assertEquals(0, model.estimateRestoreCost(person, state2));
+
+			model.restore(state1);
+			personInterpretation.put(Tuple.of(3), true);
+			friendInterpretation.put(Tuple.of(1, 0), true);
+			model.commit();
+			assertEquals(2, model.estimateRestoreCost(person, state2));
+			assertEquals(1, model.estimateRestoreCost(friend, state2));
+		}
+	}
 }
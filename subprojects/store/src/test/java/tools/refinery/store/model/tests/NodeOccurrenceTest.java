@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.model.tests;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.representation.AnySymbol;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NodeOccurrenceTest {
+	private static final int NODE_COUNT = 10;
+
+	private static final Symbol<Integer> counter = new Symbol<>("counter", 0, Integer.class, 0);
+	private static final Symbol<Boolean> person = Symbol.of("Person", 1);
+	private static final Symbol<Boolean> friend = Symbol.of("friend", 2);
+	private static final Symbol<Integer> parents = new Symbol<>("parents", 3, Integer.class, 0);
+
+	@Test
+	void occurrenceTest() {
+		var store = ModelStore.builder().symbols(counter, person, friend, parents).build();
+		try (var model = store.createEmptyModel()) {
+			model.getInterpretation(counter).put(Tuple.of(), 1);
+			model.getInterpretation(person).put(Tuple.of(0), true);
+			model.getInterpretation(friend).put(Tuple.of(0, 1), true);
+			model.getInterpretation(friend).put(Tuple.of(1, 1), true);
+			model.getInterpretation(parents).put(Tuple.of(2, 0, 0), 1);
+
+			assertEquals(Set.of(person, friend, parents), model.getSymbolsContainingNode(0));
+			assertEquals(Set.of(friend), model.getSymbolsContainingNode(1));
+			assertEquals(Set.of(parents), model.getSymbolsContainingNode(2));
+			assertEquals(Set.of(), model.getSymbolsContainingNode(3));
+
+			var symbolsContainingOne = model.getSymbolsContainingNode(1);
+			model.getInterpretation(friend).put(Tuple.of(0, 1), false);
+			assertEquals(Set.of(friend), model.getSymbolsContainingNode(1));
+			model.getInterpretation(friend).put(Tuple.of(1, 1), false);
+			assertEquals(Set.of(), model.getSymbolsContainingNode(1));
+			// Earlier results are snapshots.
+			assertEquals(Set.of(friend), symbolsContainingOne);
+			assertEquals(Set.of(person, parents), model.getSymbolsContainingNode(0));
+		}
+	}
+
+	@Test
+	void randomOccurrenceTest() {
+		var store = ModelStore.builder().symbols(counter, person, friend, parents).build();
+		var random = new Random(1);
+		var versions = new ArrayList<Version>();
+		try (var model = store.createEmptyModel()) {
+			for (int step = 0; step < 100; step++) {
+				if (!versions.isEmpty() && random.nextInt(4) == 0) {
+					model.restore(versions.get(random.nextInt(versions.size())));
+				}
+				int changes = random.nextInt(20);
+				for (int i = 0; i < changes; i++) {
+					switch (random.nextInt(3)) {
+						case 0 -> model.getInterpretation(person).put(Tuple.of(random.nextInt(NODE_COUNT)),
+								random.nextBoolean());
+						case 1 -> model.getInterpretation(friend).put(Tuple.of(random.nextInt(NODE_COUNT),
+								random.nextInt(NODE_COUNT)), random.nextBoolean());
+						default -> model.getInterpretation(parents).put(Tuple.of(random.nextInt(NODE_COUNT),
+								random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT)), random.nextInt(2));
+					}
+				}
+				assertOccurrences(model, model);
+				var version = model.commit();
+				versions.add(version);
+				try (var freshModel = store.createModelForState(version)) {
+					assertOccurrences(model, freshModel);
+				}
+			}
+		}
+	}
+
+	private static void assertOccurrences(Model expectedModel, Model actualModel) {
+		for (int node = 0; node < NODE_COUNT; node++) {
+			var expected = new HashSet<AnySymbol>();
+			for (var symbol : expectedModel.getStore().getSymbols()) {
+				var interpretation = expectedModel.getInterpretation(symbol);
+				for (int slot = 0; slot < symbol.arity(); slot++) {
+					if (interpretation.getAdjacentSize(slot, node) > 0) {
+						expected.add(symbol);
+					}
+				}
+			}
+			assertEquals(expected, actualModel.getSymbolsContainingNode(node), "node " + node);
+		}
+	}
+}
@@ -6,6 +6,8 @@
 package tools.refinery.store.statecoding;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import tools.refinery.store.map.Version;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelStore;
@@ -222,4 +224,52 @@ class EquivalenceTest {
 			assertEquals(StateEquivalenceChecker.EquivalenceResult.UNKNOWN, stateCoder.checkEquivalence(v1, v2));
 		}
 	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"1, UNKNOWN",
+			"2000, ISOMORPHIC"
+	})
+	void symmetricChainsTest(int limit, StateEquivalenceChecker.EquivalenceResult expected) {
+		ModelStore store = ModelStore.builder()
+				.symbols(person, age, friend, parents, population)
+				.with(StateCoderAdapter.builder()
+						.stateEquivalenceCheckLimit(limit))
+				.build();
+		var stateCoder = store.getAdapter(StateCoderStoreAdapter.class);
+		// Two parallel chains of 10 nodes each, where the nodes at the same position are indistinguishable.
+		// There are 2^10 candidate morphisms, but only the ones swapping the first two positions succeed.
+		int length = 10;
+		try (Model model = store.createEmptyModel()) {
+			var ageI = model.getInterpretation(age);
+			var friendI = model.getInterpretation(friend);
+			for (int i = 0; i < length; i++) {
+				ageI.put(Tuple.of(2 * i), i);
+				ageI.put(Tuple.of(2 * i + 1), i);
+			}
+			for (int i = 0; i < length - 1; i++) {
+				friendI.put(Tuple.of(2 * i, 2 * i + 2), true);
+				friendI.put(Tuple.of(2 * i + 1, 2 * i + 3), true);
+			}
+			var v1 = model.commit();
+
+			friendI.put(Tuple.of(2, 4), false);
+			friendI.put(Tuple.of(3, 5), false);
+			friendI.put(Tuple.of(2, 5), true);
+			friendI.put(Tuple.of(3, 4), true);
+			var v2 = model.commit();
+
+			assertEquals(expected, stateCoder.checkEquivalence(v1, v2));
+			var statistics = stateCoder.getEquivalenceStatistics();
+			assertEquals(1, statistics.searches());
+			if (expected == StateEquivalenceChecker.EquivalenceResult.ISOMORPHIC) {
+				assertEquals(1, statistics.hits());
+				assertEquals(0, statistics.timeouts());
+			} else {
+				assertEquals(0, statistics.hits());
+				assertEquals(1, statistics.timeouts());
+				assertEquals(limit, statistics.tries());
+			}
+		}
+	}
 }
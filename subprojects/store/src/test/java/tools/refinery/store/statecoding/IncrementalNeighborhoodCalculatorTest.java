@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.statecoding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.statecoding.neighborhood.IncrementalNeighborhoodCalculator;
+import tools.refinery.store.statecoding.neighborhood.IndividualsArray;
+import tools.refinery.store.statecoding.neighborhood.NeighborhoodCalculator;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class IncrementalNeighborhoodCalculatorTest {
+	private static final Symbol<Boolean> person = new Symbol<>("Person", 1, Boolean.class, false);
+	private static final Symbol<Integer> age = new Symbol<>("age", 1, Integer.class, null);
+	private static final Symbol<Boolean> friend = new Symbol<>("friend", 2, Boolean.class, false);
+	private static final Symbol<Integer> parents = new Symbol<>("parents", 3, Integer.class, 0);
+	private static final Symbol<Boolean> population = new Symbol<>("population", 0, Boolean.class, false);
+
+	private static ModelStore createStore(int depth) {
+		return ModelStore.builder()
+				.symbols(person, age, friend, parents, population)
+				.with(StateCoderAdapter.builder()
+						.individual(Tuple.of(0))
+						.stateCodeCalculatorFactory(IncrementalNeighborhoodCalculator.factory(depth)))
+				.build();
+	}
+
+	/**
+	 * Creates a non-incremental calculator on the same model, so that the incremental and the full recomputation of the
+	 * incremental calculator are both checked against an independent implementation.
+	 */
+	private static StateCodeCalculator createReferenceCalculator(Model model, int depth) {
+		// Use the same order of symbols as the state coder adapter, because it determines the impact values.
+		var interpretations = model.getStore().getSymbols().stream()
+				.map(symbol -> model.getInterpretation((Symbol<?>) symbol))
+				.toList();
+		return NeighborhoodCalculator.factory(depth).create(model, interpretations,
+				new IndividualsArray(new int[]{0}));
+	}
+
+	private static void assertSameCodes(StateCoderResult expected, StateCoderResult actual) {
+		assertEquals(expected.modelCode(), actual.modelCode());
+		var expectedCodes = expected.objectCode();
+		var actualCodes = actual.objectCode();
+		int size = Math.max(expectedCodes.getSize(), actualCodes.getSize());
+		for (int object = 0; object < size; object++) {
+			assertEquals(expectedCodes.get(object), actualCodes.get(object));
+		}
+	}
+
+	@Test
+	void changeAndRevertTest() {
+		var store = createStore(IncrementalNeighborhoodCalculator.DEFAULT_DEPTH);
+		var model = store.createEmptyModel();
+		var stateCoder = model.getAdapter(StateCoderAdapter.class);
+		var referenceCalculator = createReferenceCalculator(model, IncrementalNeighborhoodCalculator.DEFAULT_DEPTH);
+		var friendInterpretation = model.getInterpretation(friend);
+		for (int i = 0; i < 10; i++) {
+			friendInterpretation.put(Tuple.of(i, i + 1), true);
+		}
+		int code = stateCoder.calculateModelCode();
+		assertSameCodes(referenceCalculator.calculateCodes(), stateCoder.calculateStateCode());
+
+		friendInterpretation.put(Tuple.of(9, 10), false);
+		int changedCode = stateCoder.calculateModelCode();
+		assertNotEquals(code, changedCode);
+		assertSameCodes(referenceCalculator.calculateCodes(), stateCoder.calculateStateCode());
+
+		friendInterpretation.put(Tuple.of(9, 10), true);
+		assertEquals(code, stateCoder.calculateModelCode());
+		assertSameCodes(referenceCalculator.calculateCodes(), stateCoder.calculateStateCode());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 2, 7})
+	void randomChangesTest(int depth) {
+		var store = createStore(depth);
+		var model = store.createEmptyModel();
+		var stateCoder = model.getAdapter(StateCoderAdapter.class);
+		var referenceCalculator = createReferenceCalculator(model, depth);
+		var random = new Random(depth);
+		List<Version> versions = new ArrayList<>();
+		for (int step = 0; step < 200; step++) {
+			if (!versions.isEmpty() && random.nextInt(5) == 0) {
+				model.restore(versions.get(random.nextInt(versions.size())));
+			}
+			int changes = random.nextInt(10) == 0 ? 30 : random.nextInt(4);
+			for (int i = 0; i < changes; i++) {
+				applyRandomChange(model, random, 40);
+			}
+			var incrementalResult = stateCoder.calculateStateCode();
+			assertSameCodes(referenceCalculator.calculateCodes(), incrementalResult);
+			var version = model.commit();
+			versions.add(version);
+			try (var freshModel = store.createModelForState(version)) {
+				var expectedResult = freshModel.getAdapter(StateCoderAdapter.class).calculateStateCode();
+				assertSameCodes(expectedResult, incrementalResult);
+			}
+		}
+	}
+
+	private static void applyRandomChange(Model model, Random random, int nodeCount) {
+		switch (random.nextInt(5)) {
+		case 0 -> model.getInterpretation(person).put(Tuple.of(random.nextInt(nodeCount)), random.nextBoolean());
+		case 1 -> model.getInterpretation(age).put(Tuple.of(random.nextInt(nodeCount)),
+				random.nextInt(3) == 0 ? null : random.nextInt(3));
+		case 2 -> model.getInterpretation(friend).put(Tuple.of(random.nextInt(nodeCount),
+				random.nextInt(nodeCount)), random.nextInt(3) > 0);
+		case 3 -> model.getInterpretation(parents).put(Tuple.of(random.nextInt(nodeCount),
+				random.nextInt(nodeCount), random.nextInt(nodeCount)), random.nextInt(3));
+		default -> model.getInterpretation(population).put(Tuple.of(), random.nextBoolean());
+		}
+	}
+}